@@ -32,6 +32,14 @@ class AmsService {
     return deleteRequest(`/employees/delete/${employeeId}`);
   }
 
+  offboardEmployee(employeeId) {
+    return postRequest(`/employees/offboard/${employeeId}`);
+  }
+
+  offboardEmployees(employeeIds) {
+    return postRequest('/employees/offboard', employeeIds);
+  }
+
   // Asset Category endpoints
   getAllAssetCategories() {
     return getRequest('/asset-categories/getall');
@@ -87,8 +95,8 @@ class AmsService {
   }
 
   // Borrowing endpoints
-  getBorrowingsByEmployee(employeeId) {
-    return getRequest(`/borrowings/getbyeid/${employeeId}`);
+  getBorrowingsByEmployee(employeeId, includeArchived = false) {
+    return getRequest(`/borrowings/getbyeid/${employeeId}?includeArchived=${includeArchived}`);
   }
 
   getActiveBorrowings() {
@@ -107,6 +115,10 @@ class AmsService {
     return getRequest('/borrowings/returned');
   }
 
+  getOverdueBorrowings() {
+    return getRequest('/borrowings/overdue');
+  }
+
 
   requestBorrowing(payload) {
     return postRequest('/borrowings/request', payload);
@@ -120,6 +132,52 @@ class AmsService {
     return putRequest(`/borrowings/${borrowingId}/return`);
   }
 
+  transferAsset(payload) {
+    return postRequest('/borrowings/transfer', payload);
+  }
+
+  transferAssets(transfers) {
+    return postRequest('/borrowings/transfer/bulk', { transfers });
+  }
+
+  // Kit endpoints
+  getKits() {
+    return getRequest('/kits/getall');
+  }
+
+  createKit(payload) {
+    return postRequest('/kits/add', payload);
+  }
+
+  deleteKit(kitId) {
+    return deleteRequest(`/kits/delete/${kitId}`);
+  }
+
+  borrowKit(kitId, employeeId, dueAt) {
+    return postRequest(`/kits/${kitId}/borrow`, { employeeId, dueAt });
+  }
+
+  // Reservation endpoints
+  reserveAsset(payload) {
+    return postRequest('/reservations/book', payload);
+  }
+
+  cancelReservation(reservationId) {
+    return putRequest(`/reservations/${reservationId}/cancel`);
+  }
+
+  findAvailableAsset(categoryId, startAt, endAt) {
+    return getRequest(`/reservations/available?categoryId=${categoryId}&startAt=${encodeURIComponent(startAt)}&endAt=${encodeURIComponent(endAt)}`);
+  }
+
+  getReservationsForAsset(assetId) {
+    return getRequest(`/reservations/asset/${assetId}`);
+  }
+
+  getReservationsByEmployee(employeeId) {
+    return getRequest(`/reservations/employee/${employeeId}`);
+  }
+
   // Service Request endpoints
   getAllServiceRequests() {
     return getRequest('/service-requests/allServiceRequests');
@@ -129,8 +187,8 @@ class AmsService {
     return getRequest(`/service-requests/getServiceRequestById/${serviceRequestId}`);
   }
 
-  getServiceRequestsByEmployee(employeeId) {
-    return getRequest(`/service-requests/serviceRequestByEmployee/${employeeId}`);
+  getServiceRequestsByEmployee(employeeId, includeArchived = false) {
+    return getRequest(`/service-requests/serviceRequestByEmployee/${employeeId}?includeArchived=${includeArchived}`);
   }
 
   getServiceRequestsByStatus(status) {
@@ -141,8 +199,94 @@ class AmsService {
     return postRequest('/service-requests/createServiceRequest', payload);
   }
 
-  updateServiceRequest(serviceRequestId, status) {
-    return putRequest(`/service-requests/updateServiceRequest/${serviceRequestId}/${status}`);
+  updateServiceRequest(serviceRequestId, status, version) {
+    const query = version !== undefined ? `?version=${version}` : '';
+    return putRequest(`/service-requests/updateServiceRequest/${serviceRequestId}/${status}${query}`);
+  }
+
+  claimNextServiceRequest() {
+    return postRequest('/service-requests/claim-next');
+  }
+
+  assignServiceRequest(serviceRequestId, technicianId) {
+    return putRequest(`/service-requests/${serviceRequestId}/assign/${technicianId}`);
+  }
+
+  getMyAssignedServiceRequests() {
+    return getRequest('/service-requests/assigned/me');
+  }
+
+  getTechnicians() {
+    return getRequest('/technicians');
+  }
+
+  saveTechnicianProfile(employeeId, payload) {
+    return putRequest(`/technicians/${employeeId}`, payload);
+  }
+
+  getServiceRequestHistory(serviceRequestId) {
+    return getRequest(`/service-requests/${serviceRequestId}/history`);
+  }
+
+  getServiceRequestQueue(limit = 20) {
+    return getRequest(`/service-requests/queue?limit=${limit}`);
+  }
+
+  // Attachments are sent as the raw body so the server can stream them into the store
+  uploadServiceRequestAttachment(serviceRequestId, file) {
+    return postRequest(
+      `/service-requests/${serviceRequestId}/attachments?filename=${encodeURIComponent(file.name)}`,
+      file,
+      { headers: { 'Content-Type': file.type || 'application/octet-stream' } }
+    );
+  }
+
+  getServiceRequestAttachments(serviceRequestId) {
+    return getRequest(`/service-requests/${serviceRequestId}/attachments`);
+  }
+
+  downloadServiceRequestAttachment(serviceRequestId, attachmentId) {
+    return getRequest(`/service-requests/${serviceRequestId}/attachments/${attachmentId}`, { responseType: 'blob' });
+  }
+
+  // Incident endpoints
+  getOpenIncidents() {
+    return getRequest('/incidents');
+  }
+
+  getIncident(incidentId) {
+    return getRequest(`/incidents/${incidentId}`);
+  }
+
+  updateIncidentStatus(incidentId, status) {
+    return putRequest(`/incidents/${incidentId}/status/${status}`);
+  }
+
+  // Preventive maintenance endpoints
+  getOpenMaintenanceTasks() {
+    return getRequest('/maintenance/tasks');
+  }
+
+  completeMaintenanceTask(taskId) {
+    return putRequest(`/maintenance/tasks/${taskId}/complete`);
+  }
+
+  getAssetMaintenanceTasks(assetId) {
+    return getRequest(`/maintenance/assets/${assetId}/tasks`);
+  }
+
+  getAssetReliability(assetId) {
+    return getRequest(`/maintenance/assets/${assetId}/reliability`);
+  }
+
+  recomputeAssetReliability() {
+    return postRequest('/maintenance/recompute');
+  }
+
+  // Analytics endpoints
+  getWorkflowLatency(metric, weeks = 12, merge = false) {
+    const metricParam = metric ? `metric=${metric}&` : '';
+    return getRequest(`/analytics/workflow-latency?${metricParam}weeks=${weeks}&merge=${merge}`);
   }
 
   // Audit endpoints
@@ -150,8 +294,8 @@ class AmsService {
     return getRequest('/audits/getall');
   }
 
-  getAuditsByEmployee(employeeId) {
-    return getRequest(`/audits/getbyeid/${employeeId}`);
+  getAuditsByEmployee(employeeId, includeArchived = false) {
+    return getRequest(`/audits/getbyeid/${employeeId}?includeArchived=${includeArchived}`);
   }
 
   getAuditById(auditId) {
@@ -165,6 +309,34 @@ class AmsService {
   updateAuditDecision(auditId, payload) {
     return putRequest(`/audits/${auditId}/decision`, payload);
   }
+
+  updateAuditDecisions(payload) {
+    return putRequest('/audits/decisions', payload);
+  }
+
+  startAuditCampaign(payload) {
+    return postRequest('/audits/campaigns', payload);
+  }
+
+  getAuditCampaign(campaignId) {
+    return getRequest(`/audits/campaigns/${campaignId}`);
+  }
+
+  openScanSession(payload) {
+    return postRequest('/audits/scans', payload);
+  }
+
+  addScanBatch(sessionId, assetIds) {
+    return postRequest(`/audits/scans/${sessionId}/batches`, { assetIds });
+  }
+
+  closeScanSession(sessionId) {
+    return postRequest(`/audits/scans/${sessionId}/close`);
+  }
+
+  getScanSession(sessionId) {
+    return getRequest(`/audits/scans/${sessionId}`);
+  }
 }
 
 export default new AmsService();
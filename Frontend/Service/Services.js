@@ -39,12 +39,21 @@ export const getRequest = (url, config = {}) => {
   return axiosInstance.get(url, config);
 };
 
+// One Idempotency-Key per logical call, so a retried POST/PUT is applied only once
+const withIdempotencyKey = (config) => ({
+  ...config,
+  headers: {
+    'Idempotency-Key': crypto.randomUUID(),
+    ...config.headers
+  }
+});
+
 export const postRequest = (url, data, config = {}) => {
-  return axiosInstance.post(url, data, config);
+  return axiosInstance.post(url, data, withIdempotencyKey(config));
 };
 
 export const putRequest = (url, data, config = {}) => {
-  return axiosInstance.put(url, data, config);
+  return axiosInstance.put(url, data, withIdempotencyKey(config));
 };
 
 export const deleteRequest = (url, config = {}) => {
@@ -513,6 +513,9 @@ const ManageAssets = () => {
                       }`}>
                         {asset.status}
                       </span>
+                      {asset.maintenanceHold && (
+                        <span className="badge bg-danger ms-1">Maintenance</span>
+                      )}
                     </td>
                     <td>
                       <div className="btn-group btn-group-sm">
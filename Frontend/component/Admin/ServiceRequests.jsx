@@ -24,9 +24,9 @@ const ServiceRequests = () => {
     }
   };
 
-  const handleStatusUpdate = async (serviceRequestId, newStatus) => {
+  const handleStatusUpdate = async (serviceRequestId, newStatus, version) => {
     try {
-      await AmsService.updateServiceRequest(serviceRequestId, newStatus);
+      await AmsService.updateServiceRequest(serviceRequestId, newStatus, version);
       setMsg(`Service request status updated to ${newStatus}!`);
       fetchServiceRequests();
     } catch (error) {
@@ -146,6 +146,17 @@ const ServiceRequests = () => {
                         <span className={`badge ${getIssueTypeBadge(request.issueType)}`}>
                           {request.issueType}
                         </span>
+                        {request.suggestedIssueType && (
+                          <div>
+                            <small
+                              className="text-muted"
+                              title={`Triage suggestion (${Math.round((request.triageConfidence || 0) * 100)}% confident)`}
+                            >
+                              {request.suggestedIssueType !== request.issueType && `Likely ${request.suggestedIssueType} · `}
+                              {request.suggestedPriority} priority
+                            </small>
+                          </div>
+                        )}
                       </td>
                       <td>
                         <div className="text-truncate" style={{maxWidth: '200px'}} title={request.description}>
@@ -165,7 +176,7 @@ const ServiceRequests = () => {
                           {request.status === 'Pending' && (
                             <button 
                               className="btn btn-outline-info"
-                              onClick={() => handleStatusUpdate(request.serviceRequestId, 'Transit')}
+                              onClick={() => handleStatusUpdate(request.serviceRequestId, 'Transit', request.version)}
                             >
                               Start
                             </button>
@@ -173,13 +184,18 @@ const ServiceRequests = () => {
                           {request.status === 'Transit' && (
                             <button 
                               className="btn btn-outline-success"
-                              onClick={() => handleStatusUpdate(request.serviceRequestId, 'Completed')}
+                              onClick={() => handleStatusUpdate(request.serviceRequestId, 'Completed', request.version)}
                             >
                               Complete
                             </button>
                           )}
                           {request.status === 'Completed' && (
-                            <span className="text-muted small">No actions available</span>
+                            <button 
+                              className="btn btn-outline-warning"
+                              onClick={() => handleStatusUpdate(request.serviceRequestId, 'Pending', request.version)}
+                            >
+                              Reopen
+                            </button>
                           )}
                         </div>
                       </td>
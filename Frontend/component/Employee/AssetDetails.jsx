@@ -233,7 +233,7 @@ const AssetDetails = () => {
 
               {/* Request Button */}
               <div className="d-grid gap-2">
-                {asset.status === 'Available' ? (
+                {asset.status === 'Available' && !asset.maintenanceHold ? (
                   <button 
                     className="btn btn-primary btn-lg"
                     onClick={handleRequestAsset}
@@ -250,7 +250,7 @@ const AssetDetails = () => {
                   </button>
                 ) : (
                   <button className="btn btn-secondary btn-lg" disabled>
-                    Asset Not Available
+                    {asset.maintenanceHold ? 'Under Preventive Maintenance' : 'Asset Not Available'}
                   </button>
                 )}
               </div>
@@ -9,6 +9,7 @@ const MyAudits = () => {
   const [loading, setLoading] = useState(true);
   const [msg, setMsg] = useState('');
   const [employeeId, setEmployeeId] = useState(null);
+  const [selected, setSelected] = useState([]);
 
   useEffect(() => {
     try {
@@ -61,6 +62,36 @@ const MyAudits = () => {
     }
   };
 
+  const pendingIds = audits
+    .filter(audit => audit.auditStatus === AUDIT_STATUS.PENDING)
+    .map(audit => audit.auditId);
+
+  const toggleSelected = (auditId) => {
+    setSelected(prev => prev.includes(auditId)
+      ? prev.filter(id => id !== auditId)
+      : [...prev, auditId]);
+  };
+
+  const toggleAllPending = () => {
+    setSelected(selected.length === pendingIds.length ? [] : pendingIds);
+  };
+
+  // One request for every selected audit instead of one per row
+  const handleBulkDecision = async (action) => {
+    if (selected.length === 0) return;
+    try {
+      await AmsService.updateAuditDecisions({ auditIds: selected, action: action });
+      setMsg(`Audit decision updated to ${action} for ${selected.length} audit(s)!`);
+      setSelected([]);
+
+      const response = await AmsService.getAuditsByEmployee(employeeId);
+      setAudits(response.data);
+    } catch (error) {
+      console.error('Error making bulk audit decision:', error);
+      setMsg('Error making audit decision: ' + extractError(error, 'Failed to update audit decisions'));
+    }
+  };
+
   const getStatusBadge = (status) => {
     return STATUS_BADGE_CLASSES[status] || 'bg-secondary';
   };
@@ -108,11 +139,40 @@ const MyAudits = () => {
       ) : (
         <div className="card">
           <div className="card-body">
-            <h5 className="card-title">Your Audit Requests ({audits.length})</h5>
+            <div className="d-flex justify-content-between align-items-center mb-2">
+              <h5 className="card-title mb-0">Your Audit Requests ({audits.length})</h5>
+              {pendingIds.length > 0 && (
+                <div className="btn-group btn-group-sm">
+                  <button
+                    className="btn btn-success"
+                    disabled={selected.length === 0}
+                    onClick={() => handleBulkDecision(AUDIT_ACTIONS.VERIFY)}
+                  >
+                    Confirm Selected ({selected.length})
+                  </button>
+                  <button
+                    className="btn btn-danger"
+                    disabled={selected.length === 0}
+                    onClick={() => handleBulkDecision(AUDIT_ACTIONS.REJECT)}
+                  >
+                    Reject Selected
+                  </button>
+                </div>
+              )}
+            </div>
             <div className="table-responsive">
               <table className="table table-sm table-striped table-hover">
                 <thead>
                   <tr>
+                    <th>
+                      <input
+                        type="checkbox"
+                        className="form-check-input"
+                        disabled={pendingIds.length === 0}
+                        checked={pendingIds.length > 0 && selected.length === pendingIds.length}
+                        onChange={toggleAllPending}
+                      />
+                    </th>
                     <th>Audit ID</th>
                     <th>Asset</th>
                     <th>Status</th>
@@ -124,6 +184,16 @@ const MyAudits = () => {
                 <tbody>
                   {audits.map(audit => (
                     <tr key={audit.auditId}>
+                      <td>
+                        {audit.auditStatus === AUDIT_STATUS.PENDING && (
+                          <input
+                            type="checkbox"
+                            className="form-check-input"
+                            checked={selected.includes(audit.auditId)}
+                            onChange={() => toggleSelected(audit.auditId)}
+                          />
+                        )}
+                      </td>
                       <td>#{audit.auditId}</td>
                       <td>
                         <div>
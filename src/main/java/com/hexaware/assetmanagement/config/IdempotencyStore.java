@@ -0,0 +1,116 @@
+package com.hexaware.assetmanagement.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-evicting store of responses keyed by (principal, Idempotency-Key).
+ * The first request for a key becomes its owner; concurrent duplicates wait on the
+ * owner's in-flight execution and then replay the stored response.
+ */
+@Component
+public class IdempotencyStore {
+
+    public record StoredResponse(int status, String contentType, byte[] body) {}
+
+    public enum Outcome { EXECUTE, REPLAY, MISMATCH, TIMEOUT }
+
+    public record Claim(Outcome outcome, StoredResponse response, Slot slot) {}
+
+    static final class Slot {
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        private Slot(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+    }
+
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    @Value("${idempotency.ttl-ms:86400000}")
+    private long ttlMs = 86400000L;
+
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs = 30000L;
+
+    // Insertion order equals expiry order because every entry has the same TTL
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>();
+
+    /**
+     * Claim a key for the request identified by {@code fingerprint} (method, path, query and body hash).
+     * Blocks while another request with the same key is still executing.
+     */
+    public Claim claim(String key, String fingerprint) {
+        while (true) {
+            Slot slot;
+            synchronized (slots) {
+                evict(System.currentTimeMillis());
+                slot = slots.get(key);
+                if (slot == null) {
+                    Slot owned = new Slot(fingerprint, System.currentTimeMillis());
+                    slots.put(key, owned);
+                    return new Claim(Outcome.EXECUTE, null, owned);
+                }
+            }
+            if (!slot.fingerprint.equals(fingerprint)) {
+                return new Claim(Outcome.MISMATCH, null, null);
+            }
+            try {
+                StoredResponse response = slot.result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+                if (response != null) {
+                    return new Claim(Outcome.REPLAY, response, null);
+                }
+                // Owner abandoned the key (failed request); try to claim it again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Claim(Outcome.TIMEOUT, null, null);
+            } catch (TimeoutException | ExecutionException e) {
+                return new Claim(Outcome.TIMEOUT, null, null);
+            }
+        }
+    }
+
+    // Record the owner's response so waiting and later duplicates replay it
+    public void complete(Claim claim, StoredResponse response) {
+        claim.slot().result.complete(response);
+    }
+
+    // Release a key whose execution failed so a retry can run it again
+    public void abandon(String key, Claim claim) {
+        synchronized (slots) {
+            slots.remove(key, claim.slot());
+        }
+        claim.slot().result.complete(null);
+    }
+
+    public int size() {
+        synchronized (slots) {
+            return slots.size();
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Slot>> it = slots.entrySet().iterator();
+        while (it.hasNext()) {
+            Slot slot = it.next().getValue();
+            boolean expired = now - slot.createdAt > ttlMs;
+            if (!expired && slots.size() < maxEntries) {
+                break;
+            }
+            // Waiters keep their own reference to the future, so dropping an in-flight slot is safe
+            it.remove();
+        }
+    }
+}
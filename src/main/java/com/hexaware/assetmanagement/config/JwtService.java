@@ -51,7 +51,8 @@ public class JwtService {
     
     public boolean isTokenValid(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        // Disabled (offboarded) accounts lose every outstanding token, since the user is reloaded per request
+        return (username.equals(userDetails.getUsername())) && userDetails.isEnabled() && !isTokenExpired(token);
     }
     
     private boolean isTokenExpired(String token) {
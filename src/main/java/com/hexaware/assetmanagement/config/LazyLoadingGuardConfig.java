@@ -0,0 +1,78 @@
+package com.hexaware.assetmanagement.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import jakarta.persistence.Entity;
+
+/**
+ * With open-in-view disabled, entities are serialized after their session has closed.
+ * An attribute or association the use case did not fetch fails the response with the
+ * entity and property named, so a gap in a fetch plan shows up as an error rather than
+ * as a field silently missing from the JSON.
+ */
+@Configuration
+public class LazyLoadingGuardConfig {
+
+    // Picked up by Spring Boot's Jackson auto-configuration
+    @Bean
+    public Module lazyLoadingGuardModule() {
+        SimpleModule module = new SimpleModule("LazyLoadingGuard");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                    BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                if (!isEntity(beanDesc.getBeanClass())) {
+                    return beanProperties;
+                }
+                List<BeanPropertyWriter> guarded = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyWriter writer : beanProperties) {
+                    guarded.add(new LoadedPropertyWriter(writer));
+                }
+                return guarded;
+            }
+        });
+        return module;
+    }
+
+    // Hibernate proxies are generated subclasses, so look up the hierarchy
+    private static boolean isEntity(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (c.isAnnotationPresent(Entity.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static final class LoadedPropertyWriter extends BeanPropertyWriter {
+
+        LoadedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            // Checked before get(), which would otherwise try to lazy-load without a session
+            if (!Hibernate.isPropertyInitialized(bean, getName()) || !Hibernate.isInitialized(get(bean))) {
+                throw JsonMappingException.from(gen, bean.getClass().getSimpleName() + "." + getName()
+                        + " was not loaded by the fetch plan of this use case");
+            }
+            super.serializeAsField(bean, gen, prov);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hexaware.assetmanagement.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Read-your-writes for replica routing. After a user's write commits, that user's
+ * read-only transactions stay on the primary until the replica has had
+ * {@code readYourWritesMs} to catch up; other users keep reading from the replica.
+ */
+public class ReplicaLagGuard {
+
+    private static final int SWEEP_THRESHOLD = 10000;
+
+    private final long readYourWritesMs;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(long readYourWritesMs) {
+        this.readYourWritesMs = readYourWritesMs;
+    }
+
+    // Note a write by the current user once the surrounding transaction commits
+    public void trackWrite() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> recordWrite(principal));
+    }
+
+    // True while the current user's last write may not have reached the replica yet
+    public boolean mustReadPrimary() {
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(principal);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < readYourWritesMs;
+    }
+
+    void recordWrite(String principal) {
+        long now = System.currentTimeMillis();
+        lastWriteAt.put(principal, now);
+        if (lastWriteAt.size() > SWEEP_THRESHOLD) {
+            lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesMs);
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hexaware.assetmanagement.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-run the whole transaction when it loses a deadlock or times out waiting for a row lock.
+ * Only takes effect where the annotated method starts the transaction; nested calls
+ * leave the retry to the outermost boundary.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryableTransaction {
+
+    // Total attempts including the first; 0 uses tx.retry.max-attempts
+    int maxAttempts() default 0;
+}
@@ -12,12 +12,15 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
+
 /** JWT filter wiring and route security rules */
 @Configuration
 @EnableWebSecurity
@@ -27,12 +30,17 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthFilter;
 
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(authz -> authz
+                        // SSE streams complete on an async dispatch that carries no JWT
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/auth/authenticate", "/auth/register").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/uploads/**").permitAll()
@@ -42,12 +50,21 @@ public class SecurityConfig {
                         .requestMatchers("/employees/**").hasAnyRole("ADMIN", "USER")
                         .requestMatchers("/service-requests/**").hasAnyRole("ADMIN", "USER")
                         .requestMatchers("/asset-categories/**").hasAnyRole("ADMIN", "USER")
+                        .requestMatchers("/technicians/**").hasRole("ADMIN")
+                        .requestMatchers("/analytics/**").hasRole("ADMIN")
+                        .requestMatchers("/incidents/**").hasRole("ADMIN")
+                        .requestMatchers("/maintenance/**").hasRole("ADMIN")
+                        .requestMatchers("/events/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // Only authorized requests reach the idempotency store
+                .addFilterAfter(idempotencyFilter, AuthorizationFilter.class)
                 .build();
     }
 
@@ -0,0 +1,35 @@
+package com.hexaware.assetmanagement.config;
+
+import org.hibernate.Session;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hexaware.assetmanagement.entity.Asset;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hides soft-deleted assets from every query. Hibernate filters are per session, so the
+ * transaction manager turns the filter on for each entity manager it opens; repository
+ * calls outside a service transaction still go through it because Spring Data
+ * repositories are transactional themselves.
+ */
+@Configuration
+public class SoftDeleteConfig {
+
+    // Replaces Spring Boot's default JpaTransactionManager
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory) {
+            @Override
+            protected EntityManager createEntityManagerForTransaction() {
+                EntityManager entityManager = super.createEntityManagerForTransaction();
+                entityManager.unwrap(Session.class).enableFilter(Asset.NOT_DELETED);
+                return entityManager;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.hexaware.assetmanagement.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Wires {@link RetryableTransaction} around service methods, outside their transactions */
+@Configuration
+public class TransactionRetryConfig {
+
+    @Bean
+    public Advisor transactionRetryAdvisor(MeterRegistry meterRegistry,
+            @Value("${tx.retry.max-attempts:4}") int maxAttempts,
+            @Value("${tx.retry.initial-backoff-ms:25}") long initialBackoffMs,
+            @Value("${tx.retry.max-backoff-ms:400}") long maxBackoffMs) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryableTransaction.class),
+                new TransactionRetryInterceptor(meterRegistry, maxAttempts, initialBackoffMs, maxBackoffMs));
+        // The transaction advisor runs at LOWEST_PRECEDENCE; this one must wrap it
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
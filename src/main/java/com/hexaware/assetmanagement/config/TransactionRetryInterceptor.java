@@ -0,0 +1,116 @@
+package com.hexaware.assetmanagement.config;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Retries {@link RetryableTransaction} methods that fail on a transient lock conflict,
+ * with exponential backoff and jitter so competing transactions do not collide again
+ * in lockstep. Must be ordered outside the transaction interceptor so every attempt
+ * gets a fresh transaction.
+ */
+public class TransactionRetryInterceptor implements MethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionRetryInterceptor.class);
+
+    private static final String SQLSTATE_SERIALIZATION_FAILURE = "40001";
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public TransactionRetryInterceptor(MeterRegistry meterRegistry, int defaultMaxAttempts,
+            long initialBackoffMs, long maxBackoffMs) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // A retry inside an outer transaction would run against a connection that is already rolled back
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getThis() != null
+                ? AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass())
+                : invocation.getMethod();
+        RetryableTransaction settings = AnnotationUtils.findAnnotation(method, RetryableTransaction.class);
+        int maxAttempts = settings != null && settings.maxAttempts() > 0 ? settings.maxAttempts() : defaultMaxAttempts;
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // Each attempt needs its own copy so the rest of the chain (the transaction) runs again
+                Object result = ((ProxyMethodInvocation) invocation).invocableClone().proceed();
+                if (attempt > 1) {
+                    counter(name, "recovered").increment();
+                }
+                return result;
+            } catch (Throwable ex) {
+                if (!isTransient(ex)) {
+                    throw ex;
+                }
+                if (attempt >= maxAttempts) {
+                    counter(name, "exhausted").increment();
+                    logger.error("{} still failing on lock conflicts after {} attempts: {}", name, attempt, ex.getMessage());
+                    throw ex;
+                }
+                counter(name, "retried").increment();
+                long backoffMs = backoffMs(attempt);
+                logger.warn("{} hit a lock conflict (attempt {}/{}), retrying in {} ms: {}",
+                        name, attempt, maxAttempts, backoffMs, ex.getMessage());
+                Thread.sleep(backoffMs);
+            }
+        }
+    }
+
+    // Half the exponential step is fixed and half random ("equal jitter"), capped at maxBackoffMs
+    long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    // Deadlock victim, lock wait timeout or serialization failure anywhere in the cause chain
+    static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && (SQLSTATE_SERIALIZATION_FAILURE.equals(sqlException.getSQLState())
+                        || sqlException.getErrorCode() == MYSQL_DEADLOCK
+                        || sqlException.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Counter counter(String method, String outcome) {
+        return Counter.builder("tx.retry")
+                .description("Transactions re-run after a transient lock conflict")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
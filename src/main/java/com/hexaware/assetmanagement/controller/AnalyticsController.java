@@ -0,0 +1,47 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.WorkflowLatencyDto;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+import com.hexaware.assetmanagement.service.IWorkflowAnalyticsService;
+
+/** Handles workflow analytics endpoints for administrators */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    @Autowired
+    private IWorkflowAnalyticsService analyticsService;
+
+    // p50/p90/p99 latencies of approvals, audit responses and repairs per category or issue type
+    @GetMapping("/workflow-latency")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<WorkflowLatencyDto>> getWorkflowLatency(@RequestParam(required = false) Metric metric,
+            @RequestParam(defaultValue = "12") int weeks, @RequestParam(defaultValue = "false") boolean merge) {
+        logger.info("Received request to get workflow latency for metric {} over {} weeks", metric, weeks);
+        try {
+            List<WorkflowLatencyDto> latencies = analyticsService.getWorkflowLatency(metric, weeks, merge);
+            logger.info("Successfully retrieved {} workflow latency rows", latencies.size());
+            return ResponseEntity.ok(latencies);
+        } catch (Exception e) {
+            logger.error("Failed to get workflow latency: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -16,13 +16,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hexaware.assetmanagement.config.RoleConstants;
 import com.hexaware.assetmanagement.dto.AssetAuditDto;
+import com.hexaware.assetmanagement.dto.BulkAuditDecisionDto;
 import com.hexaware.assetmanagement.entity.AssetAudit;
 import com.hexaware.assetmanagement.service.IAssetAuditService;
 import com.hexaware.assetmanagement.util.SecurityContextUtil;
+
+import jakarta.validation.Valid;
 /** Handles asset audit workflow endpoints */
 @CrossOrigin("http://localhost:3000")
 @RestController
@@ -68,16 +72,33 @@ public class AssetAuditController {
         }
     }
     
+    // Verify or reject several of the caller's pending audits in one transaction
+    @PutMapping("/decisions")
+    @PreAuthorize("hasRole('" + RoleConstants.USER + "')")
+    public ResponseEntity<List<AssetAuditDto>> decideAudits(@Valid @RequestBody BulkAuditDecisionDto request) {
+        logger.info("Received bulk audit decision request for {} audits with action: {}", request.getAuditIds().size(), request.getAction());
+        try {
+            int currentUserId = SecurityContextUtil.getCurrentUserId();
+            List<AssetAuditDto> decided = assetAuditService.decideAudits(request.getAuditIds(), currentUserId, request.getAction());
+            logger.info("Bulk audit decision successfully processed for {} audits", decided.size());
+            return ResponseEntity.ok(decided);
+        } catch (Exception e) {
+            logger.error("Failed to process bulk audit decision: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     // Minimal inline record for audit decision request
     public record AuditDecisionRequest(String action) {}
 
     // List all audit records for a specific employee
     @GetMapping("/getbyeid/{employeeId}")
     @PreAuthorize("hasRole('" + RoleConstants.USER + "') or hasRole('" + RoleConstants.ADMIN + "')")
-    public ResponseEntity<List<AssetAudit>> getAuditsByEmployee(@PathVariable int employeeId) {
+    public ResponseEntity<List<AssetAudit>> getAuditsByEmployee(@PathVariable int employeeId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         logger.info("Received request to get audits for employee ID: {}", employeeId);
         try {
-            List<AssetAudit> audits = assetAuditService.getAuditsByEmployee(employeeId);
+            List<AssetAudit> audits = assetAuditService.getAuditsByEmployee(employeeId, includeArchived);
             logger.info("Successfully retrieved {} audits for employee ID: {}", audits.size(), employeeId);
             return ResponseEntity.ok(audits);
         } catch (Exception e) {
@@ -1,9 +1,12 @@
 package com.hexaware.assetmanagement.controller;
 
+import com.hexaware.assetmanagement.dto.AssetTransferDto;
 import com.hexaware.assetmanagement.dto.BorrowRequestDto;
 import com.hexaware.assetmanagement.dto.BorrowingActionDto;
+import com.hexaware.assetmanagement.dto.BulkAssetTransferDto;
 import com.hexaware.assetmanagement.entity.AssetBorrowing;
 import com.hexaware.assetmanagement.service.IAssetBorrowingService;
+import com.hexaware.assetmanagement.service.IAssetTransferService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +30,9 @@ public class AssetBorrowingController {
     @Autowired
     private IAssetBorrowingService assetBorrowingService;
 
+    @Autowired
+    private IAssetTransferService assetTransferService;
+
     // Submit borrowing request for an available asset
     @PostMapping("/request")
     @PreAuthorize("hasRole('" + RoleConstants.USER + "')")
@@ -72,13 +78,44 @@ public class AssetBorrowingController {
         }
     }
 
+    // Hand a borrowed asset straight to another employee, without a return and a new approval
+    @PostMapping("/transfer")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<AssetBorrowing> transferAsset(@Valid @RequestBody AssetTransferDto dto) {
+        logger.info("Received transfer request for asset ID: {} to employee ID: {}", dto.getAssetId(), dto.getToEmployeeId());
+        try {
+            AssetBorrowing borrowing = assetTransferService.transferAsset(dto);
+            logger.info("Asset {} successfully transferred, new borrowing ID: {}", dto.getAssetId(), borrowing.getBorrowingId());
+            return ResponseEntity.ok(borrowing);
+        } catch (Exception e) {
+            logger.error("Failed to transfer asset {} to employee {}: {}", dto.getAssetId(), dto.getToEmployeeId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Transfer a batch of borrowed assets, e.g. a team handover; all or nothing
+    @PostMapping("/transfer/bulk")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<AssetBorrowing>> transferAssets(@Valid @RequestBody BulkAssetTransferDto dto) {
+        logger.info("Received bulk transfer request for {} assets", dto.getTransfers().size());
+        try {
+            List<AssetBorrowing> borrowings = assetTransferService.transferAssets(dto.getTransfers());
+            logger.info("Bulk transfer successfully processed for {} assets", borrowings.size());
+            return ResponseEntity.ok(borrowings);
+        } catch (Exception e) {
+            logger.error("Failed to process bulk transfer: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     // List all borrowing records for a specific employee
     @GetMapping("/getbyeid/{employeeId}")
     @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "','" + RoleConstants.USER + "')")
-    public ResponseEntity<List<AssetBorrowing>> getBorrowingsByEmployee(@PathVariable int employeeId) {
+    public ResponseEntity<List<AssetBorrowing>> getBorrowingsByEmployee(@PathVariable int employeeId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         logger.info("Received request to get borrowings for employee ID: {}", employeeId);
         try {
-            List<AssetBorrowing> borrowings = assetBorrowingService.getBorrowingsByEmployee(employeeId);
+            List<AssetBorrowing> borrowings = assetBorrowingService.getBorrowingsByEmployee(employeeId, includeArchived);
             logger.info("Successfully retrieved {} borrowings for employee ID: {}", borrowings.size(), employeeId);
             return ResponseEntity.ok(borrowings);
         } catch (Exception e) {
@@ -146,4 +183,19 @@ public class AssetBorrowingController {
             throw e;
         }
     }
+
+    // List active borrowings past their due date, most overdue first
+    @GetMapping("/overdue")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')") 
+    public ResponseEntity<List<AssetBorrowing>> getOverdueBorrowings() {
+        logger.info("Received request to get all overdue borrowings");
+        try {
+            List<AssetBorrowing> overdueBorrowings = assetBorrowingService.getOverdueBorrowings();
+            logger.info("Successfully retrieved {} overdue borrowings", overdueBorrowings.size());
+            return ResponseEntity.ok(overdueBorrowings);
+        } catch (Exception e) {
+            logger.error("Failed to get overdue borrowings: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
 }
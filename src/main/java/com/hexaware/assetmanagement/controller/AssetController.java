@@ -144,17 +144,32 @@ public class AssetController {
             throw e;
         }
     }
+
+    // Soft delete a batch of assets, e.g. when old devices are retired; returns how many were retired
+    @PostMapping("/retire")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<Integer> retireAssets(@RequestBody List<Integer> assetIds) {
+        logger.info("Received request to retire {} assets", assetIds.size());
+        try {
+            int retired = assetService.retireAssets(assetIds);
+            logger.info("Successfully retired {} assets", retired);
+            return ResponseEntity.ok(retired);
+        } catch (Exception e) {
+            logger.error("Failed to retire assets: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
     // List assets currently borrowed by a specific employee
     @GetMapping("/assigned/{employeeId}")
     @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
     public ResponseEntity<List<Asset>> getAssignedAssets(@PathVariable Integer employeeId) {
         logger.info("Received request to get assigned assets for employee ID: {}", employeeId);
         try {
-            List<AssetBorrowing> assignedBorrowings = assetBorrowingService.getBorrowingsByEmployee(employeeId);
+            List<AssetBorrowing> assignedBorrowings = assetBorrowingService.getBorrowingsByEmployee(employeeId, false);
             
             List<Asset> borrowedAssets = assignedBorrowings.stream()
                     .map(AssetBorrowing::getAsset)
-                    .filter(asset -> asset.getStatus() == Asset.Status.Borrowed)
+                    .filter(asset -> asset != null && asset.getStatus() == Asset.Status.Borrowed)
                     .collect(Collectors.toList());
 
             logger.info("Successfully retrieved {} assigned assets for employee ID: {}", borrowedAssets.size(), employeeId);
@@ -0,0 +1,98 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.AssetKitDto;
+import com.hexaware.assetmanagement.dto.KitBorrowDto;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.service.IAssetKitService;
+
+import jakarta.validation.Valid;
+
+/** Handles kit definitions and all-or-nothing kit issue */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/kits")
+public class AssetKitController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetKitController.class);
+
+    @Autowired
+    private IAssetKitService kitService;
+
+    // Define a kit from categories (one unit each) and specific assets
+    @PostMapping("/add")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<AssetKitDto> createKit(@Valid @RequestBody AssetKitDto dto) {
+        logger.info("Received request to create kit: {}", dto.getName());
+        try {
+            AssetKitDto kit = kitService.createKit(dto);
+            logger.info("Kit successfully created with ID: {}", kit.getKitId());
+            return new ResponseEntity<>(kit, HttpStatus.CREATED);
+        } catch (Exception e) {
+            logger.error("Failed to create kit: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // List all kit definitions
+    @GetMapping("/getall")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<AssetKitDto>> getKits() {
+        logger.info("Received request to get all kits");
+        try {
+            List<AssetKitDto> kits = kitService.getKits();
+            logger.info("Successfully retrieved {} kits", kits.size());
+            return ResponseEntity.ok(kits);
+        } catch (Exception e) {
+            logger.error("Failed to get all kits: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Remove a kit definition; loans already issued from it are untouched
+    @DeleteMapping("/delete/{kitId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<Void> deleteKit(@PathVariable int kitId) {
+        logger.info("Received request to delete kit with ID: {}", kitId);
+        try {
+            kitService.deleteKit(kitId);
+            logger.info("Kit successfully deleted with ID: {}", kitId);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            logger.error("Failed to delete kit with ID {}: {}", kitId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Issue every item of the kit to an employee, or nothing if any item is unavailable
+    @PostMapping("/{kitId}/borrow")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<AssetBorrowing>> borrowKit(@PathVariable int kitId, @Valid @RequestBody KitBorrowDto dto) {
+        logger.info("Received request to issue kit {} to employee {}", kitId, dto.getEmployeeId());
+        try {
+            List<AssetBorrowing> borrowings = kitService.borrowKit(kitId, dto);
+            logger.info("Kit {} successfully issued as {} loans", kitId, borrowings.size());
+            return ResponseEntity.ok(borrowings);
+        } catch (Exception e) {
+            logger.error("Failed to issue kit {} to employee {}: {}", kitId, dto.getEmployeeId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.AuditCampaignRequestDto;
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+import com.hexaware.assetmanagement.service.IAuditCampaignService;
+
+import jakarta.validation.Valid;
+
+/** Handles bulk audit campaign endpoints */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/audits/campaigns")
+public class AuditCampaignController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditCampaignController.class);
+
+    @Autowired
+    private IAuditCampaignService auditCampaignService;
+
+    // Start a background campaign that audits every active borrowing in scope
+    @PostMapping
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<AuditCampaign> startCampaign(@Valid @RequestBody AuditCampaignRequestDto request) {
+        logger.info("Received request to start audit campaign with scope: {}", request.getScope());
+        try {
+            AuditCampaign campaign = auditCampaignService.startCampaign(request);
+            logger.info("Audit campaign successfully queued with ID: {}", campaign.getCampaignId());
+            return new ResponseEntity<>(campaign, HttpStatus.ACCEPTED);
+        } catch (Exception e) {
+            logger.error("Failed to start audit campaign: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Fetch campaign status and progress
+    @GetMapping("/{campaignId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<AuditCampaign> getCampaignById(@PathVariable int campaignId) {
+        logger.info("Received request to get audit campaign by ID: {}", campaignId);
+        try {
+            return ResponseEntity.ok(auditCampaignService.getCampaignById(campaignId));
+        } catch (Exception e) {
+            logger.error("Failed to get audit campaign with ID {}: {}", campaignId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // List all audit campaigns, newest first
+    @GetMapping
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<AuditCampaign>> getAllCampaigns() {
+        logger.info("Received request to get all audit campaigns");
+        try {
+            List<AuditCampaign> campaigns = auditCampaignService.getAllCampaigns();
+            logger.info("Successfully retrieved {} audit campaigns", campaigns.size());
+            return ResponseEntity.ok(campaigns);
+        } catch (Exception e) {
+            logger.error("Failed to get audit campaigns: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hexaware.assetmanagement.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -23,9 +24,13 @@ import com.hexaware.assetmanagement.config.RoleConstants;
 
 import com.hexaware.assetmanagement.dto.EmployeeDto;
 import com.hexaware.assetmanagement.dto.EmployeeDto.GenderDTO;
+import com.hexaware.assetmanagement.dto.OffboardingResultDto;
 import com.hexaware.assetmanagement.entity.Employee;
 import com.hexaware.assetmanagement.entity.Employee.Gender;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.service.IEmployeeService;
+import com.hexaware.assetmanagement.service.IOffboardingService;
 
 import jakarta.validation.Valid;
 /** Handles employee management endpoints */
@@ -40,6 +45,9 @@ public class EmployeeController {
 	@Autowired
 	IEmployeeService employeeService;
 
+	@Autowired
+	IOffboardingService offboardingService;
+
 	// Create a new employee account and return the registered entity
 	@PostMapping("/register")
 	public ResponseEntity<Employee> registerEmployee(@Valid @RequestBody EmployeeDto employeeDto) {
@@ -99,6 +107,38 @@ public class EmployeeController {
 		}
 	}
 
+	// Return everything the employee holds, close their open requests and disable the account
+	@PostMapping("/offboard/{employeeId}")
+	@PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+	public ResponseEntity<OffboardingResultDto> offboardEmployee(@PathVariable int employeeId) {
+		logger.info("Received request to offboard employee with ID: {}", employeeId);
+		try {
+			OffboardingResultDto result = offboardingService.offboardEmployee(employeeId);
+			logger.info("Employee successfully offboarded with ID: {}", employeeId);
+			return ResponseEntity.ok(result);
+		} catch (Exception e) {
+			logger.error("Failed to offboard employee with ID {}: {}", employeeId, e.getMessage(), e);
+			throw e;
+		}
+	}
+
+	// Offboard a list of employees, each in its own transaction; unknown or already offboarded IDs are skipped
+	@PostMapping("/offboard")
+	@PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+	public ResponseEntity<List<OffboardingResultDto>> offboardEmployees(@RequestBody List<Integer> employeeIds) {
+		logger.info("Received request to offboard {} employees", employeeIds.size());
+		List<OffboardingResultDto> results = new ArrayList<>();
+		for (int employeeId : employeeIds) {
+			try {
+				results.add(offboardingService.offboardEmployee(employeeId));
+			} catch (BadRequestException | ResourceNotFoundException e) {
+				logger.warn("Skipping employee {} during bulk offboarding: {}", employeeId, e.getMessage());
+			}
+		}
+		logger.info("Successfully offboarded {} of {} employees", results.size(), employeeIds.size());
+		return ResponseEntity.ok(results);
+	}
+
 	// List all employees in the system (admin-only view)
 	@GetMapping("/getAllEmployee")
 	@PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
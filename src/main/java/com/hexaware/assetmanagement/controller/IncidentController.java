@@ -0,0 +1,71 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.IncidentDto;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.service.IIncidentService;
+
+/** Handles incident endpoints for grouped duplicate service requests */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/incidents")
+public class IncidentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentController.class);
+
+    @Autowired
+    private IIncidentService incidentService;
+
+    // Open incidents with the service requests grouped under each
+    @GetMapping
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<IncidentDto>> getOpenIncidents() {
+        logger.info("Received request to get open incidents");
+        try {
+            return ResponseEntity.ok(incidentService.getOpenIncidents());
+        } catch (Exception e) {
+            logger.error("Failed to get open incidents: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping("/{incidentId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<IncidentDto> getIncident(@PathVariable int incidentId) {
+        logger.info("Received request to get incident with ID: {}", incidentId);
+        try {
+            return ResponseEntity.ok(incidentService.getIncident(incidentId));
+        } catch (Exception e) {
+            logger.error("Failed to get incident with ID {}: {}", incidentId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Move an incident forward; every child in the same status follows it
+    @PutMapping("/{incidentId}/status/{status}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<IncidentDto> updateIncidentStatus(@PathVariable int incidentId,
+            @PathVariable ServiceRequest.Status status) {
+        logger.info("Received request to update incident {} to status {}", incidentId, status);
+        try {
+            return ResponseEntity.ok(incidentService.updateIncidentStatus(incidentId, status));
+        } catch (Exception e) {
+            logger.error("Failed to update incident {} to status {}: {}", incidentId, status, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.MaintenanceTaskDto;
+import com.hexaware.assetmanagement.entity.AssetReliability;
+import com.hexaware.assetmanagement.service.IMaintenanceService;
+import com.hexaware.assetmanagement.service.PreventiveMaintenanceScheduler.RecomputeResult;
+
+/** Handles preventive maintenance task and asset reliability endpoints */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/maintenance")
+public class MaintenanceController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceController.class);
+
+    @Autowired
+    private IMaintenanceService maintenanceService;
+
+    // Open tasks, oldest first; their assets are held back from borrowing
+    @GetMapping("/tasks")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<MaintenanceTaskDto>> getOpenTasks() {
+        logger.info("Received request to get open maintenance tasks");
+        try {
+            return ResponseEntity.ok(maintenanceService.getOpenTasks());
+        } catch (Exception e) {
+            logger.error("Failed to get open maintenance tasks: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PutMapping("/tasks/{taskId}/complete")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<MaintenanceTaskDto> completeTask(@PathVariable int taskId) {
+        logger.info("Received request to complete maintenance task {}", taskId);
+        try {
+            return ResponseEntity.ok(maintenanceService.completeTask(taskId));
+        } catch (Exception e) {
+            logger.error("Failed to complete maintenance task {}: {}", taskId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping("/assets/{assetId}/tasks")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<MaintenanceTaskDto>> getTasksForAsset(@PathVariable int assetId) {
+        logger.info("Received request to get maintenance tasks for asset {}", assetId);
+        try {
+            return ResponseEntity.ok(maintenanceService.getTasksForAsset(assetId));
+        } catch (Exception e) {
+            logger.error("Failed to get maintenance tasks for asset {}: {}", assetId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping("/assets/{assetId}/reliability")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<AssetReliability> getReliability(@PathVariable int assetId) {
+        logger.info("Received request to get reliability for asset {}", assetId);
+        try {
+            return ResponseEntity.ok(maintenanceService.getReliability(assetId));
+        } catch (Exception e) {
+            logger.error("Failed to get reliability for asset {}: {}", assetId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Run the nightly recompute now; returns how many chunks finished within the budget
+    @PostMapping("/recompute")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<RecomputeResult> recompute() {
+        logger.info("Received request to recompute asset reliability");
+        try {
+            return ResponseEntity.ok(maintenanceService.recompute());
+        } catch (Exception e) {
+            logger.error("Failed to recompute asset reliability: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
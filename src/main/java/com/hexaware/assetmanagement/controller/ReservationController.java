@@ -0,0 +1,118 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.ReservationRequestDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.service.IReservationService;
+
+import jakarta.validation.Valid;
+
+/** Handles future asset reservations and availability search */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/reservations")
+public class ReservationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationController.class);
+
+    @Autowired
+    private IReservationService reservationService;
+
+    // Book an asset, or any free asset of a category, for a future window
+    @PostMapping("/book")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<AssetReservation> reserve(@Valid @RequestBody ReservationRequestDto dto) {
+        logger.info("Received reservation request for employee ID: {}", dto.getEmployeeId());
+        try {
+            AssetReservation reservation = reservationService.reserve(dto);
+            logger.info("Reservation successfully created with ID: {}", reservation.getReservationId());
+            return new ResponseEntity<>(reservation, HttpStatus.CREATED);
+        } catch (Exception e) {
+            logger.error("Failed to create reservation for employee {}: {}", dto.getEmployeeId(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Release a booked window
+    @PutMapping("/{id}/cancel")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<AssetReservation> cancelReservation(@PathVariable int id) {
+        logger.info("Received request to cancel reservation ID: {}", id);
+        try {
+            AssetReservation reservation = reservationService.cancelReservation(id);
+            logger.info("Reservation successfully cancelled with ID: {}", id);
+            return ResponseEntity.ok(reservation);
+        } catch (Exception e) {
+            logger.error("Failed to cancel reservation with ID {}: {}", id, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Any asset of the category that is free for the whole window
+    @GetMapping("/available")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<Asset> findAvailableAsset(@RequestParam int categoryId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startAt,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endAt) {
+        logger.info("Received availability search for category {} from {} to {}", categoryId, startAt, endAt);
+        try {
+            Asset asset = reservationService.findAvailableAsset(categoryId, startAt, endAt);
+            logger.info("Asset {} is free in category {}", asset.getAssetId(), categoryId);
+            return ResponseEntity.ok(asset);
+        } catch (Exception e) {
+            logger.error("Availability search failed for category {}: {}", categoryId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Upcoming bookings of one asset, in start order
+    @GetMapping("/asset/{assetId}")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<List<AssetReservation>> getReservationsForAsset(@PathVariable int assetId) {
+        logger.info("Received request to get reservations for asset ID: {}", assetId);
+        try {
+            List<AssetReservation> reservations = reservationService.getReservationsForAsset(assetId);
+            logger.info("Successfully retrieved {} reservations for asset {}", reservations.size(), assetId);
+            return ResponseEntity.ok(reservations);
+        } catch (Exception e) {
+            logger.error("Failed to get reservations for asset {}: {}", assetId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Upcoming bookings of one employee, in start order
+    @GetMapping("/employee/{employeeId}")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<List<AssetReservation>> getReservationsByEmployee(@PathVariable int employeeId) {
+        logger.info("Received request to get reservations for employee ID: {}", employeeId);
+        try {
+            List<AssetReservation> reservations = reservationService.getReservationsByEmployee(employeeId);
+            logger.info("Successfully retrieved {} reservations for employee {}", reservations.size(), employeeId);
+            return ResponseEntity.ok(reservations);
+        } catch (Exception e) {
+            logger.error("Failed to get reservations for employee {}: {}", employeeId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
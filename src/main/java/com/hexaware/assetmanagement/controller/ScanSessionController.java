@@ -0,0 +1,92 @@
+package com.hexaware.assetmanagement.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.ScanBatchDto;
+import com.hexaware.assetmanagement.dto.ScanSessionDto;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto;
+import com.hexaware.assetmanagement.service.IScanReconciliationService;
+
+import jakarta.validation.Valid;
+
+/** Handles scan-based physical audit sessions */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/audits/scans")
+public class ScanSessionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanSessionController.class);
+
+    @Autowired
+    private IScanReconciliationService scanService;
+
+    // Open a scanning session against an expected set of assets
+    @PostMapping
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ScanSessionDto> openSession(@Valid @RequestBody ScanSessionRequestDto request) {
+        logger.info("Received request to open scan session with scope: {}", request.getScope());
+        try {
+            ScanSessionDto session = scanService.openSession(request);
+            logger.info("Scan session successfully opened with ID: {}", session.getSessionId());
+            return new ResponseEntity<>(session, HttpStatus.CREATED);
+        } catch (Exception e) {
+            logger.error("Failed to open scan session: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Append a batch of scanned asset IDs from a handheld device
+    @PostMapping("/{sessionId}/batches")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ScanSessionDto> addScans(@PathVariable String sessionId, @Valid @RequestBody ScanBatchDto batch) {
+        logger.info("Received scan batch of {} IDs for session: {}", batch.getAssetIds().size(), sessionId);
+        try {
+            return ResponseEntity.ok(scanService.addScans(sessionId, batch.getAssetIds()));
+        } catch (Exception e) {
+            logger.error("Failed to record scan batch for session {}: {}", sessionId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Close the session and return the reconciliation
+    @PostMapping("/{sessionId}/close")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ScanSessionDto> closeSession(@PathVariable String sessionId) {
+        logger.info("Received request to close scan session: {}", sessionId);
+        try {
+            ScanSessionDto session = scanService.closeSession(sessionId);
+            logger.info("Scan session {} closed: {} missing, {} unexpected", sessionId,
+                session.getMissing().size(), session.getUnexpected().size());
+            return ResponseEntity.ok(session);
+        } catch (Exception e) {
+            logger.error("Failed to close scan session {}: {}", sessionId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Fetch session progress or its reconciliation
+    @GetMapping("/{sessionId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ScanSessionDto> getSession(@PathVariable String sessionId) {
+        logger.info("Received request to get scan session: {}", sessionId);
+        try {
+            return ResponseEntity.ok(scanService.getSession(sessionId));
+        } catch (Exception e) {
+            logger.error("Failed to get scan session {}: {}", sessionId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
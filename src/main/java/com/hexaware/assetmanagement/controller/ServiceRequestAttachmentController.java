@@ -0,0 +1,157 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.AttachmentDto;
+import com.hexaware.assetmanagement.entity.ServiceRequestAttachment;
+import com.hexaware.assetmanagement.service.IAttachmentService;
+import com.hexaware.assetmanagement.service.IAttachmentService.AttachmentContent;
+import com.hexaware.assetmanagement.util.ByteRange;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Handles service request attachment endpoints. Uploads are the raw request body
+ * (not multipart) so they stream straight into the store; downloads honour Range
+ * and are handed to the container's sendfile support when it is available.
+ */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/service-requests/{serviceRequestId}/attachments")
+public class ServiceRequestAttachmentController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestAttachmentController.class);
+
+    @Autowired
+    private IAttachmentService attachmentService;
+
+    // Upload one file as the request body: POST ...?filename=screen.jpg with its Content-Type
+    @PostMapping
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<AttachmentDto> upload(@PathVariable int serviceRequestId, @RequestParam String filename,
+            HttpServletRequest request) throws IOException {
+        logger.info("Received request to upload attachment '{}' for service request {}", filename, serviceRequestId);
+        try {
+            AttachmentDto attachment = attachmentService.upload(serviceRequestId, filename, request.getContentType(),
+                    request.getContentLengthLong(), request.getInputStream());
+            return new ResponseEntity<>(attachment, HttpStatus.CREATED);
+        } catch (Exception e) {
+            logger.error("Failed to upload attachment for service request {}: {}", serviceRequestId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public ResponseEntity<List<AttachmentDto>> getAttachments(@PathVariable int serviceRequestId) {
+        logger.info("Received request to list attachments for service request {}", serviceRequestId);
+        try {
+            return ResponseEntity.ok(attachmentService.getAttachments(serviceRequestId));
+        } catch (Exception e) {
+            logger.error("Failed to list attachments for service request {}: {}", serviceRequestId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Download an attachment, or the single byte range asked for
+    @GetMapping("/{attachmentId}")
+    @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
+    public void download(@PathVariable int serviceRequestId, @PathVariable int attachmentId,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Received request to download attachment {} of service request {}", attachmentId, serviceRequestId);
+        AttachmentContent content;
+        try {
+            content = attachmentService.open(serviceRequestId, attachmentId);
+        } catch (Exception e) {
+            logger.error("Failed to open attachment {} of service request {}: {}", attachmentId, serviceRequestId, e.getMessage(), e);
+            throw e;
+        }
+        ServiceRequestAttachment attachment = content.attachment();
+        long size = attachment.getSizeBytes();
+        String etag = "\"" + attachment.getSha256() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        ByteRange range;
+        try {
+            // If-Range with a different validator means the client's partial copy is stale
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            range = ifRange == null || ifRange.equals(etag) ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size) : null;
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+            response.setStatus(HttpStatus.OK.value());
+        } else {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        response.setContentType(attachment.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFilename(), StandardCharsets.UTF_8).build().toString());
+        // Never let a browser render an uploaded file as something else (e.g. HTML)
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(range.length());
+        logger.info("Serving attachment {} of service request {} bytes {}-{}/{}", attachmentId, serviceRequestId,
+                range.start(), range.end(), size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The connector copies the file to the socket itself with sendfile(2)
+            request.setAttribute(SENDFILE_FILENAME, content.path().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(content.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
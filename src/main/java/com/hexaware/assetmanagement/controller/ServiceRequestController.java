@@ -1,8 +1,12 @@
 package com.hexaware.assetmanagement.controller;
 
 import com.hexaware.assetmanagement.dto.ServiceRequestCreateDto;
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto;
 import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
 import com.hexaware.assetmanagement.service.IServiceRequestService;
+import com.hexaware.assetmanagement.service.ITechnicianService;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +31,9 @@ public class ServiceRequestController {
     @Autowired
     private IServiceRequestService serviceRequestService;
 
+    @Autowired
+    private ITechnicianService technicianService;
+
     // Create service request for a borrowed asset (validates ownership)
     @PostMapping("/createServiceRequest")
     @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
@@ -63,17 +70,22 @@ public class ServiceRequestController {
         }
     }
 
-    // Update service request status (Pending, Transit, Completed)
+    // Update service request status along the allowed transitions; optional version guards against stale updates,
+    // and an admin completing the request may correct the issue type the reporter picked
     @PutMapping("/updateServiceRequest/{serviceRequestId}/{status}")
     @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
     public ResponseEntity<ServiceRequest> updateServiceRequest(
             @PathVariable int serviceRequestId,
-            @PathVariable ServiceRequest.Status status) {
+            @PathVariable ServiceRequest.Status status,
+            @RequestParam(required = false) Long version,
+            @RequestParam(required = false) ServiceRequest.IssueType resolvedIssueType) {
         logger.info("Received request to update service request ID: {} with status: {}", serviceRequestId, status);
         try {
             ServiceRequest updatedServiceRequest = serviceRequestService.updateServiceRequestStatus(
                     serviceRequestId,
-                    status
+                    status,
+                    version,
+                    resolvedIssueType
             );
             logger.info("Service request successfully updated with ID: {}", serviceRequestId);
             return ResponseEntity.ok(updatedServiceRequest);
@@ -83,13 +95,29 @@ public class ServiceRequestController {
         }
     }
 
+    // Status change history of a service request, oldest first
+    @GetMapping("/{serviceRequestId}/history")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<ServiceRequestTransition>> getStatusHistory(@PathVariable int serviceRequestId) {
+        logger.info("Received request to get status history for service request ID: {}", serviceRequestId);
+        try {
+            List<ServiceRequestTransition> history = serviceRequestService.getStatusHistory(serviceRequestId);
+            logger.info("Successfully retrieved {} transitions for service request ID: {}", history.size(), serviceRequestId);
+            return ResponseEntity.ok(history);
+        } catch (Exception e) {
+            logger.error("Failed to get status history for service request ID {}: {}", serviceRequestId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     // List all service requests for a specific employee
     @GetMapping("/serviceRequestByEmployee/{employeeId}")
     @PreAuthorize("hasAnyRole('" + RoleConstants.ADMIN + "', '" + RoleConstants.USER + "')")
-    public ResponseEntity<List<ServiceRequest>> getServiceRequestsByEmployee(@PathVariable int employeeId) {
+    public ResponseEntity<List<ServiceRequest>> getServiceRequestsByEmployee(@PathVariable int employeeId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         logger.info("Received request to get service requests for employee ID: {}", employeeId);
         try {
-            List<ServiceRequest> employeeServiceRequests = serviceRequestService.getServiceRequestsByEmployee(employeeId);
+            List<ServiceRequest> employeeServiceRequests = serviceRequestService.getServiceRequestsByEmployee(employeeId, includeArchived);
             logger.info("Successfully retrieved {} service requests for employee ID: {}", employeeServiceRequests.size(), employeeId);
             return ResponseEntity.ok(employeeServiceRequests);
         } catch (Exception e) {
@@ -127,4 +155,64 @@ public class ServiceRequestController {
             throw e;
         }
     }
+
+    // Most urgent open service requests ordered by SLA deadline
+    @GetMapping("/queue")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<ServiceRequestQueueItemDto>> getQueue(@RequestParam(defaultValue = "20") int limit) {
+        logger.info("Received request to get service request queue with limit: {}", limit);
+        try {
+            List<ServiceRequestQueueItemDto> queue = serviceRequestService.getQueue(limit);
+            logger.info("Successfully retrieved {} queued service requests", queue.size());
+            return ResponseEntity.ok(queue);
+        } catch (Exception e) {
+            logger.error("Failed to get service request queue: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Claim the next request for the calling technician (204 when there is nothing to take)
+    @PostMapping("/claim-next")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ServiceRequest> claimNext() {
+        int technicianId = SecurityContextUtil.getCurrentUserId();
+        logger.info("Received request to claim next service request for technician ID: {}", technicianId);
+        try {
+            return technicianService.claimNext(technicianId)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.noContent().build());
+        } catch (Exception e) {
+            logger.error("Failed to claim next service request for technician ID {}: {}", technicianId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Manually assign an open request to a technician
+    @PutMapping("/{serviceRequestId}/assign/{technicianId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<ServiceRequest> assign(@PathVariable int serviceRequestId, @PathVariable int technicianId) {
+        logger.info("Received request to assign service request ID: {} to technician ID: {}", serviceRequestId, technicianId);
+        try {
+            return ResponseEntity.ok(technicianService.assign(serviceRequestId, technicianId));
+        } catch (Exception e) {
+            logger.error("Failed to assign service request ID {}: {}", serviceRequestId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // Open requests assigned to the calling technician, most urgent first
+    @GetMapping("/assigned/me")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<ServiceRequest>> getMyAssignedRequests() {
+        int technicianId = SecurityContextUtil.getCurrentUserId();
+        logger.info("Received request to get assigned service requests for technician ID: {}", technicianId);
+        try {
+            List<ServiceRequest> assigned = technicianService.getAssignedRequests(technicianId);
+            logger.info("Successfully retrieved {} assigned service requests", assigned.size());
+            return ResponseEntity.ok(assigned);
+        } catch (Exception e) {
+            logger.error("Failed to get assigned service requests for technician ID {}: {}", technicianId, e.getMessage(), e);
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.hexaware.assetmanagement.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.dto.TechnicianProfileDto;
+import com.hexaware.assetmanagement.service.ITechnicianService;
+
+import jakarta.validation.Valid;
+
+/** Handles technician profile endpoints for service request dispatch */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/technicians")
+public class TechnicianController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TechnicianController.class);
+
+    @Autowired
+    private ITechnicianService technicianService;
+
+    // Register an admin as a technician or update their skills and capacity
+    @PutMapping("/{employeeId}")
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<TechnicianProfileDto> saveProfile(@PathVariable int employeeId,
+            @Valid @RequestBody TechnicianProfileDto dto) {
+        logger.info("Received request to save technician profile for employee ID: {}", employeeId);
+        try {
+            return ResponseEntity.ok(technicianService.saveProfile(employeeId, dto));
+        } catch (Exception e) {
+            logger.error("Failed to save technician profile for employee ID {}: {}", employeeId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    // List technicians with their current open load
+    @GetMapping
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public ResponseEntity<List<TechnicianProfileDto>> getTechnicians() {
+        logger.info("Received request to get all technicians");
+        try {
+            List<TechnicianProfileDto> technicians = technicianService.getTechnicians();
+            logger.info("Successfully retrieved {} technicians", technicians.size());
+            return ResponseEntity.ok(technicians);
+        } catch (Exception e) {
+            logger.error("Failed to get technicians: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hexaware.assetmanagement.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hexaware.assetmanagement.config.RoleConstants;
+import com.hexaware.assetmanagement.service.WorkflowEventPublisher;
+
+/** Streams borrowing, audit and service request changes to admin screens */
+@CrossOrigin("http://localhost:3000")
+@RestController
+@RequestMapping("/events")
+public class WorkflowEventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowEventController.class);
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    // Subscribe to workflow change events; resumes after Last-Event-ID when supplied
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('" + RoleConstants.ADMIN + "')")
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        logger.info("Received request to open workflow event stream (lastEventId={})", lastEventId);
+        return eventPublisher.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hexaware.assetmanagement.entity.AssetKit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a kit definition */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetKitDto {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private int kitId;
+
+    @NotBlank(message = "Kit name is required")
+    @Size(min = 2, max = 100, message = "Kit name must be between 2 and 100 characters")
+    @Schema(example = "New joiner")
+    private String name;
+
+    @NotNull(message = "Category IDs cannot be null")
+    @Size(max = 50, message = "A kit can hold at most 50 category items")
+    @Schema(description = "One category ID per unit; repeat an ID to ask for several", example = "[1, 2, 3, 3]")
+    private List<@NotNull @Min(1) Integer> categoryIds = new ArrayList<>();
+
+    @NotNull(message = "Asset IDs cannot be null")
+    @Size(max = 50, message = "A kit can hold at most 50 specific assets")
+    @Schema(description = "Specific assets that must be included", example = "[]")
+    private List<@NotNull @Min(1) Integer> assetIds = new ArrayList<>();
+
+    public static AssetKitDto fromEntity(AssetKit kit) {
+        return new AssetKitDto(kit.getKitId(), kit.getName(), kit.getCategoryList(), kit.getAssetList());
+    }
+}
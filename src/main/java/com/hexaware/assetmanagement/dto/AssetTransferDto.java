@@ -0,0 +1,31 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for handing a borrowed asset straight to another employee */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetTransferDto {
+
+    @NotNull @Min(1)
+    @Schema(description = "Asset currently on an active loan")
+    private Integer assetId;
+
+    @NotNull @Min(1)
+    @Schema(description = "Employee who takes over the asset")
+    private Integer toEmployeeId;
+
+    @Future(message = "Due date must be in the future")
+    @Schema(description = "Optional due date for the new loan; the current loan's due date is kept when omitted",
+            example = "2026-12-31T18:00:00")
+    private LocalDateTime dueAt;
+}
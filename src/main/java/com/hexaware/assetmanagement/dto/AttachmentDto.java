@@ -0,0 +1,33 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import com.hexaware.assetmanagement.entity.ServiceRequestAttachment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a service request attachment's metadata */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentDto {
+
+    private int attachmentId;
+    private int serviceRequestId;
+    private String filename;
+    private String contentType;
+    private long sizeBytes;
+    private String sha256;
+    private int uploadedBy;
+    private LocalDateTime uploadedAt;
+    // True when identical content was already stored and only a reference was added
+    private boolean deduplicated;
+
+    public static AttachmentDto fromEntity(ServiceRequestAttachment attachment, boolean deduplicated) {
+        return new AttachmentDto(attachment.getAttachmentId(), attachment.getServiceRequestId(), attachment.getFilename(),
+                attachment.getContentType(), attachment.getSizeBytes(), attachment.getSha256(),
+                attachment.getUploadedBy(), attachment.getUploadedAt(), deduplicated);
+    }
+}
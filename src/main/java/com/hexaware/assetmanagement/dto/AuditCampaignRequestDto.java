@@ -0,0 +1,29 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.entity.AuditCampaign.Scope;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for starting an audit campaign */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditCampaignRequestDto {
+
+    @NotNull(message = "Scope is required")
+    @Schema(description = "Which active borrowings to audit", example = "ALL_ACTIVE",
+            allowableValues = {"ALL_ACTIVE", "CATEGORY", "EMPLOYEES"})
+    private Scope scope;
+
+    @Schema(description = "Category to audit (CATEGORY scope only)")
+    private Integer categoryId;
+
+    @Schema(description = "Employees to audit (EMPLOYEES scope only)")
+    private List<Integer> employeeIds;
+}
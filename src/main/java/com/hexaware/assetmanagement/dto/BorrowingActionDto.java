@@ -1,6 +1,9 @@
 package com.hexaware.assetmanagement.dto;
 
+import java.time.LocalDateTime;
+
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,6 +20,11 @@ public class BorrowingActionDto {
             example = "APPROVE", 
             allowableValues = {"APPROVE", "REJECT"})
     private BorrowingAction action;
+
+    @Future(message = "Due date must be in the future")
+    @Schema(description = "Optional loan due date, applied when the request is approved",
+            example = "2026-12-31T18:00:00")
+    private LocalDateTime dueAt;
     
     @Schema(description = "Available actions for borrowing requests")
     public enum BorrowingAction {
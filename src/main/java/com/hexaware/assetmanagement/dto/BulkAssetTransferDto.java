@@ -0,0 +1,24 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for moving several borrowed assets at once, e.g. a team handover */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssetTransferDto {
+
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = 500, message = "At most 500 assets can be transferred in one request")
+    @Schema(description = "Transfers applied together; one asset may appear only once")
+    private List<@Valid @NotNull AssetTransferDto> transfers;
+}
@@ -0,0 +1,29 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for verifying or rejecting several of the caller's audits at once */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAuditDecisionDto {
+
+    @NotEmpty(message = "At least one audit ID is required")
+    @Size(max = 500, message = "At most 500 audits can be decided in one request")
+    @Schema(description = "Pending audits owned by the caller")
+    private List<@NotNull Integer> auditIds;
+
+    @NotBlank(message = "Action is required")
+    @Schema(description = "Decision to apply to every listed audit", example = "VERIFY",
+            allowableValues = {"VERIFY", "REJECT"})
+    private String action;
+}
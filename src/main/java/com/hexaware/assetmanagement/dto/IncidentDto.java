@@ -0,0 +1,26 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for an incident and the duplicate service requests grouped under it */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentDto {
+
+    private int incidentId;
+    private IssueType issueType;
+    private Status status;
+    private String title;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<Integer> serviceRequestIds;
+}
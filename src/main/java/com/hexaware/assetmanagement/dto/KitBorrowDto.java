@@ -0,0 +1,26 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for issuing a kit to an employee */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitBorrowDto {
+
+    @NotNull @Min(1)
+    @Schema(description = "Employee who receives every item of the kit")
+    private Integer employeeId;
+
+    @Future(message = "Due date must be in the future")
+    @Schema(description = "Optional due date applied to every loan of the kit", example = "2026-12-31T18:00:00")
+    private LocalDateTime dueAt;
+}
@@ -0,0 +1,32 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import com.hexaware.assetmanagement.entity.MaintenanceTask;
+import com.hexaware.assetmanagement.entity.MaintenanceTask.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a preventive maintenance task */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceTaskDto {
+
+    private int taskId;
+    private int assetId;
+    private TaskStatus status;
+    private String reason;
+    private int failureCount;
+    private LocalDateTime dueAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private Integer completedBy;
+
+    public static MaintenanceTaskDto fromEntity(MaintenanceTask task) {
+        return new MaintenanceTaskDto(task.getTaskId(), task.getAssetId(), task.getStatus(), task.getReason(),
+                task.getFailureCount(), task.getDueAt(), task.getCreatedAt(), task.getCompletedAt(), task.getCompletedBy());
+    }
+}
@@ -0,0 +1,24 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** What an offboarding closed out for one employee */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffboardingResultDto {
+
+    private int employeeId;
+    private int returnedBorrowings;
+    private int releasedAssets;
+    private int rejectedBorrowings;
+    private int rejectedAudits;
+    private int closedServiceRequests;
+    private int unassignedServiceRequests;
+    private int cancelledReservations;
+    private LocalDateTime offboardedAt;
+}
@@ -0,0 +1,39 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for booking an asset, or any free asset of a category, for a future window */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequestDto {
+
+    @NotNull @Min(1)
+    private Integer employeeId;
+
+    @Min(1)
+    @Schema(description = "Specific asset to book; give this or categoryId")
+    private Integer assetId;
+
+    @Min(1)
+    @Schema(description = "Book whichever asset of this category is free for the window; give this or assetId")
+    private Integer categoryId;
+
+    @NotNull(message = "Start time is required")
+    @Future(message = "Start time must be in the future")
+    @Schema(example = "2026-11-03T09:00:00")
+    private LocalDateTime startAt;
+
+    @NotNull(message = "End time is required")
+    @Future(message = "End time must be in the future")
+    @Schema(description = "Exclusive end of the booking", example = "2026-11-03T11:00:00")
+    private LocalDateTime endAt;
+}
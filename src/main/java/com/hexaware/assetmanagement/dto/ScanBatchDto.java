@@ -0,0 +1,23 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a batch of asset IDs read by a handheld scanner */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanBatchDto {
+
+    @NotEmpty(message = "At least one scanned asset ID is required")
+    @Size(max = 10000, message = "At most 10000 asset IDs can be sent in one batch")
+    @Schema(description = "Scanned asset IDs; duplicates are ignored")
+    private List<@NotNull Integer> assetIds;
+}
@@ -0,0 +1,38 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto.ExpectedScope;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a scanning session and, once closed, its reconciliation */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanSessionDto {
+
+    public enum SessionStatus {
+        OPEN,
+        CLOSED
+    }
+
+    private String sessionId;
+    private ExpectedScope scope;
+    private Integer categoryId;
+    private Integer employeeId;
+    private SessionStatus status;
+    private long scannedCount;
+    private LocalDateTime openedAt;
+    private LocalDateTime closedAt;
+
+    // Populated when the session is closed
+    private Long expectedCount;
+    private List<Integer> matched;
+    private List<Integer> missing;
+    private List<Integer> unexpected;
+    private Long reconcileMillis;
+}
@@ -0,0 +1,30 @@
+package com.hexaware.assetmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for opening a physical scanning session */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanSessionRequestDto {
+
+    public enum ExpectedScope {
+        ACTIVE_BORROWINGS,
+        AVAILABLE
+    }
+
+    @NotNull(message = "Scope is required")
+    @Schema(description = "Which assets the scan is expected to find", example = "AVAILABLE",
+            allowableValues = {"ACTIVE_BORROWINGS", "AVAILABLE"})
+    private ExpectedScope scope;
+
+    @Schema(description = "Narrow the expected set to one category")
+    private Integer categoryId;
+
+    @Schema(description = "Narrow ACTIVE_BORROWINGS to the assets held by one employee")
+    private Integer employeeId;
+}
@@ -0,0 +1,33 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDateTime;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for one entry of the SLA-ordered service request queue */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceRequestQueueItemDto {
+
+    public enum SlaState {
+        ON_TRACK,
+        AT_RISK,
+        BREACHED
+    }
+
+    private int serviceRequestId;
+    private IssueType issueType;
+    private Status status;
+    private int employeeId;
+    private Integer assetId;
+    private LocalDateTime requestedAt;
+    private LocalDateTime dueAt;
+    private long minutesRemaining;
+    private SlaState slaState;
+}
@@ -0,0 +1,41 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.util.Set;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for a technician's dispatch settings and current load */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnicianProfileDto {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private int employeeId;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private String name;
+
+    @NotEmpty(message = "At least one skill is required")
+    @Schema(description = "Issue types this technician handles", example = "[\"HARDWARE\", \"NETWORK\"]")
+    private Set<IssueType> skills;
+
+    @Min(value = 1, message = "Max open requests must be at least 1")
+    @Max(value = 200, message = "Max open requests must be at most 200")
+    @Schema(description = "Open requests the dispatcher may assign at once", example = "10")
+    private int maxOpen = 10;
+
+    @Schema(description = "Whether the technician receives new work", example = "true")
+    private boolean active = true;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "Assigned Pending and Transit requests")
+    private long openCount;
+}
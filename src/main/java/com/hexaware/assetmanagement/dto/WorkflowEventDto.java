@@ -0,0 +1,28 @@
+package com.hexaware.assetmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Compact change notification pushed to admin screens (IDs and new state only) */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowEventDto {
+
+    public enum EventType {
+        BORROWING,
+        AUDIT,
+        SERVICE_REQUEST,
+        INCIDENT,
+        MAINTENANCE,
+        RESYNC
+    }
+
+    private long eventId;
+    private EventType type;
+    private int entityId;
+    private Integer employeeId;
+    private Integer assetId;
+    private String status;
+}
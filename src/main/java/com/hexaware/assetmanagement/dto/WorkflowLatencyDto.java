@@ -0,0 +1,28 @@
+package com.hexaware.assetmanagement.dto;
+
+import java.time.LocalDate;
+
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Transport shape for latency percentiles of one workflow metric, dimension and week */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowLatencyDto {
+
+    private Metric metric;
+    private String dimension;
+    private String dimensionLabel;
+    // Null when several weeks were merged
+    private LocalDate weekStart;
+    private long count;
+    private double meanSeconds;
+    private double p50Seconds;
+    private double p90Seconds;
+    private double p99Seconds;
+    private double maxSeconds;
+}
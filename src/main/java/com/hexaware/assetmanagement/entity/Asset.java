@@ -1,16 +1,27 @@
 package com.hexaware.assetmanagement.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
@@ -19,7 +30,14 @@ import jakarta.validation.constraints.Size;
 
 /** Represents an asset in the system with category, status, and metadata */
 @Entity
-@Table(name = "asset")
+@Table(name = "asset", indexes = {
+    // Availability lookups for kit allocation: free stock in a category, in key order
+    @Index(name = "idx_asset_category_status", columnList = "category_id, status, maintenance_hold")
+})
+@NamedEntityGraph(name = Asset.WITH_CATEGORY, attributeNodes = @NamedAttributeNode("category"))
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@FilterDef(name = Asset.NOT_DELETED, defaultCondition = "deleted_at IS NULL")
+@Filter(name = Asset.NOT_DELETED)
 public class Asset {
 
     public enum Status {
@@ -27,6 +45,11 @@ public class Asset {
         Borrowed
     }
 
+    public static final String WITH_CATEGORY = "Asset.withCategory";
+
+    // Enabled on every session by SoftDeleteConfig, so queries never see retired assets
+    public static final String NOT_DELETED = "notDeletedAsset";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int assetId;
@@ -37,7 +60,7 @@ public class Asset {
     private String assetName;
 
     @NotNull(message = "Category cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private AssetCategory category;
 
@@ -63,11 +86,21 @@ public class Asset {
     private Status status = Status.Available;
 
     @Size(max = 2048, message = "Description must not exceed 2048 characters")
+    // Only loaded where it is shown; see IAssetRepository.findDescriptions
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 2048)
     private String description;
 
     private String imageUrl; // Store relative path like "/uploads/<filename>"
 
+    // Set while a preventive maintenance task is open; the asset cannot be borrowed meanwhile
+    @Column(name = "maintenance_hold", nullable = false, columnDefinition = "BOOLEAN NOT NULL DEFAULT FALSE")
+    private boolean maintenanceHold;
+
+    // Soft delete; DeletedAssetPurger archives the asset's history and removes the row later
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public Asset() {
         super();
     }
@@ -171,11 +204,27 @@ public class Asset {
         this.imageUrl = imageUrl;
     }
 
+    public boolean isMaintenanceHold() {
+        return maintenanceHold;
+    }
+
+    public void setMaintenanceHold(boolean maintenanceHold) {
+        this.maintenanceHold = maintenanceHold;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     @Override
     public String toString() {
-        return "Asset [assetId=" + assetId + ", assetName=" + assetName + ", category=" + category + ", assetModel="
+        return "Asset [assetId=" + assetId + ", assetName=" + assetName + ", categoryId=" + (category != null ? category.getCategoryId() : null) + ", assetModel="
                 + assetModel + ", manufacturingDate=" + manufacturingDate + ", expiryDate=" + expiryDate
-                + ", assetValue=" + assetValue + ", status=" + status + ", description=" + description + ", imageUrl=" + imageUrl + "]";
+                + ", assetValue=" + assetValue + ", status=" + status + ", imageUrl=" + imageUrl + "]";
     }
 }
 
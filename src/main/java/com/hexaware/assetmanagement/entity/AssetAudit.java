@@ -6,11 +6,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.OnDelete;
@@ -18,7 +23,13 @@ import org.hibernate.annotations.OnDeleteAction;
 
 /** Represents an audit request for asset verification */
 @Entity
-@Table(name = "asset_audit")
+@Table(name = "asset_audit", indexes = {
+    @Index(name = "idx_audit_status_requested_at", columnList = "audit_status, requested_at, audit_id")
+})
+@NamedEntityGraph(name = AssetAudit.WITH_EMPLOYEE_AND_ASSET, attributeNodes = {
+    @NamedAttributeNode("employee"),
+    @NamedAttributeNode(value = "asset", subgraph = "asset")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("category")))
 public class AssetAudit {
 
     public enum AuditStatus {
@@ -27,18 +38,20 @@ public class AssetAudit {
         REJECTED
     }
 
+    public static final String WITH_EMPLOYEE_AND_ASSET = "AssetAudit.withEmployeeAndAsset";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int auditId;
 
     @NotNull(message = "Employee cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Employee employee;
 
     @NotNull(message = "Asset cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Asset asset;
@@ -55,6 +68,20 @@ public class AssetAudit {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Set when the audit was generated by an audit campaign
+    @Column(name = "campaign_id")
+    private Integer campaignId;
+
+    // Number of reminder thresholds already notified for this pending audit
+    @Column(name = "reminder_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int reminderCount;
+
+    @Column(name = "last_reminded_at")
+    private LocalDateTime lastRemindedAt;
+
+    @Column(name = "escalated_at")
+    private LocalDateTime escalatedAt;
+
 	public AssetAudit() {
 		super();
 	}
@@ -120,10 +147,42 @@ public class AssetAudit {
 		this.updatedAt = updatedAt;
 	}
 
+	public Integer getCampaignId() {
+		return campaignId;
+	}
+
+	public void setCampaignId(Integer campaignId) {
+		this.campaignId = campaignId;
+	}
+
+	public int getReminderCount() {
+		return reminderCount;
+	}
+
+	public void setReminderCount(int reminderCount) {
+		this.reminderCount = reminderCount;
+	}
+
+	public LocalDateTime getLastRemindedAt() {
+		return lastRemindedAt;
+	}
+
+	public void setLastRemindedAt(LocalDateTime lastRemindedAt) {
+		this.lastRemindedAt = lastRemindedAt;
+	}
+
+	public LocalDateTime getEscalatedAt() {
+		return escalatedAt;
+	}
+
+	public void setEscalatedAt(LocalDateTime escalatedAt) {
+		this.escalatedAt = escalatedAt;
+	}
+
 	@Override
 	public String toString() {
-		return "AssetAudit [auditId=" + auditId + ", employee=" + employee + ", asset=" + asset + ", auditStatus="
-				+ auditStatus + ", requestedAt=" + requestedAt + ", updatedAt=" + updatedAt + "]";
+		return "AssetAudit [auditId=" + auditId + ", employeeId=" + (employee != null ? employee.getEmployeeId() : null)
+				+ ", assetId=" + (asset != null ? asset.getAssetId() : null) + ", auditStatus=" + auditStatus + ", requestedAt=" + requestedAt + ", updatedAt=" + updatedAt + "]";
 	}
 
     
@@ -6,11 +6,16 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.OnDelete;
@@ -18,7 +23,13 @@ import org.hibernate.annotations.OnDeleteAction;
 
 /** Represents the borrowing relationship between employee and asset */
 @Entity
-@Table(name = "asset_borrowing")
+@Table(name = "asset_borrowing", indexes = {
+    @Index(name = "idx_borrowing_status_due_at", columnList = "status, due_at")
+})
+@NamedEntityGraph(name = AssetBorrowing.WITH_EMPLOYEE_AND_ASSET, attributeNodes = {
+    @NamedAttributeNode("employee"),
+    @NamedAttributeNode(value = "asset", subgraph = "asset")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("category")))
 public class AssetBorrowing {
 
     public enum Status {
@@ -29,18 +40,20 @@ public class AssetBorrowing {
         RETURNED
     }
 
+    public static final String WITH_EMPLOYEE_AND_ASSET = "AssetBorrowing.withEmployeeAndAsset";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int borrowingId;
 
     @NotNull(message = "Employee cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Employee employee;
 
     @NotNull(message = "Asset cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Asset asset;
@@ -52,6 +65,24 @@ public class AssetBorrowing {
     @Column(name = "returned_at")
     private LocalDateTime returnedAt;
 
+    // When the request was raised and when an admin approved or rejected it; borrowed_at is reset on approval
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "decided_at")
+    private LocalDateTime decidedAt;
+
+    // Optional loan deadline, set when the request is approved
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
+    // Set when the loan passes its due date while still ACTIVE
+    @Column(name = "overdue_since")
+    private LocalDateTime overdueSince;
+
     @NotNull
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -113,6 +144,46 @@ public class AssetBorrowing {
 		this.returnedAt = returnedAt;
 	}
 
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+
+	public LocalDateTime getDecidedAt() {
+		return decidedAt;
+	}
+
+	public void setDecidedAt(LocalDateTime decidedAt) {
+		this.decidedAt = decidedAt;
+	}
+
+	public LocalDateTime getDueAt() {
+		return dueAt;
+	}
+
+	public void setDueAt(LocalDateTime dueAt) {
+		this.dueAt = dueAt;
+	}
+
+	public LocalDateTime getReminderSentAt() {
+		return reminderSentAt;
+	}
+
+	public void setReminderSentAt(LocalDateTime reminderSentAt) {
+		this.reminderSentAt = reminderSentAt;
+	}
+
+	public LocalDateTime getOverdueSince() {
+		return overdueSince;
+	}
+
+	public void setOverdueSince(LocalDateTime overdueSince) {
+		this.overdueSince = overdueSince;
+	}
+
 	public Status getStatus() {
 		return status;
 	}
@@ -123,8 +194,9 @@ public class AssetBorrowing {
 
 	@Override
 	public String toString() {
-		return "AssetBorrowing [borrowingId=" + borrowingId + ", employee=" + employee + ", asset=" + asset
-				+ ", borrowedAt=" + borrowedAt + ", returnedAt=" + returnedAt + ", status=" + status + "]";
+		return "AssetBorrowing [borrowingId=" + borrowingId + ", employeeId=" + (employee != null ? employee.getEmployeeId() : null)
+				+ ", assetId=" + (asset != null ? asset.getAssetId() : null) + ", borrowedAt=" + borrowedAt + ", returnedAt=" + returnedAt + ", dueAt=" + dueAt
+				+ ", overdueSince=" + overdueSince + ", status=" + status + "]";
 	}
 
     
@@ -1,5 +1,7 @@
 package com.hexaware.assetmanagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +14,7 @@ import jakarta.validation.constraints.Size;
 /** Represents a category for organizing assets */
 @Entity
 @Table(name = "asset_category")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class AssetCategory {
 
     @Id
@@ -0,0 +1,126 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/** A named bundle of assets issued together, e.g. a new joiner's laptop, dock, monitor and headset */
+@Entity
+@Table(name = "asset_kit")
+public class AssetKit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int kitId;
+
+    @NotNull(message = "Kit name cannot be null")
+    @Size(min = 2, max = 100, message = "Kit name must be between 2 and 100 characters")
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    // Comma-separated category IDs, one entry per unit; any available asset of the category will do
+    @Column(name = "category_ids", columnDefinition = "TEXT")
+    private String categoryIds;
+
+    // Comma-separated IDs of specific assets that must be part of the kit
+    @Column(name = "asset_ids", columnDefinition = "TEXT")
+    private String assetIds;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public AssetKit() {
+        super();
+    }
+
+    public AssetKit(String name, List<Integer> categoryIds, List<Integer> assetIds) {
+        super();
+        this.name = name;
+        setCategoryList(categoryIds);
+        setAssetList(assetIds);
+    }
+
+    public int getKitId() {
+        return kitId;
+    }
+
+    public void setKitId(int kitId) {
+        this.kitId = kitId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(String categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    public String getAssetIds() {
+        return assetIds;
+    }
+
+    public void setAssetIds(String assetIds) {
+        this.assetIds = assetIds;
+    }
+
+    public List<Integer> getCategoryList() {
+        return parse(categoryIds);
+    }
+
+    public void setCategoryList(List<Integer> categoryList) {
+        this.categoryIds = join(categoryList);
+    }
+
+    public List<Integer> getAssetList() {
+        return parse(assetIds);
+    }
+
+    public void setAssetList(List<Integer> assetList) {
+        this.assetIds = join(assetList);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    private static List<Integer> parse(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    private static String join(List<Integer> ids) {
+        return ids == null ? "" : ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public String toString() {
+        return "AssetKit [kitId=" + kitId + ", name=" + name + ", categoryIds=" + categoryIds + ", assetIds="
+                + assetIds + ", createdAt=" + createdAt + "]";
+    }
+}
@@ -0,0 +1,112 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Per-asset failure statistics derived from HARDWARE service request history.
+ * Updated incrementally when a repair completes and rebuilt by the nightly recompute.
+ */
+@Entity
+@Table(name = "asset_reliability", indexes = {
+    @Index(name = "idx_asset_reliability_next_due", columnList = "next_maintenance_due")
+})
+public class AssetReliability {
+
+    @Id
+    @Column(name = "asset_id")
+    private int assetId;
+
+    // Completed HARDWARE repairs inside the failure window
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    @Column(name = "failure_rate_per_year", nullable = false)
+    private double failureRatePerYear;
+
+    @Column(name = "last_repair_at")
+    private LocalDateTime lastRepairAt;
+
+    @Column(name = "last_maintenance_at")
+    private LocalDateTime lastMaintenanceAt;
+
+    // Null when no maintenance is due or a task is already open
+    @Column(name = "next_maintenance_due")
+    private LocalDateTime nextMaintenanceDue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AssetReliability() {
+        super();
+    }
+
+    public AssetReliability(int assetId) {
+        super();
+        this.assetId = assetId;
+    }
+
+    public int getAssetId() {
+        return assetId;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(int failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public double getFailureRatePerYear() {
+        return failureRatePerYear;
+    }
+
+    public void setFailureRatePerYear(double failureRatePerYear) {
+        this.failureRatePerYear = failureRatePerYear;
+    }
+
+    public LocalDateTime getLastRepairAt() {
+        return lastRepairAt;
+    }
+
+    public void setLastRepairAt(LocalDateTime lastRepairAt) {
+        this.lastRepairAt = lastRepairAt;
+    }
+
+    public LocalDateTime getLastMaintenanceAt() {
+        return lastMaintenanceAt;
+    }
+
+    public void setLastMaintenanceAt(LocalDateTime lastMaintenanceAt) {
+        this.lastMaintenanceAt = lastMaintenanceAt;
+    }
+
+    public LocalDateTime getNextMaintenanceDue() {
+        return nextMaintenanceDue;
+    }
+
+    public void setNextMaintenanceDue(LocalDateTime nextMaintenanceDue) {
+        this.nextMaintenanceDue = nextMaintenanceDue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AssetReliability [assetId=" + assetId + ", failureCount=" + failureCount + ", failureRatePerYear="
+                + failureRatePerYear + ", lastRepairAt=" + lastRepairAt + ", lastMaintenanceAt=" + lastMaintenanceAt
+                + ", nextMaintenanceDue=" + nextMaintenanceDue + "]";
+    }
+}
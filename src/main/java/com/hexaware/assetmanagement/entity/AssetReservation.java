@@ -0,0 +1,162 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/** A booking of an asset for a future time window [startAt, endAt) */
+@Entity
+@Table(name = "asset_reservation", indexes = {
+    @Index(name = "idx_reservation_status_end_at", columnList = "status, end_at"),
+    @Index(name = "idx_reservation_asset_start_at", columnList = "asset_id, start_at")
+})
+@NamedEntityGraph(name = AssetReservation.WITH_EMPLOYEE_AND_ASSET, attributeNodes = {
+    @NamedAttributeNode("employee"),
+    @NamedAttributeNode(value = "asset", subgraph = "asset")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("category")))
+public class AssetReservation {
+
+    public enum Status {
+        BOOKED,
+        CANCELLED
+    }
+
+    public static final String WITH_EMPLOYEE_AND_ASSET = "AssetReservation.withEmployeeAndAsset";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int reservationId;
+
+    @NotNull(message = "Employee cannot be null")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Employee employee;
+
+    @NotNull(message = "Asset cannot be null")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Asset asset;
+
+    @NotNull
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    // Exclusive, so back-to-back bookings of the same asset do not conflict
+    @NotNull
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.BOOKED;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+
+    public AssetReservation() {
+        super();
+    }
+
+    public AssetReservation(Employee employee, Asset asset, LocalDateTime startAt, LocalDateTime endAt) {
+        super();
+        this.employee = employee;
+        this.asset = asset;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public int getReservationId() {
+        return reservationId;
+    }
+
+    public void setReservationId(int reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+
+    public Asset getAsset() {
+        return asset;
+    }
+
+    public void setAsset(Asset asset) {
+        this.asset = asset;
+    }
+
+    public LocalDateTime getStartAt() {
+        return startAt;
+    }
+
+    public void setStartAt(LocalDateTime startAt) {
+        this.startAt = startAt;
+    }
+
+    public LocalDateTime getEndAt() {
+        return endAt;
+    }
+
+    public void setEndAt(LocalDateTime endAt) {
+        this.endAt = endAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCancelledAt() {
+        return cancelledAt;
+    }
+
+    public void setCancelledAt(LocalDateTime cancelledAt) {
+        this.cancelledAt = cancelledAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AssetReservation [reservationId=" + reservationId + ", employeeId=" + (employee != null ? employee.getEmployeeId() : null)
+                + ", assetId=" + (asset != null ? asset.getAssetId() : null) + ", startAt=" + startAt + ", endAt=" + endAt
+                + ", status=" + status + "]";
+    }
+}
@@ -0,0 +1,160 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+/** Represents a bulk audit job that generates audits for a scope of active borrowings */
+@Entity
+@Table(name = "audit_campaign")
+public class AuditCampaign {
+
+    public enum Scope {
+        ALL_ACTIVE,
+        CATEGORY,
+        EMPLOYEES
+    }
+
+    public enum CampaignStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int campaignId;
+
+    @NotNull(message = "Scope cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private Scope scope;
+
+    @Column(name = "category_id")
+    private Integer categoryId;
+
+    // Comma-separated employee IDs for the EMPLOYEES scope
+    @Column(name = "employee_ids", columnDefinition = "TEXT")
+    private String employeeIds;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private CampaignStatus status = CampaignStatus.QUEUED;
+
+    @Column(name = "total_targets")
+    private int totalTargets;
+
+    @Column(name = "created_count")
+    private int createdCount;
+
+    @Column(name = "error_message", length = 512)
+    private String errorMessage;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+	public AuditCampaign() {
+		super();
+	}
+
+	public int getCampaignId() {
+		return campaignId;
+	}
+
+	public void setCampaignId(int campaignId) {
+		this.campaignId = campaignId;
+	}
+
+	public Scope getScope() {
+		return scope;
+	}
+
+	public void setScope(Scope scope) {
+		this.scope = scope;
+	}
+
+	public Integer getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Integer categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public String getEmployeeIds() {
+		return employeeIds;
+	}
+
+	public void setEmployeeIds(String employeeIds) {
+		this.employeeIds = employeeIds;
+	}
+
+	public CampaignStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(CampaignStatus status) {
+		this.status = status;
+	}
+
+	public int getTotalTargets() {
+		return totalTargets;
+	}
+
+	public void setTotalTargets(int totalTargets) {
+		this.totalTargets = totalTargets;
+	}
+
+	public int getCreatedCount() {
+		return createdCount;
+	}
+
+	public void setCreatedCount(int createdCount) {
+		this.createdCount = createdCount;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getCompletedAt() {
+		return completedAt;
+	}
+
+	public void setCompletedAt(LocalDateTime completedAt) {
+		this.completedAt = completedAt;
+	}
+
+	@Override
+	public String toString() {
+		return "AuditCampaign [campaignId=" + campaignId + ", scope=" + scope + ", categoryId=" + categoryId
+				+ ", status=" + status + ", totalTargets=" + totalTargets + ", createdCount=" + createdCount
+				+ ", createdAt=" + createdAt + ", completedAt=" + completedAt + "]";
+	}
+}
@@ -1,6 +1,7 @@
 package com.hexaware.assetmanagement.entity;
 
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -8,6 +9,8 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -23,6 +26,7 @@ import jakarta.validation.constraints.Size;
 /** Represents an employee with authentication and role-based access */
 @Entity
 @Table(name = "employee")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Employee implements UserDetails {
 
 	public enum Role { ADMIN, USER }
@@ -67,6 +71,10 @@ public class Employee implements UserDetails {
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private Role role = Role.USER; // default
+
+    // Set by offboarding; disables login and every token already issued, and queues the history purge
+    @Column(name = "offboarded_at")
+    private LocalDateTime offboardedAt;
     
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -94,7 +102,7 @@ public class Employee implements UserDetails {
     
     @Override
     public boolean isEnabled() {
-        return true;
+        return offboardedAt == null;
     }
 
 	public Employee() {
@@ -180,6 +188,14 @@ public class Employee implements UserDetails {
 		this.password = password;
 	}
 
+	public LocalDateTime getOffboardedAt() {
+		return offboardedAt;
+	}
+
+	public void setOffboardedAt(LocalDateTime offboardedAt) {
+		this.offboardedAt = offboardedAt;
+	}
+
 	public Role getRole() {
 		return role;
 	}
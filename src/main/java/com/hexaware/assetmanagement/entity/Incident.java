@@ -0,0 +1,92 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Parent of service requests detected as duplicates of each other (same issue type,
+ * near-identical description, filed within the grouping window).
+ */
+@Entity
+@Table(name = "incident", indexes = {
+    @Index(name = "idx_incident_status_created_at", columnList = "status, created_at")
+})
+public class Incident {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int incidentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "issue_type", nullable = false)
+    private IssueType issueType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.Pending;
+
+    // Description of the first request in the group, truncated
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Incident() {
+        super();
+    }
+
+    public Incident(IssueType issueType, String title, LocalDateTime createdAt) {
+        super();
+        this.issueType = issueType;
+        this.title = title.length() > 255 ? title.substring(0, 255) : title;
+        this.createdAt = createdAt;
+    }
+
+    public int getIncidentId() {
+        return incidentId;
+    }
+
+    public IssueType getIssueType() {
+        return issueType;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
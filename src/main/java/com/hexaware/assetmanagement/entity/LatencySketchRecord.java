@@ -0,0 +1,87 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/** Persisted latency sketch for one workflow metric, dimension and week */
+@Entity
+@Table(name = "latency_sketch", indexes = {
+    @Index(name = "idx_latency_sketch_week", columnList = "week_start")
+})
+public class LatencySketchRecord {
+
+    public enum Metric {
+        BORROW_APPROVAL,
+        AUDIT_RESPONSE,
+        REPAIR_RESOLUTION
+    }
+
+    // metric|dimension|weekStart
+    @Id
+    @Column(name = "sketch_key", length = 128)
+    private String sketchKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(30)")
+    private Metric metric;
+
+    // Category ID for borrow and audit metrics, issue type for repairs
+    @Column(nullable = false, length = 50)
+    private String dimension;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public LatencySketchRecord() {
+        super();
+    }
+
+    public LatencySketchRecord(String sketchKey, Metric metric, String dimension, LocalDate weekStart,
+            String sketch, LocalDateTime updatedAt) {
+        super();
+        this.sketchKey = sketchKey;
+        this.metric = metric;
+        this.dimension = dimension;
+        this.weekStart = weekStart;
+        this.sketch = sketch;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getSketchKey() {
+        return sketchKey;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public String getSketch() {
+        return sketch;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,121 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/** Preventive maintenance work raised for an asset with a poor repair history */
+@Entity
+@Table(name = "maintenance_task", indexes = {
+    @Index(name = "idx_maintenance_task_asset_status", columnList = "asset_id, status"),
+    @Index(name = "idx_maintenance_task_status_created", columnList = "status, created_at")
+})
+public class MaintenanceTask {
+
+    public enum TaskStatus { OPEN, COMPLETED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int taskId;
+
+    @Column(name = "asset_id", nullable = false, updatable = false)
+    private int assetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private TaskStatus status = TaskStatus.OPEN;
+
+    @Column(nullable = false, length = 255)
+    private String reason;
+
+    // Failures in the window when the task was raised
+    @Column(name = "failure_count", nullable = false, updatable = false)
+    private int failureCount;
+
+    @Column(name = "due_at", nullable = false, updatable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "completed_by")
+    private Integer completedBy;
+
+    public MaintenanceTask() {
+        super();
+    }
+
+    public MaintenanceTask(int assetId, String reason, int failureCount, LocalDateTime dueAt, LocalDateTime createdAt) {
+        super();
+        this.assetId = assetId;
+        this.reason = reason;
+        this.failureCount = failureCount;
+        this.dueAt = dueAt;
+        this.createdAt = createdAt;
+    }
+
+    public int getTaskId() {
+        return taskId;
+    }
+
+    public int getAssetId() {
+        return assetId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Integer getCompletedBy() {
+        return completedBy;
+    }
+
+    public void setCompletedBy(Integer completedBy) {
+        this.completedBy = completedBy;
+    }
+
+    @Override
+    public String toString() {
+        return "MaintenanceTask [taskId=" + taskId + ", assetId=" + assetId + ", status=" + status + ", reason="
+                + reason + ", dueAt=" + dueAt + ", createdAt=" + createdAt + ", completedAt=" + completedAt + "]";
+    }
+}
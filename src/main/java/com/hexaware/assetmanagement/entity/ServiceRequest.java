@@ -5,34 +5,56 @@ import java.time.LocalDateTime;
 
 import java.util.Date;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 /** Represents a service request for asset maintenance or issues */
 @Entity
-@Table(name = "service_request")
+@Table(name = "service_request", indexes = {
+    @Index(name = "idx_service_request_status_due_at", columnList = "status, due_at"),
+    @Index(name = "idx_service_request_assignee_status", columnList = "assignee_id, status"),
+    @Index(name = "idx_service_request_incident_status", columnList = "incident_id, status"),
+    @Index(name = "idx_service_request_asset_issue_type", columnList = "asset_id, issue_type")
+})
+@NamedEntityGraph(name = ServiceRequest.WITH_EMPLOYEE_AND_ASSET, attributeNodes = {
+    @NamedAttributeNode("employee"),
+    @NamedAttributeNode(value = "asset", subgraph = "asset")
+}, subgraphs = @NamedSubgraph(name = "asset", attributeNodes = @NamedAttributeNode("category")))
 public class ServiceRequest {
 
 	public enum IssueType { HARDWARE, SOFTWARE, NETWORK, ACCESS, OTHER }
 
+	public enum Priority { LOW, MEDIUM, HIGH }
+
+	public static final String WITH_EMPLOYEE_AND_ASSET = "ServiceRequest.withEmployeeAndAsset";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
     private int serviceRequestId;
 
 	@NotNull(message = "Employee cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Employee employee;
@@ -40,7 +62,7 @@ public class ServiceRequest {
 	
 	
 	@NotNull(message = "Asset cannot be null")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id")
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Asset asset;
@@ -48,6 +70,8 @@ public class ServiceRequest {
 
 	@NotNull(message = "Description cannot be null")
     @Size(min = 5, message = "Description must be at least 5 characters")
+    // Only loaded where it is shown; see IServiceRequestRepository.findDescriptions
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
@@ -65,9 +89,68 @@ public class ServiceRequest {
     @NotNull(message = "Date cannot be null")
     @Column(name = "requested_at", nullable = false)
 	private LocalDateTime requestedAt;
+
+    // SLA deadline from the issue type's policy; null for requests created before SLAs existed
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    // Start of the current SLA window; reset on reopen, null means requestedAt
+    @Column(name = "sla_started_at")
+    private LocalDateTime slaStartedAt;
+
+    @Column(name = "sla_at_risk_at")
+    private LocalDateTime slaAtRiskAt;
+
+    @Column(name = "sla_breached_at")
+    private LocalDateTime slaBreachedAt;
+
+    // Technician working the request; exposed to clients as assigneeId only
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Employee assignee;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+
+    // Incident this request was grouped into as a likely duplicate
+    @Column(name = "incident_id")
+    private Integer incidentId;
+
+    // Triage classifier suggestions made at filing time; null while the model is still untrained
+    @Enumerated(EnumType.STRING)
+    @Column(name = "suggested_issue_type")
+    private IssueType suggestedIssueType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "suggested_priority")
+    private Priority suggestedPriority;
+
+    @Column(name = "triage_confidence")
+    private Double triageConfidence;
+
+    // Issue type confirmed (or corrected) by the admin who completed the request; the triage training label
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolved_issue_type")
+    private IssueType resolvedIssueType;
+
+    // Optimistic lock so concurrent status changes cannot overwrite each other
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long version;
     
     public enum Status {
-    	Pending, Transit, Completed
+    	Pending, Transit, Completed;
+
+    	// Allowed transitions: Pending -> Transit -> Completed, and Completed -> Pending to reopen
+    	public boolean canTransitionTo(Status next) {
+    		return switch (this) {
+    			case Pending -> next == Transit;
+    			case Transit -> next == Completed;
+    			case Completed -> next == Pending;
+    		};
+    	}
     }
 
 	public ServiceRequest() {
@@ -149,11 +232,111 @@ public class ServiceRequest {
 		this.requestedAt = requestedAt;
 	}
 
+	public LocalDateTime getDueAt() {
+		return dueAt;
+	}
+
+	public void setDueAt(LocalDateTime dueAt) {
+		this.dueAt = dueAt;
+	}
+
+	public LocalDateTime getSlaStartedAt() {
+		return slaStartedAt;
+	}
+
+	public void setSlaStartedAt(LocalDateTime slaStartedAt) {
+		this.slaStartedAt = slaStartedAt;
+	}
+
+	public LocalDateTime getSlaAtRiskAt() {
+		return slaAtRiskAt;
+	}
+
+	public void setSlaAtRiskAt(LocalDateTime slaAtRiskAt) {
+		this.slaAtRiskAt = slaAtRiskAt;
+	}
+
+	public LocalDateTime getSlaBreachedAt() {
+		return slaBreachedAt;
+	}
+
+	public void setSlaBreachedAt(LocalDateTime slaBreachedAt) {
+		this.slaBreachedAt = slaBreachedAt;
+	}
+
+	public Employee getAssignee() {
+		return assignee;
+	}
+
+	public void setAssignee(Employee assignee) {
+		this.assignee = assignee;
+	}
+
+	public Integer getAssigneeId() {
+		return assignee != null ? assignee.getEmployeeId() : null;
+	}
+
+	public LocalDateTime getAssignedAt() {
+		return assignedAt;
+	}
+
+	public void setAssignedAt(LocalDateTime assignedAt) {
+		this.assignedAt = assignedAt;
+	}
+
+	public Integer getIncidentId() {
+		return incidentId;
+	}
+
+	public void setIncidentId(Integer incidentId) {
+		this.incidentId = incidentId;
+	}
+
+	public IssueType getSuggestedIssueType() {
+		return suggestedIssueType;
+	}
+
+	public void setSuggestedIssueType(IssueType suggestedIssueType) {
+		this.suggestedIssueType = suggestedIssueType;
+	}
+
+	public Priority getSuggestedPriority() {
+		return suggestedPriority;
+	}
+
+	public void setSuggestedPriority(Priority suggestedPriority) {
+		this.suggestedPriority = suggestedPriority;
+	}
+
+	public Double getTriageConfidence() {
+		return triageConfidence;
+	}
+
+	public void setTriageConfidence(Double triageConfidence) {
+		this.triageConfidence = triageConfidence;
+	}
+
+	public IssueType getResolvedIssueType() {
+		return resolvedIssueType;
+	}
+
+	public void setResolvedIssueType(IssueType resolvedIssueType) {
+		this.resolvedIssueType = resolvedIssueType;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
 	@Override
 	public String toString() {
-		return "ServiceRequest [serviceRequestId=" + serviceRequestId + ", employee=" + employee + ", asset=" + asset
-				+ ", description=" + description + ", issueType=" + issueType + ", status=" + status + ", requestedAt="
-				+ requestedAt + "]";
+		return "ServiceRequest [serviceRequestId=" + serviceRequestId + ", employeeId=" + (employee != null ? employee.getEmployeeId() : null)
+				+ ", assetId=" + (asset != null ? asset.getAssetId() : null) + ", issueType=" + issueType + ", status=" + status + ", requestedAt="
+				+ requestedAt + ", dueAt=" + dueAt + "]";
 	}
     
    
@@ -0,0 +1,96 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A file attached to a service request. The content lives in the attachment store
+ * under its SHA-256, so several attachments may share one blob.
+ */
+@Entity
+@Table(name = "service_request_attachment", indexes = {
+    @Index(name = "idx_sr_attachment_request", columnList = "service_request_id, attachment_id"),
+    @Index(name = "idx_sr_attachment_sha256", columnList = "sha256")
+})
+public class ServiceRequestAttachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int attachmentId;
+
+    @Column(name = "service_request_id", nullable = false, updatable = false)
+    private int serviceRequestId;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "CHAR(64)")
+    private String sha256;
+
+    @Column(nullable = false, length = 255)
+    private String filename;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "uploaded_by", nullable = false)
+    private int uploadedBy;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    public ServiceRequestAttachment() {
+        super();
+    }
+
+    public ServiceRequestAttachment(int serviceRequestId, String sha256, String filename, String contentType,
+            long sizeBytes, int uploadedBy, LocalDateTime uploadedAt) {
+        super();
+        this.serviceRequestId = serviceRequestId;
+        this.sha256 = sha256;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.sizeBytes = sizeBytes;
+        this.uploadedBy = uploadedBy;
+        this.uploadedAt = uploadedAt;
+    }
+
+    public int getAttachmentId() {
+        return attachmentId;
+    }
+
+    public int getServiceRequestId() {
+        return serviceRequestId;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public int getUploadedBy() {
+        return uploadedBy;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+}
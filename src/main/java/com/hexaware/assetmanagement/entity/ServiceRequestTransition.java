@@ -0,0 +1,104 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.time.LocalDateTime;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Append-only record of one service request status change.
+ * The time spent in the previous status is captured at write time so
+ * resolution-time analytics never have to reconstruct it.
+ */
+@Entity
+@Table(name = "service_request_transition", indexes = {
+    @Index(name = "idx_sr_transition_request", columnList = "service_request_id, transition_id"),
+    @Index(name = "idx_sr_transition_to_status_changed_at", columnList = "to_status, changed_at")
+})
+public class ServiceRequestTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long transitionId;
+
+    @Column(name = "service_request_id", nullable = false, updatable = false)
+    private int serviceRequestId;
+
+    // Null for the creation entry
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", updatable = false, columnDefinition = "VARCHAR(20)")
+    private Status fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, updatable = false, columnDefinition = "VARCHAR(20)")
+    private Status toStatus;
+
+    @Column(name = "changed_by", nullable = false, updatable = false)
+    private int changedBy;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    // Seconds spent in fromStatus (since creation or the previous transition)
+    @Column(name = "seconds_in_previous", nullable = false, updatable = false)
+    private long secondsInPrevious;
+
+    public ServiceRequestTransition() {
+        super();
+    }
+
+    public ServiceRequestTransition(int serviceRequestId, Status fromStatus, Status toStatus, int changedBy,
+            LocalDateTime changedAt, long secondsInPrevious) {
+        super();
+        this.serviceRequestId = serviceRequestId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+        this.secondsInPrevious = secondsInPrevious;
+    }
+
+    public long getTransitionId() {
+        return transitionId;
+    }
+
+    public int getServiceRequestId() {
+        return serviceRequestId;
+    }
+
+    public Status getFromStatus() {
+        return fromStatus;
+    }
+
+    public Status getToStatus() {
+        return toStatus;
+    }
+
+    public int getChangedBy() {
+        return changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public long getSecondsInPrevious() {
+        return secondsInPrevious;
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceRequestTransition [transitionId=" + transitionId + ", serviceRequestId=" + serviceRequestId
+                + ", fromStatus=" + fromStatus + ", toStatus=" + toStatus + ", changedBy=" + changedBy
+                + ", changedAt=" + changedAt + ", secondsInPrevious=" + secondsInPrevious + "]";
+    }
+}
@@ -0,0 +1,98 @@
+package com.hexaware.assetmanagement.entity;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/** Dispatch settings for an admin who works service requests */
+@Entity
+@Table(name = "technician_profile")
+public class TechnicianProfile {
+
+    @Id
+    @Column(name = "employee_id")
+    private int employeeId;
+
+    // Comma-separated issue types this technician can handle
+    @Column(nullable = false, length = 255)
+    private String skills;
+
+    // Open (Pending or Transit) requests the dispatcher may assign at once
+    @Column(name = "max_open", nullable = false)
+    private int maxOpen;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    public TechnicianProfile() {
+        super();
+    }
+
+    public TechnicianProfile(int employeeId, Set<IssueType> skills, int maxOpen, boolean active) {
+        super();
+        this.employeeId = employeeId;
+        setSkillSet(skills);
+        this.maxOpen = maxOpen;
+        this.active = active;
+    }
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(int employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public Set<IssueType> getSkillSet() {
+        if (skills == null || skills.isBlank()) {
+            return EnumSet.noneOf(IssueType.class);
+        }
+        return Arrays.stream(skills.split(","))
+                .map(String::trim)
+                .map(IssueType::valueOf)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(IssueType.class)));
+    }
+
+    public void setSkillSet(Set<IssueType> skillSet) {
+        this.skills = skillSet.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+    }
+
+    public int getMaxOpen() {
+        return maxOpen;
+    }
+
+    public void setMaxOpen(int maxOpen) {
+        this.maxOpen = maxOpen;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    @Override
+    public String toString() {
+        return "TechnicianProfile [employeeId=" + employeeId + ", skills=" + skills + ", maxOpen=" + maxOpen
+                + ", active=" + active + "]";
+    }
+}
@@ -0,0 +1,12 @@
+package com.hexaware.assetmanagement.exception;
+
+/** Exception thrown when a change conflicts with a concurrent update of the same resource */
+public class ConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ConflictException(String message) {
+		super(message);
+	}
+
+}
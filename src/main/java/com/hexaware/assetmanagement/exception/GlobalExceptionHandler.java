@@ -1,11 +1,14 @@
 package com.hexaware.assetmanagement.exception;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,6 +21,8 @@ public class GlobalExceptionHandler {
 	
 	private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 	
+	private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+	
 	@ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleResourceNotFoundException(ResourceNotFoundException ex) {
         logger.warn("Resource not found: {}", ex.getMessage());
@@ -42,6 +47,31 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
 	}
 	
+	@ExceptionHandler(ConflictException.class)
+	public ResponseEntity<Map<String, String>> conflictException(ConflictException ex) {
+		logger.warn("Conflicting update: {}", ex.getMessage());
+		Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+	
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<Map<String, String>> optimisticLockingFailureException(OptimisticLockingFailureException ex) {
+		logger.warn("Optimistic lock failure: {}", ex.getMessage());
+		Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", "The record was modified by someone else, please reload and try again");
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+	
+	// Lock conflicts that outlasted the transaction retries
+	@ExceptionHandler(PessimisticLockingFailureException.class)
+	public ResponseEntity<Map<String, String>> pessimisticLockingFailureException(PessimisticLockingFailureException ex) {
+		logger.warn("Lock conflict after retries: {}", ex.getMessage());
+		Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("message", "The system is busy, please try again in a moment");
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+	
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<Map<String, String>> methodArgumentNotValidException(MethodArgumentNotValidException ex) {
 		logger.warn("Validation error: {}", ex.getMessage());
@@ -60,12 +90,24 @@ public class GlobalExceptionHandler {
 	
 	@ExceptionHandler(DataIntegrityViolationException.class)
 	public ResponseEntity<Map<String, String>> dataIntegrityViolationException(DataIntegrityViolationException ex) {
-		logger.error("Data integrity violation: {}", ex.getMessage(), ex);
 		Map<String, String> errorResponse = new HashMap<>();
+		// Write paths set foreign keys from references, so a missing parent row surfaces here
+		if (isMissingParentRow(ex)) {
+			logger.warn("Referenced record not found: {}", ex.getMostSpecificCause().getMessage());
+			errorResponse.put("message", "Referenced record not found");
+			return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+		}
+		logger.error("Data integrity violation: {}", ex.getMessage(), ex);
         errorResponse.put("message", "Cannot delete due to data integrity constraints.");
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
 	}
 	
+	// MySQL 1452: cannot add or update a child row, the referenced parent does not exist
+	private static boolean isMissingParentRow(DataIntegrityViolationException ex) {
+		return ex.getMostSpecificCause() instanceof SQLException sqlException
+				&& sqlException.getErrorCode() == MYSQL_NO_REFERENCED_ROW;
+	}
+	
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
 		logger.error("Unexpected error occurred: {}", ex.getMessage(), ex);
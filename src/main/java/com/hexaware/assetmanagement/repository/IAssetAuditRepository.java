@@ -1,15 +1,120 @@
 package com.hexaware.assetmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hexaware.assetmanagement.entity.AssetAudit;
 import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
 import com.hexaware.assetmanagement.entity.Employee;
+
+import jakarta.transaction.Transactional;
 @Repository
 public interface IAssetAuditRepository extends JpaRepository<AssetAudit, Integer> {
+
+	// Audits are returned to clients with employee, asset and category, so entity reads fetch them together
+	@Override
+	@EntityGraph(AssetAudit.WITH_EMPLOYEE_AND_ASSET)
+	Optional<AssetAudit> findById(Integer auditId);
+
+	@Override
+	@EntityGraph(AssetAudit.WITH_EMPLOYEE_AND_ASSET)
+	List<AssetAudit> findAll();
+
+	@EntityGraph(AssetAudit.WITH_EMPLOYEE_AND_ASSET)
 	List<AssetAudit> findByEmployee(Employee employee);
+
+	// Decided audits the archiver has moved to cold storage
+	@Query(value = "SELECT * FROM asset_audit_archive WHERE employee_id = :employeeId", nativeQuery = true)
+	List<AssetAudit> findArchivedByEmployeeId(int employeeId);
+
+	@EntityGraph(AssetAudit.WITH_EMPLOYEE_AND_ASSET)
 	List<AssetAudit> findByAuditStatus(AuditStatus auditStatus);
+
+	long countByAuditStatus(AuditStatus auditStatus);
+
+	// Keyset page of aged pending audits that still need a reminder or escalation
+	// (walks idx_audit_status_requested_at in (requestedAt, auditId) order)
+	@Query("SELECT a.auditId AS auditId, a.employee.employeeId AS employeeId, a.requestedAt AS requestedAt, "
+			+ "a.reminderCount AS reminderCount, a.escalatedAt AS escalatedAt FROM AssetAudit a "
+			+ "WHERE a.auditStatus = :status AND a.requestedAt <= :cutoff "
+			+ "AND (a.requestedAt > :afterRequestedAt OR (a.requestedAt = :afterRequestedAt AND a.auditId > :afterAuditId)) "
+			+ "AND (a.reminderCount < :maxReminders OR a.escalatedAt IS NULL) "
+			+ "ORDER BY a.requestedAt, a.auditId")
+	List<AuditReminderView> findAgedPendingAudits(AuditStatus status, LocalDateTime cutoff,
+			LocalDateTime afterRequestedAt, int afterAuditId, int maxReminders, Pageable page);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE AssetAudit a SET a.reminderCount = :level, a.lastRemindedAt = :now "
+			+ "WHERE a.auditId IN :auditIds AND a.auditStatus = :status")
+	int markReminded(Collection<Integer> auditIds, int level, LocalDateTime now, AuditStatus status);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE AssetAudit a SET a.escalatedAt = :now "
+			+ "WHERE a.auditId IN :auditIds AND a.auditStatus = :status AND a.escalatedAt IS NULL")
+	int markEscalated(Collection<Integer> auditIds, LocalDateTime now, AuditStatus status);
+
+	// Ownership and status of every audit in a bulk decision, read in one statement
+	@Query("SELECT a.auditId AS auditId, e.employeeId AS employeeId, e.name AS employeeName, "
+			+ "s.assetId AS assetId, s.assetName AS assetName, a.auditStatus AS auditStatus, a.requestedAt AS requestedAt, "
+			+ "s.category.categoryId AS categoryId "
+			+ "FROM AssetAudit a JOIN a.employee e JOIN a.asset s WHERE a.auditId IN :auditIds")
+	List<AuditDecisionView> findDecisionTargets(Collection<Integer> auditIds);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE AssetAudit a SET a.auditStatus = :decision, a.updatedAt = :now "
+			+ "WHERE a.auditId IN :auditIds AND a.employee.employeeId = :employeeId AND a.auditStatus = :expected")
+	int applyDecision(Collection<Integer> auditIds, int employeeId, AuditStatus expected, AuditStatus decision, LocalDateTime now);
+
+	// Offboarding: audits still waiting on the employee, read before they are rejected in bulk
+	@Query("SELECT a.auditId AS auditId, a.employee.employeeId AS employeeId, a.asset.assetId AS assetId "
+			+ "FROM AssetAudit a WHERE a.employee.employeeId = :employeeId AND a.auditStatus = :status")
+	List<PendingAuditView> findPendingByEmployee(int employeeId, AuditStatus status);
+
+	// Asset retirement: audits still waiting on the assets, read before they are rejected in bulk
+	@Query("SELECT a.auditId AS auditId, a.employee.employeeId AS employeeId, a.asset.assetId AS assetId "
+			+ "FROM AssetAudit a WHERE a.asset.assetId IN :assetIds AND a.auditStatus = :status")
+	List<PendingAuditView> findPendingByAssetIds(Collection<Integer> assetIds, AuditStatus status);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE AssetAudit a SET a.auditStatus = :rejected, a.updatedAt = :now "
+			+ "WHERE a.auditId IN :auditIds AND a.auditStatus = :pending")
+	int rejectAll(Collection<Integer> auditIds, AuditStatus pending, AuditStatus rejected, LocalDateTime now);
+
+	interface AuditDecisionView {
+		int getAuditId();
+		int getEmployeeId();
+		String getEmployeeName();
+		int getAssetId();
+		String getAssetName();
+		AuditStatus getAuditStatus();
+		LocalDateTime getRequestedAt();
+		int getCategoryId();
+	}
+
+	interface PendingAuditView {
+		int getAuditId();
+		int getEmployeeId();
+		int getAssetId();
+	}
+
+	interface AuditReminderView {
+		int getAuditId();
+		int getEmployeeId();
+		LocalDateTime getRequestedAt();
+		int getReminderCount();
+		LocalDateTime getEscalatedAt();
+	}
 }
@@ -1,26 +1,167 @@
 package com.hexaware.assetmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
 import com.hexaware.assetmanagement.entity.AssetBorrowing;
 import com.hexaware.assetmanagement.entity.AssetBorrowing.Status;
 import com.hexaware.assetmanagement.entity.Employee;
 
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface IAssetBorrowingRepository extends JpaRepository<AssetBorrowing, Integer>{
+
+	// Borrowings are returned to clients with employee, asset and category, so entity reads fetch them together
+	@Override
+	@EntityGraph(AssetBorrowing.WITH_EMPLOYEE_AND_ASSET)
+	Optional<AssetBorrowing> findById(Integer borrowingId);
+
+	@EntityGraph(AssetBorrowing.WITH_EMPLOYEE_AND_ASSET)
 	List<AssetBorrowing> findByEmployee(Employee employee);
+
+	@EntityGraph(AssetBorrowing.WITH_EMPLOYEE_AND_ASSET)
 	List<AssetBorrowing> findByStatus(Status status);
+
+	@EntityGraph(AssetBorrowing.WITH_EMPLOYEE_AND_ASSET)
 	@Query("SELECT ab FROM AssetBorrowing ab WHERE ab.employee.employeeId = :employeeId")
     List<AssetBorrowing> findByEmployeeId(int employeeId);
+
+    // Loans the archiver has moved to cold storage; only read when history is explicitly requested
+    @Query(value = "SELECT * FROM asset_borrowing_archive WHERE employee_id = :employeeId", nativeQuery = true)
+    List<AssetBorrowing> findArchivedByEmployeeId(int employeeId);
     
-    // Find existing pending requests for a specific employee and asset
-    @Query("SELECT ab FROM AssetBorrowing ab WHERE ab.employee.employeeId = :employeeId AND ab.asset.assetId = :assetId AND ab.status = :status")
-    List<AssetBorrowing> findByEmployeeIdAndAssetIdAndStatus(int employeeId, int assetId, Status status);
+    // Whether the employee already has a borrowing of this asset in the given status
+    @Query("SELECT COUNT(ab) > 0 FROM AssetBorrowing ab WHERE ab.employee.employeeId = :employeeId AND ab.asset.assetId = :assetId AND ab.status = :status")
+    boolean existsByEmployeeIdAndAssetIdAndStatus(int employeeId, int assetId, Status status);
     
     // Count borrowing records for a specific asset
     long countByAsset_AssetId(Integer assetId);
+
+    // Loans past their due date, oldest first (served by idx_borrowing_status_due_at)
+    @EntityGraph(AssetBorrowing.WITH_EMPLOYEE_AND_ASSET)
+    List<AssetBorrowing> findByStatusAndDueAtBeforeOrderByDueAtAsc(Status status, LocalDateTime now);
+
+    // Narrow projection used to rebuild the due-date timers at startup
+    @Query("SELECT ab.borrowingId AS borrowingId, ab.dueAt AS dueAt, ab.reminderSentAt AS reminderSentAt "
+            + "FROM AssetBorrowing ab WHERE ab.status = :status AND ab.dueAt IS NOT NULL AND ab.overdueSince IS NULL")
+    List<DueTimerView> findOpenDueTimers(Status status);
+
+    // Conditional updates so stale or duplicate timer firings are harmless
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetBorrowing ab SET ab.overdueSince = :now WHERE ab.borrowingId = :borrowingId "
+            + "AND ab.status = :status AND ab.overdueSince IS NULL AND ab.dueAt <= :now")
+    int markOverdue(int borrowingId, Status status, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetBorrowing ab SET ab.reminderSentAt = :now WHERE ab.borrowingId = :borrowingId "
+            + "AND ab.status = :status AND ab.reminderSentAt IS NULL")
+    int markReminderSent(int borrowingId, Status status, LocalDateTime now);
+
+    // Set-based target selection for audit campaigns; skips pairs that already have a pending audit
+    String AUDIT_TARGETS = "SELECT ab.employee.employeeId AS employeeId, ab.asset.assetId AS assetId "
+            + "FROM AssetBorrowing ab WHERE ab.status = :status AND NOT EXISTS ("
+            + "SELECT 1 FROM AssetAudit aa WHERE aa.employee.employeeId = ab.employee.employeeId "
+            + "AND aa.asset.assetId = ab.asset.assetId AND aa.auditStatus = :pending)";
+
+    @Query(AUDIT_TARGETS)
+    List<AuditTargetView> findAuditTargets(Status status, AuditStatus pending);
+
+    @Query(AUDIT_TARGETS + " AND ab.asset.category.categoryId = :categoryId")
+    List<AuditTargetView> findAuditTargetsByCategory(Status status, AuditStatus pending, int categoryId);
+
+    @Query(AUDIT_TARGETS + " AND ab.employee.employeeId IN :employeeIds")
+    List<AuditTargetView> findAuditTargetsByEmployees(Status status, AuditStatus pending, Collection<Integer> employeeIds);
+
+    // Asset IDs currently out on loan, for scan reconciliation
+    @Query("SELECT ab.asset.assetId FROM AssetBorrowing ab WHERE ab.status = :status")
+    List<Integer> findBorrowedAssetIds(Status status);
+
+    @Query("SELECT ab.asset.assetId FROM AssetBorrowing ab WHERE ab.status = :status AND ab.asset.category.categoryId = :categoryId")
+    List<Integer> findBorrowedAssetIdsByCategory(Status status, int categoryId);
+
+    @Query("SELECT ab.asset.assetId FROM AssetBorrowing ab WHERE ab.status = :status AND ab.employee.employeeId = :employeeId")
+    List<Integer> findBorrowedAssetIdsByEmployee(Status status, int employeeId);
+
+    // Offboarding: the loans an employee still holds, read before they are closed in bulk
+    @Query("SELECT ab.borrowingId AS borrowingId, ab.asset.assetId AS assetId FROM AssetBorrowing ab "
+            + "WHERE ab.employee.employeeId = :employeeId AND ab.status = :status")
+    List<LoanView> findLoansByEmployee(int employeeId, Status status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetBorrowing ab SET ab.status = :returned, ab.returnedAt = :now "
+            + "WHERE ab.employee.employeeId = :employeeId AND ab.status = :active")
+    int returnAllForEmployee(int employeeId, Status active, Status returned, LocalDateTime now);
+
+    // Offboarding: requests still waiting on the employee, read before they are rejected in bulk
+    @Query("SELECT ab.borrowingId AS borrowingId, ab.employee.employeeId AS employeeId, ab.asset.assetId AS assetId "
+            + "FROM AssetBorrowing ab WHERE ab.employee.employeeId = :employeeId AND ab.status = :status")
+    List<RequestView> findRequestsByEmployee(int employeeId, Status status);
+
+    // Plain read of the asset a loan covers, so callers can lock the asset before the loan
+    @Query("SELECT ab.asset.assetId FROM AssetBorrowing ab WHERE ab.borrowingId = :borrowingId")
+    Optional<Integer> findAssetIdById(int borrowingId);
+
+    // Locking reads return the latest committed row, so a loan transferred meanwhile is seen as closed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ab FROM AssetBorrowing ab WHERE ab.borrowingId = :borrowingId")
+    Optional<AssetBorrowing> lockById(int borrowingId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ab FROM AssetBorrowing ab WHERE ab.asset.assetId IN :assetIds AND ab.status = :status ORDER BY ab.asset.assetId")
+    List<AssetBorrowing> lockByAssetIds(Collection<Integer> assetIds, Status status);
+
+    // Transfer: close the source loans in one statement
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetBorrowing ab SET ab.status = :returned, ab.returnedAt = :now "
+            + "WHERE ab.borrowingId IN :borrowingIds AND ab.status = :active")
+    int closeAll(Collection<Integer> borrowingIds, Status active, Status returned, LocalDateTime now);
+
+    // Asset retirement: requests still waiting on the assets, read before they are rejected in bulk
+    @Query("SELECT ab.borrowingId AS borrowingId, ab.employee.employeeId AS employeeId, ab.asset.assetId AS assetId "
+            + "FROM AssetBorrowing ab WHERE ab.asset.assetId IN :assetIds AND ab.status = :status")
+    List<RequestView> findRequestsByAssetIds(Collection<Integer> assetIds, Status status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetBorrowing ab SET ab.status = :rejected, ab.decidedAt = :now "
+            + "WHERE ab.borrowingId IN :borrowingIds AND ab.status = :pending")
+    int rejectAll(Collection<Integer> borrowingIds, Status pending, Status rejected, LocalDateTime now);
+
+    interface LoanView {
+        int getBorrowingId();
+        int getAssetId();
+    }
+
+    interface RequestView {
+        int getBorrowingId();
+        int getEmployeeId();
+        int getAssetId();
+    }
+
+    interface AuditTargetView {
+        int getEmployeeId();
+        int getAssetId();
+    }
+
+    interface DueTimerView {
+        int getBorrowingId();
+        LocalDateTime getDueAt();
+        LocalDateTime getReminderSentAt();
+    }
 }
@@ -0,0 +1,12 @@
+package com.hexaware.assetmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.AssetKit;
+
+@Repository
+public interface IAssetKitRepository extends JpaRepository<AssetKit, Integer> {
+
+	boolean existsByName(String name);
+}
@@ -0,0 +1,26 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.AssetReliability;
+
+@Repository
+public interface IAssetReliabilityRepository extends JpaRepository<AssetReliability, Integer> {
+
+	List<AssetReliability> findByAssetIdBetween(int fromAssetId, int toAssetId);
+
+	// Assets with a maintenance due date, for rebuilding the in-memory schedule
+	@Query("SELECT r.assetId AS assetId, r.nextMaintenanceDue AS nextMaintenanceDue FROM AssetReliability r "
+			+ "WHERE r.nextMaintenanceDue IS NOT NULL")
+	List<DueView> findScheduled();
+
+	interface DueView {
+		int getAssetId();
+		LocalDateTime getNextMaintenanceDue();
+	}
+}
@@ -1,18 +1,175 @@
 package com.hexaware.assetmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hexaware.assetmanagement.entity.Asset;
 import com.hexaware.assetmanagement.entity.Asset.Status;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
 import com.hexaware.assetmanagement.entity.AssetCategory;
+
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface IAssetRepository extends JpaRepository<Asset, Integer> {
+
+	// Assets are always serialized with their category, so every entity read fetches it in the same statement.
+	// A query rather than em.find, because Hibernate filters do not apply to lookups by id
+	@Override
+	@EntityGraph(Asset.WITH_CATEGORY)
+	@Query("SELECT a FROM Asset a WHERE a.assetId = :assetId")
+	Optional<Asset> findById(Integer assetId);
+
+	@Override
+	@EntityGraph(Asset.WITH_CATEGORY)
+	List<Asset> findAll();
+
+	@EntityGraph(Asset.WITH_CATEGORY)
 	List<Asset> findAssetByCategory(AssetCategory categoryName);
+
+	@EntityGraph(Asset.WITH_CATEGORY)
 	List<Asset> findByStatus(Status status);
+
+	// The lazy description column for the assets a listing actually shows
+	@Query("SELECT a.assetId AS id, a.description AS description FROM Asset a WHERE a.assetId IN :assetIds")
+	List<DescriptionView> findDescriptions(Collection<Integer> assetIds);
+
+	// Fill in the lazy descriptions with one statement; call from a read-only transaction so nothing is flushed back
+	default void fetchDescriptions(Collection<Asset> assets) {
+		Map<Integer, Asset> byId = new HashMap<>();
+		assets.forEach(asset -> byId.put(asset.getAssetId(), asset));
+		if (!byId.isEmpty()) {
+			findDescriptions(byId.keySet()).forEach(view -> byId.remove(view.getId()).setDescription(view.getDescription()));
+			// Retired assets are hidden from the query but still shown on their loans until purged
+			byId.values().forEach(asset -> asset.setDescription(null));
+		}
+	}
+
+	// Same for the assets nested in workflow rows (loans, audits, requests, reservations)
+	default <T> void fetchDescriptions(Collection<T> rows, Function<T, Asset> asset) {
+		fetchDescriptions(rows.stream().map(asset).filter(Objects::nonNull).toList());
+	}
+
+	// Ids that still have an asset row; native, so retired assets the purger has not reached yet count too
+	@Query(value = "SELECT asset_id FROM asset WHERE asset_id IN :assetIds", nativeQuery = true)
+	List<Integer> findExistingIds(Collection<Integer> assetIds);
+
+	// Archived rows can outlive their asset once DeletedAssetPurger removes it; those lose the reference,
+	// the rest get their category loaded. Call from a read-only transaction so nothing is flushed back
+	default <T> void resolveArchivedAssets(Collection<T> rows, Function<T, Asset> asset, BiConsumer<T, Asset> setAsset) {
+		Set<Integer> assetIds = rows.stream().map(asset).filter(Objects::nonNull).map(Asset::getAssetId).collect(Collectors.toSet());
+		if (assetIds.isEmpty()) {
+			return;
+		}
+		Set<Integer> existing = new HashSet<>(findExistingIds(assetIds));
+		for (T row : rows) {
+			Asset rowAsset = asset.apply(row);
+			if (rowAsset == null) {
+				continue;
+			}
+			if (existing.contains(rowAsset.getAssetId())) {
+				Hibernate.initialize(rowAsset.getCategory());
+			} else {
+				setAsset.accept(row, null);
+			}
+		}
+	}
+
+	// Read-write transactions load the category and description through the session instead;
+	// setting the description from a projection there would mark the asset dirty
+	default void initializeForResponse(Asset asset) {
+		if (asset != null) {
+			Hibernate.initialize(asset.getCategory());
+			asset.getDescription();
+		}
+	}
 	
+	// Just the columns a workflow write needs to decide whether the asset can be requested
+	@Query("SELECT a.assetName AS assetName, a.status AS status, a.maintenanceHold AS maintenanceHold FROM Asset a WHERE a.assetId = :assetId")
+	Optional<AvailabilityView> findAvailabilityById(int assetId);
+
 	// Count assets by category ID
 	long countByCategory_CategoryId(Integer categoryId);
+
+	// Bare IDs for bitmap reconciliation; avoids hydrating asset entities
+	@Query("SELECT a.assetId FROM Asset a WHERE a.status = :status")
+	List<Integer> findIdsByStatus(Status status);
+
+	@Query("SELECT a.assetId FROM Asset a WHERE a.status = :status AND a.category.categoryId = :categoryId")
+	List<Integer> findIdsByStatusAndCategory(Status status, int categoryId);
+
+	// Bounds of the asset ID space, used to split the maintenance recompute into chunks
+	@Query("SELECT MIN(a.assetId) AS minAssetId, MAX(a.assetId) AS maxAssetId FROM Asset a")
+	IdRangeView findIdRange();
+
+	// Conditional so a replayed maintenance task or release is harmless
+	@Modifying
+	@Transactional
+	@Query("UPDATE Asset a SET a.maintenanceHold = :hold WHERE a.assetId = :assetId AND a.maintenanceHold <> :hold")
+	int setMaintenanceHold(int assetId, boolean hold);
+
+	// Bulk soft delete; borrowed assets are skipped and already retired ones keep their original timestamp
+	@Modifying
+	@Transactional
+	@Query("UPDATE Asset a SET a.deletedAt = :now WHERE a.assetId IN :assetIds AND a.deletedAt IS NULL AND a.status <> :borrowed")
+	int retire(Collection<Integer> assetIds, LocalDateTime now, Status borrowed);
+
+	// Offboarding: free the assets of loans that were just returned in bulk
+	@Modifying
+	@Transactional
+	@Query("UPDATE Asset a SET a.status = :available WHERE a.assetId IN :assetIds AND a.status = :borrowed")
+	int releaseAll(Collection<Integer> assetIds, Status borrowed, Status available);
+
+	// Free stock in a category from the (category, status, hold) index; read without locks, verified after locking
+	@Query("SELECT a.assetId FROM Asset a WHERE a.category.categoryId = :categoryId AND a.status = :status "
+			+ "AND a.maintenanceHold = false ORDER BY a.assetId")
+	List<Integer> findAvailableIds(int categoryId, Status status, Pageable page);
+
+	// Assets in a category that could still be free at :startAt: not held for maintenance and not on a loan that
+	// runs past it. Read from the category index without locks; reservations are checked in memory and after locking
+	@Query("SELECT a.assetId FROM Asset a WHERE a.category.categoryId = :categoryId AND a.maintenanceHold = false "
+			+ "AND NOT EXISTS (SELECT 1 FROM AssetBorrowing ab WHERE ab.asset = a AND ab.status = :active "
+			+ "AND (ab.dueAt IS NULL OR ab.dueAt > :startAt OR ab.overdueSince IS NOT NULL)) ORDER BY a.assetId")
+	List<Integer> findReservableIds(int categoryId, LocalDateTime startAt, AssetBorrowing.Status active, Pageable page);
+
+	// The per-asset lock for transfers, kits and reservations; taken in key order so overlapping batches cannot deadlock each other
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM Asset a WHERE a.assetId IN :assetIds ORDER BY a.assetId")
+	List<Asset> lockAll(Collection<Integer> assetIds);
+
+	interface DescriptionView {
+		int getId();
+		String getDescription();
+	}
+
+	interface AvailabilityView {
+		String getAssetName();
+		Status getStatus();
+		boolean isMaintenanceHold();
+	}
+
+	interface IdRangeView {
+		Integer getMinAssetId();
+		Integer getMaxAssetId();
+	}
 }
@@ -0,0 +1,62 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.AssetReservation.Status;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface IAssetReservationRepository extends JpaRepository<AssetReservation, Integer> {
+
+    // Reservations are returned with employee, asset and category, like borrowings
+    @Override
+    @EntityGraph(AssetReservation.WITH_EMPLOYEE_AND_ASSET)
+    Optional<AssetReservation> findById(Integer reservationId);
+
+    // Bookings of one asset that have not ended yet, in start order (served by idx_reservation_asset_start_at)
+    @EntityGraph(AssetReservation.WITH_EMPLOYEE_AND_ASSET)
+    @Query("SELECT r FROM AssetReservation r WHERE r.asset.assetId = :assetId AND r.status = :status "
+            + "AND r.endAt > :now ORDER BY r.startAt")
+    List<AssetReservation> findUpcomingByAsset(int assetId, Status status, LocalDateTime now);
+
+    @EntityGraph(AssetReservation.WITH_EMPLOYEE_AND_ASSET)
+    @Query("SELECT r FROM AssetReservation r WHERE r.employee.employeeId = :employeeId AND r.status = :status "
+            + "AND r.endAt > :now ORDER BY r.startAt")
+    List<AssetReservation> findUpcomingByEmployee(int employeeId, Status status, LocalDateTime now);
+
+    // Narrow projection used to rebuild the reservation calendar at startup (served by idx_reservation_status_end_at)
+    @Query("SELECT r.reservationId AS reservationId, r.asset.assetId AS assetId, r.asset.category.categoryId AS categoryId, "
+            + "r.employee.employeeId AS employeeId, r.startAt AS startAt, r.endAt AS endAt "
+            + "FROM AssetReservation r WHERE r.status = :status AND r.endAt > :now")
+    List<SlotView> findUpcomingSlots(Status status, LocalDateTime now);
+
+    // Offboarding: the bookings an employee still holds, read before they are cancelled in bulk
+    @Query("SELECT r.reservationId FROM AssetReservation r WHERE r.employee.employeeId = :employeeId "
+            + "AND r.status = :status AND r.endAt > :now")
+    List<Integer> findUpcomingIdsByEmployee(int employeeId, Status status, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE AssetReservation r SET r.status = :cancelled, r.cancelledAt = :now "
+            + "WHERE r.employee.employeeId = :employeeId AND r.status = :booked AND r.endAt > :now")
+    int cancelAllForEmployee(int employeeId, Status booked, Status cancelled, LocalDateTime now);
+
+    interface SlotView {
+        int getReservationId();
+        int getAssetId();
+        int getCategoryId();
+        int getEmployeeId();
+        LocalDateTime getStartAt();
+        LocalDateTime getEndAt();
+    }
+}
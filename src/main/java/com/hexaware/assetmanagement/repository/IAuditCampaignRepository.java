@@ -0,0 +1,13 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+
+@Repository
+public interface IAuditCampaignRepository extends JpaRepository<AuditCampaign, Integer> {
+	List<AuditCampaign> findAllByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,15 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.Incident;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+
+@Repository
+public interface IIncidentRepository extends JpaRepository<Incident, Integer> {
+
+	List<Incident> findByStatusInOrderByCreatedAtDesc(List<Status> statuses);
+}
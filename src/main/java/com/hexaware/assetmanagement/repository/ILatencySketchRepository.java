@@ -0,0 +1,15 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.LatencySketchRecord;
+
+@Repository
+public interface ILatencySketchRepository extends JpaRepository<LatencySketchRecord, String> {
+
+	List<LatencySketchRecord> findByWeekStartGreaterThanEqual(LocalDate weekStart);
+}
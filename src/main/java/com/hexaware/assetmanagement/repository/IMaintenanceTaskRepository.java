@@ -0,0 +1,24 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.MaintenanceTask;
+import com.hexaware.assetmanagement.entity.MaintenanceTask.TaskStatus;
+
+@Repository
+public interface IMaintenanceTaskRepository extends JpaRepository<MaintenanceTask, Integer> {
+
+	boolean existsByAssetIdAndStatus(int assetId, TaskStatus status);
+
+	List<MaintenanceTask> findByStatusOrderByCreatedAtAsc(TaskStatus status);
+
+	List<MaintenanceTask> findByAssetIdOrderByCreatedAtDesc(int assetId);
+
+	// Assets in the range that already have a task in the given status
+	@Query("SELECT t.assetId FROM MaintenanceTask t WHERE t.status = :status AND t.assetId BETWEEN :fromAssetId AND :toAssetId")
+	List<Integer> findAssetIdsByStatusInRange(TaskStatus status, int fromAssetId, int toAssetId);
+}
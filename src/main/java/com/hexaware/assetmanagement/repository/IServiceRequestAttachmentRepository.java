@@ -0,0 +1,17 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.ServiceRequestAttachment;
+
+@Repository
+public interface IServiceRequestAttachmentRepository extends JpaRepository<ServiceRequestAttachment, Integer> {
+
+	List<ServiceRequestAttachment> findByServiceRequestIdOrderByAttachmentIdAsc(int serviceRequestId);
+
+	Optional<ServiceRequestAttachment> findByAttachmentIdAndServiceRequestId(int attachmentId, int serviceRequestId);
+}
@@ -1,24 +1,243 @@
 package com.hexaware.assetmanagement.repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hexaware.assetmanagement.entity.Employee;
 import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
 import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
 
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface IServiceRequestRepository extends JpaRepository<ServiceRequest, Integer> {
 
+	// Requests are returned to clients with employee, asset and category, so entity reads fetch them together
+	@Override
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
+	Optional<ServiceRequest> findById(Integer serviceRequestId);
+
+	@Override
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
+	List<ServiceRequest> findAll();
+
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
 	List<ServiceRequest> findByEmployeeEmployeeId(int employeeId);
+
+	// Completed requests the archiver has moved to cold storage
+	@Query(value = "SELECT * FROM service_request_archive WHERE employee_id = :employeeId", nativeQuery = true)
+	List<ServiceRequest> findArchivedByEmployeeEmployeeId(int employeeId);
+
+	@Query(value = "SELECT service_request_id AS id, description AS description FROM service_request_archive "
+			+ "WHERE service_request_id IN :serviceRequestIds", nativeQuery = true)
+	List<DescriptionView> findArchivedDescriptions(Collection<Integer> serviceRequestIds);
+
+	@Query(value = "SELECT COUNT(*) FROM service_request_archive WHERE service_request_id = :serviceRequestId", nativeQuery = true)
+	long countArchivedById(int serviceRequestId);
 	
-	
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
 	List<ServiceRequest> findByStatus(Status status);
 	
-	
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
 	List<ServiceRequest> findByEmployeeAndStatus(Employee employee, Status status);
+
+	// The lazy description column for the requests a listing actually shows
+	@Query("SELECT sr.serviceRequestId AS id, sr.description AS description FROM ServiceRequest sr "
+			+ "WHERE sr.serviceRequestId IN :serviceRequestIds")
+	List<DescriptionView> findDescriptions(Collection<Integer> serviceRequestIds);
+
+	// Fill in the lazy descriptions with one statement; call from a read-only transaction so nothing is flushed back
+	default void fetchDescriptions(Collection<ServiceRequest> serviceRequests) {
+		Map<Integer, ServiceRequest> byId = new HashMap<>();
+		serviceRequests.forEach(sr -> byId.put(sr.getServiceRequestId(), sr));
+		if (!byId.isEmpty()) {
+			findDescriptions(byId.keySet()).forEach(view -> byId.get(view.getId()).setDescription(view.getDescription()));
+		}
+	}
+
+	// Open requests for rebuilding the SLA queue (walks idx_service_request_status_due_at)
+	@Query("SELECT sr.serviceRequestId AS serviceRequestId, sr.issueType AS issueType, sr.status AS status, "
+			+ "sr.employee.employeeId AS employeeId, a.assetId AS assetId, sr.requestedAt AS requestedAt, "
+			+ "sr.slaStartedAt AS slaStartedAt, sr.dueAt AS dueAt, sr.slaAtRiskAt AS slaAtRiskAt, sr.slaBreachedAt AS slaBreachedAt "
+			+ "FROM ServiceRequest sr LEFT JOIN sr.asset a WHERE sr.status IN :statuses")
+	List<SlaTimerView> findOpenSlaTimers(Collection<Status> statuses);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.slaAtRiskAt = :now WHERE sr.serviceRequestId = :serviceRequestId "
+			+ "AND sr.status <> :closed AND sr.slaAtRiskAt IS NULL")
+	int markSlaAtRisk(int serviceRequestId, Status closed, LocalDateTime now);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.slaBreachedAt = :now WHERE sr.serviceRequestId = :serviceRequestId "
+			+ "AND sr.status <> :closed AND sr.slaBreachedAt IS NULL")
+	int markSlaBreached(int serviceRequestId, Status closed, LocalDateTime now);
+
+	// Asset retirement: assets with repairs still open, which are not retired until those are closed
+	@Query("SELECT DISTINCT sr.asset.assetId FROM ServiceRequest sr WHERE sr.asset.assetId IN :assetIds AND sr.status <> :closed")
+	List<Integer> findAssetIdsWithOpenRequests(Collection<Integer> assetIds, Status closed);
+
+	// Unassigned pending requests a technician with these skills may take, most urgent first
+	@Query("SELECT sr.serviceRequestId FROM ServiceRequest sr WHERE sr.status = :pending AND sr.assignee IS NULL "
+			+ "AND sr.issueType IN :skills ORDER BY sr.dueAt, sr.serviceRequestId")
+	List<Integer> findUnassignedCandidates(Status pending, Collection<IssueType> skills, Pageable page);
+
+	// Not-yet-started requests in another technician's queue, least urgent first (stolen from the tail)
+	@Query("SELECT sr.serviceRequestId FROM ServiceRequest sr WHERE sr.status = :pending "
+			+ "AND sr.assignee.employeeId = :victimId AND sr.issueType IN :skills "
+			+ "ORDER BY sr.dueAt DESC, sr.serviceRequestId DESC")
+	List<Integer> findStealCandidates(Status pending, int victimId, Collection<IssueType> skills, Pageable page);
+
+	@Query("SELECT sr.serviceRequestId AS serviceRequestId, sr.issueType AS issueType FROM ServiceRequest sr "
+			+ "WHERE sr.status IN :open AND sr.assignee IS NULL ORDER BY sr.dueAt, sr.serviceRequestId")
+	List<UnassignedView> findUnassigned(Collection<Status> open, Pageable page);
+
+	@Query("SELECT sr.assignee.employeeId AS employeeId, COUNT(sr) AS openCount FROM ServiceRequest sr "
+			+ "WHERE sr.assignee IS NOT NULL AND sr.status IN :open GROUP BY sr.assignee.employeeId")
+	List<TechnicianLoadView> countOpenByAssignee(Collection<Status> open);
+
+	@EntityGraph(ServiceRequest.WITH_EMPLOYEE_AND_ASSET)
+	@Query("SELECT sr FROM ServiceRequest sr WHERE sr.assignee.employeeId = :technicianId AND sr.status IN :open "
+			+ "ORDER BY sr.dueAt, sr.serviceRequestId")
+	List<ServiceRequest> findAssignedTo(int technicianId, Collection<Status> open);
+
+	// Optimistic claim: succeeds for exactly one caller while the request is still unassigned
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.assignee = :technician, sr.assignedAt = :now, sr.version = sr.version + 1 "
+			+ "WHERE sr.serviceRequestId = :serviceRequestId AND sr.assignee IS NULL AND sr.status IN :open")
+	int claimUnassigned(int serviceRequestId, Employee technician, Collection<Status> open, LocalDateTime now);
+
+	// Optimistic steal: succeeds only while the request is still queued, unstarted, with the victim
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.assignee = :technician, sr.assignedAt = :now, sr.version = sr.version + 1 "
+			+ "WHERE sr.serviceRequestId = :serviceRequestId AND sr.assignee = :victim AND sr.status = :pending")
+	int steal(int serviceRequestId, Employee victim, Employee technician, Status pending, LocalDateTime now);
+
+	// Offboarding: requests the employee filed that nobody has started on, read before they are closed in bulk
+	@Query("SELECT sr.serviceRequestId AS serviceRequestId, a.assetId AS assetId, sr.requestedAt AS requestedAt, "
+			+ "(SELECT MAX(t.changedAt) FROM ServiceRequestTransition t WHERE t.serviceRequestId = sr.serviceRequestId) AS enteredStatusAt "
+			+ "FROM ServiceRequest sr LEFT JOIN sr.asset a WHERE sr.employee.employeeId = :employeeId AND sr.status = :status")
+	List<RequestRefView> findRefsByEmployee(int employeeId, Status status);
+
+	// Offboarding: requests nobody has started on are closed rather than left in the queue
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.status = :closed, sr.version = sr.version + 1 "
+			+ "WHERE sr.serviceRequestId IN :serviceRequestIds AND sr.status = :pending")
+	int closeAll(Collection<Integer> serviceRequestIds, Status pending, Status closed);
+
+	// Offboarding: hand a departing technician's open work back to the dispatcher, which sweeps Pending and Transit alike
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.assignee = NULL, sr.assignedAt = NULL, sr.version = sr.version + 1 "
+			+ "WHERE sr.assignee.employeeId = :technicianId AND sr.status <> :closed")
+	int unassignAll(int technicianId, Status closed);
+
+	// Open requests filed since the start of the duplicate-detection window
+	@Query("SELECT sr.serviceRequestId AS serviceRequestId, sr.issueType AS issueType, sr.description AS description, "
+			+ "sr.requestedAt AS requestedAt, sr.incidentId AS incidentId FROM ServiceRequest sr "
+			+ "WHERE sr.requestedAt >= :since AND sr.status <> :closed ORDER BY sr.requestedAt")
+	List<GroupingView> findRecentForGrouping(LocalDateTime since, Status closed);
+
+	// Joins a request to an incident unless a concurrent request already grouped it
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.incidentId = :incidentId, sr.version = sr.version + 1 "
+			+ "WHERE sr.serviceRequestId = :serviceRequestId AND sr.incidentId IS NULL")
+	int attachToIncident(int serviceRequestId, int incidentId);
+
+	// Locking read, so it sees an incident attached by a transaction that committed after this one's snapshot
+	@Query(value = "SELECT incident_id FROM service_request WHERE service_request_id = :serviceRequestId FOR UPDATE", nativeQuery = true)
+	Integer lockIncidentId(int serviceRequestId);
+
+	@Query("SELECT sr.incidentId AS incidentId, sr.serviceRequestId AS serviceRequestId FROM ServiceRequest sr "
+			+ "WHERE sr.incidentId IN :incidentIds ORDER BY sr.serviceRequestId")
+	List<IncidentMemberView> findIncidentMembers(Collection<Integer> incidentIds);
+
+	// Children of an incident in the given status, with the time they entered it (walks idx_service_request_incident_status)
+	@Query("SELECT sr.serviceRequestId AS serviceRequestId, sr.issueType AS issueType, sr.employee.employeeId AS employeeId, "
+			+ "a.assetId AS assetId, sr.requestedAt AS requestedAt, "
+			+ "(SELECT MAX(t.changedAt) FROM ServiceRequestTransition t WHERE t.serviceRequestId = sr.serviceRequestId) AS enteredStatusAt "
+			+ "FROM ServiceRequest sr LEFT JOIN sr.asset a WHERE sr.incidentId = :incidentId AND sr.status = :status")
+	List<IncidentChildView> findIncidentChildren(int incidentId, Status status);
+
+	// Moves every listed child still in the expected status in one statement
+	@Modifying
+	@Transactional
+	@Query("UPDATE ServiceRequest sr SET sr.status = :status, sr.version = sr.version + 1 "
+			+ "WHERE sr.incidentId = :incidentId AND sr.serviceRequestId IN :serviceRequestIds AND sr.status = :expected")
+	int updateIncidentChildren(int incidentId, Collection<Integer> serviceRequestIds, Status expected, Status status);
+
+	interface DescriptionView {
+		int getId();
+		String getDescription();
+	}
+
+	interface RequestRefView {
+		int getServiceRequestId();
+		Integer getAssetId();
+		LocalDateTime getRequestedAt();
+		LocalDateTime getEnteredStatusAt();
+	}
+
+	interface GroupingView {
+		int getServiceRequestId();
+		IssueType getIssueType();
+		String getDescription();
+		LocalDateTime getRequestedAt();
+		Integer getIncidentId();
+	}
+
+	interface IncidentMemberView {
+		int getIncidentId();
+		int getServiceRequestId();
+	}
+
+	interface IncidentChildView {
+		int getServiceRequestId();
+		IssueType getIssueType();
+		int getEmployeeId();
+		Integer getAssetId();
+		LocalDateTime getRequestedAt();
+		LocalDateTime getEnteredStatusAt();
+	}
+
+	interface UnassignedView {
+		int getServiceRequestId();
+		IssueType getIssueType();
+	}
+
+	interface TechnicianLoadView {
+		int getEmployeeId();
+		long getOpenCount();
+	}
+
+	interface SlaTimerView {
+		int getServiceRequestId();
+		IssueType getIssueType();
+		Status getStatus();
+		int getEmployeeId();
+		Integer getAssetId();
+		LocalDateTime getRequestedAt();
+		LocalDateTime getSlaStartedAt();
+		LocalDateTime getDueAt();
+		LocalDateTime getSlaAtRiskAt();
+		LocalDateTime getSlaBreachedAt();
+	}
 }
@@ -0,0 +1,67 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
+
+@Repository
+public interface IServiceRequestTransitionRepository extends JpaRepository<ServiceRequestTransition, Long> {
+
+	List<ServiceRequestTransition> findByServiceRequestIdOrderByTransitionIdAsc(int serviceRequestId);
+
+	Optional<ServiceRequestTransition> findTopByServiceRequestIdOrderByTransitionIdDesc(int serviceRequestId);
+
+	// Requests resolved after the given transition, oldest first, as labelled triage training examples.
+	// Only a request's first completion out of the worked status counts, so a reopened request is not learned
+	// twice and one closed unworked at offboarding not at all; the label is the admin-confirmed issue type,
+	// falling back to the reporter's for requests completed before it was recorded
+	@Query("SELECT t.transitionId AS transitionId, sr.description AS description, "
+			+ "COALESCE(sr.resolvedIssueType, sr.issueType) AS issueType, "
+			+ "sr.slaAtRiskAt AS slaAtRiskAt, sr.slaBreachedAt AS slaBreachedAt "
+			+ "FROM ServiceRequestTransition t, ServiceRequest sr "
+			+ "WHERE sr.serviceRequestId = t.serviceRequestId AND t.fromStatus = :worked AND t.toStatus = :resolved "
+			+ "AND t.transitionId > :afterTransitionId "
+			+ "AND NOT EXISTS (SELECT 1 FROM ServiceRequestTransition p WHERE p.serviceRequestId = t.serviceRequestId "
+			+ "AND p.fromStatus = :worked AND p.toStatus = :resolved AND p.transitionId < t.transitionId) "
+			+ "ORDER BY t.transitionId")
+	List<TrainingExampleView> findTrainingExamples(Status worked, Status resolved, long afterTransitionId, Pageable page);
+
+	// Completed repairs of one issue type per asset since the given time, for a contiguous range of assets.
+	// Only completions out of the worked status are repairs; offboarding closes untouched requests straight from Pending
+	@Query("SELECT sr.asset.assetId AS assetId, COUNT(DISTINCT sr.serviceRequestId) AS failures, MAX(t.changedAt) AS lastRepairAt "
+			+ "FROM ServiceRequestTransition t, ServiceRequest sr "
+			+ "WHERE sr.serviceRequestId = t.serviceRequestId AND sr.issueType = :issueType "
+			+ "AND sr.asset.assetId BETWEEN :fromAssetId AND :toAssetId "
+			+ "AND t.fromStatus = :worked AND t.toStatus = :resolved AND t.changedAt >= :since "
+			+ "GROUP BY sr.asset.assetId")
+	List<RepairHistoryView> aggregateRepairs(IssueType issueType, Status worked, Status resolved, LocalDateTime since,
+			int fromAssetId, int toAssetId);
+
+	// Whether the request was already completed out of the worked status in [since, before), i.e. it has been reopened
+	@Query("SELECT COUNT(t) > 0 FROM ServiceRequestTransition t WHERE t.serviceRequestId = :serviceRequestId "
+			+ "AND t.fromStatus = :worked AND t.toStatus = :resolved AND t.changedAt >= :since AND t.changedAt < :before")
+	boolean existsRepairBetween(int serviceRequestId, Status worked, Status resolved, LocalDateTime since, LocalDateTime before);
+
+	interface TrainingExampleView {
+		long getTransitionId();
+		String getDescription();
+		IssueType getIssueType();
+		LocalDateTime getSlaAtRiskAt();
+		LocalDateTime getSlaBreachedAt();
+	}
+
+	interface RepairHistoryView {
+		int getAssetId();
+		long getFailures();
+		LocalDateTime getLastRepairAt();
+	}
+}
@@ -0,0 +1,23 @@
+package com.hexaware.assetmanagement.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hexaware.assetmanagement.entity.TechnicianProfile;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface ITechnicianProfileRepository extends JpaRepository<TechnicianProfile, Integer> {
+
+	List<TechnicianProfile> findByActiveTrue();
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE TechnicianProfile t SET t.active = false WHERE t.employeeId = :employeeId AND t.active = true")
+	int deactivate(int employeeId);
+}
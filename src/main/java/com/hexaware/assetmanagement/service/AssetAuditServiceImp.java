@@ -2,26 +2,30 @@ package com.hexaware.assetmanagement.service;
 
 import java.time.LocalDateTime;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hexaware.assetmanagement.dto.AssetAuditDto;
-import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
 import com.hexaware.assetmanagement.entity.AssetAudit;
 import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
 import com.hexaware.assetmanagement.exception.BadRequestException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.exception.UnauthorizedException;
 import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.AuditDecisionView;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
 import com.hexaware.assetmanagement.repository.IEmployeeRepository;
 
-import jakarta.transaction.Transactional;
-
 /** Business logic for asset audit workflow operations */
 @Service
 @Transactional
@@ -35,24 +39,35 @@ public class AssetAuditServiceImp implements IAssetAuditService {
 
     @Autowired
     private IAssetRepository assetRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private WorkflowLatencyRecorder latencyRecorder;
     private static final Logger logger = LoggerFactory.getLogger(AssetAuditServiceImp.class);
     // Create audit request for employee and asset
     @Override
     public AssetAudit sendAudit(int employeeId, int assetId) {
         logger.info("Received request to send audit for employee {} and asset {}", employeeId, assetId);
-        // getting employee
-    	Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
-        // getting asset
-    	Asset asset = assetRepository.findById(assetId)
-                .orElseThrow(() -> new ResourceNotFoundException("Asset not found"));
-    	// creating new audit record
+        // Audits go to active staff about assets that have not been retired
+        Employee employee = employeeRepository.findById(employeeId)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        if (!employee.isEnabled()) {
+            throw new BadRequestException("Employee " + employeeId + " has been offboarded and cannot be sent audits");
+        }
+        assetRepository.findAvailabilityById(assetId)
+            .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
+    	// creating new audit record; the asset reference only sets the foreign key
         AssetAudit audit = new AssetAudit();
         audit.setEmployee(employee);
-        audit.setAsset(asset);
+        audit.setAsset(assetRepository.getReferenceById(assetId));
         audit.setAuditStatus(AssetAudit.AuditStatus.PENDING);
         audit.setRequestedAt(LocalDateTime.now());
         AssetAudit savedAudit = auditRepository.save(audit);
+        // Load what the response shows
+        assetRepository.initializeForResponse(savedAudit.getAsset());
+        publishChange(savedAudit);
         logger.info("Asset audit request successfully sent with ID: {} for employee {} and asset {}", 
             savedAudit.getAuditId(), employeeId, assetId);
         return savedAudit;
@@ -92,39 +107,116 @@ public class AssetAuditServiceImp implements IAssetAuditService {
         
         audit.setUpdatedAt(LocalDateTime.now());
         AssetAudit savedAudit = auditRepository.save(audit);
+        publishChange(savedAudit);
+        latencyRecorder.record(Metric.AUDIT_RESPONSE, String.valueOf(audit.getAsset().getCategory().getCategoryId()),
+            audit.getRequestedAt(), audit.getUpdatedAt());
         
         logger.info("Audit decision successfully processed for audit ID: {}", auditId);
         return AssetAuditDto.fromEntity(savedAudit);
     }
 
+    // Verify or reject several of the employee's pending audits with one read and one update
+    @Override
+    public List<AssetAuditDto> decideAudits(List<Integer> auditIds, int employeeId, String action) {
+        AssetAudit.AuditStatus decision = toDecision(action);
+        Set<Integer> ids = new LinkedHashSet<>(auditIds);
+        logger.info("Received bulk audit decision {} for {} audits by employee {}", decision, ids.size(), employeeId);
+
+        List<AuditDecisionView> targets = auditRepository.findDecisionTargets(ids);
+        if (targets.size() != ids.size()) {
+            Set<Integer> missing = new LinkedHashSet<>(ids);
+            targets.forEach(t -> missing.remove(t.getAuditId()));
+            throw new ResourceNotFoundException("Audits not found with ids: " + missing);
+        }
+        for (AuditDecisionView target : targets) {
+            if (target.getEmployeeId() != employeeId) {
+                logger.warn("Employee {} attempted to make decision on audit {} owned by employee {}",
+                    employeeId, target.getAuditId(), target.getEmployeeId());
+                throw new UnauthorizedException("You can only make decisions on your own audits");
+            }
+            if (target.getAuditStatus() != AssetAudit.AuditStatus.PENDING) {
+                logger.warn("Cannot make decision on audit {} with status: {}", target.getAuditId(), target.getAuditStatus());
+                throw new BadRequestException("Audit decision can only be made on PENDING audits (audit " + target.getAuditId() + ")");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = auditRepository.applyDecision(ids, employeeId, AssetAudit.AuditStatus.PENDING, decision, now);
+        if (updated != ids.size()) {
+            // Another request decided some of these audits between the read and the update
+            throw new BadRequestException("Some audits were decided concurrently, please refresh and try again");
+        }
+
+        List<AssetAuditDto> decided = new ArrayList<>(targets.size());
+        for (AuditDecisionView target : targets) {
+            decided.add(new AssetAuditDto(target.getAuditId(), target.getEmployeeId(), target.getEmployeeName(),
+                target.getAssetId(), target.getAssetName(), AssetAuditDto.AuditStatusDto.valueOf(decision.name()),
+                target.getRequestedAt(), now));
+            eventPublisher.publish(EventType.AUDIT, target.getAuditId(), employeeId, target.getAssetId(), decision.name());
+            latencyRecorder.record(Metric.AUDIT_RESPONSE, String.valueOf(target.getCategoryId()), target.getRequestedAt(), now);
+        }
+        logger.info("Bulk audit decision {} applied to {} audits for employee {}", decision, updated, employeeId);
+        return decided;
+    }
+
     // List all audit records for a specific employee
     @Override
-    public List<AssetAudit> getAuditsByEmployee(int employeeId) {
-        logger.info("Received request to get audits for employee ID: {}", employeeId);
+    @Transactional(readOnly = true)
+    public List<AssetAudit> getAuditsByEmployee(int employeeId, boolean includeArchived) {
+        logger.info("Received request to get audits for employee ID: {} (includeArchived={})", employeeId, includeArchived);
         // getting employee
     	Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
         List<AssetAudit> audits = auditRepository.findByEmployee(employee);
+        if (includeArchived) {
+            List<AssetAudit> archived = auditRepository.findArchivedByEmployeeId(employeeId);
+            // Native rows come back without the fetch plan; load what the response shows
+            assetRepository.resolveArchivedAssets(archived, AssetAudit::getAsset, AssetAudit::setAsset);
+            audits = new ArrayList<>(audits);
+            audits.addAll(archived);
+        }
+        assetRepository.fetchDescriptions(audits, AssetAudit::getAsset);
         logger.info("Successfully retrieved {} audits for employee ID: {}", audits.size(), employeeId);
         return audits;
     }
 
     // Retrieve all audit records from the database
     @Override
+    @Transactional(readOnly = true)
     public List<AssetAudit> getAllAudits() {
         logger.info("Received request to get all audits");
         List<AssetAudit> audits = auditRepository.findAll();
+        assetRepository.fetchDescriptions(audits, AssetAudit::getAsset);
         logger.info("Successfully retrieved {} audits", audits.size());
         return audits;
     }
 
     // Fetch audit record by ID or throw not found exception
     @Override
+    @Transactional(readOnly = true)
     public AssetAudit getAuditById(int auditId) {
         logger.info("Received request to get audit with ID: {}", auditId);
         AssetAudit audit = auditRepository.findById(auditId)
                 .orElseThrow(() -> new ResourceNotFoundException("Audit not found with id: " + auditId));
+        assetRepository.fetchDescriptions(List.of(audit), AssetAudit::getAsset);
         logger.info("Successfully retrieved audit with ID: {}", auditId);
         return audit;
     }
+
+    private AssetAudit.AuditStatus toDecision(String action) {
+        if ("VERIFY".equalsIgnoreCase(action)) {
+            return AssetAudit.AuditStatus.VERIFIED;
+        }
+        if ("REJECT".equalsIgnoreCase(action)) {
+            return AssetAudit.AuditStatus.REJECTED;
+        }
+        logger.error("Invalid audit action: {}", action);
+        throw new BadRequestException("Invalid action. Only 'VERIFY' or 'REJECT' are allowed");
+    }
+
+    // Notify admin screens of the audit's new state once the transaction commits
+    private void publishChange(AssetAudit audit) {
+        eventPublisher.publish(EventType.AUDIT, audit.getAuditId(),
+            audit.getEmployee().getEmployeeId(), audit.getAsset().getAssetId(), audit.getAuditStatus().name());
+    }
 }
@@ -1,24 +1,32 @@
 package com.hexaware.assetmanagement.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hexaware.assetmanagement.config.RetryableTransaction;
 import com.hexaware.assetmanagement.dto.BorrowingActionDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
 import com.hexaware.assetmanagement.entity.Asset;
 import com.hexaware.assetmanagement.entity.AssetBorrowing;
-import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
 import com.hexaware.assetmanagement.exception.BadRequestException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository.AvailabilityView;
 import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.service.ReservationCalendar.Booking;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
 
-import jakarta.transaction.Transactional;
 
 /** Business logic for asset borrowing workflow operations */
 @Service
@@ -33,17 +41,25 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
 
     @Autowired
     private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private WorkflowLatencyRecorder latencyRecorder;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
     private static final Logger logger = LoggerFactory.getLogger(AssetBorrowingServiceImp.class);
     // Create borrowing request and validate asset availability
     @Override
     public AssetBorrowing requestBorrow(int employeeId, int assetId) {
         logger.info("Received request to borrow asset {} for employee {}", assetId, employeeId);
-        // Getting employee
-        Employee employee = employeeRepository.findById(employeeId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
-
-        // Getting asset
-        Asset asset = assetRepository.findById(assetId)
+        // One narrow read decides availability; the employee is the authenticated caller
+        AvailabilityView asset = assetRepository.findAvailabilityById(assetId)
             .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
 
         // Check if asset is available
@@ -51,22 +67,32 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             logger.warn("Cannot create borrow request. Asset {} is already borrowed", assetId);
             throw new BadRequestException("Asset '" + asset.getAssetName() + "' is already borrowed and not available for request.");
         }
+        if (asset.isMaintenanceHold()) {
+            logger.warn("Cannot create borrow request. Asset {} is held for maintenance", assetId);
+            throw new BadRequestException("Asset '" + asset.getAssetName() + "' is under preventive maintenance and not available for request.");
+        }
 
         // Check if employee already has a pending request for this asset
-        List<AssetBorrowing> existingRequests = borrowingRepository.findByEmployeeIdAndAssetIdAndStatus(employeeId, assetId, AssetBorrowing.Status.PENDING);
-        if (!existingRequests.isEmpty()) {
+        if (borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(employeeId, assetId, AssetBorrowing.Status.PENDING)) {
             logger.warn("Employee {} already has a pending request for asset {}", employeeId, assetId);
             throw new BadRequestException("You already have a pending request for asset '" + asset.getAssetName() + "'. Please wait for approval.");
         }
 
         // Creating new borrowing request
         AssetBorrowing borrowing = new AssetBorrowing();
-        borrowing.setEmployee(employee);
-        borrowing.setAsset(asset);
+        // References only set the foreign keys; an unknown employee fails the FK and maps to 404
+        borrowing.setEmployee(employeeRepository.getReferenceById(employeeId));
+        borrowing.setAsset(assetRepository.getReferenceById(assetId));
         borrowing.setStatus(AssetBorrowing.Status.PENDING);
-        borrowing.setBorrowedAt(LocalDateTime.now()); // Set borrowed_at when creating request
+        LocalDateTime requestedAt = LocalDateTime.now();
+        borrowing.setBorrowedAt(requestedAt); // Set borrowed_at when creating request
+        borrowing.setRequestedAt(requestedAt);
 
         AssetBorrowing savedBorrowing = borrowingRepository.save(borrowing);
+        // The insert has proved both references exist; load what the response shows
+        Hibernate.initialize(savedBorrowing.getEmployee());
+        assetRepository.initializeForResponse(savedBorrowing.getAsset());
+        publishChange(savedBorrowing);
         logger.info("Borrow request successfully created with ID: {} for employee {} and asset {}", 
             savedBorrowing.getBorrowingId(), employeeId, assetId);
         return savedBorrowing;
@@ -74,6 +100,7 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
 
     // Process admin action on pending borrowing request (approve/reject)
     @Override
+    @RetryableTransaction
     public AssetBorrowing processBorrowingAction(int borrowingId, BorrowingActionDto actionDto) {
         logger.info("Received request to process borrowing action {} for borrowing ID: {}", actionDto.getAction(), borrowingId);
         AssetBorrowing borrowing = borrowingRepository.findById(borrowingId)
@@ -84,18 +111,33 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             throw new BadRequestException("Only pending borrow requests can be processed");
         }
 
+        LocalDateTime decidedAt = LocalDateTime.now();
         switch (actionDto.getAction()) {
             case APPROVE:
-                // Check if asset is still available
-                Asset asset = borrowing.getAsset();
+                // Check if asset is still available; locked so a reservation of it cannot be booked until this commits
+                Asset asset = assetRepository.lockAll(List.of(borrowing.getAsset().getAssetId())).stream().findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + borrowing.getAsset().getAssetId()));
                 if (Asset.Status.Borrowed.equals(asset.getStatus())) {
                     logger.warn("Cannot approve borrowing. Asset {} is already borrowed", asset.getAssetId());
                     throw new BadRequestException("Asset '" + asset.getAssetName() + "' is already borrowed by another user. Please reject this request.");
                 }
+                if (asset.isMaintenanceHold()) {
+                    logger.warn("Cannot approve borrowing. Asset {} is held for maintenance", asset.getAssetId());
+                    throw new BadRequestException("Asset '" + asset.getAssetName() + "' is under preventive maintenance. Please approve it once maintenance is complete.");
+                }
+                // The loan must be back before someone else's booking starts
+                Optional<Booking> booking = reservationCalendar.firstConflict(asset.getAssetId(),
+                        borrowing.getEmployee().getEmployeeId(), decidedAt, actionDto.getDueAt());
+                if (booking.isPresent()) {
+                    logger.warn("Cannot approve borrowing. Asset {} is reserved from {}", asset.getAssetId(), booking.get().startAt());
+                    throw new BadRequestException("Asset '" + asset.getAssetName() + "' is reserved from " + booking.get().startAt()
+                            + ". Approve with a due date before then or reject this request.");
+                }
 
                 // Approve and activate
                 borrowing.setStatus(AssetBorrowing.Status.ACTIVE);
-                borrowing.setBorrowedAt(LocalDateTime.now());
+                borrowing.setBorrowedAt(decidedAt);
+                borrowing.setDueAt(actionDto.getDueAt());
 
                 // Update asset status
                 asset.setStatus(Asset.Status.Borrowed);
@@ -114,22 +156,40 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
                 throw new BadRequestException("Invalid action: " + actionDto.getAction());
         }
 
+        borrowing.setDecidedAt(decidedAt);
+        assetRepository.initializeForResponse(borrowing.getAsset());
         AssetBorrowing savedBorrowing = borrowingRepository.save(borrowing);
+        // Timers only once the decision is durable, so a rollback cannot leave one behind
+        TransactionCallbacks.afterCommit(() -> dueDateScheduler.schedule(savedBorrowing));
+        // Only approvals count towards approval latency; requests raised before requested_at existed have no reliable start time
+        if (AssetBorrowing.Status.ACTIVE.equals(savedBorrowing.getStatus())) {
+            latencyRecorder.record(Metric.BORROW_APPROVAL,
+                    String.valueOf(borrowing.getAsset().getCategory().getCategoryId()), borrowing.getRequestedAt(), decidedAt);
+        }
+        publishChange(savedBorrowing);
         logger.info("Borrowing action successfully processed for ID: {}", borrowingId);
         return savedBorrowing;
     }
 
     // Mark asset as returned and update asset status to available
     @Override
+    @RetryableTransaction
     public AssetBorrowing returnAsset(int borrowingId) {
         logger.info("Attempting to return asset for borrowing ID: {}", borrowingId);
         
-        // Getting borrowing record
-        AssetBorrowing borrowing = borrowingRepository.findById(borrowingId)
+        // Asset first, then the loan, the same order transfers use, so the two cannot deadlock
+        Integer assetId = borrowingRepository.findAssetIdById(borrowingId)
             .orElseThrow(() -> {
                 logger.error("Borrowing record not found with ID: {}", borrowingId);
                 return new ResourceNotFoundException("Borrowing record not found with ID: " + borrowingId);
             });
+        assetRepository.lockAll(List.of(assetId));
+        // Locked so a concurrent transfer of the same loan cannot also close it
+        AssetBorrowing borrowing = borrowingRepository.lockById(borrowingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Borrowing record not found with ID: " + borrowingId));
+        // The locking read skips the fetch plan; load what the response shows
+        Hibernate.initialize(borrowing.getEmployee());
+        assetRepository.initializeForResponse(borrowing.getAsset());
             
         logger.info("Found borrowing record. Current status: {}", borrowing.getStatus());
 
@@ -154,6 +214,8 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
         logger.info("Successfully updated asset status to Available");
         
         AssetBorrowing savedBorrowing = borrowingRepository.save(borrowing);
+        TransactionCallbacks.afterCommit(() -> dueDateScheduler.cancel(borrowingId));
+        publishChange(savedBorrowing);
         logger.info("Successfully updated borrowing record to RETURNED");
         
         return savedBorrowing;
@@ -161,24 +223,34 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
 
     // Retrieve all borrowing records for a specific employee
     @Override
-    public List<AssetBorrowing> getBorrowingsByEmployee(int employeeId) {
-        logger.info("Received request to get borrowings for employee ID: {}", employeeId);
+    @Transactional(readOnly = true)
+    public List<AssetBorrowing> getBorrowingsByEmployee(int employeeId, boolean includeArchived) {
+        logger.info("Received request to get borrowings for employee ID: {} (includeArchived={})", employeeId, includeArchived);
         // Checking if employee exists
         employeeRepository.findById(employeeId)
             .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
 
         // Getting borrowings for employee
         List<AssetBorrowing> borrowings = borrowingRepository.findByEmployeeId(employeeId);
+        if (includeArchived) {
+            List<AssetBorrowing> archived = borrowingRepository.findArchivedByEmployeeId(employeeId);
+            // Native rows come back without the fetch plan; load what the response shows
+            assetRepository.resolveArchivedAssets(archived, AssetBorrowing::getAsset, AssetBorrowing::setAsset);
+            borrowings = new ArrayList<>(borrowings);
+            borrowings.addAll(archived);
+        }
         if (borrowings.isEmpty()) {
             logger.warn("No borrowings found for employee ID: {}", employeeId);
             return borrowings; // Return empty list instead of throwing exception
         }
+        assetRepository.fetchDescriptions(borrowings, AssetBorrowing::getAsset);
         logger.info("Successfully retrieved {} borrowings for employee ID: {}", borrowings.size(), employeeId);
         return borrowings;
     }
 
     // List all currently active borrowing records
     @Override
+    @Transactional(readOnly = true)
     public List<AssetBorrowing> getAllActiveBorrowings() {
         logger.info("Received request to get all active borrowings");
         // Getting all active borrowings
@@ -187,12 +259,14 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             logger.info("No active borrowings found - returning empty list");
             return activeBorrowings; // Return empty list instead of throwing exception
         }
+        assetRepository.fetchDescriptions(activeBorrowings, AssetBorrowing::getAsset);
         logger.info("Successfully retrieved {} active borrowings", activeBorrowings.size());
         return activeBorrowings;
     }
 
     // List all pending borrowing requests awaiting approval
     @Override
+    @Transactional(readOnly = true)
     public List<AssetBorrowing> getAllPendingBorrowings() {
         logger.info("Received request to get all pending borrowings");
         // Getting all pending borrowings
@@ -201,12 +275,14 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             logger.info("No pending borrowings found - returning empty list");
             return pendingBorrowings; // Return empty list instead of throwing exception
         }
+        assetRepository.fetchDescriptions(pendingBorrowings, AssetBorrowing::getAsset);
         logger.info("Successfully retrieved {} pending borrowings", pendingBorrowings.size());
         return pendingBorrowings;
     }
 
     // List all rejected borrowing requests
     @Override
+    @Transactional(readOnly = true)
     public List<AssetBorrowing> getAllRejectedBorrowings() {
         logger.info("Received request to get all rejected borrowings");
         // Getting all rejected borrowings
@@ -215,12 +291,14 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             logger.info("No rejected borrowings found - returning empty list");
             return rejectedBorrowings; // Return empty list instead of throwing exception
         }
+        assetRepository.fetchDescriptions(rejectedBorrowings, AssetBorrowing::getAsset);
         logger.info("Successfully retrieved {} rejected borrowings", rejectedBorrowings.size());
         return rejectedBorrowings;
     }
 
     // List all completed borrowing records (returned assets)
     @Override
+    @Transactional(readOnly = true)
     public List<AssetBorrowing> getAllReturnedBorrowings() {
         logger.info("Received request to get all returned borrowings");
         // Getting all returned borrowings
@@ -229,7 +307,26 @@ public class AssetBorrowingServiceImp implements IAssetBorrowingService {
             logger.info("No returned borrowings found - returning empty list");
             return returnedBorrowings; // Return empty list instead of throwing exception
         }
+        assetRepository.fetchDescriptions(returnedBorrowings, AssetBorrowing::getAsset);
         logger.info("Successfully retrieved {} returned borrowings", returnedBorrowings.size());
         return returnedBorrowings;
     }
+
+    // List active loans past their due date, most overdue first
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetBorrowing> getOverdueBorrowings() {
+        logger.info("Received request to get all overdue borrowings");
+        List<AssetBorrowing> overdueBorrowings = borrowingRepository.findByStatusAndDueAtBeforeOrderByDueAtAsc(
+            AssetBorrowing.Status.ACTIVE, LocalDateTime.now());
+        assetRepository.fetchDescriptions(overdueBorrowings, AssetBorrowing::getAsset);
+        logger.info("Successfully retrieved {} overdue borrowings", overdueBorrowings.size());
+        return overdueBorrowings;
+    }
+
+    // Notify admin screens of the borrowing's new state once the transaction commits
+    private void publishChange(AssetBorrowing borrowing) {
+        eventPublisher.publish(EventType.BORROWING, borrowing.getBorrowingId(),
+            borrowing.getEmployee().getEmployeeId(), borrowing.getAsset().getAssetId(), borrowing.getStatus().name());
+    }
 }
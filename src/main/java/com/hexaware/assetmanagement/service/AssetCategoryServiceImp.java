@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hexaware.assetmanagement.entity.AssetCategory;
 import com.hexaware.assetmanagement.exception.BadRequestException;
@@ -13,8 +14,6 @@ import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
 
-import jakarta.transaction.Transactional;
-
 /** Business logic for asset category management operations */
 @Service
 @Transactional
@@ -70,6 +69,7 @@ public class AssetCategoryServiceImp implements IAssetCategoryService {
 
     // Fetch category by ID or throw not found exception
     @Override
+    @Transactional(readOnly = true)
     public AssetCategory getCategoryById(int categoryId) {
         logger.info("Received request to get category with ID: {}", categoryId);
         AssetCategory category = categoryRepository.findById(categoryId)
@@ -80,6 +80,7 @@ public class AssetCategoryServiceImp implements IAssetCategoryService {
 
     // Retrieve all categories from the database
     @Override
+    @Transactional(readOnly = true)
     public List<AssetCategory> getAllCategories() {
         logger.info("Received request to get all categories");
         List<AssetCategory> categories = categoryRepository.findAll();
@@ -89,6 +90,7 @@ public class AssetCategoryServiceImp implements IAssetCategoryService {
 
     // Find category by name (case-sensitive lookup)
     @Override
+    @Transactional(readOnly = true)
     public AssetCategory getCategoryByName(String categoryName) {
         logger.info("Received request to get category by name: {}", categoryName);
         AssetCategory category = categoryRepository.findByCategoryName(categoryName)
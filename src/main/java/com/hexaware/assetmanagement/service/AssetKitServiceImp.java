@@ -0,0 +1,283 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.config.RetryableTransaction;
+import com.hexaware.assetmanagement.dto.AssetKitDto;
+import com.hexaware.assetmanagement.dto.KitBorrowDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetKit;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.exception.ResourceAlreadyExistsException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetKitRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Kit definitions and all-or-nothing kit issue. Candidates for category items come
+ * from the availability index without locks; every asset the kit might use is then
+ * locked in one ascending-ID pass, so concurrent kits with overlapping stock queue
+ * behind each other instead of deadlocking. If a candidate was taken in the meantime
+ * the transaction rolls back and allocation starts again from fresh candidates.
+ */
+@Service
+public class AssetKitServiceImp implements IAssetKitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetKitServiceImp.class);
+
+    @Autowired
+    private IAssetKitRepository kitRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${kit.allocation.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    // Extra candidates locked per category so a kit losing one asset to a competitor can still complete
+    @Value("${kit.allocation.spare:2}")
+    private int spareCandidates = 2;
+
+    // How much of the free stock to sample from; picking at random spreads competing kits apart
+    @Value("${kit.allocation.candidate-window:32}")
+    private int candidateWindow = 32;
+
+    @Value("${kit.allocation.backoff-ms:20}")
+    private long backoffMs = 20;
+
+    // Validate and store a kit definition
+    @Override
+    @Transactional
+    public AssetKitDto createKit(AssetKitDto dto) {
+        logger.info("Received request to create kit: {}", dto.getName());
+        if (dto.getCategoryIds().isEmpty() && dto.getAssetIds().isEmpty()) {
+            throw new BadRequestException("A kit needs at least one category or asset");
+        }
+        if (kitRepository.existsByName(dto.getName())) {
+            throw new ResourceAlreadyExistsException("A kit named '" + dto.getName() + "' already exists");
+        }
+        for (Integer categoryId : new TreeSet<>(dto.getCategoryIds())) {
+            if (!categoryRepository.existsById(categoryId)) {
+                throw new ResourceNotFoundException("Category not found with ID: " + categoryId);
+            }
+        }
+        Set<Integer> assetIds = new HashSet<>(dto.getAssetIds());
+        if (assetIds.size() != dto.getAssetIds().size()) {
+            throw new BadRequestException("A specific asset can appear only once in a kit");
+        }
+        if (!assetIds.isEmpty() && assetRepository.findAllById(assetIds).size() != assetIds.size()) {
+            throw new ResourceNotFoundException("Some assets in the kit do not exist");
+        }
+        AssetKit kit = kitRepository.save(new AssetKit(dto.getName(), dto.getCategoryIds(), dto.getAssetIds()));
+        logger.info("Kit successfully created with ID: {}", kit.getKitId());
+        return AssetKitDto.fromEntity(kit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetKitDto> getKits() {
+        logger.info("Received request to get all kits");
+        return kitRepository.findAll().stream().map(AssetKitDto::fromEntity).toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteKit(int kitId) {
+        logger.info("Received request to delete kit with ID: {}", kitId);
+        if (!kitRepository.existsById(kitId)) {
+            throw new ResourceNotFoundException("Kit not found with ID: " + kitId);
+        }
+        kitRepository.deleteById(kitId);
+    }
+
+    // Issue every item of the kit as an ACTIVE loan, or nothing at all
+    @Override
+    @RetryableTransaction
+    public List<AssetBorrowing> borrowKit(int kitId, KitBorrowDto dto) {
+        logger.info("Received request to issue kit {} to employee {}", kitId, dto.getEmployeeId());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<AssetBorrowing> borrowings = transactionTemplate.execute(status -> allocate(kitId, dto));
+                logger.info("Kit {} issued to employee {} as {} loans (attempt {})", kitId, dto.getEmployeeId(),
+                        borrowings.size(), attempt);
+                return borrowings;
+            } catch (ConflictException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Giving up on kit {} for employee {} after {} attempts", kitId, dto.getEmployeeId(), attempt);
+                    throw new ConflictException("Kit stock is changing too quickly, please try again");
+                }
+                logger.debug("Kit {} lost a candidate to a concurrent allocation, retrying", kitId);
+                pause(attempt);
+            }
+        }
+    }
+
+    List<AssetBorrowing> allocate(int kitId, KitBorrowDto dto) {
+        AssetKit kit = kitRepository.findById(kitId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kit not found with ID: " + kitId));
+        Employee employee = employeeRepository.findById(dto.getEmployeeId())
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + dto.getEmployeeId()));
+        if (!employee.isEnabled()) {
+            throw new BadRequestException("Employee " + employee.getEmployeeId() + " has been offboarded and cannot receive assets");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> fixed = kit.getAssetList();
+        Map<Integer, Integer> needs = new LinkedHashMap<>();
+        kit.getCategoryList().forEach(categoryId -> needs.merge(categoryId, 1, Integer::sum));
+
+        // Candidates per category, read from the availability index without locking anything
+        Map<Integer, List<Integer>> candidates = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Integer> need : needs.entrySet()) {
+            int wanted = need.getValue();
+            List<Integer> free = freeCandidates(need.getKey(), Math.max(candidateWindow, wanted + spareCandidates),
+                    fixed, employee, now, dto.getDueAt());
+            if (free.size() < wanted) {
+                throw new BadRequestException("Not enough available assets in category " + need.getKey()
+                        + ": kit needs " + wanted + ", " + free.size() + " available");
+            }
+            Collections.shuffle(free, ThreadLocalRandom.current());
+            candidates.put(need.getKey(), free.subList(0, Math.min(free.size(), wanted + spareCandidates)));
+        }
+
+        // One lock pass over everything the kit may use, in ascending ID order
+        TreeSet<Integer> lockIds = new TreeSet<>(fixed);
+        candidates.values().forEach(lockIds::addAll);
+        Map<Integer, Asset> locked = new LinkedHashMap<>();
+        assetRepository.lockAll(lockIds).forEach(asset -> locked.put(asset.getAssetId(), asset));
+
+        List<Asset> chosen = new ArrayList<>();
+        for (Integer assetId : fixed) {
+            Asset asset = locked.get(assetId);
+            if (asset == null) {
+                throw new ResourceNotFoundException("Asset not found with ID: " + assetId);
+            }
+            if (!isFree(asset)) {
+                throw new BadRequestException("Asset '" + asset.getAssetName() + "' is not available, so the kit cannot be issued");
+            }
+            if (isBooked(assetId, employee, now, dto.getDueAt())) {
+                throw new BadRequestException("Asset '" + asset.getAssetName() + "' is reserved during the loan, so the kit cannot be issued");
+            }
+            chosen.add(asset);
+        }
+        for (Map.Entry<Integer, Integer> need : needs.entrySet()) {
+            // Locked rows are current, so anything taken since the candidate read is skipped here
+            List<Asset> stillFree = new TreeSet<>(candidates.get(need.getKey())).stream()
+                    .map(locked::get)
+                    .filter(asset -> asset != null && isFree(asset) && asset.getCategory().getCategoryId() == need.getKey()
+                            && !isBooked(asset.getAssetId(), employee, now, dto.getDueAt()))
+                    .toList();
+            if (stillFree.size() < need.getValue()) {
+                throw new ConflictException("Candidates for category " + need.getKey() + " were taken concurrently");
+            }
+            chosen.addAll(stillFree.subList(0, need.getValue()));
+        }
+
+        List<AssetBorrowing> borrowings = new ArrayList<>(chosen.size());
+        for (Asset asset : chosen) {
+            asset.setStatus(Asset.Status.Borrowed);
+            AssetBorrowing borrowing = new AssetBorrowing();
+            borrowing.setEmployee(employee);
+            borrowing.setAsset(asset);
+            borrowing.setStatus(AssetBorrowing.Status.ACTIVE);
+            borrowing.setRequestedAt(now);
+            borrowing.setDecidedAt(now);
+            borrowing.setBorrowedAt(now);
+            borrowing.setDueAt(dto.getDueAt());
+            borrowings.add(borrowing);
+        }
+        List<AssetBorrowing> saved = borrowingRepository.saveAll(borrowings);
+        for (AssetBorrowing borrowing : saved) {
+            TransactionCallbacks.afterCommit(() -> dueDateScheduler.schedule(borrowing));
+            eventPublisher.publish(EventType.BORROWING, borrowing.getBorrowingId(), employee.getEmployeeId(),
+                    borrowing.getAsset().getAssetId(), borrowing.getStatus().name());
+            assetRepository.initializeForResponse(borrowing.getAsset());
+        }
+        return saved;
+    }
+
+    // Up to window free assets of the category; pages past reserved ones so a run of bookings cannot hide free stock
+    private List<Integer> freeCandidates(int categoryId, int window, List<Integer> fixed, Employee employee,
+                                         LocalDateTime from, LocalDateTime dueAt) {
+        Set<Integer> booked = reservationCalendar.bookedAssets(categoryId, from, dueAt);
+        List<Integer> free = new ArrayList<>(window);
+        for (int page = 0; ; page++) {
+            List<Integer> ids = assetRepository.findAvailableIds(categoryId, Asset.Status.Available, PageRequest.of(page, window));
+            for (Integer assetId : ids) {
+                // The category index also holds the employee's own bookings, which never block them
+                if (!fixed.contains(assetId) && !(booked.contains(assetId) && isBooked(assetId, employee, from, dueAt))) {
+                    free.add(assetId);
+                }
+            }
+            if (free.size() >= window || ids.size() < window) {
+                return free;
+            }
+        }
+    }
+
+    // Random spread so kits that collided do not pick the same candidates again in lockstep
+    private void pause(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Kit allocation was interrupted, please try again");
+        }
+    }
+
+    // Someone else's booking inside the loan window; open-ended loans collide with every future booking
+    private boolean isBooked(int assetId, Employee employee, LocalDateTime from, LocalDateTime dueAt) {
+        return reservationCalendar.firstConflict(assetId, employee.getEmployeeId(), from, dueAt).isPresent();
+    }
+
+    private static boolean isFree(Asset asset) {
+        return asset.getStatus() == Asset.Status.Available && !asset.isMaintenanceHold();
+    }
+}
@@ -1,22 +1,36 @@
 package com.hexaware.assetmanagement.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hexaware.assetmanagement.dto.AssetDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
 import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
 import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
 import com.hexaware.assetmanagement.exception.BadRequestException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.PendingAuditView;
 import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.RequestView;
 import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
 
-import jakarta.transaction.Transactional;
 
 /** Business logic for asset management operations */
 @Service
@@ -31,6 +45,21 @@ public class AssetServiceImp implements IAssetService {
     
     @Autowired
     private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IAssetAuditRepository auditRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${asset.retire.batch-size:1000}")
+    private int retireBatchSize = 1000;
     
     private static final Logger logger = LoggerFactory.getLogger(AssetServiceImp.class);
     // Map DTO to entity and persist; returns the saved asset
@@ -99,6 +128,8 @@ public class AssetServiceImp implements IAssetService {
         logger.info("Received request to save asset with ID: {}", asset.getAssetId());
         try {
             Asset savedAsset = assetRepository.save(asset);
+            // The merged copy references the category without loading it
+            assetRepository.initializeForResponse(savedAsset);
             logger.info("Asset successfully saved with ID: {}", savedAsset.getAssetId());
             return savedAsset;
         } catch (Exception e) {
@@ -109,25 +140,30 @@ public class AssetServiceImp implements IAssetService {
 
     // Fetch asset by ID or throw not found exception
     @Override
+    @Transactional(readOnly = true)
     public Asset getAssetById(Integer assetId) {
         logger.info("Received request to get asset with ID: {}", assetId);
     	Asset asset = assetRepository.findById(assetId)
             .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
+        assetRepository.fetchDescriptions(List.of(asset));
         logger.info("Successfully retrieved asset with ID: {}", assetId);
         return asset;
     }
 
     // fkmRetrieve all assets from the database
     @Override
+    @Transactional(readOnly = true)
     public List<Asset> getAllAssets() {
         logger.info("Received request to get all assets");
         List<Asset> assets = assetRepository.findAll();
+        assetRepository.fetchDescriptions(assets);
         logger.info("Successfully retrieved {} assets", assets.size());
         return assets;
     }
 
     // Filter assets by category and return matching results
     @Override
+    @Transactional(readOnly = true)
     public List<Asset> getAssetsByCategory(AssetCategory categoryName) {
         logger.info("Received request to get assets by category: {}", categoryName.getCategoryName());
         // getting assets with the given category
@@ -136,27 +172,90 @@ public class AssetServiceImp implements IAssetService {
             logger.warn("No assets found for category: {}", categoryName.getCategoryName());
             throw new ResourceNotFoundException("No assets found for category: " + categoryName.getCategoryName());
         }
+        assetRepository.fetchDescriptions(assets);
         logger.info("Successfully retrieved {} assets for category: {}", assets.size(), categoryName.getCategoryName());
         return assets;
     }
 
-    // Remove asset from system (prevents deletion if currently borrowed)
+    // Remove asset from system (prevents deletion while borrowed or under repair)
     @Override
     public void deleteAsset(Integer assetId) {
         logger.info("Received request to delete asset with ID: {}", assetId);
-        // checking whether asset exists or not
-    	Asset asset = assetRepository.findById(assetId)
+        // The row lock holds off approvals and transfers until the retire commits
+        Asset asset = assetRepository.lockAll(List.of(assetId)).stream().findFirst()
             .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
-    	
-    	// Check if asset is currently borrowed
+
+        // Check if asset is currently borrowed
         if (Asset.Status.Borrowed.equals(asset.getStatus())) {
             logger.warn("Cannot delete asset with ID {} as it is currently borrowed", assetId);
             throw new BadRequestException("Asset is borrowed — can't delete.");
         }
-        
-        // Database cascade will handle related records automatically
-        assetRepository.deleteById(assetId);
+        if (!serviceRequestRepository.findAssetIdsWithOpenRequests(List.of(assetId), ServiceRequest.Status.Completed).isEmpty()) {
+            logger.warn("Cannot delete asset with ID {} as it has open service requests", assetId);
+            throw new BadRequestException("Asset has open service requests — can't delete.");
+        }
+
+        // Soft delete only; DeletedAssetPurger moves the asset's history out in small batches later
+        LocalDateTime now = LocalDateTime.now();
+        if (assetRepository.retire(List.of(assetId), now, Asset.Status.Borrowed) == 0) {
+            throw new BadRequestException("Asset is borrowed — can't delete.");
+        }
+        rejectWaitingRequests(List.of(assetId), now);
         logger.info("Asset successfully deleted with ID: {}", assetId);
     }
+
+    // Soft delete many assets, committing each bounded batch on its own; returns how many were retired
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int retireAssets(List<Integer> assetIds) {
+        logger.info("Received request to retire {} assets", assetIds.size());
+        LocalDateTime now = LocalDateTime.now();
+        int retired = 0;
+        for (int from = 0; from < assetIds.size(); from += retireBatchSize) {
+            List<Integer> batch = assetIds.subList(from, Math.min(from + retireBatchSize, assetIds.size()));
+            retired += transactionTemplate.execute(status -> retireBatch(batch, now));
+        }
+        logger.info("Retired {} of {} assets, borrowed, under repair or unknown IDs were skipped", retired, assetIds.size());
+        return retired;
+    }
+
+    // Lock the batch in ascending ID order and retire what is neither on loan nor under repair
+    int retireBatch(List<Integer> assetIds, LocalDateTime now) {
+        List<Integer> retirable = new ArrayList<>();
+        for (Asset asset : assetRepository.lockAll(assetIds)) {
+            if (!Asset.Status.Borrowed.equals(asset.getStatus())) {
+                retirable.add(asset.getAssetId());
+            }
+        }
+        if (!retirable.isEmpty()) {
+            retirable.removeAll(serviceRequestRepository.findAssetIdsWithOpenRequests(retirable, ServiceRequest.Status.Completed));
+        }
+        if (retirable.isEmpty()) {
+            return 0;
+        }
+        int retired = assetRepository.retire(retirable, now, Asset.Status.Borrowed);
+        rejectWaitingRequests(retirable, now);
+        return retired;
+    }
+
+    // Borrow requests and audits waiting on a retired asset can never be decided, so they are rejected with it
+    private void rejectWaitingRequests(Collection<Integer> assetIds, LocalDateTime now) {
+        List<RequestView> borrowings = borrowingRepository.findRequestsByAssetIds(assetIds, AssetBorrowing.Status.PENDING);
+        if (!borrowings.isEmpty()) {
+            borrowingRepository.rejectAll(borrowings.stream().map(RequestView::getBorrowingId).toList(),
+                    AssetBorrowing.Status.PENDING, AssetBorrowing.Status.REJECTED, now);
+            borrowings.forEach(borrowing -> eventPublisher.publish(EventType.BORROWING, borrowing.getBorrowingId(),
+                    borrowing.getEmployeeId(), borrowing.getAssetId(), AssetBorrowing.Status.REJECTED.name()));
+        }
+        List<PendingAuditView> audits = auditRepository.findPendingByAssetIds(assetIds, AuditStatus.PENDING);
+        if (!audits.isEmpty()) {
+            auditRepository.rejectAll(audits.stream().map(PendingAuditView::getAuditId).toList(),
+                    AuditStatus.PENDING, AuditStatus.REJECTED, now);
+            audits.forEach(audit -> eventPublisher.publish(EventType.AUDIT, audit.getAuditId(),
+                    audit.getEmployeeId(), audit.getAssetId(), AuditStatus.REJECTED.name()));
+        }
+        logger.info("Rejected {} borrow requests and {} audits waiting on {} retired assets",
+                borrowings.size(), audits.size(), assetIds.size());
+    }
     
 }
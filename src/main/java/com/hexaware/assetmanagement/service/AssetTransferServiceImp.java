@@ -0,0 +1,185 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.config.RetryableTransaction;
+import com.hexaware.assetmanagement.dto.AssetTransferDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.service.ReservationCalendar.Booking;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Hands borrowed assets straight from one employee to another. The source loan is
+ * closed and an ACTIVE loan for the target is opened in the same transaction while the
+ * asset row is locked, so the asset never becomes Available in between and no request
+ * or approval round trip is needed. Batches are all-or-nothing.
+ */
+@Service
+public class AssetTransferServiceImp implements IAssetTransferService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetTransferServiceImp.class);
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
+
+    // Move one borrowed asset to another employee; returns the new loan
+    @Override
+    @Transactional
+    @RetryableTransaction
+    public AssetBorrowing transferAsset(AssetTransferDto transfer) {
+        return applyTransfers(List.of(transfer)).get(0);
+    }
+
+    // Move many borrowed assets at once; any invalid entry rejects the whole batch
+    @Override
+    @Transactional
+    @RetryableTransaction
+    public List<AssetBorrowing> transferAssets(List<AssetTransferDto> transfers) {
+        return applyTransfers(transfers);
+    }
+
+    private List<AssetBorrowing> applyTransfers(List<AssetTransferDto> transfers) {
+        Map<Integer, AssetTransferDto> byAsset = new LinkedHashMap<>();
+        for (AssetTransferDto transfer : transfers) {
+            if (byAsset.put(transfer.getAssetId(), transfer) != null) {
+                throw new BadRequestException("Asset " + transfer.getAssetId() + " appears more than once in the transfer");
+            }
+        }
+        logger.info("Received request to transfer {} assets", byAsset.size());
+
+        // Asset locks first, then the loans they cover, both in asset ID order
+        List<Asset> assets = assetRepository.lockAll(byAsset.keySet());
+        if (assets.size() != byAsset.size()) {
+            Set<Integer> missing = new LinkedHashSet<>(byAsset.keySet());
+            assets.forEach(a -> missing.remove(a.getAssetId()));
+            throw new ResourceNotFoundException("Assets not found with ids: " + missing);
+        }
+        Map<Integer, AssetBorrowing> sources = new HashMap<>();
+        for (AssetBorrowing source : borrowingRepository.lockByAssetIds(byAsset.keySet(), AssetBorrowing.Status.ACTIVE)) {
+            sources.put(source.getAsset().getAssetId(), source);
+        }
+        Map<Integer, Employee> targets = loadTargets(byAsset.values());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Asset asset : assets) {
+            AssetTransferDto transfer = byAsset.get(asset.getAssetId());
+            AssetBorrowing source = sources.get(transfer.getAssetId());
+            if (source == null) {
+                logger.warn("Cannot transfer asset {}: it has no active loan", transfer.getAssetId());
+                throw new BadRequestException("Asset " + transfer.getAssetId() + " is not on an active loan and cannot be transferred");
+            }
+            if (source.getEmployee().getEmployeeId() == transfer.getToEmployeeId()) {
+                throw new BadRequestException("Asset " + transfer.getAssetId() + " is already borrowed by employee " + transfer.getToEmployeeId());
+            }
+            // The new loan must be back before someone else's booking starts, as on approval
+            Optional<Booking> booking = reservationCalendar.firstConflict(asset.getAssetId(), transfer.getToEmployeeId(),
+                    now, dueAt(transfer, source));
+            if (booking.isPresent()) {
+                logger.warn("Cannot transfer asset {}: it is reserved from {}", asset.getAssetId(), booking.get().startAt());
+                throw new BadRequestException("Asset '" + asset.getAssetName() + "' is reserved from " + booking.get().startAt()
+                        + ". Transfer it with a due date before then.");
+            }
+        }
+
+        List<Integer> sourceIds = sources.values().stream().map(AssetBorrowing::getBorrowingId).toList();
+        if (borrowingRepository.closeAll(sourceIds, AssetBorrowing.Status.ACTIVE, AssetBorrowing.Status.RETURNED, now) != sourceIds.size()) {
+            // Cannot happen while the rows are locked, but never open a second loan next to one still active
+            throw new BadRequestException("Some loans changed during the transfer, please refresh and try again");
+        }
+
+        List<AssetBorrowing> opened = new ArrayList<>(assets.size());
+        for (Asset asset : assets) {
+            AssetTransferDto transfer = byAsset.get(asset.getAssetId());
+            AssetBorrowing source = sources.get(asset.getAssetId());
+            AssetBorrowing borrowing = new AssetBorrowing();
+            borrowing.setEmployee(targets.get(transfer.getToEmployeeId()));
+            borrowing.setAsset(asset);
+            borrowing.setStatus(AssetBorrowing.Status.ACTIVE);
+            borrowing.setRequestedAt(now);
+            borrowing.setDecidedAt(now);
+            borrowing.setBorrowedAt(now);
+            borrowing.setDueAt(dueAt(transfer, source));
+            opened.add(borrowing);
+        }
+        List<AssetBorrowing> saved = borrowingRepository.saveAll(opened);
+
+        for (AssetBorrowing borrowing : saved) {
+            int assetId = borrowing.getAsset().getAssetId();
+            AssetBorrowing source = sources.get(assetId);
+            // Timers only move once the transfer commits, so a rolled-back transfer keeps the source loan's timers
+            TransactionCallbacks.afterCommit(() -> {
+                dueDateScheduler.cancel(source.getBorrowingId());
+                dueDateScheduler.schedule(borrowing);
+            });
+            eventPublisher.publish(EventType.BORROWING, source.getBorrowingId(),
+                    source.getEmployee().getEmployeeId(), assetId, AssetBorrowing.Status.RETURNED.name());
+            eventPublisher.publish(EventType.BORROWING, borrowing.getBorrowingId(),
+                    borrowing.getEmployee().getEmployeeId(), assetId, borrowing.getStatus().name());
+            // The asset lock query skips the category so it does not lock category rows; load it for the response
+            assetRepository.initializeForResponse(borrowing.getAsset());
+        }
+        logger.info("Transferred {} assets", saved.size());
+        return saved;
+    }
+
+    // The target keeps the source loan's due date unless the transfer sets a new one
+    private static LocalDateTime dueAt(AssetTransferDto transfer, AssetBorrowing source) {
+        return transfer.getDueAt() != null ? transfer.getDueAt() : source.getDueAt();
+    }
+
+    // Every target must exist and still be able to sign in
+    private Map<Integer, Employee> loadTargets(Iterable<AssetTransferDto> transfers) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        transfers.forEach(t -> ids.add(t.getToEmployeeId()));
+        Map<Integer, Employee> targets = new HashMap<>();
+        employeeRepository.findAllById(ids).forEach(e -> targets.put(e.getEmployeeId(), e));
+        if (targets.size() != ids.size()) {
+            Set<Integer> missing = new LinkedHashSet<>(ids);
+            missing.removeAll(targets.keySet());
+            throw new ResourceNotFoundException("Employees not found with ids: " + missing);
+        }
+        for (Employee employee : targets.values()) {
+            if (!employee.isEnabled()) {
+                throw new BadRequestException("Employee " + employee.getEmployeeId() + " has been offboarded and cannot receive assets");
+            }
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,125 @@
+package com.hexaware.assetmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.hexaware.assetmanagement.dto.AttachmentDto;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestAttachment;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.exception.UnauthorizedException;
+import com.hexaware.assetmanagement.repository.IServiceRequestAttachmentRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.service.AttachmentStore.StoredBlob;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
+
+/** Business logic for service request attachments backed by the content-addressed store */
+@Service
+public class AttachmentServiceImp implements IAttachmentService {
+
+    @Autowired
+    private AttachmentStore attachmentStore;
+
+    @Autowired
+    private IServiceRequestAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentServiceImp.class);
+
+    // Stream the upload into the store, then record the reference; no transaction is held during the copy
+    @Override
+    public AttachmentDto upload(int serviceRequestId, String filename, String contentType, long contentLength,
+            InputStream content) throws IOException {
+        logger.info("Received attachment upload '{}' for service request {}", filename, serviceRequestId);
+        Employee caller = checkAccess(serviceRequestId);
+        String name = cleanFilename(filename);
+        if (contentLength > attachmentStore.getMaxBytes()) {
+            throw new BadRequestException("Attachment exceeds the maximum size of " + attachmentStore.getMaxBytes() + " bytes");
+        }
+
+        StoredBlob blob = attachmentStore.store(content);
+        if (blob.sizeBytes() == 0) {
+            throw new BadRequestException("Attachment is empty");
+        }
+        ServiceRequestAttachment attachment = attachmentRepository.save(new ServiceRequestAttachment(serviceRequestId,
+                blob.sha256(), name, cleanContentType(contentType), blob.sizeBytes(), caller.getEmployeeId(), LocalDateTime.now()));
+        logger.info("Attachment {} stored for service request {} ({} bytes, {})", attachment.getAttachmentId(),
+                serviceRequestId, blob.sizeBytes(), blob.deduplicated() ? "deduplicated" : "new blob");
+        return AttachmentDto.fromEntity(attachment, blob.deduplicated());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentDto> getAttachments(int serviceRequestId) {
+        logger.info("Received request to list attachments for service request {}", serviceRequestId);
+        checkAccess(serviceRequestId);
+        return attachmentRepository.findByServiceRequestIdOrderByAttachmentIdAsc(serviceRequestId).stream()
+                .map(a -> AttachmentDto.fromEntity(a, false))
+                .toList();
+    }
+
+    @Override
+    public AttachmentContent open(int serviceRequestId, int attachmentId) {
+        logger.info("Received request to download attachment {} of service request {}", attachmentId, serviceRequestId);
+        checkAccess(serviceRequestId);
+        ServiceRequestAttachment attachment = attachmentRepository.findByAttachmentIdAndServiceRequestId(attachmentId, serviceRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found with id " + attachmentId));
+        Path path = attachmentStore.resolve(attachment.getSha256());
+        if (!Files.isReadable(path)) {
+            logger.error("Blob {} for attachment {} is missing from the store", attachment.getSha256(), attachmentId);
+            throw new ResourceNotFoundException("Attachment content is no longer available");
+        }
+        return new AttachmentContent(attachment, path);
+    }
+
+    // Admins may see every request's attachments, employees only their own
+    private Employee checkAccess(int serviceRequestId) {
+        ServiceRequest serviceRequest = serviceRequestRepository.findById(serviceRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service Request not found with id " + serviceRequestId));
+        Employee caller = SecurityContextUtil.getCurrentUser();
+        if (caller.getRole() != Employee.Role.ADMIN
+                && serviceRequest.getEmployee().getEmployeeId() != caller.getEmployeeId()) {
+            logger.warn("Employee {} attempted to access attachments of service request {}", caller.getEmployeeId(), serviceRequestId);
+            throw new UnauthorizedException("You can only access attachments of your own service requests");
+        }
+        return caller;
+    }
+
+    private static String cleanFilename(String filename) {
+        if (filename == null || filename.isBlank()) {
+            throw new BadRequestException("Attachment filename is required");
+        }
+        String name = StringUtils.getFilename(StringUtils.cleanPath(filename.trim()));
+        if (name == null || name.isBlank() || name.equals("..")) {
+            throw new BadRequestException("Invalid attachment filename");
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private static String cleanContentType(String contentType) {
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            String value = type.getType() + "/" + type.getSubtype();
+            return value.length() <= 100 ? value : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (InvalidMediaTypeException | IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hexaware.assetmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.exception.BadRequestException;
+
+/**
+ * Content-addressed blob store on the local file system. Blobs are named by the
+ * SHA-256 of their content and sharded two levels deep (ab/cd/abcd...), so identical
+ * uploads are stored once and no directory grows past a few hundred entries.
+ * Uploads are hashed while they stream to a temporary file, then atomically renamed.
+ */
+@Service
+public class AttachmentStore {
+
+    public record StoredBlob(String sha256, long sizeBytes, boolean deduplicated) {}
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStore.class);
+
+    private final Path root;
+    private final Path tmp;
+    private final long maxBytes;
+
+    public AttachmentStore(@Value("${attachments.root:data/attachments}") String root,
+                           @Value("${attachments.max-bytes:26214400}") long maxBytes) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        // Same file system as the shards, so the final rename is atomic
+        this.tmp = this.root.resolve("tmp");
+        this.maxBytes = maxBytes;
+        Files.createDirectories(tmp);
+    }
+
+    // Stream the content to disk while hashing it; an identical blob is kept only once
+    public StoredBlob store(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        Path upload = tmp.resolve(UUID.randomUUID() + ".part");
+        long size = 0;
+        try {
+            try (OutputStream out = Files.newOutputStream(upload, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BadRequestException("Attachment exceeds the maximum size of " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(sha256);
+            if (Files.exists(target)) {
+                return new StoredBlob(sha256, size, true);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // A concurrent upload of the same content won the rename
+                return new StoredBlob(sha256, size, true);
+            }
+            logger.debug("Stored blob {} ({} bytes)", sha256, size);
+            return new StoredBlob(sha256, size, false);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    // Location of a blob; the hash is validated so it can never escape the store
+    public Path resolve(String sha256) {
+        if (sha256 == null || !SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Invalid blob hash: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.hexaware.assetmanagement.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.entity.AssetAudit;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+import com.hexaware.assetmanagement.entity.AuditCampaign.CampaignStatus;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.AuditTargetView;
+import com.hexaware.assetmanagement.repository.IAuditCampaignRepository;
+
+/**
+ * Background worker for audit campaigns.
+ * Selects all (employee, asset) targets with one set-based query, then writes the
+ * audits as chunked JDBC batch inserts, committing and reporting progress per chunk.
+ */
+@Component
+public class AuditCampaignRunner {
+
+    private static final String INSERT_AUDIT =
+            "INSERT INTO asset_audit (employee_id, asset_id, audit_status, requested_at, updated_at, campaign_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditCampaignRunner.class);
+
+    @Autowired
+    private IAuditCampaignRepository campaignRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${audit.campaign.batch-size:500}")
+    private int batchSize;
+
+    @Async
+    public void run(int campaignId) {
+        AuditCampaign campaign = campaignRepository.findById(campaignId).orElse(null);
+        if (campaign == null) {
+            logger.warn("Audit campaign {} disappeared before it could run", campaignId);
+            return;
+        }
+        try {
+            List<AuditTargetView> targets = selectTargets(campaign);
+            campaign.setStatus(CampaignStatus.RUNNING);
+            campaign.setTotalTargets(targets.size());
+            campaign = campaignRepository.save(campaign);
+            logger.info("Audit campaign {} generating {} audits", campaignId, targets.size());
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int created = 0;
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<AuditTargetView> chunk = targets.subList(from, Math.min(from + batchSize, targets.size()));
+                transactionTemplate.executeWithoutResult(status -> insertChunk(campaignId, chunk, now));
+                created += chunk.size();
+                campaign.setCreatedCount(created);
+                campaign = campaignRepository.save(campaign);
+            }
+
+            campaign.setStatus(CampaignStatus.COMPLETED);
+            campaign.setCompletedAt(LocalDateTime.now());
+            campaignRepository.save(campaign);
+            logger.info("Audit campaign {} completed with {} audits", campaignId, created);
+        } catch (Exception e) {
+            logger.error("Audit campaign {} failed: {}", campaignId, e.getMessage(), e);
+            campaign.setStatus(CampaignStatus.FAILED);
+            campaign.setErrorMessage(e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500) : e.getMessage());
+            campaign.setCompletedAt(LocalDateTime.now());
+            campaignRepository.save(campaign);
+        }
+    }
+
+    private List<AuditTargetView> selectTargets(AuditCampaign campaign) {
+        AssetBorrowing.Status active = AssetBorrowing.Status.ACTIVE;
+        AssetAudit.AuditStatus pending = AssetAudit.AuditStatus.PENDING;
+        switch (campaign.getScope()) {
+            case CATEGORY:
+                return borrowingRepository.findAuditTargetsByCategory(active, pending, campaign.getCategoryId());
+            case EMPLOYEES:
+                List<Integer> employeeIds = Arrays.stream(campaign.getEmployeeIds().split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toList());
+                return borrowingRepository.findAuditTargetsByEmployees(active, pending, employeeIds);
+            default:
+                return borrowingRepository.findAuditTargets(active, pending);
+        }
+    }
+
+    private void insertChunk(int campaignId, List<AuditTargetView> chunk, Timestamp now) {
+        jdbcTemplate.batchUpdate(INSERT_AUDIT, chunk, chunk.size(), (ps, target) -> {
+            ps.setInt(1, target.getEmployeeId());
+            ps.setInt(2, target.getAssetId());
+            ps.setString(3, AssetAudit.AuditStatus.PENDING.name());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setInt(6, campaignId);
+        });
+    }
+}
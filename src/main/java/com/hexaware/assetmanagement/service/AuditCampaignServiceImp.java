@@ -0,0 +1,86 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.dto.AuditCampaignRequestDto;
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAuditCampaignRepository;
+
+/** Business logic for starting and tracking audit campaigns */
+@Service
+public class AuditCampaignServiceImp implements IAuditCampaignService {
+
+    @Autowired
+    private IAuditCampaignRepository campaignRepository;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private AuditCampaignRunner campaignRunner;
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditCampaignServiceImp.class);
+
+    // Validate the scope, persist the campaign and hand it to the background runner
+    @Override
+    public AuditCampaign startCampaign(AuditCampaignRequestDto request) {
+        logger.info("Received request to start audit campaign with scope: {}", request.getScope());
+        AuditCampaign campaign = new AuditCampaign();
+        campaign.setScope(request.getScope());
+
+        switch (request.getScope()) {
+            case CATEGORY:
+                if (request.getCategoryId() == null || !categoryRepository.existsById(request.getCategoryId())) {
+                    throw new ResourceNotFoundException("Category not found with id: " + request.getCategoryId());
+                }
+                campaign.setCategoryId(request.getCategoryId());
+                break;
+            case EMPLOYEES:
+                if (request.getEmployeeIds() == null || request.getEmployeeIds().isEmpty()) {
+                    throw new BadRequestException("At least one employee is required for an EMPLOYEES campaign");
+                }
+                campaign.setEmployeeIds(request.getEmployeeIds().stream()
+                        .distinct()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")));
+                break;
+            default:
+                break;
+        }
+
+        // Saved in its own transaction so the runner thread can see it
+        AuditCampaign savedCampaign = campaignRepository.save(campaign);
+        campaignRunner.run(savedCampaign.getCampaignId());
+        logger.info("Audit campaign {} queued", savedCampaign.getCampaignId());
+        return savedCampaign;
+    }
+
+    // Fetch campaign progress by ID or throw not found exception
+    @Override
+    @Transactional(readOnly = true)
+    public AuditCampaign getCampaignById(int campaignId) {
+        logger.info("Received request to get audit campaign with ID: {}", campaignId);
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("Audit campaign not found with id: " + campaignId));
+    }
+
+    // List all campaigns, newest first
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditCampaign> getAllCampaigns() {
+        logger.info("Received request to get all audit campaigns");
+        List<AuditCampaign> campaigns = campaignRepository.findAllByOrderByCreatedAtDesc();
+        logger.info("Successfully retrieved {} audit campaigns", campaigns.size());
+        return campaigns;
+    }
+}
@@ -0,0 +1,157 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.AuditReminderView;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sends grouped reminders for aged PENDING audits and escalates them to admins
+ * after a deadline. Walks the (audit_status, requested_at) index in keyset-paged
+ * chunks and updates rows set-based, so finished history is never touched.
+ */
+@Service
+public class AuditEscalationEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditEscalationEngine.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private IAssetAuditRepository auditRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    // Reminder thresholds in hours since requestedAt, ascending
+    private final long[] reminderThresholdHours;
+    private final long escalationHours;
+    private final int chunkSize;
+
+    private final Timer runTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lastReminded = new AtomicLong();
+    private final AtomicLong lastEscalated = new AtomicLong();
+
+    public AuditEscalationEngine(MeterRegistry meterRegistry,
+            @Value("${audit.escalation.reminder-hours:72,168}") long[] reminderThresholdHours,
+            @Value("${audit.escalation.escalate-after-hours:336}") long escalationHours,
+            @Value("${audit.escalation.chunk-size:1000}") int chunkSize) {
+        this.reminderThresholdHours = reminderThresholdHours.clone();
+        Arrays.sort(this.reminderThresholdHours);
+        this.escalationHours = escalationHours;
+        this.chunkSize = chunkSize;
+        this.runTimer = Timer.builder("audit.escalation.run").description("Audit reminder/escalation run time")
+                .register(meterRegistry);
+        Gauge.builder("audit.escalation.backlog", backlog, AtomicLong::get)
+                .description("Pending audits at the last run").register(meterRegistry);
+        Gauge.builder("audit.escalation.reminded", lastReminded, AtomicLong::get)
+                .description("Audits reminded in the last run").register(meterRegistry);
+        Gauge.builder("audit.escalation.escalated", lastEscalated, AtomicLong::get)
+                .description("Audits escalated in the last run").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${audit.escalation.cron:0 0 * * * *}")
+    public void run() {
+        runTimer.record(() -> runAt(LocalDateTime.now()));
+    }
+
+    // One full pass; package-visible so it can be driven with a fixed clock
+    void runAt(LocalDateTime now) {
+        long started = System.nanoTime();
+        backlog.set(auditRepository.countByAuditStatus(AuditStatus.PENDING));
+        boolean escalationEnabled = escalationHours > 0;
+        if (reminderThresholdHours.length == 0 && !escalationEnabled) {
+            return;
+        }
+        long firstThreshold = reminderThresholdHours.length > 0 ? reminderThresholdHours[0] : escalationHours;
+        if (escalationEnabled) {
+            firstThreshold = Math.min(firstThreshold, escalationHours);
+        }
+        // Audits younger than the first threshold need nothing and are never read
+        LocalDateTime cutoff = now.minusHours(firstThreshold);
+        LocalDateTime escalateBefore = now.minusHours(escalationHours);
+
+        Map<Integer, List<Integer>> remindersByEmployee = new HashMap<>();
+        List<Integer> escalations = new ArrayList<>();
+        int reminded = 0;
+        int escalated = 0;
+
+        LocalDateTime afterRequestedAt = EPOCH;
+        int afterAuditId = 0;
+        List<AuditReminderView> chunk;
+        do {
+            chunk = auditRepository.findAgedPendingAudits(AuditStatus.PENDING, cutoff, afterRequestedAt, afterAuditId,
+                    reminderThresholdHours.length, PageRequest.of(0, chunkSize));
+            // Group by the reminder level each audit has now reached
+            Map<Integer, List<Integer>> byLevel = new TreeMap<>();
+            List<Integer> escalateNow = new ArrayList<>();
+            for (AuditReminderView audit : chunk) {
+                int level = reachedLevel(audit.getRequestedAt(), now);
+                if (level > audit.getReminderCount()) {
+                    byLevel.computeIfAbsent(level, l -> new ArrayList<>()).add(audit.getAuditId());
+                    remindersByEmployee.computeIfAbsent(audit.getEmployeeId(), e -> new ArrayList<>()).add(audit.getAuditId());
+                }
+                if (escalationEnabled && audit.getEscalatedAt() == null && !audit.getRequestedAt().isAfter(escalateBefore)) {
+                    escalateNow.add(audit.getAuditId());
+                }
+            }
+            for (Map.Entry<Integer, List<Integer>> entry : byLevel.entrySet()) {
+                reminded += auditRepository.markReminded(entry.getValue(), entry.getKey(), now, AuditStatus.PENDING);
+            }
+            if (!escalateNow.isEmpty()) {
+                escalated += auditRepository.markEscalated(escalateNow, now, AuditStatus.PENDING);
+                escalations.addAll(escalateNow);
+            }
+            if (!chunk.isEmpty()) {
+                AuditReminderView last = chunk.get(chunk.size() - 1);
+                afterRequestedAt = last.getRequestedAt();
+                afterAuditId = last.getAuditId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        // One grouped message per employee, one for admins
+        remindersByEmployee.forEach((employeeId, auditIds) ->
+                notificationService.notifyEmployee(employeeId, "You have pending asset audits awaiting your response", auditIds));
+        if (!escalations.isEmpty()) {
+            notificationService.notifyAdmins("Audits pending past the " + escalationHours + "h deadline", escalations);
+        }
+
+        lastReminded.set(reminded);
+        lastEscalated.set(escalated);
+        logger.info("Audit escalation run: backlog={}, reminded={} ({} employees), escalated={} in {} ms",
+                backlog.get(), reminded, remindersByEmployee.size(), escalated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    // Number of reminder thresholds an audit requested at the given time has passed
+    int reachedLevel(LocalDateTime requestedAt, LocalDateTime now) {
+        int level = 0;
+        for (long hours : reminderThresholdHours) {
+            if (!requestedAt.plusHours(hours).isAfter(now)) {
+                level++;
+            }
+        }
+        return level;
+    }
+}
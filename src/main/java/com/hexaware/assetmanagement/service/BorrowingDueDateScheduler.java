@@ -0,0 +1,123 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.DueTimerView;
+import com.hexaware.assetmanagement.util.HierarchicalTimingWheel;
+
+/**
+ * Fires due-date reminders and overdue transitions for active loans.
+ * Timers live in an in-memory hierarchical timing wheel rebuilt from the
+ * (status, due_at) index at startup, so no periodic scan of asset_borrowing is needed.
+ */
+@Service
+public class BorrowingDueDateScheduler {
+
+    public enum TimerKind { REMINDER, OVERDUE }
+
+    public record LoanTimer(int borrowingId, TimerKind kind) {}
+
+    private static final Logger logger = LoggerFactory.getLogger(BorrowingDueDateScheduler.class);
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Value("${borrowing.due.reminder-lead-hours:24}")
+    private long reminderLeadHours = 24;
+
+    private final HierarchicalTimingWheel<LoanTimer> wheel;
+
+    public BorrowingDueDateScheduler(@Value("${borrowing.due.tick-ms:1000}") long tickMs,
+                                     @Value("${borrowing.due.wheel-size:64}") int wheelSize) {
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    // Rebuild timers for every open loan with a due date
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<DueTimerView> open = borrowingRepository.findOpenDueTimers(AssetBorrowing.Status.ACTIVE);
+        for (DueTimerView view : open) {
+            scheduleTimers(view.getBorrowingId(), view.getDueAt(), view.getReminderSentAt() != null);
+        }
+        logger.info("Rebuilt due-date timers for {} active borrowings", open.size());
+    }
+
+    // Register reminder and overdue timers for a newly approved loan
+    public void schedule(AssetBorrowing borrowing) {
+        if (borrowing.getDueAt() != null) {
+            scheduleTimers(borrowing.getBorrowingId(), borrowing.getDueAt(), borrowing.getReminderSentAt() != null);
+        }
+    }
+
+    // Drop any timers for a loan that has been closed
+    public void cancel(int borrowingId) {
+        wheel.cancel(new LoanTimer(borrowingId, TimerKind.REMINDER));
+        wheel.cancel(new LoanTimer(borrowingId, TimerKind.OVERDUE));
+    }
+
+    public int getPendingTimerCount() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelayString = "${borrowing.due.tick-ms:1000}")
+    public void tick() {
+        List<LoanTimer> fired = wheel.advance(System.currentTimeMillis());
+        for (LoanTimer timer : fired) {
+            try {
+                fire(timer);
+            } catch (Exception e) {
+                logger.error("Failed to process {} timer for borrowing {}: {}", timer.kind(), timer.borrowingId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void scheduleTimers(int borrowingId, LocalDateTime dueAt, boolean reminderSent) {
+        long dueMs = toEpochMs(dueAt);
+        if (!reminderSent) {
+            long reminderMs = dueMs - Duration.ofHours(reminderLeadHours).toMillis();
+            LoanTimer reminder = new LoanTimer(borrowingId, TimerKind.REMINDER);
+            if (!wheel.schedule(reminder, reminderMs)) {
+                fire(reminder);
+            }
+        }
+        LoanTimer overdue = new LoanTimer(borrowingId, TimerKind.OVERDUE);
+        if (!wheel.schedule(overdue, dueMs)) {
+            fire(overdue);
+        }
+    }
+
+    private void fire(LoanTimer timer) {
+        LocalDateTime now = LocalDateTime.now();
+        if (timer.kind() == TimerKind.REMINDER) {
+            if (borrowingRepository.markReminderSent(timer.borrowingId(), AssetBorrowing.Status.ACTIVE, now) == 1) {
+                logger.info("Borrowing {} is due within {} hours, reminder sent", timer.borrowingId(), reminderLeadHours);
+                eventPublisher.publish(EventType.BORROWING, timer.borrowingId(), null, null, "DUE_SOON");
+            }
+        } else if (borrowingRepository.markOverdue(timer.borrowingId(), AssetBorrowing.Status.ACTIVE, now) == 1) {
+            logger.warn("Borrowing {} is now overdue", timer.borrowingId());
+            eventPublisher.publish(EventType.BORROWING, timer.borrowingId(), null, null, "OVERDUE");
+        }
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,263 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves terminal workflow rows (returned/rejected loans, decided audits, completed
+ * service requests) older than a per-table threshold into {@code <table>_archive}
+ * twins, so the hot tables only hold rows the workflow queries still care about.
+ * Runs nightly in keyset-ordered chunks, each moved in its own transaction, and
+ * paces itself to stay under a rows-per-second budget. With archive.enabled=false the
+ * bean is not created at all, so its MySQL-only startup DDL never runs.
+ */
+@Service
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ColdStorageArchiver {
+
+    /** A hot table, the terminal states that may leave it and the expression that dates them */
+    record ArchiveTarget(String table, String idColumn, String statusColumn, List<String> terminalStates,
+                         String agedSince, int afterDays) {
+
+        String archiveTable() {
+            return table + "_archive";
+        }
+    }
+
+    public record ArchiveRunResult(Map<String, Integer> movedRows, boolean budgetExhausted) {}
+
+    private static final Logger logger = LoggerFactory.getLogger(ColdStorageArchiver.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${archive.borrowing-after-days:180}")
+    private int borrowingAfterDays = 180;
+
+    @Value("${archive.audit-after-days:180}")
+    private int auditAfterDays = 180;
+
+    // Must stay above maintenance.window-days, which reads completed repairs from service_request
+    @Value("${archive.service-request-after-days:400}")
+    private int serviceRequestAfterDays = 400;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${archive.max-rows-per-second:1000}")
+    private int maxRowsPerSecond = 1000;
+
+    @Value("${archive.max-run-ms:900000}")
+    private long maxRunMs = 900000L;
+
+    private final Map<String, List<String>> hotColumns = new LinkedHashMap<>();
+
+    List<ArchiveTarget> targets() {
+        return List.of(
+            new ArchiveTarget("asset_borrowing", "borrowing_id", "status", List.of("RETURNED", "REJECTED"),
+                    "COALESCE(returned_at, decided_at, borrowed_at)", borrowingAfterDays),
+            new ArchiveTarget("asset_audit", "audit_id", "audit_status", List.of("VERIFIED", "REJECTED"),
+                    "COALESCE(updated_at, requested_at)", auditAfterDays),
+            // Aged from the latest completion, so a long-running or reopened request is not archived early;
+            // requests completed before transitions were recorded fall back to their filing time
+            new ArchiveTarget("service_request", "service_request_id", "status", List.of("Completed"),
+                    "COALESCE((SELECT MAX(t.changed_at) FROM service_request_transition t"
+                    + " WHERE t.service_request_id = service_request.service_request_id AND t.to_status = 'Completed'),"
+                    + " requested_at)", serviceRequestAfterDays));
+    }
+
+    // Create the archive twins, and carry over any columns added to the hot tables since
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureArchiveTables() {
+        for (ArchiveTarget target : targets()) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + target.archiveTable() + " LIKE " + target.table());
+            Map<String, String> hot = columnTypes(target.table());
+            Set<String> archived = columnTypes(target.archiveTable()).keySet();
+            for (Map.Entry<String, String> column : hot.entrySet()) {
+                if (!archived.contains(column.getKey())) {
+                    jdbcTemplate.execute("ALTER TABLE " + target.archiveTable() + " ADD COLUMN `"
+                            + column.getKey() + "` " + column.getValue() + " NULL");
+                    logger.info("Added column {} to {}", column.getKey(), target.archiveTable());
+                }
+            }
+            synchronized (hotColumns) {
+                hotColumns.put(target.table(), new ArrayList<>(hot.keySet()));
+            }
+        }
+    }
+
+    @Scheduled(cron = "${archive.cron:0 0 4 * * *}")
+    public void nightlyArchive() {
+        try {
+            archive();
+        } catch (Exception e) {
+            logger.error("Archive run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // One pass over every target, stopping early when the run budget is spent
+    public ArchiveRunResult archive() {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + maxRunMs;
+        Map<String, Integer> moved = new LinkedHashMap<>();
+        boolean exhausted = false;
+        for (ArchiveTarget target : targets()) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(target.afterDays());
+            int total = 0;
+            int lastId = 0;
+            while (true) {
+                if (System.currentTimeMillis() >= deadline) {
+                    exhausted = true;
+                    break;
+                }
+                long chunkStart = System.currentTimeMillis();
+                List<Integer> ids = findCandidates(target, cutoff, lastId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                total += moveChunk(target, ids, cutoff);
+                lastId = ids.get(ids.size() - 1);
+                throttle(ids.size(), System.currentTimeMillis() - chunkStart);
+            }
+            moved.put(target.table(), total);
+            if (exhausted) {
+                break;
+            }
+        }
+        logger.info("Archived {} in {} ms{}", moved, System.currentTimeMillis() - startedAt,
+                exhausted ? " (run budget exhausted, continuing tomorrow)" : "");
+        return new ArchiveRunResult(moved, exhausted);
+    }
+
+    // Move every row that references a soft-deleted asset, whatever its state, before the asset itself is purged
+    public int archiveAsset(int assetId) {
+        return archiveReferencing("asset_id", assetId);
+    }
+
+    // Same for an offboarded employee's loans, audits and service requests
+    public int archiveEmployee(int employeeId) {
+        return archiveReferencing("employee_id", employeeId);
+    }
+
+    int archiveReferencing(String column, int id) {
+        int total = 0;
+        for (ArchiveTarget target : targets()) {
+            while (true) {
+                long chunkStart = System.currentTimeMillis();
+                List<Integer> ids = jdbcTemplate.queryForList("SELECT " + target.idColumn() + " FROM " + target.table()
+                        + " WHERE " + column + " = ? ORDER BY " + target.idColumn() + " LIMIT ?",
+                        Integer.class, id, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                total += moveChunk(target, ids, null);
+                throttle(ids.size(), System.currentTimeMillis() - chunkStart);
+            }
+        }
+        return total;
+    }
+
+    // Walks the primary key so rows that are terminal but not yet old enough are skipped once per run
+    List<Integer> findCandidates(ArchiveTarget target, LocalDateTime cutoff, int afterId) {
+        return jdbcTemplate.queryForList("SELECT " + target.idColumn() + " FROM " + target.table()
+                + " WHERE " + target.idColumn() + " > ? AND " + archivable(target) + " ORDER BY " + target.idColumn() + " LIMIT ?",
+                Integer.class, afterId, cutoff, chunkSize);
+    }
+
+    // Copy then delete in one transaction so a row is never in both tables or neither. With a cutoff the
+    // candidates are locked and filtered again first, so a row reopened since findCandidates stays hot
+    int moveChunk(ArchiveTarget target, List<Integer> ids, LocalDateTime cutoff) {
+        String columns = columnsOf(target).stream().map(c -> "`" + c + "`").collect(Collectors.joining(", "));
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Integer> movable = cutoff == null ? ids : lockArchivable(target, ids, cutoff);
+            if (movable.isEmpty()) {
+                return 0;
+            }
+            String in = placeholders(movable.size());
+            Object[] args = movable.toArray();
+            jdbcTemplate.update("INSERT INTO " + target.archiveTable() + " (" + columns + ") SELECT " + columns
+                    + " FROM " + target.table() + " WHERE " + target.idColumn() + " IN (" + in + ")", args);
+            return jdbcTemplate.update("DELETE FROM " + target.table() + " WHERE " + target.idColumn()
+                    + " IN (" + in + ")", args);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    // The candidates that are still terminal and old enough, locked until the chunk commits
+    List<Integer> lockArchivable(ArchiveTarget target, List<Integer> ids, LocalDateTime cutoff) {
+        Object[] args = new Object[ids.size() + 1];
+        ids.toArray(args);
+        args[ids.size()] = cutoff;
+        return jdbcTemplate.queryForList("SELECT " + target.idColumn() + " FROM " + target.table()
+                + " WHERE " + target.idColumn() + " IN (" + placeholders(ids.size()) + ") AND " + archivable(target)
+                + " FOR UPDATE", Integer.class, args);
+    }
+
+    // Terminal and older than the cutoff bound to the following parameter
+    private static String archivable(ArchiveTarget target) {
+        String states = target.terminalStates().stream().map(s -> "'" + s + "'").collect(Collectors.joining(","));
+        return target.statusColumn() + " IN (" + states + ") AND " + target.agedSince() + " < ?";
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    // Sleep off whatever is left of the time these rows are allowed to take
+    long pauseMs(int rows, long elapsedMs) {
+        return Math.max(0, rows * 1000L / maxRowsPerSecond - elapsedMs);
+    }
+
+    private void throttle(int rows, long elapsedMs) {
+        long pause = pauseMs(rows, elapsedMs);
+        if (pause > 0) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<String> columnsOf(ArchiveTarget target) {
+        synchronized (hotColumns) {
+            List<String> columns = hotColumns.get(target.table());
+            if (columns == null) {
+                columns = new ArrayList<>(columnTypes(target.table()).keySet());
+                hotColumns.put(target.table(), columns);
+            }
+            return columns;
+        }
+    }
+
+    private Map<String, String> columnTypes(String table) {
+        Map<String, String> types = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT COLUMN_NAME, COLUMN_TYPE FROM information_schema.COLUMNS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION",
+                rs -> {
+                    types.put(rs.getString("COLUMN_NAME"), rs.getString("COLUMN_TYPE"));
+                }, table);
+        return types;
+    }
+}
@@ -0,0 +1,98 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Finishes what a soft delete starts. Retired assets keep their row (hidden by the
+ * Asset filter) until this purger has moved their borrowings, audits and service
+ * requests into the archive tables in small throttled chunks; only then is the asset
+ * row itself deleted, so no single statement cascades across the workflow tables.
+ * Like the archiver it feeds, it only exists while archive.enabled is on.
+ */
+@Service
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true", matchIfMissing = true)
+public class DeletedAssetPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeletedAssetPurger.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ColdStorageArchiver archiver;
+
+    @Autowired
+    private PreventiveMaintenanceScheduler maintenanceScheduler;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
+
+    @Value("${asset.purge.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${asset.purge.batch-assets:50}")
+    private int batchAssets = 50;
+
+    @Scheduled(fixedDelayString = "${asset.purge.interval-ms:60000}")
+    public void purgeDeleted() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int purged = purge();
+            if (purged > 0) {
+                logger.info("Purged {} soft-deleted assets", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Asset purge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // One batch of retired assets; the rest are picked up on the next run
+    public int purge() {
+        int purged = 0;
+        for (int assetId : findDeleted()) {
+            int archived = archiver.archiveAsset(assetId);
+            if (purgeAsset(assetId)) {
+                purged++;
+                logger.info("Purged asset {} after archiving {} dependent rows", assetId, archived);
+            }
+        }
+        return purged;
+    }
+
+    // Plain JDBC, so the soft-delete filter does not hide the rows this needs to see
+    List<Integer> findDeleted() {
+        return jdbcTemplate.queryForList("SELECT asset_id FROM asset WHERE deleted_at IS NOT NULL ORDER BY asset_id LIMIT ?",
+                Integer.class, batchAssets);
+    }
+
+    // Maintenance rows are derived state and bookings of a retired asset can never be honoured; both are dropped rather than archived
+    boolean purgeAsset(int assetId) {
+        Boolean deleted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM maintenance_task WHERE asset_id = ?", assetId);
+            jdbcTemplate.update("DELETE FROM asset_reliability WHERE asset_id = ?", assetId);
+            jdbcTemplate.update("DELETE FROM asset_reservation WHERE asset_id = ?", assetId);
+            boolean removed = jdbcTemplate.update("DELETE FROM asset WHERE asset_id = ? AND deleted_at IS NOT NULL", assetId) == 1;
+            if (removed) {
+                maintenanceScheduler.forget(assetId);
+                reservationCalendar.forgetAsset(assetId);
+            }
+            return removed;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+}
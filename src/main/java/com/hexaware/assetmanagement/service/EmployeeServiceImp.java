@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hexaware.assetmanagement.dto.EmployeeDto;
 import com.hexaware.assetmanagement.dto.EmployeeDto.GenderDTO;
@@ -18,8 +19,6 @@ import com.hexaware.assetmanagement.exception.ResourceAlreadyExistsException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.repository.IEmployeeRepository;
 
-import jakarta.transaction.Transactional;
-
 /** Business logic for employee management operations */
 @Service
 public class EmployeeServiceImp implements IEmployeeService {
@@ -58,6 +57,7 @@ public class EmployeeServiceImp implements IEmployeeService {
 	
 	// Fetch employee by ID or throw not found exception
 	@Override
+	@Transactional(readOnly = true)
 	public Employee getEmployeeById(int employeeId) {
 		logger.info("Received request to get employee with ID: {}", employeeId);
 		Employee employee = employeeRepository.findById(employeeId)
@@ -118,6 +118,7 @@ public class EmployeeServiceImp implements IEmployeeService {
 
 	// Retrieve all employees from the database
 	@Override
+	@Transactional(readOnly = true)
 	public List<Employee> getAllEmployee() {
 		logger.info("Received request to get all employees");
 		List<Employee> employee = employeeRepository.findAll();
@@ -8,7 +8,8 @@ import com.hexaware.assetmanagement.entity.AssetAudit;
 public interface IAssetAuditService {
 	public AssetAudit sendAudit(int employeeId, int assetId);
 	public AssetAuditDto decideAudit(int auditId, int employeeId, String action);
-	public List<AssetAudit> getAuditsByEmployee(int employeeId);
+	public List<AssetAuditDto> decideAudits(List<Integer> auditIds, int employeeId, String action);
+	public List<AssetAudit> getAuditsByEmployee(int employeeId, boolean includeArchived);
 	public List<AssetAudit> getAllAudits();
 	public AssetAudit getAuditById(int auditId);
 }
@@ -9,9 +9,10 @@ public interface IAssetBorrowingService {
 	public AssetBorrowing requestBorrow(int employeeId, int assetId);
 	public AssetBorrowing processBorrowingAction(int borrowingId, BorrowingActionDto actionDto);
 	public AssetBorrowing returnAsset(int borrowingId);
-	public List<AssetBorrowing> getBorrowingsByEmployee(int employeeId);
+	public List<AssetBorrowing> getBorrowingsByEmployee(int employeeId, boolean includeArchived);
 	public List<AssetBorrowing> getAllActiveBorrowings();
 	public List<AssetBorrowing> getAllPendingBorrowings();
 	public List<AssetBorrowing> getAllRejectedBorrowings();
 	public List<AssetBorrowing> getAllReturnedBorrowings();
+	public List<AssetBorrowing> getOverdueBorrowings();
 }
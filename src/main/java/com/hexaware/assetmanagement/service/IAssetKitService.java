@@ -0,0 +1,14 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.AssetKitDto;
+import com.hexaware.assetmanagement.dto.KitBorrowDto;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+
+public interface IAssetKitService {
+	public AssetKitDto createKit(AssetKitDto dto);
+	public List<AssetKitDto> getKits();
+	public void deleteKit(int kitId);
+	public List<AssetBorrowing> borrowKit(int kitId, KitBorrowDto dto);
+}
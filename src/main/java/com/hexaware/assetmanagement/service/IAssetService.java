@@ -14,4 +14,5 @@ public interface IAssetService {
     public List<Asset> getAllAssets();
     public List<Asset> getAssetsByCategory(AssetCategory categoryName);
     public void deleteAsset(Integer assetId);
+    public int retireAssets(List<Integer> assetIds);
 }
@@ -0,0 +1,11 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.AssetTransferDto;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+
+public interface IAssetTransferService {
+	public AssetBorrowing transferAsset(AssetTransferDto transfer);
+	public List<AssetBorrowing> transferAssets(List<AssetTransferDto> transfers);
+}
@@ -0,0 +1,18 @@
+package com.hexaware.assetmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.AttachmentDto;
+import com.hexaware.assetmanagement.entity.ServiceRequestAttachment;
+
+public interface IAttachmentService {
+
+	public record AttachmentContent(ServiceRequestAttachment attachment, Path path) {}
+
+	public AttachmentDto upload(int serviceRequestId, String filename, String contentType, long contentLength, InputStream content) throws IOException;
+	public List<AttachmentDto> getAttachments(int serviceRequestId);
+	public AttachmentContent open(int serviceRequestId, int attachmentId);
+}
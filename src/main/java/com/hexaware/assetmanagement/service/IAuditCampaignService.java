@@ -0,0 +1,12 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.AuditCampaignRequestDto;
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+
+public interface IAuditCampaignService {
+	public AuditCampaign startCampaign(AuditCampaignRequestDto request);
+	public AuditCampaign getCampaignById(int campaignId);
+	public List<AuditCampaign> getAllCampaigns();
+}
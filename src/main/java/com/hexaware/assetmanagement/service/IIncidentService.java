@@ -0,0 +1,13 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.IncidentDto;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+
+public interface IIncidentService {
+	public Integer groupIfDuplicate(ServiceRequest serviceRequest);
+	public List<IncidentDto> getOpenIncidents();
+	public IncidentDto getIncident(int incidentId);
+	public IncidentDto updateIncidentStatus(int incidentId, ServiceRequest.Status status);
+}
@@ -0,0 +1,20 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.MaintenanceTaskDto;
+import com.hexaware.assetmanagement.entity.AssetReliability;
+import com.hexaware.assetmanagement.service.PreventiveMaintenanceScheduler.RecomputeResult;
+
+public interface IMaintenanceService {
+
+    List<MaintenanceTaskDto> getOpenTasks();
+
+    List<MaintenanceTaskDto> getTasksForAsset(int assetId);
+
+    MaintenanceTaskDto completeTask(int taskId);
+
+    AssetReliability getReliability(int assetId);
+
+    RecomputeResult recompute();
+}
@@ -0,0 +1,7 @@
+package com.hexaware.assetmanagement.service;
+
+import com.hexaware.assetmanagement.dto.OffboardingResultDto;
+
+public interface IOffboardingService {
+	public OffboardingResultDto offboardEmployee(int employeeId);
+}
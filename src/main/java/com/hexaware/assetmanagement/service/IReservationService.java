@@ -0,0 +1,16 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.ReservationRequestDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+
+public interface IReservationService {
+	public AssetReservation reserve(ReservationRequestDto dto);
+	public AssetReservation cancelReservation(int reservationId);
+	public Asset findAvailableAsset(int categoryId, LocalDateTime startAt, LocalDateTime endAt);
+	public List<AssetReservation> getReservationsForAsset(int assetId);
+	public List<AssetReservation> getReservationsByEmployee(int employeeId);
+}
@@ -0,0 +1,13 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.ScanSessionDto;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto;
+
+public interface IScanReconciliationService {
+	public ScanSessionDto openSession(ScanSessionRequestDto request);
+	public ScanSessionDto addScans(String sessionId, List<Integer> assetIds);
+	public ScanSessionDto closeSession(String sessionId);
+	public ScanSessionDto getSession(String sessionId);
+}
@@ -2,14 +2,19 @@ package com.hexaware.assetmanagement.service;
 
 import java.util.List;
 
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto;
 import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
 
 public interface IServiceRequestService {
 
 	ServiceRequest createServiceRequest(int employeeId, int assetId, ServiceRequest.IssueType issueType, String Description);
 	ServiceRequest getServiceRequestById(int serviceRequestId);
-	ServiceRequest updateServiceRequestStatus(int serviceRequestId, ServiceRequest.Status status);
-	List<ServiceRequest> getServiceRequestsByEmployee(int employeeId);
+	ServiceRequest updateServiceRequestStatus(int serviceRequestId, ServiceRequest.Status status, Long expectedVersion,
+			ServiceRequest.IssueType resolvedIssueType);
+	List<ServiceRequestTransition> getStatusHistory(int serviceRequestId);
+	List<ServiceRequest> getServiceRequestsByEmployee(int employeeId, boolean includeArchived);
 	List<ServiceRequest> getAllServiceRequests();
 	List<ServiceRequest> findByStatus(ServiceRequest.Status status);
+	List<ServiceRequestQueueItemDto> getQueue(int limit);
 }
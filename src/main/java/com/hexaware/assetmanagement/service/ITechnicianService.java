@@ -0,0 +1,16 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.hexaware.assetmanagement.dto.TechnicianProfileDto;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+
+public interface ITechnicianService {
+	public TechnicianProfileDto saveProfile(int employeeId, TechnicianProfileDto dto);
+	public List<TechnicianProfileDto> getTechnicians();
+	public Optional<ServiceRequest> claimNext(int technicianId);
+	public ServiceRequest assign(int serviceRequestId, int technicianId);
+	public List<ServiceRequest> getAssignedRequests(int technicianId);
+	public void dispatch(ServiceRequest serviceRequest);
+}
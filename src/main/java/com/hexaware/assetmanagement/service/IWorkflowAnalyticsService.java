@@ -0,0 +1,10 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import com.hexaware.assetmanagement.dto.WorkflowLatencyDto;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+
+public interface IWorkflowAnalyticsService {
+	public List<WorkflowLatencyDto> getWorkflowLatency(Metric metric, int weeks, boolean merge);
+}
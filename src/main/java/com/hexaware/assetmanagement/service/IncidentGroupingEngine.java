@@ -0,0 +1,207 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.GroupingView;
+import com.hexaware.assetmanagement.util.MinHasher;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Sliding-window MinHash/LSH index of recently filed open service requests.
+ * A new request is compared only against requests of the same issue type that share
+ * an LSH band with it, so duplicate lookup stays a few hash probes regardless of volume.
+ */
+@Service
+public class IncidentGroupingEngine {
+
+    public record Fingerprint(IssueType issueType, int[] signature, long[] bandKeys) {}
+
+    public record Match(int serviceRequestId, Integer incidentId, double similarity) {}
+
+    private static final class Entry {
+        private final int serviceRequestId;
+        private final Fingerprint fingerprint;
+        private final long filedAtMs;
+        private Integer incidentId;
+        private boolean removed;
+
+        private Entry(int serviceRequestId, Fingerprint fingerprint, long filedAtMs, Integer incidentId) {
+            this.serviceRequestId = serviceRequestId;
+            this.fingerprint = fingerprint;
+            this.filedAtMs = filedAtMs;
+            this.incidentId = incidentId;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentGroupingEngine.class);
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    private final MinHasher hasher;
+    private final Duration window;
+    private final double threshold;
+
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    // Filing order, so expired entries are evicted from the head
+    private final Deque<Entry> byTime = new ArrayDeque<>();
+
+    public IncidentGroupingEngine(@Value("${incident.window-minutes:120}") long windowMinutes,
+                                  @Value("${incident.similarity-threshold:0.6}") double threshold,
+                                  @Value("${incident.shingle-size:4}") int shingleSize,
+                                  @Value("${incident.lsh-bands:16}") int bands,
+                                  @Value("${incident.lsh-rows:4}") int rows) {
+        this.hasher = new MinHasher(shingleSize, bands, rows, 0x5eedL);
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.threshold = threshold;
+    }
+
+    // Re-index open requests filed within the window
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<GroupingView> recent = serviceRequestRepository.findRecentForGrouping(LocalDateTime.now().minus(window), Status.Completed);
+        for (GroupingView view : recent) {
+            add(view.getServiceRequestId(), fingerprint(view.getIssueType(), view.getDescription()),
+                toEpochMs(view.getRequestedAt()), view.getIncidentId());
+        }
+        logger.info("Rebuilt duplicate-detection index with {} recent service requests", recent.size());
+    }
+
+    public Fingerprint fingerprint(IssueType issueType, String description) {
+        int[] signature = hasher.signature(description);
+        long[] bandKeys = hasher.bandKeys(signature);
+        // Requests of different issue types never share a bucket
+        for (int i = 0; i < bandKeys.length; i++) {
+            bandKeys[i] = bandKeys[i] * 31 + issueType.ordinal();
+        }
+        return new Fingerprint(issueType, signature, bandKeys);
+    }
+
+    // Most similar indexed request within the window, or null when none reaches the threshold
+    public synchronized Match findDuplicate(Fingerprint fingerprint, LocalDateTime filedAt) {
+        long nowMs = toEpochMs(filedAt);
+        evict(nowMs);
+        Set<Entry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Entry best = null;
+        double bestSimilarity = threshold;
+        for (long key : fingerprint.bandKeys()) {
+            for (Entry candidate : buckets.getOrDefault(key, List.of())) {
+                if (!seen.add(candidate) || candidate.fingerprint.issueType() != fingerprint.issueType()
+                        || nowMs - candidate.filedAtMs > window.toMillis()) {
+                    continue;
+                }
+                double similarity = MinHasher.similarity(fingerprint.signature(), candidate.fingerprint.signature());
+                // Prefer joining an existing incident over starting a new one when equally similar
+                if (similarity > bestSimilarity || (similarity == bestSimilarity
+                        && (best == null || (best.incidentId == null && candidate.incidentId != null)))) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best == null ? null : new Match(best.serviceRequestId, best.incidentId, bestSimilarity);
+    }
+
+    // Index a newly filed request once the surrounding transaction commits
+    public void index(int serviceRequestId, Fingerprint fingerprint, LocalDateTime filedAt, Integer incidentId) {
+        TransactionCallbacks.afterCommit(() -> add(serviceRequestId, fingerprint, toEpochMs(filedAt), incidentId));
+    }
+
+    // Record that the given requests now belong to an incident
+    public void markGrouped(Collection<Integer> serviceRequestIds, int incidentId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                for (Integer id : serviceRequestIds) {
+                    Entry entry = entries.get(id);
+                    if (entry != null) {
+                        entry.incidentId = incidentId;
+                    }
+                }
+            }
+        });
+    }
+
+    // Stop matching against requests that have been completed
+    public void remove(Collection<Integer> serviceRequestIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                for (Integer id : serviceRequestIds) {
+                    Entry entry = entries.remove(id);
+                    if (entry != null) {
+                        entry.removed = true;
+                        unlink(entry);
+                    }
+                }
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void add(int serviceRequestId, Fingerprint fingerprint, long filedAtMs, Integer incidentId) {
+        Entry entry = new Entry(serviceRequestId, fingerprint, filedAtMs, incidentId);
+        Entry previous = entries.put(serviceRequestId, entry);
+        if (previous != null) {
+            previous.removed = true;
+            unlink(previous);
+        }
+        for (long key : fingerprint.bandKeys()) {
+            buckets.computeIfAbsent(key, k -> new ArrayList<>(2)).add(entry);
+        }
+        byTime.addLast(entry);
+    }
+
+    private void evict(long nowMs) {
+        long cutoff = nowMs - window.toMillis();
+        Entry head;
+        while ((head = byTime.peekFirst()) != null && (head.removed || head.filedAtMs < cutoff)) {
+            byTime.pollFirst();
+            if (!head.removed) {
+                entries.remove(head.serviceRequestId, head);
+                unlink(head);
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (long key : entry.fingerprint.bandKeys()) {
+            List<Entry> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
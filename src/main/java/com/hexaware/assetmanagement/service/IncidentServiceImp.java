@@ -0,0 +1,205 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.dto.IncidentDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Incident;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IIncidentRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.IncidentChildView;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.IncidentMemberView;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.service.IncidentGroupingEngine.Fingerprint;
+import com.hexaware.assetmanagement.service.IncidentGroupingEngine.Match;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
+
+/** Groups likely duplicate service requests into incidents and moves them together */
+@Service
+public class IncidentServiceImp implements IIncidentService {
+
+    @Autowired
+    private IIncidentRepository incidentRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Autowired
+    private IncidentGroupingEngine groupingEngine;
+
+    @Autowired
+    private ServiceRequestSlaEngine slaEngine;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private WorkflowLatencyRecorder latencyRecorder;
+
+    @Autowired
+    private PreventiveMaintenanceScheduler maintenanceScheduler;
+
+    private static final Logger logger = LoggerFactory.getLogger(IncidentServiceImp.class);
+
+    // Attach a newly saved request to the incident of its closest recent duplicate, if any
+    @Override
+    @Transactional
+    public Integer groupIfDuplicate(ServiceRequest serviceRequest) {
+        int serviceRequestId = serviceRequest.getServiceRequestId();
+        Fingerprint fingerprint = groupingEngine.fingerprint(serviceRequest.getIssueType(), serviceRequest.getDescription());
+        Match match = groupingEngine.findDuplicate(fingerprint, serviceRequest.getRequestedAt());
+        if (match == null) {
+            groupingEngine.index(serviceRequestId, fingerprint, serviceRequest.getRequestedAt(), null);
+            return null;
+        }
+
+        Integer incidentId = match.incidentId();
+        if (incidentId == null) {
+            Incident incident = incidentRepository.save(new Incident(serviceRequest.getIssueType(),
+                    serviceRequest.getDescription(), serviceRequest.getRequestedAt()));
+            if (serviceRequestRepository.attachToIncident(match.serviceRequestId(), incident.getIncidentId()) == 1) {
+                incidentId = incident.getIncidentId();
+                groupingEngine.markGrouped(List.of(match.serviceRequestId()), incidentId);
+                eventPublisher.publish(EventType.INCIDENT, incidentId, null, null, String.valueOf(incident.getStatus()));
+                logger.info("Opened incident {} for duplicate service requests {} and {}",
+                        incidentId, match.serviceRequestId(), serviceRequestId);
+            } else {
+                // A concurrent request grouped the match first; join its incident instead
+                incidentRepository.delete(incident);
+                incidentId = serviceRequestRepository.lockIncidentId(match.serviceRequestId());
+                if (incidentId == null) {
+                    // The match has left the table (archived or purged), so there is nothing to join
+                    logger.info("Duplicate {} of service request {} is gone; not grouping", match.serviceRequestId(), serviceRequestId);
+                    groupingEngine.remove(List.of(match.serviceRequestId()));
+                    groupingEngine.index(serviceRequestId, fingerprint, serviceRequest.getRequestedAt(), null);
+                    return null;
+                }
+            }
+        }
+        serviceRequest.setIncidentId(incidentId);
+        groupingEngine.index(serviceRequestId, fingerprint, serviceRequest.getRequestedAt(), incidentId);
+        logger.info("Service request {} grouped into incident {} (similarity {})",
+                serviceRequestId, incidentId, String.format("%.2f", match.similarity()));
+        return incidentId;
+    }
+
+    // Incidents that still have work outstanding, newest first
+    @Override
+    @Transactional(readOnly = true)
+    public List<IncidentDto> getOpenIncidents() {
+        logger.info("Received request to get open incidents");
+        List<Incident> incidents = incidentRepository.findByStatusInOrderByCreatedAtDesc(List.of(Status.Pending, Status.Transit));
+        List<IncidentDto> result = toDtos(incidents);
+        logger.info("Successfully retrieved {} open incidents", result.size());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentDto getIncident(int incidentId) {
+        logger.info("Received request to get incident with ID: {}", incidentId);
+        Incident incident = incidentRepository.findById(incidentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id " + incidentId));
+        return toDtos(List.of(incident)).get(0);
+    }
+
+    // Move the incident forward and propagate the change to every child in one statement
+    @Override
+    @Transactional
+    public IncidentDto updateIncidentStatus(int incidentId, Status status) {
+        logger.info("Received request to update incident {} to status {}", incidentId, status);
+        Incident incident = incidentRepository.findById(incidentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id " + incidentId));
+        Status current = incident.getStatus();
+        if (status == Status.Pending || !current.canTransitionTo(status)) {
+            throw new BadRequestException("Cannot change incident status from " + current + " to " + status
+                    + "; reopen individual service requests instead");
+        }
+
+        // Only children in the status the incident is leaving follow it; others keep their own state
+        List<IncidentChildView> children = serviceRequestRepository.findIncidentChildren(incidentId, current);
+        List<Integer> ids = new ArrayList<>(children.size());
+        children.forEach(child -> ids.add(child.getServiceRequestId()));
+        LocalDateTime now = LocalDateTime.now();
+        if (!ids.isEmpty()) {
+            int updated = serviceRequestRepository.updateIncidentChildren(incidentId, ids, current, status);
+            if (updated != ids.size()) {
+                throw new ConflictException("Some requests in the incident changed concurrently, please reload and try again");
+            }
+            int actorId = currentActorId();
+            List<ServiceRequestTransition> transitions = new ArrayList<>(children.size());
+            for (IncidentChildView child : children) {
+                LocalDateTime entered = child.getEnteredStatusAt() != null ? child.getEnteredStatusAt() : child.getRequestedAt();
+                transitions.add(new ServiceRequestTransition(child.getServiceRequestId(), current, status,
+                        actorId >= 0 ? actorId : child.getEmployeeId(), now, Math.max(0, Duration.between(entered, now).getSeconds())));
+                if (status == Status.Completed) {
+                    latencyRecorder.record(Metric.REPAIR_RESOLUTION, child.getIssueType().name(), child.getRequestedAt(), now);
+                    if (child.getIssueType() == IssueType.HARDWARE && child.getAssetId() != null) {
+                        maintenanceScheduler.recordRepair(child.getServiceRequestId(), child.getAssetId(), now);
+                    }
+                }
+                eventPublisher.publish(EventType.SERVICE_REQUEST, child.getServiceRequestId(),
+                        child.getEmployeeId(), child.getAssetId(), String.valueOf(status));
+            }
+            transitionRepository.saveAll(transitions);
+            slaEngine.trackStatus(ids, status);
+            if (status == Status.Completed) {
+                groupingEngine.remove(ids);
+            }
+        }
+
+        incident.setStatus(status);
+        incident.setUpdatedAt(now);
+        incidentRepository.save(incident);
+        eventPublisher.publish(EventType.INCIDENT, incidentId, null, null, String.valueOf(status));
+        logger.info("Incident {} moved from {} to {} with {} service requests", incidentId, current, status, ids.size());
+        return toDtos(List.of(incident)).get(0);
+    }
+
+    private List<IncidentDto> toDtos(List<Incident> incidents) {
+        Map<Integer, List<Integer>> members = new LinkedHashMap<>();
+        incidents.forEach(i -> members.put(i.getIncidentId(), new ArrayList<>()));
+        if (!members.isEmpty()) {
+            for (IncidentMemberView member : serviceRequestRepository.findIncidentMembers(members.keySet())) {
+                members.get(member.getIncidentId()).add(member.getServiceRequestId());
+            }
+        }
+        List<IncidentDto> result = new ArrayList<>(incidents.size());
+        for (Incident incident : incidents) {
+            result.add(new IncidentDto(incident.getIncidentId(), incident.getIssueType(), incident.getStatus(),
+                    incident.getTitle(), incident.getCreatedAt(), incident.getUpdatedAt(), members.get(incident.getIncidentId())));
+        }
+        return result;
+    }
+
+    // Admin making the change, or -1 outside a request (the child's owner is recorded then)
+    private int currentActorId() {
+        try {
+            return SecurityContextUtil.getCurrentUserId();
+        } catch (IllegalStateException e) {
+            return -1;
+        }
+    }
+}
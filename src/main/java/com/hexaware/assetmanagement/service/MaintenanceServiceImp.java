@@ -0,0 +1,109 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.dto.MaintenanceTaskDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.AssetReliability;
+import com.hexaware.assetmanagement.entity.MaintenanceTask;
+import com.hexaware.assetmanagement.entity.MaintenanceTask.TaskStatus;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetReliabilityRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IMaintenanceTaskRepository;
+import com.hexaware.assetmanagement.service.PreventiveMaintenanceScheduler.RecomputeResult;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
+
+/** Lists and completes preventive maintenance tasks and exposes per-asset reliability */
+@Service
+public class MaintenanceServiceImp implements IMaintenanceService {
+
+    @Autowired
+    private IMaintenanceTaskRepository taskRepository;
+
+    @Autowired
+    private IAssetReliabilityRepository reliabilityRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private PreventiveMaintenanceScheduler maintenanceScheduler;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceServiceImp.class);
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaintenanceTaskDto> getOpenTasks() {
+        logger.info("Received request to get open maintenance tasks");
+        List<MaintenanceTaskDto> tasks = taskRepository.findByStatusOrderByCreatedAtAsc(TaskStatus.OPEN).stream()
+                .map(MaintenanceTaskDto::fromEntity)
+                .toList();
+        logger.info("Successfully retrieved {} open maintenance tasks", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaintenanceTaskDto> getTasksForAsset(int assetId) {
+        logger.info("Received request to get maintenance tasks for asset {}", assetId);
+        if (!assetRepository.existsById(assetId)) {
+            throw new ResourceNotFoundException("Asset not found with id " + assetId);
+        }
+        return taskRepository.findByAssetIdOrderByCreatedAtDesc(assetId).stream()
+                .map(MaintenanceTaskDto::fromEntity)
+                .toList();
+    }
+
+    // Close the task, release the borrowing hold and restart the asset's maintenance interval
+    @Override
+    @Transactional
+    public MaintenanceTaskDto completeTask(int taskId) {
+        logger.info("Received request to complete maintenance task {}", taskId);
+        MaintenanceTask task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Maintenance task not found with id " + taskId));
+        if (task.getStatus() != TaskStatus.OPEN) {
+            throw new BadRequestException("Maintenance task " + taskId + " is already " + task.getStatus());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedAt(now);
+        task.setCompletedBy(SecurityContextUtil.getCurrentUserId());
+        task = taskRepository.save(task);
+
+        assetRepository.setMaintenanceHold(task.getAssetId(), false);
+        AssetReliability reliability = maintenanceScheduler.recordMaintenance(task.getAssetId(), now);
+        eventPublisher.publish(EventType.MAINTENANCE, taskId, null, task.getAssetId(), String.valueOf(task.getStatus()));
+        logger.info("Maintenance task {} completed, asset {} released; next maintenance due {}",
+                taskId, task.getAssetId(), reliability.getNextMaintenanceDue());
+        return MaintenanceTaskDto.fromEntity(task);
+    }
+
+    // Failure statistics for an asset; an empty record when it has no repair history yet
+    @Override
+    @Transactional(readOnly = true)
+    public AssetReliability getReliability(int assetId) {
+        logger.info("Received request to get reliability for asset {}", assetId);
+        if (!assetRepository.existsById(assetId)) {
+            throw new ResourceNotFoundException("Asset not found with id " + assetId);
+        }
+        return reliabilityRepository.findById(assetId).orElseGet(() -> new AssetReliability(assetId));
+    }
+
+    @Override
+    public RecomputeResult recompute() {
+        logger.info("Received request to recompute asset reliability");
+        return maintenanceScheduler.recompute();
+    }
+}
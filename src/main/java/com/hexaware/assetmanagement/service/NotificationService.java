@@ -0,0 +1,28 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Delivers grouped notifications to employees and admins.
+ * There is no mail gateway yet, so messages are written to the application log;
+ * callers batch their items so each recipient gets one message per run.
+ */
+@Service
+public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    // One message to an employee covering all the listed items
+    public void notifyEmployee(int employeeId, String subject, Collection<Integer> itemIds) {
+        logger.info("Notify employee {}: {} ({} items: {})", employeeId, subject, itemIds.size(), itemIds);
+    }
+
+    // One message to the admin group covering all the listed items
+    public void notifyAdmins(String subject, Collection<Integer> itemIds) {
+        logger.warn("Notify admins: {} ({} items: {})", subject, itemIds.size(), itemIds);
+    }
+}
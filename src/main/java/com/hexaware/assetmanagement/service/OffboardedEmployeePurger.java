@@ -0,0 +1,109 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes offboarded employees once their grace period is over. Their loans, audits and
+ * service requests go to the archive tables in throttled chunks, requests they were
+ * assigned as a technician are detached in bounded batches, and only then is the
+ * employee row deleted, so the foreign-key cascades have nothing left to walk.
+ * Like the archiver it feeds, it only exists while archive.enabled is on.
+ */
+@Service
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OffboardedEmployeePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffboardedEmployeePurger.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ColdStorageArchiver archiver;
+
+    @Value("${offboarding.purge.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${offboarding.purge.after-days:30}")
+    private int afterDays = 30;
+
+    @Value("${offboarding.purge.batch-employees:20}")
+    private int batchEmployees = 20;
+
+    @Value("${offboarding.purge.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Scheduled(cron = "${offboarding.purge.cron:0 30 4 * * *}")
+    public void purgeOffboarded() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int purged;
+            do {
+                purged = purge();
+                if (purged > 0) {
+                    logger.info("Purged {} offboarded employees", purged);
+                }
+            } while (purged == batchEmployees);
+        } catch (Exception e) {
+            logger.error("Offboarded employee purge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // One batch of employees past their grace period
+    public int purge() {
+        int purged = 0;
+        for (int employeeId : findPurgeable(LocalDateTime.now().minusDays(afterDays))) {
+            int archived = archiver.archiveEmployee(employeeId);
+            int detached = detachAssignments(employeeId);
+            if (purgeEmployee(employeeId)) {
+                purged++;
+                logger.info("Purged employee {} after archiving {} rows and detaching {} assignments",
+                        employeeId, archived, detached);
+            }
+        }
+        return purged;
+    }
+
+    List<Integer> findPurgeable(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForList("SELECT employee_id FROM employee WHERE offboarded_at < ? ORDER BY employee_id LIMIT ?",
+                Integer.class, cutoff, batchEmployees);
+    }
+
+    // Other people's requests the employee worked on stay, just without an assignee
+    int detachAssignments(int employeeId) {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("UPDATE service_request SET assignee_id = NULL WHERE assignee_id = ? LIMIT ?",
+                    employeeId, chunkSize);
+            total += updated;
+        } while (updated == chunkSize);
+        return total;
+    }
+
+    boolean purgeEmployee(int employeeId) {
+        Boolean deleted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM technician_profile WHERE employee_id = ?", employeeId);
+            // Offboarding already cancelled these bookings
+            jdbcTemplate.update("DELETE FROM asset_reservation WHERE employee_id = ?", employeeId);
+            return jdbcTemplate.update("DELETE FROM employee WHERE employee_id = ? AND offboarded_at IS NOT NULL", employeeId) == 1;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+}
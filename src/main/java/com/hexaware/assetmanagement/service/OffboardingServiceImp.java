@@ -0,0 +1,195 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.config.RetryableTransaction;
+import com.hexaware.assetmanagement.dto.OffboardingResultDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.PendingAuditView;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.LoanView;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.RequestView;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.RequestRefView;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.repository.ITechnicianProfileRepository;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Closes out everything an employee has open in one transaction: active loans are
+ * returned and their assets freed, pending borrowings, audits and service requests are
+ * closed, a technician's open work goes back to the dispatch sweep, upcoming reservations
+ * are cancelled, and the account is disabled. All of it is set-based, so the cost does not
+ * grow with the employee's history; removing that history is left to OffboardedEmployeePurger.
+ */
+@Service
+public class OffboardingServiceImp implements IOffboardingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffboardingServiceImp.class);
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IAssetAuditRepository auditRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Autowired
+    private ITechnicianProfileRepository technicianProfileRepository;
+
+    @Autowired
+    private IAssetReservationRepository reservationRepository;
+
+    @Autowired
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private ServiceRequestSlaEngine slaEngine;
+
+    @Autowired
+    private IncidentGroupingEngine groupingEngine;
+
+    // Return, cancel and disable in one transaction; a second call for the same employee is rejected
+    @Override
+    @Transactional
+    @RetryableTransaction
+    public OffboardingResultDto offboardEmployee(int employeeId) {
+        logger.info("Received request to offboard employee with ID: {}", employeeId);
+        Employee employee = employeeRepository.findById(employeeId)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        if (employee.getOffboardedAt() != null) {
+            logger.warn("Employee {} was already offboarded at {}", employeeId, employee.getOffboardedAt());
+            throw new BadRequestException("Employee has already been offboarded");
+        }
+
+        // Disabling first takes the employee row lock, so concurrent offboardings of the same person serialize here
+        LocalDateTime now = LocalDateTime.now();
+        employee.setOffboardedAt(now);
+        employeeRepository.saveAndFlush(employee);
+
+        List<LoanView> loans = borrowingRepository.findLoansByEmployee(employeeId, AssetBorrowing.Status.ACTIVE);
+        List<Integer> loanAssetIds = loans.stream().map(LoanView::getAssetId).toList();
+        if (!loanAssetIds.isEmpty()) {
+            // Asset before loan, the order returnAsset and transfers take them in
+            assetRepository.lockAll(loanAssetIds);
+        }
+        int returned = borrowingRepository.returnAllForEmployee(employeeId,
+                AssetBorrowing.Status.ACTIVE, AssetBorrowing.Status.RETURNED, now);
+        int released = loanAssetIds.isEmpty() ? 0 : assetRepository.releaseAll(
+                loanAssetIds, Asset.Status.Borrowed, Asset.Status.Available);
+        List<RequestView> borrowings = borrowingRepository.findRequestsByEmployee(employeeId, AssetBorrowing.Status.PENDING);
+        int rejectedBorrowings = borrowings.isEmpty() ? 0 : borrowingRepository.rejectAll(
+                borrowings.stream().map(RequestView::getBorrowingId).toList(),
+                AssetBorrowing.Status.PENDING, AssetBorrowing.Status.REJECTED, now);
+        List<PendingAuditView> audits = auditRepository.findPendingByEmployee(employeeId, AuditStatus.PENDING);
+        int rejectedAudits = audits.isEmpty() ? 0 : auditRepository.rejectAll(
+                audits.stream().map(PendingAuditView::getAuditId).toList(), AuditStatus.PENDING, AuditStatus.REJECTED, now);
+        List<RequestRefView> requests = serviceRequestRepository.findRefsByEmployee(employeeId, ServiceRequest.Status.Pending);
+        List<Integer> requestIds = requests.stream().map(RequestRefView::getServiceRequestId).toList();
+        int closedRequests = requestIds.isEmpty() ? 0 : serviceRequestRepository.closeAll(requestIds,
+                ServiceRequest.Status.Pending, ServiceRequest.Status.Completed);
+        if (closedRequests != requestIds.size()) {
+            throw new ConflictException("Some of the employee's service requests changed concurrently, please try again");
+        }
+        if (!requestIds.isEmpty()) {
+            transitionRepository.saveAll(closingTransitions(requests, employeeId, now));
+            // Closed requests leave the SLA queue and duplicate detection once this commits
+            slaEngine.trackStatus(requestIds, ServiceRequest.Status.Completed);
+            groupingEngine.remove(requestIds);
+        }
+        int unassigned = serviceRequestRepository.unassignAll(employeeId, ServiceRequest.Status.Completed);
+        technicianProfileRepository.deactivate(employeeId);
+        List<Integer> reservations = reservationRepository.findUpcomingIdsByEmployee(employeeId, AssetReservation.Status.BOOKED, now);
+        int cancelledReservations = reservations.isEmpty() ? 0 : reservationRepository.cancelAllForEmployee(employeeId,
+                AssetReservation.Status.BOOKED, AssetReservation.Status.CANCELLED, now);
+
+        // The publisher defers to commit by itself, so events are queued here rather than from afterCommit
+        for (LoanView loan : loans) {
+            eventPublisher.publish(EventType.BORROWING, loan.getBorrowingId(), employeeId, loan.getAssetId(),
+                    AssetBorrowing.Status.RETURNED.name());
+        }
+        for (RequestView borrowing : borrowings) {
+            eventPublisher.publish(EventType.BORROWING, borrowing.getBorrowingId(), employeeId, borrowing.getAssetId(),
+                    AssetBorrowing.Status.REJECTED.name());
+        }
+        for (PendingAuditView audit : audits) {
+            eventPublisher.publish(EventType.AUDIT, audit.getAuditId(), employeeId, audit.getAssetId(), AuditStatus.REJECTED.name());
+        }
+        for (RequestRefView request : requests) {
+            eventPublisher.publish(EventType.SERVICE_REQUEST, request.getServiceRequestId(), employeeId, request.getAssetId(),
+                    ServiceRequest.Status.Completed.name());
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            loans.forEach(loan -> dueDateScheduler.cancel(loan.getBorrowingId()));
+            reservations.forEach(reservationCalendar::remove);
+        });
+
+        logger.info("Offboarded employee {}: returned {} loans ({} assets freed), rejected {} borrowing requests and {} audits, "
+                + "closed {} service requests, unassigned {}, cancelled {} reservations", employeeId, returned, released,
+                rejectedBorrowings, rejectedAudits, closedRequests, unassigned, cancelledReservations);
+        return new OffboardingResultDto(employeeId, returned, released, rejectedBorrowings, rejectedAudits,
+                closedRequests, unassigned, cancelledReservations, now);
+    }
+
+    // Pending to Completed, which only offboarding writes, so repair counts and triage training can leave these out
+    private List<ServiceRequestTransition> closingTransitions(List<RequestRefView> requests, int employeeId, LocalDateTime now) {
+        int actorId = currentActorId(employeeId);
+        List<ServiceRequestTransition> transitions = new ArrayList<>(requests.size());
+        for (RequestRefView request : requests) {
+            LocalDateTime entered = request.getEnteredStatusAt() != null ? request.getEnteredStatusAt() : request.getRequestedAt();
+            transitions.add(new ServiceRequestTransition(request.getServiceRequestId(), ServiceRequest.Status.Pending,
+                    ServiceRequest.Status.Completed, actorId, now, Math.max(0, Duration.between(entered, now).getSeconds())));
+        }
+        return transitions;
+    }
+
+    // Admin running the offboarding, or the employee themselves outside a request (e.g. jobs and tests)
+    private int currentActorId(int fallbackEmployeeId) {
+        try {
+            return SecurityContextUtil.getCurrentUserId();
+        } catch (IllegalStateException e) {
+            return fallbackEmployeeId;
+        }
+    }
+}
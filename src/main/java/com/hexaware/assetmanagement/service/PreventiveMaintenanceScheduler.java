@@ -0,0 +1,403 @@
+package com.hexaware.assetmanagement.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.AssetReliability;
+import com.hexaware.assetmanagement.entity.MaintenanceTask;
+import com.hexaware.assetmanagement.entity.MaintenanceTask.TaskStatus;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.repository.IAssetReliabilityRepository;
+import com.hexaware.assetmanagement.repository.IAssetReliabilityRepository.DueView;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository.IdRangeView;
+import com.hexaware.assetmanagement.repository.IMaintenanceTaskRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository.RepairHistoryView;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Raises preventive maintenance for assets that keep coming back with HARDWARE repairs.
+ * Failure counts are kept per asset in asset_reliability, bumped as repairs complete and
+ * rebuilt nightly from the transition history in parallel asset-ID chunks under a time
+ * budget. Due dates sit in an in-memory ordered set; when one comes due a task is opened
+ * and the asset is held back from borrowing until the task is completed.
+ */
+@Service
+public class PreventiveMaintenanceScheduler {
+
+    // Ordered by due time, then asset ID
+    record DueEntry(int assetId, LocalDateTime dueAt) {}
+
+    public record RecomputeResult(int chunks, int completedChunks, int assetsUpdated, long elapsedMs) {}
+
+    private static final String UPSERT_RELIABILITY =
+            "INSERT INTO asset_reliability (asset_id, failure_count, failure_rate_per_year, last_repair_at, "
+            + "next_maintenance_due, updated_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE failure_count = VALUES(failure_count), "
+            + "failure_rate_per_year = VALUES(failure_rate_per_year), last_repair_at = VALUES(last_repair_at), "
+            + "next_maintenance_due = VALUES(next_maintenance_due), updated_at = VALUES(updated_at)";
+
+    private static final Logger logger = LoggerFactory.getLogger(PreventiveMaintenanceScheduler.class);
+
+    @Autowired
+    private IAssetReliabilityRepository reliabilityRepository;
+
+    @Autowired
+    private IMaintenanceTaskRepository taskRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Value("${maintenance.recompute-chunk-assets:5000}")
+    private int chunkAssets = 5000;
+
+    @Value("${maintenance.recompute-budget-ms:600000}")
+    private long recomputeBudgetMs = 600000L;
+
+    private final int windowDays;
+    private final int failureThreshold;
+    private final int baseIntervalDays;
+    private final int minIntervalDays;
+    private final ExecutorService workers;
+    private final AtomicBoolean recomputing = new AtomicBoolean(false);
+
+    private final TreeSet<DueEntry> queue = new TreeSet<>(Comparator
+            .comparing(DueEntry::dueAt)
+            .thenComparingInt(DueEntry::assetId));
+    private final Map<Integer, DueEntry> entries = new HashMap<>();
+
+    public PreventiveMaintenanceScheduler(
+            @Value("${maintenance.window-days:365}") int windowDays,
+            @Value("${maintenance.failure-threshold:2}") int failureThreshold,
+            @Value("${maintenance.base-interval-days:180}") int baseIntervalDays,
+            @Value("${maintenance.min-interval-days:7}") int minIntervalDays,
+            @Value("${maintenance.recompute-threads:4}") int recomputeThreads) {
+        if (windowDays <= 0 || failureThreshold <= 0 || minIntervalDays <= 0 || recomputeThreads <= 0) {
+            throw new IllegalArgumentException("Maintenance window, threshold, interval and threads must be positive");
+        }
+        this.windowDays = windowDays;
+        this.failureThreshold = failureThreshold;
+        this.baseIntervalDays = baseIntervalDays;
+        this.minIntervalDays = minIntervalDays;
+        this.workers = Executors.newFixedThreadPool(recomputeThreads, r -> {
+            Thread thread = new Thread(r, "maintenance-recompute");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Next maintenance date, or null while the asset is below the failure threshold.
+    // The interval shrinks as failures accumulate and counts from the later of the last repair or maintenance.
+    public LocalDateTime computeDue(int failures, LocalDateTime lastRepairAt, LocalDateTime lastMaintenanceAt) {
+        if (failures < failureThreshold || lastRepairAt == null) {
+            return null;
+        }
+        long intervalDays = Math.max(minIntervalDays, baseIntervalDays / (1L + failures));
+        LocalDateTime anchor = lastMaintenanceAt != null && lastMaintenanceAt.isAfter(lastRepairAt)
+                ? lastMaintenanceAt : lastRepairAt;
+        return anchor.plusDays(intervalDays);
+    }
+
+    public double failureRatePerYear(int failures) {
+        return failures * 365.0 / windowDays;
+    }
+
+    // Reload the schedule from every asset with a pending due date
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<DueView> scheduled = reliabilityRepository.findScheduled();
+        synchronized (this) {
+            queue.clear();
+            entries.clear();
+            for (DueView view : scheduled) {
+                DueEntry entry = new DueEntry(view.getAssetId(), view.getNextMaintenanceDue());
+                queue.add(entry);
+                entries.put(entry.assetId(), entry);
+            }
+        }
+        logger.info("Rebuilt preventive maintenance schedule with {} assets", scheduled.size());
+    }
+
+    // Count a completed HARDWARE repair against the asset; joins the caller's transaction.
+    // Repairs that age out of the window are only dropped by the nightly recompute, which counts each request once,
+    // so completing a reopened request again only moves the last repair time.
+    public void recordRepair(int serviceRequestId, int assetId, LocalDateTime completedAt) {
+        AssetReliability reliability = reliabilityRepository.findById(assetId)
+                .orElseGet(() -> new AssetReliability(assetId));
+        if (!transitionRepository.existsRepairBetween(serviceRequestId, Status.Transit, Status.Completed,
+                completedAt.minusDays(windowDays), completedAt)) {
+            reliability.setFailureCount(reliability.getFailureCount() + 1);
+            reliability.setFailureRatePerYear(failureRatePerYear(reliability.getFailureCount()));
+        }
+        reliability.setLastRepairAt(completedAt);
+        refreshDue(reliability, completedAt);
+        logger.debug("Asset {} has {} HARDWARE repairs in the window, next maintenance due {}",
+                assetId, reliability.getFailureCount(), reliability.getNextMaintenanceDue());
+    }
+
+    // Restart the maintenance interval after a task is completed; joins the caller's transaction
+    public AssetReliability recordMaintenance(int assetId, LocalDateTime completedAt) {
+        AssetReliability reliability = reliabilityRepository.findById(assetId)
+                .orElseGet(() -> new AssetReliability(assetId));
+        reliability.setLastMaintenanceAt(completedAt);
+        return refreshDue(reliability, completedAt);
+    }
+
+    public synchronized int getScheduledCount() {
+        return queue.size();
+    }
+
+    synchronized LocalDateTime getScheduledDue(int assetId) {
+        DueEntry entry = entries.get(assetId);
+        return entry != null ? entry.dueAt() : null;
+    }
+
+    @Scheduled(fixedDelayString = "${maintenance.tick-ms:60000}")
+    public void tick() {
+        List<DueEntry> due = pollDue(LocalDateTime.now());
+        if (due.isEmpty()) {
+            return;
+        }
+        List<Integer> held = new ArrayList<>();
+        for (DueEntry entry : due) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> raiseTask(entry)))) {
+                    held.add(entry.assetId());
+                }
+            } catch (Exception e) {
+                logger.error("Failed to raise maintenance task for asset {}: {}", entry.assetId(), e.getMessage(), e);
+            }
+        }
+        if (!held.isEmpty()) {
+            notificationService.notifyAdmins("Assets held for preventive maintenance", held);
+        }
+    }
+
+    @Scheduled(cron = "${maintenance.recompute-cron:0 30 2 * * *}")
+    public void nightlyRecompute() {
+        try {
+            recompute();
+        } catch (ConflictException e) {
+            logger.warn("Skipping nightly maintenance recompute: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute every asset's failure statistics from the transition history.
+     * Asset-ID chunks run in parallel, each aggregated in the database and upserted in its
+     * own transaction; chunks still unfinished when the budget runs out are cancelled and
+     * keep their previous (incrementally maintained) values until the next run.
+     */
+    public RecomputeResult recompute() {
+        if (!recomputing.compareAndSet(false, true)) {
+            throw new ConflictException("A maintenance recompute is already running");
+        }
+        long started = System.currentTimeMillis();
+        try {
+            IdRangeView range = assetRepository.findIdRange();
+            if (range == null || range.getMinAssetId() == null) {
+                return new RecomputeResult(0, 0, 0, 0);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = now.minusDays(windowDays);
+            List<Callable<Integer>> chunks = new ArrayList<>();
+            for (long from = range.getMinAssetId(); from <= range.getMaxAssetId(); from += chunkAssets) {
+                int lo = (int) from;
+                int hi = (int) Math.min(from + chunkAssets - 1, range.getMaxAssetId());
+                chunks.add(() -> recomputeChunk(lo, hi, since, now));
+            }
+
+            List<Future<Integer>> results;
+            try {
+                results = workers.invokeAll(chunks, recomputeBudgetMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results = List.of();
+            }
+            int completed = 0;
+            int assets = 0;
+            for (Future<Integer> result : results) {
+                try {
+                    assets += result.get();
+                    completed++;
+                } catch (CancellationException e) {
+                    // Ran out of budget; picked up again by the next run
+                } catch (ExecutionException e) {
+                    logger.error("Maintenance recompute chunk failed: {}", e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            rebuild();
+            long elapsed = System.currentTimeMillis() - started;
+            if (completed < chunks.size()) {
+                logger.warn("Maintenance recompute finished {} of {} chunks within {} ms", completed, chunks.size(), recomputeBudgetMs);
+            }
+            logger.info("Recomputed reliability for {} assets in {} ms ({} of {} chunks)", assets, elapsed, completed, chunks.size());
+            return new RecomputeResult(chunks.size(), completed, assets, elapsed);
+        } finally {
+            recomputing.set(false);
+        }
+    }
+
+    // Aggregate one asset-ID range in the database and upsert the changed rows in a single transaction
+    int recomputeChunk(int fromAssetId, int toAssetId, LocalDateTime since, LocalDateTime now) {
+        Integer updated = transactionTemplate.execute(status -> {
+            Map<Integer, AssetReliability> existing = new HashMap<>();
+            for (AssetReliability reliability : reliabilityRepository.findByAssetIdBetween(fromAssetId, toAssetId)) {
+                existing.put(reliability.getAssetId(), reliability);
+            }
+            Set<Integer> openTasks = new HashSet<>(taskRepository.findAssetIdsByStatusInRange(TaskStatus.OPEN, fromAssetId, toAssetId));
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            List<Object[]> rows = new ArrayList<>();
+
+            for (RepairHistoryView history : transitionRepository.aggregateRepairs(IssueType.HARDWARE, Status.Transit, Status.Completed,
+                    since, fromAssetId, toAssetId)) {
+                int failures = (int) history.getFailures();
+                AssetReliability previous = existing.remove(history.getAssetId());
+                LocalDateTime lastMaintenanceAt = previous != null ? previous.getLastMaintenanceAt() : null;
+                LocalDateTime due = openTasks.contains(history.getAssetId())
+                        ? null : computeDue(failures, history.getLastRepairAt(), lastMaintenanceAt);
+                rows.add(new Object[] { history.getAssetId(), failures, failureRatePerYear(failures),
+                        Timestamp.valueOf(history.getLastRepairAt()), due != null ? Timestamp.valueOf(due) : null, updatedAt });
+            }
+            // Assets whose repairs have all aged out of the window
+            for (AssetReliability stale : existing.values()) {
+                if (stale.getFailureCount() != 0 || stale.getNextMaintenanceDue() != null) {
+                    rows.add(new Object[] { stale.getAssetId(), 0, 0.0,
+                            stale.getLastRepairAt() != null ? Timestamp.valueOf(stale.getLastRepairAt()) : null, null, updatedAt });
+                }
+            }
+            // Cancelled by the budget: roll back rather than write a partial chunk
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Maintenance recompute chunk " + fromAssetId + "-" + toAssetId + " cancelled");
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_RELIABILITY, rows);
+            }
+            return rows.size();
+        });
+        return updated != null ? updated : 0;
+    }
+
+    private AssetReliability refreshDue(AssetReliability reliability, LocalDateTime now) {
+        int assetId = reliability.getAssetId();
+        LocalDateTime due = taskRepository.existsByAssetIdAndStatus(assetId, TaskStatus.OPEN)
+                ? null : computeDue(reliability.getFailureCount(), reliability.getLastRepairAt(), reliability.getLastMaintenanceAt());
+        reliability.setNextMaintenanceDue(due);
+        reliability.setUpdatedAt(now);
+        AssetReliability saved = reliabilityRepository.save(reliability);
+        TransactionCallbacks.afterCommit(() -> schedule(assetId, due));
+        return saved;
+    }
+
+    // Open a task and hold the asset, unless the entry went stale since it was queued
+    private boolean raiseTask(DueEntry entry) {
+        int assetId = entry.assetId();
+        AssetReliability reliability = reliabilityRepository.findById(assetId).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (reliability == null || reliability.getNextMaintenanceDue() == null || reliability.getNextMaintenanceDue().isAfter(now)) {
+            return false;
+        }
+        reliability.setNextMaintenanceDue(null);
+        reliability.setUpdatedAt(now);
+        if (taskRepository.existsByAssetIdAndStatus(assetId, TaskStatus.OPEN)) {
+            return false;
+        }
+        String reason = String.format("%d HARDWARE repairs in the last %d days (%.1f per year)",
+                reliability.getFailureCount(), windowDays, reliability.getFailureRatePerYear());
+        MaintenanceTask task = taskRepository.save(new MaintenanceTask(assetId, reason,
+                reliability.getFailureCount(), entry.dueAt(), now));
+        assetRepository.setMaintenanceHold(assetId, true);
+        eventPublisher.publish(EventType.MAINTENANCE, task.getTaskId(), null, assetId, String.valueOf(task.getStatus()));
+        logger.info("Opened maintenance task {} for asset {}: {}", task.getTaskId(), assetId, reason);
+        return true;
+    }
+
+    // Drop a purged asset from the in-memory schedule once its rows are gone
+    public void forget(int assetId) {
+        TransactionCallbacks.afterCommit(() -> schedule(assetId, null));
+    }
+
+    private synchronized List<DueEntry> pollDue(LocalDateTime now) {
+        List<DueEntry> due = new ArrayList<>();
+        Iterator<DueEntry> it = queue.iterator();
+        while (it.hasNext()) {
+            DueEntry entry = it.next();
+            if (entry.dueAt().isAfter(now)) {
+                break;
+            }
+            it.remove();
+            entries.remove(entry.assetId());
+            due.add(entry);
+        }
+        return due;
+    }
+
+    private synchronized void schedule(int assetId, LocalDateTime due) {
+        DueEntry previous = entries.remove(assetId);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        if (due != null) {
+            DueEntry entry = new DueEntry(assetId, due);
+            queue.add(entry);
+            entries.put(assetId, entry);
+        }
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
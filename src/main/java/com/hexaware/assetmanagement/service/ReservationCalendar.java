@@ -0,0 +1,130 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository.SlotView;
+import com.hexaware.assetmanagement.util.IntervalTree;
+
+/**
+ * In-memory view of every booking that has not ended yet, as one interval tree per
+ * asset and one per category. Rebuilt from the (status, end_at) index at startup, so
+ * conflict checks and "who is busy in this window" lookups never query asset_reservation.
+ * Writers change an asset's bookings only while holding that asset's row lock; the
+ * category trees are a pre-filter and the asset tree is the authority.
+ */
+@Service
+public class ReservationCalendar {
+
+    public record Booking(int reservationId, int assetId, int employeeId, LocalDateTime startAt, LocalDateTime endAt) {}
+
+    private record Placement(Booking booking, int categoryId) {}
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationCalendar.class);
+
+    @Autowired
+    private IAssetReservationRepository reservationRepository;
+
+    private final Map<Integer, IntervalTree<Booking>> byAsset = new ConcurrentHashMap<>();
+    private final Map<Integer, IntervalTree<Booking>> byCategory = new ConcurrentHashMap<>();
+    private final Map<Integer, Placement> placements = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SlotView> slots = reservationRepository.findUpcomingSlots(AssetReservation.Status.BOOKED, LocalDateTime.now());
+        for (SlotView slot : slots) {
+            add(new Booking(slot.getReservationId(), slot.getAssetId(), slot.getEmployeeId(), slot.getStartAt(), slot.getEndAt()),
+                    slot.getCategoryId());
+        }
+        logger.info("Rebuilt reservation calendar with {} upcoming bookings", slots.size());
+    }
+
+    public void add(Booking booking, int categoryId) {
+        remove(booking.reservationId());
+        long start = toEpochMs(booking.startAt());
+        long end = toEpochMs(booking.endAt());
+        byAsset.computeIfAbsent(booking.assetId(), id -> new IntervalTree<>()).add(start, end, booking);
+        byCategory.computeIfAbsent(categoryId, id -> new IntervalTree<>()).add(start, end, booking);
+        placements.put(booking.reservationId(), new Placement(booking, categoryId));
+    }
+
+    public boolean remove(int reservationId) {
+        Placement placement = placements.remove(reservationId);
+        if (placement == null) {
+            return false;
+        }
+        byAsset.get(placement.booking().assetId()).remove(placement.booking());
+        byCategory.get(placement.categoryId()).remove(placement.booking());
+        return true;
+    }
+
+    // Bookings of the asset overlapping [start, end); a null end means the window never closes
+    public List<Booking> conflicts(int assetId, LocalDateTime start, LocalDateTime end) {
+        IntervalTree<Booking> tree = byAsset.get(assetId);
+        return tree == null ? List.of() : tree.overlapping(toEpochMs(start), end == null ? Long.MAX_VALUE : toEpochMs(end));
+    }
+
+    // First booking in the window that belongs to someone else; an employee's own bookings never block them
+    public Optional<Booking> firstConflict(int assetId, int employeeId, LocalDateTime start, LocalDateTime end) {
+        return conflicts(assetId, start, end).stream().filter(b -> b.employeeId() != employeeId).findFirst();
+    }
+
+    // Assets in the category with at least one booking in [start, end), without touching the category's other assets;
+    // a null end means the window never closes
+    public Set<Integer> bookedAssets(int categoryId, LocalDateTime start, LocalDateTime end) {
+        IntervalTree<Booking> tree = byCategory.get(categoryId);
+        Set<Integer> booked = new HashSet<>();
+        if (tree != null) {
+            tree.overlapping(toEpochMs(start), end == null ? Long.MAX_VALUE : toEpochMs(end)).forEach(b -> booked.add(b.assetId()));
+        }
+        return booked;
+    }
+
+    // Drop every booking of an asset whose row is being purged
+    public void forgetAsset(int assetId) {
+        IntervalTree<Booking> tree = byAsset.get(assetId);
+        if (tree != null) {
+            tree.overlapping(Long.MIN_VALUE, Long.MAX_VALUE).forEach(b -> remove(b.reservationId()));
+            byAsset.remove(assetId);
+        }
+    }
+
+    public int size() {
+        return placements.size();
+    }
+
+    // Finished bookings no longer block anything; keep the trees limited to the future
+    @Scheduled(fixedDelayString = "${reservation.calendar.evict-interval-ms:3600000}")
+    public void evictEnded() {
+        LocalDateTime now = LocalDateTime.now();
+        int evicted = 0;
+        for (Placement placement : placements.values()) {
+            if (!placement.booking().endAt().isAfter(now) && remove(placement.booking().reservationId())) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.info("Evicted {} ended bookings from the reservation calendar", evicted);
+        }
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
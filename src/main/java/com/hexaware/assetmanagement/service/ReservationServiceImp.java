@@ -0,0 +1,261 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.config.RetryableTransaction;
+import com.hexaware.assetmanagement.dto.ReservationRequestDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.exception.UnauthorizedException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.service.ReservationCalendar.Booking;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Future bookings of assets. Conflicts are decided against the in-memory calendar while
+ * the asset row is locked, so two bookings of the same asset serialize on that lock and
+ * the second one sees the first. Category bookings skip assets the calendar already shows
+ * as busy and lock the remaining candidates one at a time in ascending ID order.
+ */
+@Service
+public class ReservationServiceImp implements IReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationServiceImp.class);
+
+    @Autowired
+    private IAssetReservationRepository reservationRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReservationCalendar calendar;
+
+    @Value("${reservation.max-length-hours:336}")
+    private long maxLengthHours = 336;
+
+    @Value("${reservation.horizon-days:180}")
+    private long horizonDays = 180;
+
+    @Value("${reservation.search-page-size:64}")
+    private int searchPageSize = 64;
+
+    // Book a specific asset, or the first free asset of a category, for [startAt, endAt)
+    @Override
+    @Transactional
+    @RetryableTransaction
+    public AssetReservation reserve(ReservationRequestDto dto) {
+        logger.info("Received reservation request from employee {} for asset {} / category {} from {} to {}",
+                dto.getEmployeeId(), dto.getAssetId(), dto.getCategoryId(), dto.getStartAt(), dto.getEndAt());
+        if ((dto.getAssetId() == null) == (dto.getCategoryId() == null)) {
+            throw new BadRequestException("Reserve either a specific asset or a category");
+        }
+        LocalDateTime startAt = dto.getStartAt();
+        LocalDateTime endAt = dto.getEndAt();
+        validateWindow(startAt, endAt);
+        Employee employee = employeeRepository.findById(dto.getEmployeeId())
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + dto.getEmployeeId()));
+        if (!employee.isEnabled()) {
+            throw new BadRequestException("Employee " + employee.getEmployeeId() + " has been offboarded and cannot reserve assets");
+        }
+
+        AssetReservation reservation = dto.getAssetId() != null
+                ? reserveAsset(employee, dto.getAssetId(), startAt, endAt)
+                : reserveInCategory(employee, dto.getCategoryId(), startAt, endAt);
+        logger.info("Reservation {} booked asset {} for employee {}", reservation.getReservationId(),
+                reservation.getAsset().getAssetId(), employee.getEmployeeId());
+        return reservation;
+    }
+
+    // Cancel a booking, by its holder or an admin; the calendar forgets it once the cancellation commits
+    @Override
+    @Transactional
+    public AssetReservation cancelReservation(int reservationId) {
+        logger.info("Received request to cancel reservation {}", reservationId);
+        AssetReservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with ID: " + reservationId));
+        Employee caller = SecurityContextUtil.getCurrentUser();
+        if (caller.getRole() != Employee.Role.ADMIN
+                && reservation.getEmployee().getEmployeeId() != caller.getEmployeeId()) {
+            logger.warn("Employee {} attempted to cancel reservation {} held by employee {}",
+                    caller.getEmployeeId(), reservationId, reservation.getEmployee().getEmployeeId());
+            throw new UnauthorizedException("You can only cancel your own reservations");
+        }
+        if (reservation.getStatus() != AssetReservation.Status.BOOKED) {
+            logger.warn("Cannot cancel reservation {} in status {}", reservationId, reservation.getStatus());
+            throw new BadRequestException("Only booked reservations can be cancelled");
+        }
+        reservation.setStatus(AssetReservation.Status.CANCELLED);
+        reservation.setCancelledAt(LocalDateTime.now());
+        AssetReservation saved = reservationRepository.save(reservation);
+        TransactionCallbacks.afterCommit(() -> calendar.remove(reservationId));
+        assetRepository.initializeForResponse(saved.getAsset());
+        logger.info("Reservation {} cancelled", reservationId);
+        return saved;
+    }
+
+    // Any asset of the category that is free for the whole window, without booking it
+    @Override
+    @Transactional(readOnly = true)
+    public Asset findAvailableAsset(int categoryId, LocalDateTime startAt, LocalDateTime endAt) {
+        logger.info("Searching category {} for an asset free from {} to {}", categoryId, startAt, endAt);
+        validateWindow(startAt, endAt);
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with ID: " + categoryId);
+        }
+        Integer assetId = firstInCategory(categoryId, startAt, endAt,
+                id -> calendar.conflicts(id, startAt, endAt).isEmpty() ? id : null);
+        if (assetId == null) {
+            throw new ResourceNotFoundException("No asset in category " + categoryId + " is free from " + startAt + " to " + endAt);
+        }
+        Asset asset = assetRepository.findById(assetId)
+            .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
+        assetRepository.fetchDescriptions(List.of(asset));
+        return asset;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetReservation> getReservationsForAsset(int assetId) {
+        logger.info("Received request to get reservations for asset {}", assetId);
+        List<AssetReservation> reservations = reservationRepository.findUpcomingByAsset(assetId, AssetReservation.Status.BOOKED, LocalDateTime.now());
+        assetRepository.fetchDescriptions(reservations, AssetReservation::getAsset);
+        return reservations;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetReservation> getReservationsByEmployee(int employeeId) {
+        logger.info("Received request to get reservations for employee {}", employeeId);
+        List<AssetReservation> reservations = reservationRepository.findUpcomingByEmployee(employeeId, AssetReservation.Status.BOOKED, LocalDateTime.now());
+        assetRepository.fetchDescriptions(reservations, AssetReservation::getAsset);
+        return reservations;
+    }
+
+    private AssetReservation reserveAsset(Employee employee, int assetId, LocalDateTime startAt, LocalDateTime endAt) {
+        Asset asset = lockAsset(assetId)
+            .orElseThrow(() -> new ResourceNotFoundException("Asset not found with ID: " + assetId));
+        if (asset.isMaintenanceHold()) {
+            throw new BadRequestException("Asset '" + asset.getAssetName() + "' is under preventive maintenance and cannot be reserved.");
+        }
+        Optional<AssetBorrowing> loan = blockingLoan(asset, startAt);
+        if (loan.isPresent()) {
+            LocalDateTime dueAt = loan.get().getDueAt();
+            throw new BadRequestException("Asset '" + asset.getAssetName() + "' is on loan "
+                    + (dueAt == null || loan.get().getOverdueSince() != null ? "with no return date" : "until " + dueAt));
+        }
+        List<Booking> conflicts = calendar.conflicts(assetId, startAt, endAt);
+        if (!conflicts.isEmpty()) {
+            Booking first = conflicts.get(0);
+            logger.warn("Asset {} is already reserved from {} to {}", assetId, first.startAt(), first.endAt());
+            throw new ConflictException("Asset '" + asset.getAssetName() + "' is already reserved from "
+                    + first.startAt() + " to " + first.endAt());
+        }
+        return book(employee, asset, startAt, endAt);
+    }
+
+    private AssetReservation reserveInCategory(Employee employee, int categoryId, LocalDateTime startAt, LocalDateTime endAt) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new ResourceNotFoundException("Category not found with ID: " + categoryId);
+        }
+        AssetReservation reservation = firstInCategory(categoryId, startAt, endAt, assetId -> lockAsset(assetId)
+                .filter(asset -> !asset.isMaintenanceHold()
+                        && blockingLoan(asset, startAt).isEmpty()
+                        && calendar.conflicts(assetId, startAt, endAt).isEmpty())
+                .map(asset -> book(employee, asset, startAt, endAt))
+                .orElse(null));
+        if (reservation == null) {
+            throw new BadRequestException("No asset in category " + categoryId + " is free from " + startAt + " to " + endAt);
+        }
+        return reservation;
+    }
+
+    // Walk the category's candidates in ID order, skipping assets the category calendar already shows as booked
+    private <T> T firstInCategory(int categoryId, LocalDateTime startAt, LocalDateTime endAt, Function<Integer, T> attempt) {
+        Set<Integer> booked = calendar.bookedAssets(categoryId, startAt, endAt);
+        for (int page = 0; ; page++) {
+            List<Integer> candidates = assetRepository.findReservableIds(categoryId, startAt, AssetBorrowing.Status.ACTIVE,
+                    PageRequest.of(page, searchPageSize));
+            for (Integer assetId : candidates) {
+                if (!booked.contains(assetId)) {
+                    T result = attempt.apply(assetId);
+                    if (result != null) {
+                        return result;
+                    }
+                }
+            }
+            if (candidates.size() < searchPageSize) {
+                return null;
+            }
+        }
+    }
+
+    private AssetReservation book(Employee employee, Asset asset, LocalDateTime startAt, LocalDateTime endAt) {
+        AssetReservation saved = reservationRepository.save(new AssetReservation(employee, asset, startAt, endAt));
+        // Added while the asset row is still locked so the next writer for this asset sees it; taken back on rollback
+        calendar.add(new Booking(saved.getReservationId(), asset.getAssetId(), employee.getEmployeeId(), startAt, endAt),
+                asset.getCategory().getCategoryId());
+        TransactionCallbacks.onRollback(() -> calendar.remove(saved.getReservationId()));
+        // The asset lock query skips the category so it does not lock category rows; load it for the response
+        assetRepository.initializeForResponse(asset);
+        return saved;
+    }
+
+    // Locking read, so it sees the latest committed row even when this transaction has read other rows before
+    private Optional<Asset> lockAsset(int assetId) {
+        return assetRepository.lockAll(List.of(assetId)).stream().findFirst();
+    }
+
+    // An open loan blocks the window if it has no due date, is overdue, or is due after the window starts
+    private Optional<AssetBorrowing> blockingLoan(Asset asset, LocalDateTime startAt) {
+        if (asset.getStatus() != Asset.Status.Borrowed) {
+            return Optional.empty();
+        }
+        return borrowingRepository.lockByAssetIds(List.of(asset.getAssetId()), AssetBorrowing.Status.ACTIVE).stream()
+                .filter(loan -> loan.getDueAt() == null || loan.getOverdueSince() != null || loan.getDueAt().isAfter(startAt))
+                .findFirst();
+    }
+
+    private void validateWindow(LocalDateTime startAt, LocalDateTime endAt) {
+        if (!endAt.isAfter(startAt)) {
+            throw new BadRequestException("Reservation end must be after its start");
+        }
+        if (startAt.plusHours(maxLengthHours).isBefore(endAt)) {
+            throw new BadRequestException("A reservation can last at most " + maxLengthHours + " hours");
+        }
+        if (startAt.isAfter(LocalDateTime.now().plusDays(horizonDays))) {
+            throw new BadRequestException("Reservations can be made at most " + horizonDays + " days ahead");
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.dto.ScanSessionDto;
+import com.hexaware.assetmanagement.dto.ScanSessionDto.SessionStatus;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto.ExpectedScope;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+
+/**
+ * Physical audit by scanning: handheld devices stream scanned asset IDs into a
+ * per-session compressed bitmap, and closing the session reconciles it against the
+ * expected ID set with bitmap AND/ANDNOT instead of row-by-row joins.
+ */
+@Service
+public class ScanReconciliationServiceImp implements IScanReconciliationService {
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Value("${scan.session.idle-timeout-minutes:240}")
+    private long idleTimeoutMinutes = 240;
+
+    @Value("${scan.session.max-open:200}")
+    private int maxOpenSessions = 200;
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanReconciliationServiceImp.class);
+
+    private final Map<String, ScanSession> sessions = new ConcurrentHashMap<>();
+
+    // Start a scanning session for the given expected scope
+    @Override
+    public ScanSessionDto openSession(ScanSessionRequestDto request) {
+        logger.info("Received request to open scan session with scope: {}", request.getScope());
+        if (request.getCategoryId() != null && !categoryRepository.existsById(request.getCategoryId())) {
+            throw new ResourceNotFoundException("Category not found with id: " + request.getCategoryId());
+        }
+        if (request.getEmployeeId() != null) {
+            if (request.getScope() != ExpectedScope.ACTIVE_BORROWINGS) {
+                throw new BadRequestException("An employee can only narrow an ACTIVE_BORROWINGS scan");
+            }
+            if (!employeeRepository.existsById(request.getEmployeeId())) {
+                throw new ResourceNotFoundException("Employee not found with id: " + request.getEmployeeId());
+            }
+        }
+        long open = sessions.values().stream().filter(s -> s.status == SessionStatus.OPEN).count();
+        if (open >= maxOpenSessions) {
+            throw new BadRequestException("Too many open scan sessions, close some before starting another");
+        }
+
+        ScanSession session = new ScanSession(UUID.randomUUID().toString(), request);
+        sessions.put(session.sessionId, session);
+        logger.info("Scan session {} opened", session.sessionId);
+        return session.toDto();
+    }
+
+    // Merge a batch of scanned IDs into the session bitmap; repeated scans are idempotent
+    @Override
+    public ScanSessionDto addScans(String sessionId, List<Integer> assetIds) {
+        ScanSession session = find(sessionId);
+        int[] ids = new int[assetIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = assetIds.get(i);
+            if (ids[i] <= 0) {
+                throw new BadRequestException("Invalid asset ID in scan batch: " + ids[i]);
+            }
+        }
+        // Sorted input lets the bitmap append to each container sequentially
+        Arrays.sort(ids);
+        synchronized (session) {
+            if (session.status != SessionStatus.OPEN) {
+                throw new BadRequestException("Scan session " + sessionId + " is already closed");
+            }
+            session.scanned.add(ids);
+            session.lastActivity = LocalDateTime.now();
+            logger.debug("Scan session {} received {} IDs, {} distinct so far", sessionId, ids.length, session.scanned.getLongCardinality());
+            return session.toDto();
+        }
+    }
+
+    // Close the session and compute matched, missing and unexpected assets
+    @Override
+    public ScanSessionDto closeSession(String sessionId) {
+        ScanSession session = find(sessionId);
+        synchronized (session) {
+            if (session.status != SessionStatus.OPEN) {
+                return session.toDto();
+            }
+            RoaringBitmap expected = toBitmap(loadExpectedIds(session.request));
+            long started = System.nanoTime();
+            session.scanned.runOptimize();
+            session.expectedCount = expected.getLongCardinality();
+            session.matched = RoaringBitmap.and(expected, session.scanned).toArray();
+            session.missing = RoaringBitmap.andNot(expected, session.scanned).toArray();
+            session.unexpected = RoaringBitmap.andNot(session.scanned, expected).toArray();
+            session.reconcileMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+            session.status = SessionStatus.CLOSED;
+            session.closedAt = LocalDateTime.now();
+            session.lastActivity = session.closedAt;
+            logger.info("Scan session {} reconciled in {} ms: expected={}, matched={}, missing={}, unexpected={}",
+                sessionId, session.reconcileMillis, session.expectedCount, session.matched.length,
+                session.missing.length, session.unexpected.length);
+            return session.toDto();
+        }
+    }
+
+    // Fetch session progress, or its reconciliation once closed
+    @Override
+    public ScanSessionDto getSession(String sessionId) {
+        ScanSession session = find(sessionId);
+        synchronized (session) {
+            return session.toDto();
+        }
+    }
+
+    // Drop sessions (open or closed) that have been idle past the timeout
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(idleTimeoutMinutes);
+        sessions.values().removeIf(session -> {
+            if (session.lastActivity.isBefore(cutoff)) {
+                logger.info("Evicting idle scan session {} ({})", session.sessionId, session.status);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private List<Integer> loadExpectedIds(ScanSessionRequestDto request) {
+        Integer categoryId = request.getCategoryId();
+        if (request.getScope() == ExpectedScope.AVAILABLE) {
+            return categoryId == null
+                ? assetRepository.findIdsByStatus(Asset.Status.Available)
+                : assetRepository.findIdsByStatusAndCategory(Asset.Status.Available, categoryId);
+        }
+        if (request.getEmployeeId() != null) {
+            return borrowingRepository.findBorrowedAssetIdsByEmployee(AssetBorrowing.Status.ACTIVE, request.getEmployeeId());
+        }
+        return categoryId == null
+            ? borrowingRepository.findBorrowedAssetIds(AssetBorrowing.Status.ACTIVE)
+            : borrowingRepository.findBorrowedAssetIdsByCategory(AssetBorrowing.Status.ACTIVE, categoryId);
+    }
+
+    private static RoaringBitmap toBitmap(List<Integer> ids) {
+        int[] values = ids.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(values);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(values);
+        return bitmap;
+    }
+
+    private ScanSession find(String sessionId) {
+        ScanSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new ResourceNotFoundException("Scan session not found with id: " + sessionId);
+        }
+        return session;
+    }
+
+    private static final class ScanSession {
+        private final String sessionId;
+        private final ScanSessionRequestDto request;
+        private final RoaringBitmap scanned = new RoaringBitmap();
+        private final LocalDateTime openedAt = LocalDateTime.now();
+        private LocalDateTime lastActivity = openedAt;
+        private LocalDateTime closedAt;
+        private SessionStatus status = SessionStatus.OPEN;
+        private Long expectedCount;
+        private int[] matched;
+        private int[] missing;
+        private int[] unexpected;
+        private Long reconcileMillis;
+
+        private ScanSession(String sessionId, ScanSessionRequestDto request) {
+            this.sessionId = sessionId;
+            this.request = request;
+        }
+
+        private ScanSessionDto toDto() {
+            return new ScanSessionDto(sessionId, request.getScope(), request.getCategoryId(), request.getEmployeeId(),
+                status, scanned.getLongCardinality(), openedAt, closedAt, expectedCount,
+                boxed(matched), boxed(missing), boxed(unexpected), reconcileMillis);
+        }
+
+        private static List<Integer> boxed(int[] values) {
+            return values == null ? null : Arrays.stream(values).boxed().toList();
+        }
+    }
+}
@@ -1,27 +1,40 @@
 package com.hexaware.assetmanagement.service;
 
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.config.RetryableTransaction;
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
 import com.hexaware.assetmanagement.entity.AssetBorrowing;
-import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
 import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
 import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
 import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
 import com.hexaware.assetmanagement.repository.IEmployeeRepository;
 import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.util.SecurityContextUtil;
 
-import jakarta.transaction.Transactional;
 
 /** Business logic for service request management operations */
 @Service
@@ -40,28 +53,53 @@ public class ServiceRequestServiceImp implements IServiceRequestService {
 	@Autowired
 	private IAssetBorrowingRepository borrowingRepository;
 	
+	@Autowired
+	private WorkflowEventPublisher eventPublisher;
+	
+	@Autowired
+	private ServiceRequestSlaEngine slaEngine;
+	
+	@Autowired
+	private IServiceRequestTransitionRepository transitionRepository;
+	
+	@Autowired
+	private ITechnicianService technicianService;
+
+	@Autowired
+	private WorkflowLatencyRecorder latencyRecorder;
+
+	@Autowired
+	private IIncidentService incidentService;
+
+	@Autowired
+	private IncidentGroupingEngine groupingEngine;
+
+	@Autowired
+	private ServiceRequestTriageEngine triageEngine;
+
+	@Autowired
+	private PreventiveMaintenanceScheduler maintenanceScheduler;
+	
 	private static final Logger logger = LoggerFactory.getLogger(ServiceRequestServiceImp.class);
 	
 	
 	// Create service request for borrowed asset (validates ownership)
 	@Override
 	@Transactional
+	@RetryableTransaction
 	public ServiceRequest createServiceRequest(int employeeId, int assetId, ServiceRequest.IssueType issueType, String Description) {
 		logger.info("Received request to create service request for employee {} and asset {} with issue type: {}", 
 			employeeId, assetId, issueType);
 		
 		try {
-		Employee e1 = employeeRepository.findById(employeeId)
-				.orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
-		
-		Asset a1 = assetRepository.findById(assetId)
-				.orElseThrow(() -> new ResourceNotFoundException("Asset Not Found with id " + assetId));
-		
-		// Validate ownership - check if employee currently has this asset borrowed
-		List<AssetBorrowing> activeBorrowings = borrowingRepository.findByEmployeeIdAndAssetIdAndStatus(
-			employeeId, assetId, AssetBorrowing.Status.ACTIVE);
-		
-		if (activeBorrowings.isEmpty()) {
+		// An active loan proves both rows exist, so the happy path needs no entity loads
+		if (!borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(employeeId, assetId, AssetBorrowing.Status.ACTIVE)) {
+			if (!employeeRepository.existsById(employeeId)) {
+				throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+			}
+			if (!assetRepository.existsById(assetId)) {
+				throw new ResourceNotFoundException("Asset Not Found with id " + assetId);
+			}
 			logger.warn("Employee {} attempted to create service request for asset {} they don't currently possess", 
 				employeeId, assetId);
 			throw new BadRequestException("You can only create a service request for an asset you currently have.");
@@ -69,20 +107,41 @@ public class ServiceRequestServiceImp implements IServiceRequestService {
 		
 		ServiceRequest serviceRequest = new ServiceRequest();
 		
-		serviceRequest.setEmployee(e1);
-		serviceRequest.setAsset(a1);
+		serviceRequest.setEmployee(employeeRepository.getReferenceById(employeeId));
+		serviceRequest.setAsset(assetRepository.getReferenceById(assetId));
 		serviceRequest.setDescription(Description);
 		serviceRequest.setIssueType(issueType);
 		serviceRequest.setStatus(Status.Pending);
 		serviceRequest.setRequestedAt(LocalDateTime.now());
+		serviceRequest.setDueAt(slaEngine.computeDueAt(issueType, serviceRequest.getRequestedAt()));
+		serviceRequest.setSlaStartedAt(serviceRequest.getRequestedAt());
+		ServiceRequestTriageEngine.Suggestion suggestion = triageEngine.suggest(Description);
+		if (suggestion != null) {
+			serviceRequest.setSuggestedIssueType(suggestion.issueType());
+			serviceRequest.setSuggestedPriority(suggestion.priority());
+			serviceRequest.setTriageConfidence(suggestion.confidence());
+		}
 		
 		ServiceRequest savedServiceRequest = serviceRequestRepository.save(serviceRequest);
+		// The insert has proved both references exist; load what the response shows
+		Hibernate.initialize(savedServiceRequest.getEmployee());
+		assetRepository.initializeForResponse(savedServiceRequest.getAsset());
+		transitionRepository.save(new ServiceRequestTransition(savedServiceRequest.getServiceRequestId(),
+				null, Status.Pending, currentActorId(employeeId), serviceRequest.getRequestedAt(), 0));
+		incidentService.groupIfDuplicate(savedServiceRequest);
+		slaEngine.track(savedServiceRequest);
+		technicianService.dispatch(savedServiceRequest);
+		publishChange(savedServiceRequest, employeeId, assetId);
 		logger.info("Service request successfully created with ID: {} for employee {} and asset {}", 
 			savedServiceRequest.getServiceRequestId(), employeeId, assetId);
 		return savedServiceRequest;
 		}
-		catch(BadRequestException e) {
-			// Re-throw BadRequestException as-is
+		catch(BadRequestException | ResourceNotFoundException e) {
+			// Re-throw client errors as-is
+			throw e;
+		}
+		catch(PessimisticLockingFailureException e) {
+			// Lock conflicts propagate so the transaction can be retried
 			throw e;
 		}
 		catch(Exception e) {
@@ -95,38 +154,113 @@ public class ServiceRequestServiceImp implements IServiceRequestService {
 	
 	// Fetch service request by ID or throw not found exception
 	@Override
+	@Transactional(readOnly = true)
 	public ServiceRequest getServiceRequestById(int serviceRequestId) {
 		logger.info("Received request to get service request with ID: {}", serviceRequestId);
 		ServiceRequest serviceRequest = serviceRequestRepository.findById(serviceRequestId)
 				.orElseThrow(() -> new ResourceNotFoundException("Service Request not found with id " + serviceRequestId) );
+		serviceRequestRepository.fetchDescriptions(List.of(serviceRequest));
+		assetRepository.fetchDescriptions(List.of(serviceRequest), ServiceRequest::getAsset);
 		logger.info("Successfully retrieved service request with ID: {}", serviceRequestId);
 		return serviceRequest;
 	}
 	
 	
-	// Update service request status (Pending, Transit, Completed)
+	// Move a service request along its transition table and append the change to its history
 	@Override
 	@Transactional
-	public ServiceRequest updateServiceRequestStatus(int serviceRequestId, ServiceRequest.Status status) {
+	public ServiceRequest updateServiceRequestStatus(int serviceRequestId, ServiceRequest.Status status, Long expectedVersion,
+			ServiceRequest.IssueType resolvedIssueType) {
 		logger.info("Received request to update service request status for ID: {} to status: {}", serviceRequestId, status);
 		ServiceRequest serviceRequest = serviceRequestRepository.findById(serviceRequestId)
 				.orElseThrow(() -> new ResourceNotFoundException("Service Request Not Found"));
 		
+		// Reject illegal or stale changes before anything is written
+		Status current = serviceRequest.getStatus();
+		if (!current.canTransitionTo(status)) {
+			logger.warn("Rejected service request {} transition from {} to {}", serviceRequestId, current, status);
+			throw new BadRequestException("Cannot change service request status from " + current + " to " + status);
+		}
+		if (expectedVersion != null && expectedVersion != serviceRequest.getVersion()) {
+			logger.warn("Stale update of service request {}: expected version {}, current {}",
+					serviceRequestId, expectedVersion, serviceRequest.getVersion());
+			throw new ConflictException("Service request was modified by someone else, please reload and try again");
+		}
+		if (resolvedIssueType != null && status != Status.Completed) {
+			throw new BadRequestException("The issue type can only be corrected when completing a service request");
+		}
+		
+		LocalDateTime now = LocalDateTime.now();
 		serviceRequest.setStatus(status);
+		if (status == Status.Completed) {
+			// The reporter's pick stays on the request; triage learns from what the admin confirmed
+			serviceRequest.setResolvedIssueType(resolvedIssueType != null ? resolvedIssueType : serviceRequest.getIssueType());
+		}
+		if (current == Status.Completed) {
+			// Reopened: the SLA clock starts again
+			serviceRequest.setSlaStartedAt(now);
+			serviceRequest.setDueAt(slaEngine.computeDueAt(serviceRequest.getIssueType(), now));
+			serviceRequest.setSlaAtRiskAt(null);
+			serviceRequest.setSlaBreachedAt(null);
+		}
 		ServiceRequest updatedServiceRequest = serviceRequestRepository.save(serviceRequest);
 		
-		logger.info("Service request status successfully updated for ID: {} to status: {}", serviceRequestId, status);
+		LocalDateTime enteredCurrentAt = transitionRepository.findTopByServiceRequestIdOrderByTransitionIdDesc(serviceRequestId)
+				.map(ServiceRequestTransition::getChangedAt)
+				.orElse(serviceRequest.getRequestedAt());
+		transitionRepository.save(new ServiceRequestTransition(serviceRequestId, current, status,
+				currentActorId(serviceRequest.getEmployee().getEmployeeId()), now,
+				Math.max(0, Duration.between(enteredCurrentAt, now).getSeconds())));
+		
+		slaEngine.track(updatedServiceRequest);
+		if (status == Status.Completed) {
+			groupingEngine.remove(List.of(serviceRequestId));
+			latencyRecorder.record(Metric.REPAIR_RESOLUTION, serviceRequest.getIssueType().name(), serviceRequest.getRequestedAt(), now);
+			if (serviceRequest.getIssueType() == IssueType.HARDWARE && serviceRequest.getAsset() != null) {
+				maintenanceScheduler.recordRepair(serviceRequestId, serviceRequest.getAsset().getAssetId(), now);
+			}
+		}
+		publishChange(updatedServiceRequest, serviceRequest.getEmployee().getEmployeeId(),
+				serviceRequest.getAsset() != null ? serviceRequest.getAsset().getAssetId() : null);
+		// Loaded through the session, as the response shows them
+		updatedServiceRequest.getDescription();
+		assetRepository.initializeForResponse(updatedServiceRequest.getAsset());
+		
+		logger.info("Service request status successfully updated for ID: {} from {} to {}", serviceRequestId, current, status);
 		return updatedServiceRequest;
 	}
 	
+	
+	// Status change history of a service request, oldest first
+	@Override
+	@Transactional(readOnly = true)
+	public List<ServiceRequestTransition> getStatusHistory(int serviceRequestId) {
+		logger.info("Received request to get status history for service request ID: {}", serviceRequestId);
+		// Transitions stay in place when their request is archived
+		if (!serviceRequestRepository.existsById(serviceRequestId)
+				&& serviceRequestRepository.countArchivedById(serviceRequestId) == 0) {
+			throw new ResourceNotFoundException("Service Request not found with id " + serviceRequestId);
+		}
+		List<ServiceRequestTransition> history = transitionRepository.findByServiceRequestIdOrderByTransitionIdAsc(serviceRequestId);
+		logger.info("Successfully retrieved {} transitions for service request ID: {}", history.size(), serviceRequestId);
+		return history;
+	}
+	
 
 	// List all service requests for a specific employee
 	@Override
-	public List<ServiceRequest> getServiceRequestsByEmployee(int employeeId) {
-		logger.info("Received request to get service requests for employee ID: {}", employeeId);
+	@Transactional(readOnly = true)
+	public List<ServiceRequest> getServiceRequestsByEmployee(int employeeId, boolean includeArchived) {
+		logger.info("Received request to get service requests for employee ID: {} (includeArchived={})", employeeId, includeArchived);
 		
 		try {
 			List<ServiceRequest> serviceRequests = serviceRequestRepository.findByEmployeeEmployeeId(employeeId);
+			serviceRequestRepository.fetchDescriptions(serviceRequests);
+			if (includeArchived) {
+				serviceRequests = new ArrayList<>(serviceRequests);
+				serviceRequests.addAll(findArchivedServiceRequests(employeeId));
+			}
+			assetRepository.fetchDescriptions(serviceRequests, ServiceRequest::getAsset);
 			logger.info("Successfully retrieved {} service requests for employee ID: {}", serviceRequests.size(), employeeId);
 			return serviceRequests;
 		} catch(Exception e) {
@@ -138,9 +272,12 @@ public class ServiceRequestServiceImp implements IServiceRequestService {
 	
 	// Retrieve all service requests from the database
 	@Override
+	@Transactional(readOnly = true)
 	public List<ServiceRequest> getAllServiceRequests() {
 		logger.info("Received request to get all service requests");
 		List<ServiceRequest> serviceRequests = serviceRequestRepository.findAll();
+		serviceRequestRepository.fetchDescriptions(serviceRequests);
+		assetRepository.fetchDescriptions(serviceRequests, ServiceRequest::getAsset);
 		logger.info("Successfully retrieved {} service requests", serviceRequests.size());
 		return serviceRequests;
 	}
@@ -148,11 +285,62 @@ public class ServiceRequestServiceImp implements IServiceRequestService {
 	
 	// Filter service requests by their current status
 	@Override
+	@Transactional(readOnly = true)
 	public List<ServiceRequest> findByStatus(ServiceRequest.Status status) {
 		logger.info("Received request to get service requests by status: {}", status);
 		List<ServiceRequest> serviceRequests = serviceRequestRepository.findByStatus(status);
+		serviceRequestRepository.fetchDescriptions(serviceRequests);
+		assetRepository.fetchDescriptions(serviceRequests, ServiceRequest::getAsset);
 		logger.info("Successfully retrieved {} service requests with status: {}", serviceRequests.size(), status);
 		return serviceRequests;
 	}
 	
+	
+	// Most urgent open requests by SLA deadline, served from the in-memory queue
+	@Override
+	@Transactional(readOnly = true)
+	public List<ServiceRequestQueueItemDto> getQueue(int limit) {
+		logger.info("Received request to get the {} most urgent service requests", limit);
+		if (limit < 1 || limit > 500) {
+			throw new BadRequestException("Limit must be between 1 and 500");
+		}
+		List<ServiceRequestQueueItemDto> queue = slaEngine.peek(limit);
+		logger.info("Successfully retrieved {} queued service requests", queue.size());
+		return queue;
+	}
+	
+	
+	// Archived rows come back from a native query, without the fetch plan or the lazy description
+	private List<ServiceRequest> findArchivedServiceRequests(int employeeId) {
+		List<ServiceRequest> archived = serviceRequestRepository.findArchivedByEmployeeEmployeeId(employeeId);
+		if (archived.isEmpty()) {
+			return archived;
+		}
+		Map<Integer, ServiceRequest> byId = new HashMap<>();
+		for (ServiceRequest serviceRequest : archived) {
+			byId.put(serviceRequest.getServiceRequestId(), serviceRequest);
+			Hibernate.initialize(serviceRequest.getEmployee());
+		}
+		assetRepository.resolveArchivedAssets(archived, ServiceRequest::getAsset, ServiceRequest::setAsset);
+		serviceRequestRepository.findArchivedDescriptions(byId.keySet())
+				.forEach(view -> byId.get(view.getId()).setDescription(view.getDescription()));
+		return archived;
+	}
+	
+	// Authenticated user making the change, or the fallback outside a request (e.g. jobs and tests)
+	private int currentActorId(int fallbackEmployeeId) {
+		try {
+			return SecurityContextUtil.getCurrentUserId();
+		} catch (IllegalStateException e) {
+			return fallbackEmployeeId;
+		}
+	}
+	
+	
+	// Notify admin screens of the request's new state once the transaction commits
+	private void publishChange(ServiceRequest serviceRequest, Integer employeeId, Integer assetId) {
+		eventPublisher.publish(EventType.SERVICE_REQUEST, serviceRequest.getServiceRequestId(),
+				employeeId, assetId, String.valueOf(serviceRequest.getStatus()));
+	}
+	
 }
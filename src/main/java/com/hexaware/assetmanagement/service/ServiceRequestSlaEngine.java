@@ -0,0 +1,286 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto;
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto.SlaState;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.SlaTimerView;
+import com.hexaware.assetmanagement.util.HierarchicalTimingWheel;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Applies per-issue-type SLA policies to open service requests.
+ * Open requests are held in a due-time ordered set (a priority queue that also
+ * supports O(log n) removal) rebuilt from the (status, due_at) index at startup,
+ * and at-risk / breach escalations are driven by a hierarchical timing wheel.
+ */
+@Service
+public class ServiceRequestSlaEngine {
+
+    public enum TimerKind { AT_RISK, BREACH }
+
+    public record SlaTimer(int serviceRequestId, TimerKind kind) {}
+
+    // Snapshot of an open request; ordered by due time, then ID. slaStartedAt is the start of the current window
+    record QueueEntry(int serviceRequestId, IssueType issueType, Status status, int employeeId, Integer assetId,
+            LocalDateTime requestedAt, LocalDateTime slaStartedAt, LocalDateTime dueAt, boolean atRisk, boolean breached) {}
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestSlaEngine.class);
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private final Map<IssueType, Duration> resolveWithin = new EnumMap<>(IssueType.class);
+    private final int atRiskPercent;
+    private final HierarchicalTimingWheel<SlaTimer> wheel;
+
+    private final TreeSet<QueueEntry> queue = new TreeSet<>(Comparator
+            .comparing(QueueEntry::dueAt)
+            .thenComparingInt(QueueEntry::serviceRequestId));
+    private final Map<Integer, QueueEntry> entries = new HashMap<>();
+
+    public ServiceRequestSlaEngine(
+            @Value("${sla.resolve-hours:HARDWARE:24,SOFTWARE:8,NETWORK:4,ACCESS:4,OTHER:48}") String resolveHours,
+            @Value("${sla.default-resolve-hours:48}") long defaultResolveHours,
+            @Value("${sla.at-risk-percent:75}") int atRiskPercent,
+            @Value("${sla.tick-ms:1000}") long tickMs,
+            @Value("${sla.wheel-size:64}") int wheelSize) {
+        for (IssueType type : IssueType.values()) {
+            resolveWithin.put(type, Duration.ofHours(defaultResolveHours));
+        }
+        // Policy format: TYPE:hours[,TYPE:hours...]
+        for (String policy : resolveHours.split(",")) {
+            String[] parts = policy.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid SLA policy '" + policy + "', expected TYPE:hours");
+            }
+            resolveWithin.put(IssueType.valueOf(parts[0].trim()), Duration.ofHours(Long.parseLong(parts[1].trim())));
+        }
+        this.atRiskPercent = atRiskPercent;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    // SLA deadline for a request of the given type raised at requestedAt
+    public LocalDateTime computeDueAt(IssueType issueType, LocalDateTime requestedAt) {
+        return requestedAt.plus(resolveWithin.get(issueType));
+    }
+
+    // Rebuild the queue and timers for every open request
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SlaTimerView> open = serviceRequestRepository.findOpenSlaTimers(List.of(Status.Pending, Status.Transit));
+        for (SlaTimerView view : open) {
+            LocalDateTime startedAt = view.getSlaStartedAt() != null ? view.getSlaStartedAt() : view.getRequestedAt();
+            LocalDateTime dueAt = view.getDueAt() != null
+                ? view.getDueAt() : computeDueAt(view.getIssueType(), startedAt);
+            upsert(new QueueEntry(view.getServiceRequestId(), view.getIssueType(), view.getStatus(),
+                view.getEmployeeId(), view.getAssetId(), view.getRequestedAt(), startedAt, dueAt,
+                view.getSlaAtRiskAt() != null, view.getSlaBreachedAt() != null));
+        }
+        logger.info("Rebuilt SLA queue with {} open service requests", open.size());
+    }
+
+    // Add, update or (when completed) remove a request once the surrounding transaction commits
+    public void track(ServiceRequest serviceRequest) {
+        TransactionCallbacks.afterCommit(() -> apply(serviceRequest));
+    }
+
+    // Apply a bulk status change (incident propagation) once the surrounding transaction commits
+    public void trackStatus(Collection<Integer> serviceRequestIds, Status status) {
+        TransactionCallbacks.afterCommit(() -> applyStatus(serviceRequestIds, status));
+    }
+
+    // The most urgent open requests, earliest deadline first
+    public synchronized List<ServiceRequestQueueItemDto> peek(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ServiceRequestQueueItemDto> items = new ArrayList<>(Math.min(limit, queue.size()));
+        Iterator<QueueEntry> it = queue.iterator();
+        while (it.hasNext() && items.size() < limit) {
+            QueueEntry entry = it.next();
+            long minutesRemaining = Duration.between(now, entry.dueAt()).toMinutes();
+            SlaState state = entry.breached() || minutesRemaining < 0 ? SlaState.BREACHED
+                : entry.atRisk() || !now.isBefore(atRiskAt(entry)) ? SlaState.AT_RISK : SlaState.ON_TRACK;
+            items.add(new ServiceRequestQueueItemDto(entry.serviceRequestId(), entry.issueType(), entry.status(),
+                entry.employeeId(), entry.assetId(), entry.requestedAt(), entry.dueAt(), minutesRemaining, state));
+        }
+        return items;
+    }
+
+    public synchronized int getOpenCount() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${sla.tick-ms:1000}")
+    public void tick() {
+        List<SlaTimer> fired = wheel.advance(System.currentTimeMillis());
+        if (!fired.isEmpty()) {
+            fire(fired);
+        }
+    }
+
+    private void apply(ServiceRequest serviceRequest) {
+        int id = serviceRequest.getServiceRequestId();
+        if (serviceRequest.getStatus() == Status.Completed) {
+            synchronized (this) {
+                QueueEntry removed = entries.remove(id);
+                if (removed != null) {
+                    queue.remove(removed);
+                }
+            }
+            wheel.cancel(new SlaTimer(id, TimerKind.AT_RISK));
+            wheel.cancel(new SlaTimer(id, TimerKind.BREACH));
+            return;
+        }
+        LocalDateTime startedAt = serviceRequest.getSlaStartedAt() != null
+            ? serviceRequest.getSlaStartedAt() : serviceRequest.getRequestedAt();
+        LocalDateTime dueAt = serviceRequest.getDueAt() != null
+            ? serviceRequest.getDueAt() : computeDueAt(serviceRequest.getIssueType(), startedAt);
+        upsert(new QueueEntry(id, serviceRequest.getIssueType(), serviceRequest.getStatus(),
+            serviceRequest.getEmployee().getEmployeeId(),
+            serviceRequest.getAsset() != null ? serviceRequest.getAsset().getAssetId() : null,
+            serviceRequest.getRequestedAt(), startedAt, dueAt,
+            serviceRequest.getSlaAtRiskAt() != null, serviceRequest.getSlaBreachedAt() != null));
+    }
+
+    private void applyStatus(Collection<Integer> serviceRequestIds, Status status) {
+        for (Integer id : serviceRequestIds) {
+            synchronized (this) {
+                QueueEntry entry = entries.get(id);
+                if (entry == null) {
+                    continue;
+                }
+                queue.remove(entry);
+                if (status == Status.Completed) {
+                    entries.remove(id);
+                } else {
+                    QueueEntry updated = new QueueEntry(entry.serviceRequestId(), entry.issueType(), status,
+                        entry.employeeId(), entry.assetId(), entry.requestedAt(), entry.slaStartedAt(), entry.dueAt(),
+                        entry.atRisk(), entry.breached());
+                    queue.add(updated);
+                    entries.put(id, updated);
+                }
+            }
+            if (status == Status.Completed) {
+                wheel.cancel(new SlaTimer(id, TimerKind.AT_RISK));
+                wheel.cancel(new SlaTimer(id, TimerKind.BREACH));
+            }
+        }
+    }
+
+    private void upsert(QueueEntry entry) {
+        synchronized (this) {
+            QueueEntry previous = entries.put(entry.serviceRequestId(), entry);
+            if (previous != null) {
+                queue.remove(previous);
+                // Keep escalations already recorded in memory
+                entry = new QueueEntry(entry.serviceRequestId(), entry.issueType(), entry.status(), entry.employeeId(),
+                    entry.assetId(), entry.requestedAt(), entry.slaStartedAt(), entry.dueAt(),
+                    entry.atRisk() || previous.atRisk(), entry.breached() || previous.breached());
+                entries.put(entry.serviceRequestId(), entry);
+            }
+            queue.add(entry);
+        }
+        List<SlaTimer> due = new ArrayList<>(2);
+        if (!entry.atRisk()) {
+            SlaTimer atRisk = new SlaTimer(entry.serviceRequestId(), TimerKind.AT_RISK);
+            if (!wheel.schedule(atRisk, toEpochMs(atRiskAt(entry)))) {
+                due.add(atRisk);
+            }
+        }
+        if (!entry.breached()) {
+            SlaTimer breach = new SlaTimer(entry.serviceRequestId(), TimerKind.BREACH);
+            if (!wheel.schedule(breach, toEpochMs(entry.dueAt()))) {
+                due.add(breach);
+            }
+        }
+        if (!due.isEmpty()) {
+            fire(due);
+        }
+    }
+
+    // Record escalations and send one admin notification per kind for the whole batch
+    private void fire(List<SlaTimer> timers) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> atRisk = new ArrayList<>();
+        List<Integer> breached = new ArrayList<>();
+        for (SlaTimer timer : timers) {
+            try {
+                int id = timer.serviceRequestId();
+                if (timer.kind() == TimerKind.AT_RISK) {
+                    if (serviceRequestRepository.markSlaAtRisk(id, Status.Completed, now) == 1) {
+                        markInQueue(id, true, false);
+                        atRisk.add(id);
+                        eventPublisher.publish(EventType.SERVICE_REQUEST, id, null, null, "SLA_AT_RISK");
+                    }
+                } else if (serviceRequestRepository.markSlaBreached(id, Status.Completed, now) == 1) {
+                    markInQueue(id, false, true);
+                    breached.add(id);
+                    eventPublisher.publish(EventType.SERVICE_REQUEST, id, null, null, "SLA_BREACHED");
+                }
+            } catch (Exception e) {
+                logger.error("Failed to process {} timer for service request {}: {}", timer.kind(), timer.serviceRequestId(), e.getMessage(), e);
+            }
+        }
+        if (!atRisk.isEmpty()) {
+            logger.warn("{} service requests are at risk of breaching their SLA", atRisk.size());
+            notificationService.notifyAdmins("Service requests at risk of breaching SLA", atRisk);
+        }
+        if (!breached.isEmpty()) {
+            logger.warn("{} service requests have breached their SLA", breached.size());
+            notificationService.notifyAdmins("Service requests past their SLA deadline", breached);
+        }
+    }
+
+    private synchronized void markInQueue(int serviceRequestId, boolean atRisk, boolean breached) {
+        QueueEntry entry = entries.get(serviceRequestId);
+        if (entry != null) {
+            // Due time is unchanged, so the entry keeps its position in the queue
+            QueueEntry updated = new QueueEntry(entry.serviceRequestId(), entry.issueType(), entry.status(),
+                entry.employeeId(), entry.assetId(), entry.requestedAt(), entry.slaStartedAt(), entry.dueAt(),
+                entry.atRisk() || atRisk, entry.breached() || breached);
+            queue.remove(entry);
+            queue.add(updated);
+            entries.put(serviceRequestId, updated);
+        }
+    }
+
+    private LocalDateTime atRiskAt(QueueEntry entry) {
+        long windowMs = Duration.between(entry.slaStartedAt(), entry.dueAt()).toMillis();
+        return entry.slaStartedAt().plus(Duration.ofMillis(windowMs * atRiskPercent / 100));
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,129 @@
+package com.hexaware.assetmanagement.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Priority;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository.TrainingExampleView;
+import com.hexaware.assetmanagement.util.HashedNaiveBayes;
+import com.hexaware.assetmanagement.util.HashedNaiveBayes.Compiled;
+
+/**
+ * Suggests an issue type and priority for new service requests from their description.
+ * Two naive Bayes models are trained from resolved requests, once per request: issue type
+ * on the type the completing admin confirmed, priority on the SLA outcome (breached = HIGH,
+ * at risk = MEDIUM, else LOW).
+ * A background job folds newly resolved requests into the counts and publishes freshly
+ * compiled models; requests only ever read the published snapshot.
+ */
+@Service
+public class ServiceRequestTriageEngine {
+
+    public record Suggestion(IssueType issueType, Priority priority, double confidence) {}
+
+    private record Models(Compiled issueType, Compiled priority) {}
+
+    private static final IssueType[] ISSUE_TYPES = IssueType.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceRequestTriageEngine.class);
+
+    @Autowired
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Value("${triage.min-examples:50}")
+    private long minExamples = 50;
+
+    @Value("${triage.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${triage.smoothing:0.5}")
+    private double smoothing = 0.5;
+
+    private final Object trainingLock = new Object();
+    private HashedNaiveBayes issueTypeCounts;
+    private HashedNaiveBayes priorityCounts;
+    private long lastTransitionId;
+
+    private volatile Models models;
+
+    private final ThreadLocal<double[][]> scratch = ThreadLocal.withInitial(
+            () -> new double[][] { new double[ISSUE_TYPES.length], new double[PRIORITIES.length] });
+
+    public ServiceRequestTriageEngine(@Value("${triage.feature-bits:16}") int featureBits) {
+        this.issueTypeCounts = new HashedNaiveBayes(ISSUE_TYPES.length, featureBits);
+        this.priorityCounts = new HashedNaiveBayes(PRIORITIES.length, featureBits);
+    }
+
+    // Suggestion for a new request, or null until enough resolved history has been seen
+    public Suggestion suggest(String description) {
+        Models current = models;
+        if (current == null || description == null) {
+            return null;
+        }
+        double[][] posterior = scratch.get();
+        int issueType = current.issueType().classify(description, posterior[0]);
+        int priority = current.priority().classify(description, posterior[1]);
+        return new Suggestion(ISSUE_TYPES[issueType], PRIORITIES[priority], posterior[0][issueType]);
+    }
+
+    public long getTrainedCount() {
+        Models current = models;
+        return current == null ? 0 : current.issueType().getTrainedDocuments();
+    }
+
+    // Fold requests resolved since the last run into the models (the first run trains on all history)
+    @Scheduled(initialDelayString = "${triage.initial-delay-ms:5000}", fixedDelayString = "${triage.retrain-ms:300000}")
+    public void retrain() {
+        synchronized (trainingLock) {
+            long started = System.currentTimeMillis();
+            // Train copies so a failed run leaves the counts and published models untouched
+            HashedNaiveBayes issueTypes = issueTypeCounts.copy();
+            HashedNaiveBayes priorities = priorityCounts.copy();
+            long after = lastTransitionId;
+            int added = 0;
+            List<TrainingExampleView> batch;
+            do {
+                batch = transitionRepository.findTrainingExamples(Status.Transit, Status.Completed, after, PageRequest.of(0, batchSize));
+                for (TrainingExampleView example : batch) {
+                    if (example.getDescription() != null) {
+                        issueTypes.train(example.getDescription(), example.getIssueType().ordinal());
+                        priorities.train(example.getDescription(), priorityOf(example).ordinal());
+                        added++;
+                    }
+                    after = example.getTransitionId();
+                }
+            } while (batch.size() == batchSize);
+
+            if (after == lastTransitionId) {
+                return;
+            }
+            issueTypeCounts = issueTypes;
+            priorityCounts = priorities;
+            lastTransitionId = after;
+            if (issueTypes.getDocumentCount() >= minExamples) {
+                models = new Models(issueTypes.compile(smoothing), priorities.compile(smoothing));
+            }
+            logger.info("Triage models updated with {} resolved requests ({} total) in {} ms{}", added,
+                    issueTypes.getDocumentCount(), System.currentTimeMillis() - started,
+                    models == null ? ", waiting for " + minExamples + " before suggesting" : "");
+        }
+    }
+
+    private static Priority priorityOf(TrainingExampleView example) {
+        if (example.getSlaBreachedAt() != null) {
+            return Priority.HIGH;
+        }
+        return example.getSlaAtRiskAt() != null ? Priority.MEDIUM : Priority.LOW;
+    }
+}
@@ -0,0 +1,266 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.dto.TechnicianProfileDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.entity.TechnicianProfile;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.TechnicianLoadView;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.UnassignedView;
+import com.hexaware.assetmanagement.repository.ITechnicianProfileRepository;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+/**
+ * Hands out service requests to technicians.
+ * New requests are pushed to the least-loaded active technician with the matching skill;
+ * technicians can also pull the next request, stealing unstarted work from the tail of an
+ * overloaded colleague's queue. Every hand-off is a conditional UPDATE, so two technicians
+ * can never pick up the same request.
+ */
+@Service
+public class TechnicianServiceImp implements ITechnicianService {
+
+    private static final List<Status> OPEN = List.of(Status.Pending, Status.Transit);
+
+    @Autowired
+    private ITechnicianProfileRepository profileRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private WorkflowEventPublisher eventPublisher;
+
+    @Value("${dispatch.steal-threshold:2}")
+    private int stealThreshold = 2;
+
+    @Value("${dispatch.candidate-batch:20}")
+    private int candidateBatch = 20;
+
+    private static final Logger logger = LoggerFactory.getLogger(TechnicianServiceImp.class);
+
+    // Create or update an admin's technician profile
+    @Override
+    public TechnicianProfileDto saveProfile(int employeeId, TechnicianProfileDto dto) {
+        logger.info("Received request to save technician profile for employee {}", employeeId);
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        if (employee.getRole() != Employee.Role.ADMIN) {
+            throw new BadRequestException("Only admins can be registered as technicians");
+        }
+        TechnicianProfile profile = profileRepository.save(
+                new TechnicianProfile(employeeId, dto.getSkills(), dto.getMaxOpen(), dto.isActive()));
+        logger.info("Technician profile saved for employee {} with skills {}", employeeId, profile.getSkills());
+        return toDto(profile, employee.getName(), loadByTechnician().getOrDefault(employeeId, 0L));
+    }
+
+    // List technicians with their current open load
+    @Override
+    @Transactional(readOnly = true)
+    public List<TechnicianProfileDto> getTechnicians() {
+        logger.info("Received request to get all technicians");
+        List<TechnicianProfile> profiles = profileRepository.findAll();
+        Map<Integer, Long> load = loadByTechnician();
+        Map<Integer, String> names = new HashMap<>();
+        employeeRepository.findAllById(profiles.stream().map(TechnicianProfile::getEmployeeId).toList())
+                .forEach(e -> names.put(e.getEmployeeId(), e.getName()));
+        List<TechnicianProfileDto> technicians = profiles.stream()
+                .map(p -> toDto(p, names.get(p.getEmployeeId()), load.getOrDefault(p.getEmployeeId(), 0L)))
+                .toList();
+        logger.info("Successfully retrieved {} technicians", technicians.size());
+        return technicians;
+    }
+
+    // Take the most urgent unassigned request, or steal from an overloaded colleague
+    @Override
+    public Optional<ServiceRequest> claimNext(int technicianId) {
+        logger.info("Technician {} is requesting the next service request", technicianId);
+        TechnicianProfile profile = profileRepository.findById(technicianId)
+                .orElseThrow(() -> new BadRequestException("You are not registered as a technician"));
+        Set<IssueType> skills = profile.getSkillSet();
+        Map<Integer, Long> load = loadByTechnician();
+        long myLoad = load.getOrDefault(technicianId, 0L);
+        if (!profile.isActive() || myLoad >= profile.getMaxOpen()) {
+            logger.info("Technician {} is inactive or at capacity ({}/{})", technicianId, myLoad, profile.getMaxOpen());
+            return Optional.empty();
+        }
+        Employee me = employeeRepository.getReferenceById(technicianId);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Integer id : serviceRequestRepository.findUnassignedCandidates(Status.Pending, skills, PageRequest.of(0, candidateBatch))) {
+            if (serviceRequestRepository.claimUnassigned(id, me, OPEN, now) == 1) {
+                return Optional.of(claimed(id, technicianId, "claimed"));
+            }
+        }
+
+        // Nothing free: steal from the busiest technicians first
+        List<Map.Entry<Integer, Long>> victims = new ArrayList<>(load.entrySet());
+        victims.sort(Map.Entry.<Integer, Long>comparingByValue().reversed());
+        for (Map.Entry<Integer, Long> victim : victims) {
+            if (victim.getKey() == technicianId || victim.getValue() < myLoad + stealThreshold) {
+                continue;
+            }
+            Employee victimRef = employeeRepository.getReferenceById(victim.getKey());
+            for (Integer id : serviceRequestRepository.findStealCandidates(Status.Pending, victim.getKey(), skills, PageRequest.of(0, candidateBatch))) {
+                if (serviceRequestRepository.steal(id, victimRef, me, Status.Pending, now) == 1) {
+                    logger.info("Technician {} stole service request {} from technician {} (load {})",
+                            technicianId, id, victim.getKey(), victim.getValue());
+                    return Optional.of(claimed(id, technicianId, "stolen"));
+                }
+            }
+        }
+        logger.info("No service request available for technician {}", technicianId);
+        return Optional.empty();
+    }
+
+    // Manually (re)assign an open request to a technician
+    @Override
+    public ServiceRequest assign(int serviceRequestId, int technicianId) {
+        logger.info("Received request to assign service request {} to technician {}", serviceRequestId, technicianId);
+        if (!profileRepository.existsById(technicianId)) {
+            throw new ResourceNotFoundException("Technician not found with ID: " + technicianId);
+        }
+        ServiceRequest serviceRequest = serviceRequestRepository.findById(serviceRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service Request not found with id " + serviceRequestId));
+        if (serviceRequest.getStatus() == Status.Completed) {
+            throw new BadRequestException("Completed service requests cannot be assigned");
+        }
+        serviceRequest.setAssignee(employeeRepository.getReferenceById(technicianId));
+        serviceRequest.setAssignedAt(LocalDateTime.now());
+        serviceRequestRepository.save(serviceRequest);
+        publishAssigned(serviceRequestId, technicianId);
+        logger.info("Service request {} assigned to technician {}", serviceRequestId, technicianId);
+        return reload(serviceRequestId);
+    }
+
+    // A technician's open requests, most urgent first
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceRequest> getAssignedRequests(int technicianId) {
+        logger.info("Received request to get assigned service requests for technician {}", technicianId);
+        List<ServiceRequest> assigned = serviceRequestRepository.findAssignedTo(technicianId, OPEN);
+        serviceRequestRepository.fetchDescriptions(assigned);
+        assetRepository.fetchDescriptions(assigned, ServiceRequest::getAsset);
+        logger.info("Successfully retrieved {} assigned service requests for technician {}", assigned.size(), technicianId);
+        return assigned;
+    }
+
+    // Push a new request to a technician once its creating transaction commits
+    @Override
+    public void dispatch(ServiceRequest serviceRequest) {
+        int id = serviceRequest.getServiceRequestId();
+        IssueType issueType = serviceRequest.getIssueType();
+        TransactionCallbacks.afterCommit(() -> dispatchSafely(id, issueType, loadByTechnician()));
+    }
+
+    // Hand out requests that found no technician when they were created, or lost theirs at offboarding
+    @Scheduled(fixedDelayString = "${dispatch.sweep-ms:60000}")
+    public void sweepUnassigned() {
+        List<UnassignedView> unassigned = serviceRequestRepository.findUnassigned(OPEN, PageRequest.of(0, 500));
+        if (unassigned.isEmpty()) {
+            return;
+        }
+        Map<Integer, Long> load = loadByTechnician();
+        int assigned = 0;
+        for (UnassignedView view : unassigned) {
+            if (dispatchSafely(view.getServiceRequestId(), view.getIssueType(), load)) {
+                assigned++;
+            }
+        }
+        logger.info("Dispatch sweep assigned {} of {} unassigned service requests", assigned, unassigned.size());
+    }
+
+    private boolean dispatchSafely(int serviceRequestId, IssueType issueType, Map<Integer, Long> load) {
+        try {
+            return dispatchTo(serviceRequestId, issueType, load);
+        } catch (Exception e) {
+            logger.error("Failed to dispatch service request {}: {}", serviceRequestId, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // Least-loaded active technician with the skill and spare capacity; load is updated in place
+    private boolean dispatchTo(int serviceRequestId, IssueType issueType, Map<Integer, Long> load) {
+        Optional<TechnicianProfile> target = profileRepository.findByActiveTrue().stream()
+                .filter(p -> p.getSkillSet().contains(issueType))
+                .filter(p -> load.getOrDefault(p.getEmployeeId(), 0L) < p.getMaxOpen())
+                .min(Comparator.<TechnicianProfile>comparingLong(p -> load.getOrDefault(p.getEmployeeId(), 0L))
+                        .thenComparingInt(TechnicianProfile::getEmployeeId));
+        if (target.isEmpty()) {
+            logger.debug("No technician available for service request {} ({})", serviceRequestId, issueType);
+            return false;
+        }
+        int technicianId = target.get().getEmployeeId();
+        if (serviceRequestRepository.claimUnassigned(serviceRequestId, employeeRepository.getReferenceById(technicianId),
+                OPEN, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        load.merge(technicianId, 1L, Long::sum);
+        publishAssigned(serviceRequestId, technicianId);
+        logger.info("Dispatched service request {} ({}) to technician {}", serviceRequestId, issueType, technicianId);
+        return true;
+    }
+
+    private ServiceRequest claimed(int serviceRequestId, int technicianId, String how) {
+        publishAssigned(serviceRequestId, technicianId);
+        logger.info("Technician {} {} service request {}", technicianId, how, serviceRequestId);
+        return reload(serviceRequestId);
+    }
+
+    // Read back outside a transaction, so the lazy descriptions are filled in on the detached copy
+    private ServiceRequest reload(int serviceRequestId) {
+        ServiceRequest serviceRequest = serviceRequestRepository.findById(serviceRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service Request not found with id " + serviceRequestId));
+        serviceRequestRepository.fetchDescriptions(List.of(serviceRequest));
+        assetRepository.fetchDescriptions(List.of(serviceRequest), ServiceRequest::getAsset);
+        return serviceRequest;
+    }
+
+    private Map<Integer, Long> loadByTechnician() {
+        Map<Integer, Long> load = new HashMap<>();
+        for (TechnicianLoadView view : serviceRequestRepository.countOpenByAssignee(OPEN)) {
+            load.put(view.getEmployeeId(), view.getOpenCount());
+        }
+        return load;
+    }
+
+    private void publishAssigned(int serviceRequestId, int technicianId) {
+        eventPublisher.publish(EventType.SERVICE_REQUEST, serviceRequestId, technicianId, null, "ASSIGNED");
+    }
+
+    private static TechnicianProfileDto toDto(TechnicianProfile profile, String name, long openCount) {
+        return new TechnicianProfileDto(profile.getEmployeeId(), name, profile.getSkillSet(),
+                profile.getMaxOpen(), profile.isActive(), openCount);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hexaware.assetmanagement.dto.WorkflowLatencyDto;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.service.WorkflowLatencyRecorder.Cell;
+import com.hexaware.assetmanagement.util.LatencySketch;
+
+/** Serves workflow latency percentiles from the in-memory sketches */
+@Service
+public class WorkflowAnalyticsServiceImp implements IWorkflowAnalyticsService {
+
+    @Autowired
+    private WorkflowLatencyRecorder latencyRecorder;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowAnalyticsServiceImp.class);
+
+    // Percentiles per metric, dimension and week (or merged across the weeks)
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkflowLatencyDto> getWorkflowLatency(Metric metric, int weeks, boolean merge) {
+        logger.info("Received request for workflow latency: metric={}, weeks={}, merge={}", metric, weeks, merge);
+        if (weeks < 1 || weeks > 52) {
+            throw new BadRequestException("Weeks must be between 1 and 52");
+        }
+        List<Cell> cells = latencyRecorder.snapshot(metric, WorkflowLatencyRecorder.weekOf(LocalDateTime.now()).minusWeeks(weeks - 1L));
+
+        if (merge) {
+            // Sketches are mergeable, so a multi-week view costs one merge per cell
+            Map<String, Cell> merged = new LinkedHashMap<>();
+            for (Cell cell : cells) {
+                LatencySketch target = merged.computeIfAbsent(cell.metric + "|" + cell.dimension, k -> new Cell(cell.metric,
+                        cell.dimension, null, new LatencySketch(cell.sketch.getRelativeAccuracy()))).sketch;
+                if (target.getRelativeAccuracy() != cell.sketch.getRelativeAccuracy()) {
+                    logger.warn("Skipping {} week {} sketch recorded with a different accuracy", cell.dimension, cell.weekStart);
+                    continue;
+                }
+                target.merge(cell.sketch);
+            }
+            cells = new ArrayList<>(merged.values());
+        }
+
+        Map<String, String> categoryNames = new HashMap<>();
+        categoryRepository.findAll().forEach(c -> categoryNames.put(String.valueOf(c.getCategoryId()), c.getCategoryName()));
+        List<WorkflowLatencyDto> result = new ArrayList<>(cells.size());
+        for (Cell cell : cells) {
+            LatencySketch sketch = cell.sketch;
+            String label = cell.metric == Metric.REPAIR_RESOLUTION ? cell.dimension
+                    : categoryNames.getOrDefault(cell.dimension, "Category " + cell.dimension);
+            result.add(new WorkflowLatencyDto(cell.metric, cell.dimension, label, cell.weekStart, sketch.getCount(),
+                    orZero(sketch.getMean()), orZero(sketch.quantile(0.5)), orZero(sketch.quantile(0.9)), orZero(sketch.quantile(0.99)),
+                    orZero(sketch.getMax())));
+        }
+        result.sort(Comparator.comparing(WorkflowLatencyDto::getMetric)
+                .thenComparing(WorkflowLatencyDto::getDimensionLabel)
+                .thenComparing(WorkflowLatencyDto::getWeekStart, Comparator.nullsFirst(Comparator.reverseOrder())));
+        logger.info("Returning {} workflow latency rows", result.size());
+        return result;
+    }
+
+    private static double orZero(double value) {
+        return Double.isNaN(value) ? 0 : value;
+    }
+}
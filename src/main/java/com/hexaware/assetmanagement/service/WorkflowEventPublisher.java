@@ -0,0 +1,200 @@
+package com.hexaware.assetmanagement.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hexaware.assetmanagement.dto.WorkflowEventDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publishes workflow change events to admin SSE subscribers.
+ * Events are sequenced and kept in a bounded replay window so clients can resume
+ * with Last-Event-ID; each connection drains its own bounded buffer and is dropped
+ * (and expected to reconnect) when it falls too far behind.
+ */
+@Service
+public class WorkflowEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowEventPublisher.class);
+
+    @Value("${events.replay-size:1024}")
+    private int replaySize = 1024;
+
+    @Value("${events.client-buffer-size:256}")
+    private int clientBufferSize = 256;
+
+    @Value("${events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs = 1800000L;
+
+    private final Deque<WorkflowEventDto> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(2, r -> {
+        Thread thread = new Thread(r, "workflow-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long sequence = 0;
+
+    // Publish once the surrounding transaction commits, or immediately when there is none
+    public void publish(EventType type, int entityId, Integer employeeId, Integer assetId, String status) {
+        TransactionCallbacks.afterCommit(() -> dispatch(type, entityId, employeeId, assetId, status));
+    }
+
+    // Open a new stream, replaying anything the client missed since lastEventId
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(clientBufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (replay) {
+            if (lastEventId != null) {
+                List<WorkflowEventDto> missed = replaySince(lastEventId);
+                if (missed == null || missed.size() > clientBufferSize) {
+                    // Replay window no longer covers the gap: tell the client to reload its lists
+                    subscriber.buffer.offer(new WorkflowEventDto(sequence, EventType.RESYNC, 0, null, null, null));
+                } else {
+                    subscriber.buffer.addAll(missed);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        logger.info("SSE subscriber connected (lastEventId={}), {} active", lastEventId, subscribers.size());
+        schedule(subscriber);
+        return emitter;
+    }
+
+    // Keep idle connections (and intermediate proxies) from timing out
+    @Scheduled(fixedDelayString = "${events.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(subscriber, "heartbeat failed");
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Events newer than lastEventId, or null when some of them have already been evicted
+    List<WorkflowEventDto> replaySince(long lastEventId) {
+        synchronized (replay) {
+            if (lastEventId >= sequence) {
+                return new ArrayList<>();
+            }
+            WorkflowEventDto oldest = replay.peekFirst();
+            if (oldest == null || oldest.getEventId() > lastEventId + 1) {
+                return null;
+            }
+            List<WorkflowEventDto> missed = new ArrayList<>();
+            for (WorkflowEventDto event : replay) {
+                if (event.getEventId() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+    }
+
+    private void dispatch(EventType type, int entityId, Integer employeeId, Integer assetId, String status) {
+        List<Subscriber> lagging = new ArrayList<>();
+        synchronized (replay) {
+            WorkflowEventDto event = new WorkflowEventDto(++sequence, type, entityId, employeeId, assetId, status);
+            replay.addLast(event);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.buffer.offer(event)) {
+                    lagging.add(subscriber);
+                }
+            }
+        }
+        for (Subscriber subscriber : lagging) {
+            drop(subscriber, "buffer full");
+        }
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            WorkflowEventDto event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getEventId()))
+                        .name(event.getType().name().toLowerCase())
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e.getMessage());
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            logger.warn("Dropping SSE subscriber ({}), client is expected to resume with Last-Event-ID", reason);
+            try {
+                subscriber.emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // emitter already completed
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            drop(subscriber, "shutdown");
+        }
+        dispatcher.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<WorkflowEventDto> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<WorkflowEventDto> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hexaware.assetmanagement.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hexaware.assetmanagement.entity.LatencySketchRecord;
+import com.hexaware.assetmanagement.entity.LatencySketchRecord.Metric;
+import com.hexaware.assetmanagement.repository.ILatencySketchRepository;
+import com.hexaware.assetmanagement.util.LatencySketch;
+import com.hexaware.assetmanagement.util.TransactionCallbacks;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Records workflow latencies at write time into per (metric, dimension, week) sketches.
+ * Sketches live in memory, are loaded at startup and flushed to latency_sketch when
+ * they change, so percentiles are served without scanning workflow history.
+ */
+@Service
+public class WorkflowLatencyRecorder {
+
+    // A sketch of one (metric, dimension, week) cell; guarded by its own monitor
+    static final class Cell {
+        final Metric metric;
+        final String dimension;
+        final LocalDate weekStart;
+        final LatencySketch sketch;
+        boolean dirty;
+
+        Cell(Metric metric, String dimension, LocalDate weekStart, LatencySketch sketch) {
+            this.metric = metric;
+            this.dimension = dimension;
+            this.weekStart = weekStart;
+            this.sketch = sketch;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowLatencyRecorder.class);
+
+    @Autowired
+    private ILatencySketchRepository sketchRepository;
+
+    @Value("${analytics.latency.relative-accuracy:0.01}")
+    private double relativeAccuracy = 0.01;
+
+    @Value("${analytics.latency.retention-weeks:52}")
+    private int retentionWeeks = 52;
+
+    private final Map<String, Cell> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<LatencySketchRecord> records = sketchRepository.findByWeekStartGreaterThanEqual(weekOf(LocalDateTime.now()).minusWeeks(retentionWeeks));
+        for (LatencySketchRecord record : records) {
+            try {
+                cells.put(record.getSketchKey(), new Cell(record.getMetric(), record.getDimension(),
+                        record.getWeekStart(), LatencySketch.decode(record.getSketch())));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping unreadable latency sketch {}: {}", record.getSketchKey(), e.getMessage());
+            }
+        }
+        logger.info("Loaded {} workflow latency sketches", cells.size());
+    }
+
+    // Record the time from start to end once the surrounding transaction commits
+    public void record(Metric metric, String dimension, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> add(metric, dimension, start, end));
+    }
+
+    // Merged copies of every sketch for the metric (or all metrics) since the given week
+    List<Cell> snapshot(Metric metric, LocalDate fromWeek) {
+        List<Cell> result = new ArrayList<>();
+        for (Cell cell : cells.values()) {
+            if ((metric == null || cell.metric == metric) && !cell.weekStart.isBefore(fromWeek)) {
+                LatencySketch copy = new LatencySketch(cell.sketch.getRelativeAccuracy());
+                synchronized (cell) {
+                    copy.merge(cell.sketch);
+                }
+                result.add(new Cell(cell.metric, cell.dimension, cell.weekStart, copy));
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.latency.flush-ms:30000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        List<LatencySketchRecord> dirty = new ArrayList<>();
+        for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            synchronized (cell) {
+                if (cell.dirty) {
+                    dirty.add(new LatencySketchRecord(entry.getKey(), cell.metric, cell.dimension, cell.weekStart,
+                            cell.sketch.encode(), now));
+                    cell.dirty = false;
+                }
+            }
+        }
+        if (!dirty.isEmpty()) {
+            try {
+                sketchRepository.saveAll(dirty);
+                logger.debug("Flushed {} workflow latency sketches", dirty.size());
+            } catch (Exception e) {
+                // Mark them dirty again so the next flush retries
+                dirty.forEach(r -> markDirty(r.getSketchKey()));
+                logger.error("Failed to flush {} latency sketches: {}", dirty.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    static LocalDate weekOf(LocalDateTime time) {
+        return time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private void add(Metric metric, String dimension, LocalDateTime start, LocalDateTime end) {
+        LocalDate week = weekOf(end);
+        String key = metric + "|" + dimension + "|" + week;
+        Cell cell = cells.computeIfAbsent(key, k -> new Cell(metric, dimension, week, new LatencySketch(relativeAccuracy)));
+        double seconds = Duration.between(start, end).toMillis() / 1000.0;
+        synchronized (cell) {
+            cell.sketch.add(seconds);
+            cell.dirty = true;
+        }
+    }
+
+    private void markDirty(String key) {
+        Cell cell = cells.get(key);
+        if (cell != null) {
+            synchronized (cell) {
+                cell.dirty = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.hexaware.assetmanagement.util;
+
+import java.util.Arrays;
+
+/**
+ * Multinomial naive Bayes over hashed unigram and bigram features of free text.
+ * Training only adds counts, so a model can be updated incrementally; {@link #compile}
+ * freezes the counts into log-probability tables for allocation-light scoring.
+ * Training is not thread-safe; compiled models are immutable and safe to share.
+ */
+public class HashedNaiveBayes {
+
+    private final int classes;
+    private final int mask;
+    private final int[][] counts;
+    private final long[] tokenTotals;
+    private final long[] documents;
+
+    public HashedNaiveBayes(int classes, int featureBits) {
+        if (classes < 2 || featureBits < 4 || featureBits > 24) {
+            throw new IllegalArgumentException("Need at least 2 classes and 4..24 feature bits");
+        }
+        this.classes = classes;
+        this.mask = (1 << featureBits) - 1;
+        this.counts = new int[classes][1 << featureBits];
+        this.tokenTotals = new long[classes];
+        this.documents = new long[classes];
+    }
+
+    private HashedNaiveBayes(HashedNaiveBayes source) {
+        this.classes = source.classes;
+        this.mask = source.mask;
+        this.counts = new int[classes][];
+        for (int c = 0; c < classes; c++) {
+            this.counts[c] = source.counts[c].clone();
+        }
+        this.tokenTotals = source.tokenTotals.clone();
+        this.documents = source.documents.clone();
+    }
+
+    public HashedNaiveBayes copy() {
+        return new HashedNaiveBayes(this);
+    }
+
+    public void train(CharSequence text, int label) {
+        int[] row = counts[label];
+        tokenTotals[label] += forEachFeature(text, index -> row[index]++);
+        documents[label]++;
+    }
+
+    public long getDocumentCount() {
+        long total = 0;
+        for (long n : documents) {
+            total += n;
+        }
+        return total;
+    }
+
+    /** Freeze the current counts with additive (Laplace) smoothing {@code alpha} */
+    public Compiled compile(double alpha) {
+        int buckets = mask + 1;
+        float[] logLikelihood = new float[classes * buckets];
+        double[] logPrior = new double[classes];
+        long allDocuments = getDocumentCount();
+        for (int c = 0; c < classes; c++) {
+            logPrior[c] = Math.log((documents[c] + 1.0) / (allDocuments + classes));
+            double denominator = Math.log(tokenTotals[c] + alpha * buckets);
+            for (int i = 0; i < buckets; i++) {
+                // Class-major layout keeps one class's lookups in the same region
+                logLikelihood[c * buckets + i] = (float) (Math.log(counts[c][i] + alpha) - denominator);
+            }
+        }
+        return new Compiled(classes, mask, logLikelihood, logPrior, allDocuments);
+    }
+
+    /** Immutable scoring tables produced by {@link HashedNaiveBayes#compile} */
+    public static final class Compiled {
+
+        private final int classes;
+        private final int mask;
+        private final float[] logLikelihood;
+        private final double[] logPrior;
+        private final long trainedDocuments;
+
+        private Compiled(int classes, int mask, float[] logLikelihood, double[] logPrior, long trainedDocuments) {
+            this.classes = classes;
+            this.mask = mask;
+            this.logLikelihood = logLikelihood;
+            this.logPrior = logPrior;
+            this.trainedDocuments = trainedDocuments;
+        }
+
+        public int getClasses() {
+            return classes;
+        }
+
+        public long getTrainedDocuments() {
+            return trainedDocuments;
+        }
+
+        /**
+         * Fill {@code posterior} (length = classes) with class probabilities for {@code text}
+         * and return the most likely class. No strings or per-token objects are created.
+         */
+        public int classify(CharSequence text, double[] posterior) {
+            System.arraycopy(logPrior, 0, posterior, 0, classes);
+            int buckets = mask + 1;
+            forEachFeature(text, index -> {
+                for (int c = 0; c < classes; c++) {
+                    posterior[c] += logLikelihood[c * buckets + index];
+                }
+            });
+            int best = 0;
+            for (int c = 1; c < classes; c++) {
+                if (posterior[c] > posterior[best]) {
+                    best = c;
+                }
+            }
+            // Softmax relative to the best score to avoid underflow
+            double max = posterior[best];
+            double sum = 0;
+            for (int c = 0; c < classes; c++) {
+                posterior[c] = Math.exp(posterior[c] - max);
+                sum += posterior[c];
+            }
+            for (int c = 0; c < classes; c++) {
+                posterior[c] /= sum;
+            }
+            return best;
+        }
+
+        private int forEachFeature(CharSequence text, FeatureSink sink) {
+            return HashedNaiveBayes.forEachFeature(text, mask, sink);
+        }
+    }
+
+    @FunctionalInterface
+    interface FeatureSink {
+        void accept(int index);
+    }
+
+    private int forEachFeature(CharSequence text, FeatureSink sink) {
+        return forEachFeature(text, mask, sink);
+    }
+
+    // Emit one bucket per lower-cased alphanumeric token and per adjacent token pair, without building strings
+    static int forEachFeature(CharSequence text, int mask, FeatureSink sink) {
+        int emitted = 0;
+        long previous = 0;
+        long token = 0;
+        boolean inToken = false;
+        boolean havePrevious = false;
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char ch = i < length ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(ch)) {
+                token = inToken ? (token ^ ch) * 0x100000001b3L : (0xcbf29ce484222325L ^ ch) * 0x100000001b3L;
+                inToken = true;
+            } else if (inToken) {
+                sink.accept((int) mix(token) & mask);
+                emitted++;
+                if (havePrevious) {
+                    sink.accept((int) mix(previous * 31 + token + 0x9e3779b97f4a7c15L) & mask);
+                    emitted++;
+                }
+                previous = token;
+                havePrevious = true;
+                inToken = false;
+            }
+        }
+        return emitted;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        return "HashedNaiveBayes[classes=" + classes + ", buckets=" + (mask + 1)
+                + ", documents=" + Arrays.toString(documents) + "]";
+    }
+}
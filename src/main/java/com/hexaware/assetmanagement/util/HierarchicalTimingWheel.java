@@ -0,0 +1,159 @@
+package com.hexaware.assetmanagement.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel for large numbers of far-apart timers.
+ * The lowest wheel has {@code tickMs} resolution; timers beyond its span go to lazily
+ * created overflow wheels whose buckets cascade down as they come due. Scheduling and
+ * cancelling are O(1); {@link #advance(long)} only touches buckets that have come due.
+ * Timers may fire up to one tick early. All methods are thread-safe.
+ *
+ * @param <K> timer key; scheduling an existing key replaces its previous timer
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final PriorityQueue<Bucket<K>> dueQueue = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.expiration, b.expiration));
+    private final Wheel<K> root;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize greater than 1");
+        }
+        this.root = new Wheel<>(tickMs, wheelSize, startMs, dueQueue);
+    }
+
+    /**
+     * Schedule (or reschedule) a timer. Returns false when the expiration is already
+     * within the current tick; the caller should then handle the key immediately.
+     */
+    public synchronized boolean schedule(K key, long expirationMs) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(key, expirationMs);
+        if (!root.add(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.bucket != null) {
+            entry.bucket.entries.remove(entry);
+            entry.bucket = null;
+        }
+        return true;
+    }
+
+    /** Move the clock to {@code nowMs} and return the keys whose timers fired, earliest first */
+    public synchronized List<K> advance(long nowMs) {
+        List<K> fired = new ArrayList<>();
+        Bucket<K> bucket;
+        while ((bucket = dueQueue.peek()) != null && bucket.expiration <= nowMs) {
+            dueQueue.poll();
+            root.advanceClock(bucket.expiration);
+            List<Entry<K>> drained = new ArrayList<>(bucket.entries);
+            bucket.entries.clear();
+            bucket.expiration = Long.MIN_VALUE;
+            drained.sort((a, b) -> Long.compare(a.expirationMs, b.expirationMs));
+            for (Entry<K> entry : drained) {
+                entry.bucket = null;
+                // Cascade down a level, or fire if it is due within the current tick
+                if (!root.add(entry)) {
+                    entries.remove(entry.key);
+                    fired.add(entry.key);
+                }
+            }
+        }
+        root.advanceClock(nowMs);
+        return fired;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long expirationMs;
+        private Bucket<K> bucket;
+
+        private Entry(K key, long expirationMs) {
+            this.key = key;
+            this.expirationMs = expirationMs;
+        }
+    }
+
+    private static final class Bucket<K> {
+        private final Set<Entry<K>> entries = new LinkedHashSet<>();
+        private long expiration = Long.MIN_VALUE;
+    }
+
+    private static final class Wheel<K> {
+        private final long tickMs;
+        private final long intervalMs;
+        private final List<Bucket<K>> buckets;
+        private final PriorityQueue<Bucket<K>> dueQueue;
+        private long currentTime;
+        private Wheel<K> overflow;
+
+        private Wheel(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<K>> dueQueue) {
+            this.tickMs = tickMs;
+            this.intervalMs = tickMs * wheelSize;
+            this.dueQueue = dueQueue;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        private boolean add(Entry<K> entry) {
+            long expiration = entry.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + intervalMs) {
+                long virtualId = expiration / tickMs;
+                Bucket<K> bucket = buckets.get((int) (virtualId % buckets.size()));
+                bucket.entries.add(entry);
+                entry.bucket = bucket;
+                long bucketExpiration = virtualId * tickMs;
+                if (bucket.expiration != bucketExpiration) {
+                    bucket.expiration = bucketExpiration;
+                    dueQueue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Wheel<>(intervalMs, buckets.size(), currentTime, dueQueue);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.hexaware.assetmanagement.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Augmented AVL tree of half-open intervals {@code [start, end)}.
+ * Nodes are ordered by start and carry the largest end in their subtree, so an overlap
+ * test is O(log n) and listing the k overlapping intervals is O(k log n) at worst, without
+ * looking at intervals that end before the window or start after it. All methods are
+ * thread-safe.
+ *
+ * @param <V> interval owner; adding an existing value replaces its previous interval
+ */
+public class IntervalTree<V> {
+
+    private Node<V> root;
+    private final Map<V, Node<V>> nodes = new HashMap<>();
+    private long sequence;
+
+    public synchronized void add(long start, long end, V value) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+        remove(value);
+        Node<V> node = new Node<>(start, end, sequence++, value);
+        root = insert(root, node);
+        nodes.put(value, node);
+    }
+
+    public synchronized boolean remove(V value) {
+        Node<V> node = nodes.remove(value);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    /** True if any stored interval shares at least one instant with {@code [start, end)} */
+    public synchronized boolean overlaps(long start, long end) {
+        Node<V> node = root;
+        while (node != null) {
+            if (node.start < end && start < node.end) {
+                return true;
+            }
+            // If the left subtree reaches past start but holds no overlap, nothing to the right can either
+            if (node.left != null && node.left.maxEnd > start) {
+                node = node.left;
+            } else if (node.start < end) {
+                node = node.right;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /** Owners of every interval overlapping {@code [start, end)}, in start order */
+    public synchronized List<V> overlapping(long start, long end) {
+        List<V> found = new ArrayList<>();
+        collect(root, start, end, found);
+        return found;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private static <V> void collect(Node<V> node, long start, long end, List<V> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, found);
+        if (node.start < end) {
+            if (start < node.end) {
+                found.add(node.value);
+            }
+            collect(node.right, start, end, found);
+        }
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private static <V> Node<V> delete(Node<V> node, Node<V> removed) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(removed, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, removed);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, removed);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Relink the in-order successor in place of the removed node so the owner map stays valid
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static <V> Node<V> deleteMin(Node<V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private static <V> Node<V> balance(Node<V> node) {
+        update(node);
+        int skew = height(node.left) - height(node.right);
+        if (skew > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (skew < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <V> void update(Node<V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    // Insertion sequence breaks ties so equal starts never collide
+    private static int compare(Node<?> a, Node<?> b) {
+        int cmp = Long.compare(a.start, b.start);
+        return cmp != 0 ? cmp : Long.compare(a.sequence, b.sequence);
+    }
+
+    private static final class Node<V> {
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final V value;
+        private long maxEnd;
+        private int height = 1;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(long start, long end, long sequence, V value) {
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
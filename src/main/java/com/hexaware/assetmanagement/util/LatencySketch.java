@@ -0,0 +1,130 @@
+package com.hexaware.assetmanagement.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable streaming quantile sketch with bounded relative error (DDSketch-style).
+ * Values are counted in logarithmically sized buckets, so any quantile is accurate to
+ * within {@code relativeAccuracy} of the true value using a few hundred counters no matter
+ * how many values are added. Not thread-safe; callers synchronize.
+ */
+public class LatencySketch {
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public LatencySketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+            value = 0;
+        } else {
+            bins.merge((int) Math.ceil(Math.log(value) / logGamma), 1L, Long::sum);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(LatencySketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        other.bins.forEach((index, n) -> bins.merge(index, n, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /** Value at quantile {@code q} (0..1), or NaN when the sketch is empty */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (seen > rank) {
+                // Midpoint of the bucket in relative terms, clamped to the observed range
+                double estimate = 2 * Math.exp(bin.getKey() * logGamma) / (1 + Math.exp(logGamma));
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /** Compact text form: accuracy;count;sum;min;max;zeroCount;index:n,index:n,... */
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(relativeAccuracy).append(';').append(count).append(';').append(sum).append(';')
+          .append(count == 0 ? 0 : min).append(';').append(count == 0 ? 0 : max).append(';').append(zeroCount).append(';');
+        boolean first = true;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            sb.append(bin.getKey()).append(':').append(bin.getValue());
+            first = false;
+        }
+        return sb.toString();
+    }
+
+    public static LatencySketch decode(String encoded) {
+        String[] parts = encoded.split(";", -1);
+        if (parts.length != 7) {
+            throw new IllegalArgumentException("Malformed latency sketch");
+        }
+        LatencySketch sketch = new LatencySketch(Double.parseDouble(parts[0]));
+        sketch.count = Long.parseLong(parts[1]);
+        sketch.sum = Double.parseDouble(parts[2]);
+        if (sketch.count > 0) {
+            sketch.min = Double.parseDouble(parts[3]);
+            sketch.max = Double.parseDouble(parts[4]);
+        }
+        sketch.zeroCount = Long.parseLong(parts[5]);
+        if (!parts[6].isEmpty()) {
+            for (String bin : parts[6].split(",")) {
+                int colon = bin.indexOf(':');
+                sketch.bins.put(Integer.parseInt(bin.substring(0, colon)), Long.parseLong(bin.substring(colon + 1)));
+            }
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,101 @@
+package com.hexaware.assetmanagement.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over character shingles of normalized text, banded for LSH.
+ * Two texts with Jaccard similarity s share at least one band key with probability
+ * 1 - (1 - s^rows)^bands, so candidate lookup is a handful of hash probes.
+ * Instances are immutable and thread-safe.
+ */
+public class MinHasher {
+
+    private final int shingleSize;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    public MinHasher(int shingleSize, int bands, int rows, long seed) {
+        if (shingleSize < 1 || bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("shingleSize, bands and rows must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.bands = bands;
+        this.rows = rows;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /** Lower-case, keep letters and digits, and collapse everything else to single spaces */
+    public static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = true;
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int end = sb.length();
+        return space && end > 0 ? sb.substring(0, end - 1) : sb.toString();
+    }
+
+    public int[] signature(String text) {
+        String normalized = normalize(text);
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int last = Math.max(0, normalized.length() - shingleSize);
+        for (int start = 0; start <= last; start++) {
+            long shingle = 1125899906842597L;
+            for (int i = start, end = Math.min(normalized.length(), start + shingleSize); i < end; i++) {
+                shingle = 31 * shingle + normalized.charAt(i);
+            }
+            for (int h = 0; h < seeds.length; h++) {
+                int value = (int) (mix(shingle ^ seeds[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** One key per band; equal keys mean the band's rows are identical */
+    public long[] bandKeys(int[] signature) {
+        long[] keys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long key = b;
+            for (int r = 0; r < rows; r++) {
+                key = mix(key * 31 + signature[b * rows + r]);
+            }
+            keys[b] = key;
+        }
+        return keys;
+    }
+
+    /** Estimated Jaccard similarity: the fraction of matching signature positions */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    // Stafford variant 13 of the 64-bit finalizer from SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hexaware.assetmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.FilterChain;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = new IdempotencyStore();
+    private final IdempotencyFilter filter = new IdempotencyFilter();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    // Echoes the body it was given, so a replay is visible in the response
+    private final FilterChain chain = (request, response) -> {
+        executions.incrementAndGet();
+        response.setContentType("application/json");
+        response.getOutputStream().write(request.getInputStream().readAllBytes());
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "idempotencyStore", store);
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", 262144);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSameKeyAndBody_ShouldReplayTheFirstResponse() throws Exception {
+        send("/borrowings/request", "{\"assetId\":5}");
+        MockHttpServletResponse replayed = send("/borrowings/request", "{\"assetId\":5}");
+
+        assertEquals(1, executions.get());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("{\"assetId\":5}", replayed.getContentAsString());
+    }
+
+    @Test
+    void testSameKeyWithDifferentBody_ShouldBeRejected() throws Exception {
+        send("/borrowings/request", "{\"assetId\":5}");
+        MockHttpServletResponse reused = send("/borrowings/request", "{\"assetId\":6}");
+
+        assertEquals(422, reused.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testAuthEndpoints_ShouldNeverStoreResponses() throws Exception {
+        SecurityContextHolder.clearContext();
+        send("/auth/authenticate", "{\"email\":\"a@example.com\",\"password\":\"secret\"}");
+        send("/auth/authenticate", "{\"email\":\"a@example.com\",\"password\":\"secret\"}");
+
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+
+    private MockHttpServletResponse send(String uri, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(IdempotencyFilter.HEADER, "k1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hexaware.assetmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.hexaware.assetmanagement.config.IdempotencyStore.Claim;
+import com.hexaware.assetmanagement.config.IdempotencyStore.Outcome;
+import com.hexaware.assetmanagement.config.IdempotencyStore.StoredResponse;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore();
+
+    @Test
+    void testConcurrentDuplicate_ShouldWaitAndReplayFirstResponse() throws Exception {
+        Claim owner = store.claim("alice|k1", "POST /borrowings/request");
+        assertEquals(Outcome.EXECUTE, owner.outcome());
+
+        CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(
+                () -> store.claim("alice|k1", "POST /borrowings/request"));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+
+        store.complete(owner, new StoredResponse(200, "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+        Claim replayed = duplicate.get(1, TimeUnit.SECONDS);
+
+        assertEquals(Outcome.REPLAY, replayed.outcome());
+        assertEquals(200, replayed.response().status());
+    }
+
+    @Test
+    void testSameKeyDifferentRequest_ShouldBeRejected() {
+        store.claim("alice|k2", "POST /audits/send/1/2");
+        assertEquals(Outcome.MISMATCH, store.claim("alice|k2", "POST /assets/add").outcome());
+    }
+
+    @Test
+    void testAbandonedKey_CanBeExecutedAgain() {
+        Claim first = store.claim("bob|k3", "PUT /borrowings/4/return");
+        store.abandon("bob|k3", first);
+        assertEquals(Outcome.EXECUTE, store.claim("bob|k3", "PUT /borrowings/4/return").outcome());
+    }
+}
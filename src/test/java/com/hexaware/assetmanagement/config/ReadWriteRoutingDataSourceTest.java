@@ -0,0 +1,123 @@
+package com.hexaware.assetmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.config.ReadWriteRoutingDataSource.Route;
+
+/** Two embedded H2 databases stand in for the MySQL primary and its replica */
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        useLagWindow(60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void testReadOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", readTx.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testReadWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", writeTx.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testReadAfterOwnWrite_ShouldStayOnPrimaryWithinWindow() {
+        signIn("alice");
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET hits = hits + 1"));
+
+        assertEquals("primary", readTx.execute(status -> whichDatabase()));
+
+        // Other users are not affected by alice's write
+        signIn("bob");
+        assertEquals("replica", readTx.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testRolledBackWrite_ShouldNotPinReadsToPrimary() {
+        signIn("alice");
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET hits = hits + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readTx.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testReadAfterOwnWrite_ShouldReturnToReplicaOnceWindowPasses() {
+        useLagWindow(0);
+        signIn("alice");
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET hits = hits + 1"));
+
+        assertEquals("replica", readTx.execute(status -> whichDatabase()));
+    }
+
+    private void useLagWindow(long readYourWritesMs) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(new ReplicaLagGuard(readYourWritesMs));
+        routing.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + System.nanoTime())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE marker (name VARCHAR(20), hits INT)");
+        template.update("INSERT INTO marker VALUES (?, 0)", name);
+        return database;
+    }
+}
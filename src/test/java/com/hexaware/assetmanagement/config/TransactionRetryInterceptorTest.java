@@ -0,0 +1,120 @@
+package com.hexaware.assetmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TransactionRetryInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    static class Workflow {
+        final AtomicInteger calls = new AtomicInteger();
+        int failures;
+        RuntimeException failure;
+
+        @RetryableTransaction
+        public String approve() {
+            if (calls.incrementAndGet() <= failures) {
+                throw failure;
+            }
+            return "approved";
+        }
+
+        @RetryableTransaction(maxAttempts = 2)
+        public String approveTwice() {
+            return approve();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void testDeadlockVictim_ShouldBeRetriedUntilItSucceeds() {
+        Workflow target = failing(2, new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        assertEquals("approved", proxy(target).approve());
+        assertEquals(3, target.calls.get());
+        assertEquals(2.0, meterRegistry.counter("tx.retry", "method", "Workflow.approve", "outcome", "retried").count());
+        assertEquals(1.0, meterRegistry.counter("tx.retry", "method", "Workflow.approve", "outcome", "recovered").count());
+    }
+
+    @Test
+    void testLockWaitTimeoutInCauseChain_ShouldBeRetried() {
+        Workflow target = failing(1, new RuntimeException("flush failed",
+                new SQLException("Lock wait timeout exceeded", "HY000", 1205)));
+
+        assertEquals("approved", proxy(target).approve());
+        assertEquals(2, target.calls.get());
+    }
+
+    @Test
+    void testPersistentConflict_ShouldGiveUpAfterMaxAttempts() {
+        Workflow target = failing(10, new CannotAcquireLockException("Deadlock found when trying to get lock"));
+
+        assertThrows(CannotAcquireLockException.class, () -> proxy(target).approveTwice());
+        assertEquals(2, target.calls.get());
+        assertEquals(1.0, meterRegistry.counter("tx.retry", "method", "Workflow.approveTwice", "outcome", "exhausted").count());
+    }
+
+    @Test
+    void testNonTransientFailure_ShouldNotBeRetried() {
+        Workflow target = failing(1, new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> proxy(target).approve());
+        assertEquals(1, target.calls.get());
+    }
+
+    @Test
+    void testInsideOuterTransaction_ShouldLeaveRetryToOuterBoundary() {
+        Workflow target = failing(1, new CannotAcquireLockException("Deadlock found when trying to get lock"));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThrows(CannotAcquireLockException.class, () -> proxy(target).approve());
+        assertEquals(1, target.calls.get());
+    }
+
+    @Test
+    void testBackoff_ShouldGrowAndStayWithinCap() {
+        TransactionRetryInterceptor interceptor = new TransactionRetryInterceptor(meterRegistry, 4, 20, 100);
+        for (int i = 0; i < 100; i++) {
+            long first = interceptor.backoffMs(1);
+            long third = interceptor.backoffMs(3);
+            long tenth = interceptor.backoffMs(10);
+            assertTrue(first >= 10 && first <= 20, "first backoff " + first);
+            assertTrue(third >= 40 && third <= 80, "third backoff " + third);
+            assertTrue(tenth >= 50 && tenth <= 100, "capped backoff " + tenth);
+        }
+    }
+
+    private Workflow failing(int failures, RuntimeException failure) {
+        Workflow target = new Workflow();
+        target.failures = failures;
+        target.failure = failure;
+        return target;
+    }
+
+    private Workflow proxy(Workflow target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryableTransaction.class),
+                new TransactionRetryInterceptor(meterRegistry, 4, 1, 5)));
+        return (Workflow) factory.getProxy();
+    }
+}
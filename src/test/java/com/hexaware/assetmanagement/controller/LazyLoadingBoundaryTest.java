@@ -0,0 +1,268 @@
+package com.hexaware.assetmanagement.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetAudit;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+
+/**
+ * Open-in-view is off, so responses are rendered after the session has closed and a
+ * property the fetch plan missed fails the request. Seeds one row per workflow state on
+ * an embedded H2 database, including rows moved to the archive tables and history whose
+ * asset has since been purged, then reads every endpoint that returns entities and checks
+ * the nested fields the clients display.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lazyboundary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "archive.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LazyLoadingBoundaryTest {
+
+    private static final int ASSETS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IAssetAuditRepository auditRepository;
+
+    @Autowired
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private IAssetReservationRepository reservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AssetCategory laptops;
+    private List<Asset> assets;
+    private Employee borrower;
+    private Employee admin;
+    private Employee leaver;
+    private AssetBorrowing overdue;
+    private AssetAudit pendingAudit;
+    private ServiceRequest openRequest;
+    private LocalDateTime now;
+
+    @BeforeAll
+    void seed() {
+        now = LocalDateTime.now();
+        laptops = categoryRepository.save(new AssetCategory("Laptop"));
+        assets = new ArrayList<>();
+        for (int i = 1; i <= ASSETS; i++) {
+            Asset asset = new Asset(0, "Laptop " + i, laptops, "X" + i, LocalDate.now().minusYears(1),
+                    LocalDate.now().plusYears(3), 1000, i == 1 ? Asset.Status.Borrowed : Asset.Status.Available);
+            asset.setDescription("Described laptop " + i);
+            assets.add(assetRepository.save(asset));
+        }
+        borrower = employeeRepository.save(new Employee(0, "Borrower", Employee.Gender.Other, "9000000001",
+                "Loan Street", "borrower@example.com", "password", Employee.Role.USER));
+        admin = employeeRepository.save(new Employee(0, "Technician", Employee.Gender.Other, "9000000002",
+                "Repair Street", "technician@example.com", "password", Employee.Role.ADMIN));
+
+        overdue = loan(assets.get(0), AssetBorrowing.Status.ACTIVE);
+        loan(assets.get(1), AssetBorrowing.Status.PENDING);
+        loan(assets.get(2), AssetBorrowing.Status.REJECTED);
+        loan(assets.get(3), AssetBorrowing.Status.RETURNED);
+        AssetBorrowing archivedLoan = loan(assets.get(4), AssetBorrowing.Status.RETURNED);
+
+        pendingAudit = auditRepository.save(new AssetAudit(0, borrower, assets.get(0), AssetAudit.AuditStatus.PENDING, now, now));
+        AssetAudit archivedAudit = auditRepository.save(new AssetAudit(0, borrower, assets.get(3), AssetAudit.AuditStatus.VERIFIED,
+                now.minusYears(1), now.minusYears(1)));
+
+        openRequest = new ServiceRequest(0, borrower, assets.get(0), "Screen flickers after resume",
+                ServiceRequest.IssueType.HARDWARE, ServiceRequest.Status.Pending, now);
+        openRequest.setAssignee(admin);
+        openRequest.setAssignedAt(now);
+        openRequest = serviceRequestRepository.save(openRequest);
+        ServiceRequest archivedRequest = serviceRequestRepository.save(new ServiceRequest(0, borrower, assets.get(3),
+                "Battery no longer holds charge", ServiceRequest.IssueType.HARDWARE, ServiceRequest.Status.Completed, now.minusYears(2)));
+
+        LocalDateTime start = now.plusDays(3).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        reservationRepository.save(new AssetReservation(borrower, assets.get(1), start, start.plusHours(2)));
+
+        archive("asset_borrowing", "borrowing_id", archivedLoan.getBorrowingId());
+        archive("asset_audit", "audit_id", archivedAudit.getAuditId());
+        archive("service_request", "service_request_id", archivedRequest.getServiceRequestId());
+
+        // History of an asset that was retired and then purged: archived rows keep its id, the asset row is gone
+        leaver = employeeRepository.save(new Employee(0, "Leaver", Employee.Gender.Other, "9000000003",
+                "Exit Street", "leaver@example.com", "password", Employee.Role.USER));
+        Asset purged = new Asset(0, "Purged laptop", laptops, "P1", LocalDate.now().minusYears(5),
+                LocalDate.now().minusYears(1), 1000, Asset.Status.Available);
+        purged = assetRepository.save(purged);
+        AssetBorrowing purgedLoan = new AssetBorrowing(0, leaver, purged, now.minusYears(2), now.minusYears(1),
+                AssetBorrowing.Status.RETURNED);
+        purgedLoan.setRequestedAt(now.minusYears(2));
+        purgedLoan = borrowingRepository.save(purgedLoan);
+        AssetAudit purgedAudit = auditRepository.save(new AssetAudit(0, leaver, purged, AssetAudit.AuditStatus.VERIFIED,
+                now.minusYears(1), now.minusYears(1)));
+        ServiceRequest purgedRequest = serviceRequestRepository.save(new ServiceRequest(0, leaver, purged,
+                "Hinge cracked", ServiceRequest.IssueType.HARDWARE, ServiceRequest.Status.Completed, now.minusYears(2)));
+        archive("asset_borrowing", "borrowing_id", purgedLoan.getBorrowingId());
+        archive("asset_audit", "audit_id", purgedAudit.getAuditId());
+        archive("service_request", "service_request_id", purgedRequest.getServiceRequestId());
+        jdbcTemplate.update("DELETE FROM asset WHERE asset_id = ?", purged.getAssetId());
+    }
+
+    @Test
+    void testAssetReadsShowCategoryAndDescription() throws Exception {
+        expectAssets(read("/assets/getall"), ASSETS);
+        expectAssets(read("/assets/category/Laptop"), ASSETS);
+        expectAssets(read("/assets/assigned/" + borrower.getEmployeeId()), 1);
+        read("/assets/getbyid/" + assets.get(0).getAssetId())
+                .andExpect(jsonPath("$.category.categoryName").value("Laptop"))
+                .andExpect(jsonPath("$.description").value("Described laptop 1"));
+    }
+
+    @Test
+    void testBorrowingReadsShowEmployeeAndAsset() throws Exception {
+        expectRows(read("/borrowings/active"), 1);
+        expectRows(read("/borrowings/pending"), 1);
+        expectRows(read("/borrowings/rejected"), 1);
+        expectRows(read("/borrowings/returned"), 1);
+        expectRows(read("/borrowings/overdue"), 1);
+        expectRows(read("/borrowings/getbyeid/" + borrower.getEmployeeId()), 4);
+        expectRows(read("/borrowings/getbyeid/" + borrower.getEmployeeId() + "?includeArchived=true"), 5);
+        read("/borrowings/overdue").andExpect(jsonPath("$[0].borrowingId").value(overdue.getBorrowingId()));
+    }
+
+    @Test
+    void testAuditReadsShowEmployeeAndAsset() throws Exception {
+        expectRows(read("/audits/getall"), 1);
+        expectRows(read("/audits/getbyeid/" + borrower.getEmployeeId()), 1);
+        expectRows(read("/audits/getbyeid/" + borrower.getEmployeeId() + "?includeArchived=true"), 2);
+        expectRow(read("/audits/getbyid/" + pendingAudit.getAuditId()));
+    }
+
+    @Test
+    void testServiceRequestReadsShowEmployeeAssetAndDescription() throws Exception {
+        expectRequests(read("/service-requests/allServiceRequests"), 1);
+        expectRequests(read("/service-requests/findByStatus/Pending"), 1);
+        expectRequests(read("/service-requests/serviceRequestByEmployee/" + borrower.getEmployeeId()), 1);
+        expectRequests(read("/service-requests/serviceRequestByEmployee/" + borrower.getEmployeeId() + "?includeArchived=true"), 2);
+        expectRequests(mockMvc.perform(get("/service-requests/assigned/me").with(user(admin))).andExpect(status().isOk()), 1);
+        expectRow(read("/service-requests/getServiceRequestById/" + openRequest.getServiceRequestId()))
+                .andExpect(jsonPath("$.description").value("Screen flickers after resume"));
+    }
+
+    @Test
+    void testArchivedHistoryOfPurgedAssetStillReads() throws Exception {
+        for (String url : List.of("/borrowings/getbyeid/", "/audits/getbyeid/", "/service-requests/serviceRequestByEmployee/")) {
+            mockMvc.perform(get(url + leaver.getEmployeeId() + "?includeArchived=true").with(user(leaver)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].employee.name").value("Leaver"))
+                    .andExpect(jsonPath("$[0].asset").value(nullValue()));
+        }
+    }
+
+    @Test
+    void testReservationReadsShowEmployeeAndAsset() throws Exception {
+        expectRows(read("/reservations/asset/" + assets.get(1).getAssetId()), 1);
+        expectRows(read("/reservations/employee/" + borrower.getEmployeeId()), 1);
+        LocalDateTime start = now.plusDays(10).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        read("/reservations/available?categoryId=" + laptops.getCategoryId() + "&startAt=" + start + "&endAt=" + start.plusHours(1))
+                .andExpect(jsonPath("$.category.categoryName").value("Laptop"))
+                .andExpect(jsonPath("$.description", startsWith("Described laptop")));
+    }
+
+    private AssetBorrowing loan(Asset asset, AssetBorrowing.Status status) {
+        AssetBorrowing borrowing = new AssetBorrowing(0, borrower, asset, now.minusDays(10),
+                status == AssetBorrowing.Status.RETURNED ? now.minusDays(1) : null, status);
+        borrowing.setRequestedAt(now.minusDays(10));
+        borrowing.setDueAt(now.minusDays(1));
+        return borrowingRepository.save(borrowing);
+    }
+
+    // Same copy-then-delete the archiver does, into a twin created from the hot table
+    private void archive(String table, String idColumn, int id) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + "_archive AS SELECT * FROM " + table + " WHERE 1 = 0");
+        jdbcTemplate.update("INSERT INTO " + table + "_archive SELECT * FROM " + table + " WHERE " + idColumn + " = ?", id);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + idColumn + " = ?", id);
+    }
+
+    private ResultActions read(String url) throws Exception {
+        return mockMvc.perform(get(url).with(user(borrower))).andExpect(status().isOk());
+    }
+
+    private static void expectAssets(ResultActions result, int count) throws Exception {
+        result.andExpect(jsonPath("$", hasSize(count)))
+                .andExpect(jsonPath("$[*].category.categoryName", everyItem(is("Laptop"))))
+                .andExpect(jsonPath("$[*].description", hasSize(count)))
+                .andExpect(jsonPath("$[*].description", everyItem(startsWith("Described laptop"))));
+    }
+
+    // Loans, audits, requests and reservations all show who holds the asset and what it is
+    private static void expectRows(ResultActions result, int count) throws Exception {
+        result.andExpect(jsonPath("$", hasSize(count)))
+                .andExpect(jsonPath("$[*].employee.name", everyItem(is("Borrower"))))
+                .andExpect(jsonPath("$[*].employee.name", hasSize(count)))
+                .andExpect(jsonPath("$[*].asset.category.categoryName", hasSize(count)))
+                .andExpect(jsonPath("$[*].asset.description", hasSize(count)))
+                .andExpect(jsonPath("$[*].asset.description", everyItem(startsWith("Described laptop"))));
+    }
+
+    private static void expectRequests(ResultActions result, int count) throws Exception {
+        expectRows(result, count);
+        result.andExpect(jsonPath("$[*].description", hasSize(count)))
+                .andExpect(jsonPath("$[*].description", everyItem(not(emptyString()))));
+    }
+
+    private static ResultActions expectRow(ResultActions result) throws Exception {
+        return result.andExpect(jsonPath("$.employee.name").value("Borrower"))
+                .andExpect(jsonPath("$.asset.category.categoryName").value("Laptop"))
+                .andExpect(jsonPath("$.asset.description", startsWith("Described laptop")));
+    }
+}
@@ -0,0 +1,134 @@
+package com.hexaware.assetmanagement.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexaware.assetmanagement.dto.BorrowRequestDto;
+import com.hexaware.assetmanagement.dto.ServiceRequestCreateDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+
+/**
+ * The create endpoints set the employee and asset from references to skip two reads.
+ * The response must still carry both, loaded, on an embedded H2 database.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:createresponses;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "archive.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkflowCreateResponseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    private Asset free;
+    private Asset onLoan;
+    private Employee borrower;
+    private Employee admin;
+
+    @BeforeAll
+    void seed() {
+        AssetCategory monitors = categoryRepository.save(new AssetCategory("Monitor"));
+        free = asset(monitors, "Monitor 1", Asset.Status.Available);
+        onLoan = asset(monitors, "Monitor 2", Asset.Status.Borrowed);
+        borrower = employeeRepository.save(new Employee(0, "Borrower", Employee.Gender.Other, "9000000011",
+                "Loan Street", "create-borrower@example.com", "password", Employee.Role.USER));
+        admin = employeeRepository.save(new Employee(0, "Auditor", Employee.Gender.Other, "9000000012",
+                "Audit Street", "create-auditor@example.com", "password", Employee.Role.ADMIN));
+        LocalDateTime now = LocalDateTime.now();
+        AssetBorrowing loan = new AssetBorrowing(0, borrower, onLoan, now.minusDays(2), null, AssetBorrowing.Status.ACTIVE);
+        loan.setRequestedAt(now.minusDays(2));
+        borrowingRepository.save(loan);
+    }
+
+    @Test
+    void testRequestBorrow_ShouldReturnEmployeeAndAsset() throws Exception {
+        ResultActions result = mockMvc.perform(post("/borrowings/request").with(user(borrower))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BorrowRequestDto(borrower.getEmployeeId(), free.getAssetId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        expectEmployeeAndAsset(result, "Borrower", "Monitor 1");
+    }
+
+    @Test
+    void testSendAudit_ShouldReturnEmployeeAndAsset() throws Exception {
+        ResultActions result = mockMvc.perform(post("/audits/send/" + borrower.getEmployeeId() + "/" + onLoan.getAssetId())
+                .with(user(admin)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.auditStatus").value("PENDING"));
+        expectEmployeeAndAsset(result, "Borrower", "Monitor 2");
+    }
+
+    @Test
+    void testCreateServiceRequest_ShouldReturnEmployeeAssetAndDescription() throws Exception {
+        ServiceRequestCreateDto dto = new ServiceRequestCreateDto(borrower.getEmployeeId(), onLoan.getAssetId(),
+                ServiceRequest.IssueType.HARDWARE, "Dead pixels along the left edge");
+        ResultActions result = mockMvc.perform(post("/service-requests/createServiceRequest").with(user(borrower))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.description").value("Dead pixels along the left edge"));
+        expectEmployeeAndAsset(result, "Borrower", "Monitor 2");
+    }
+
+    private Asset asset(AssetCategory category, String name, Asset.Status status) {
+        Asset asset = new Asset(0, name, category, "M", LocalDate.now().minusYears(1), LocalDate.now().plusYears(3), 200, status);
+        asset.setDescription(name + " on the third floor");
+        return assetRepository.save(asset);
+    }
+
+    private static void expectEmployeeAndAsset(ResultActions result, String employeeName, String assetName) throws Exception {
+        result.andExpect(jsonPath("$.employee.name").value(employeeName))
+                .andExpect(jsonPath("$.employee.email", endsWith("@example.com")))
+                .andExpect(jsonPath("$.asset.assetName").value(assetName))
+                .andExpect(jsonPath("$.asset.category.categoryName").value("Monitor"))
+                .andExpect(jsonPath("$.asset.description").value(assetName + " on the third floor"));
+    }
+}
@@ -9,6 +9,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 
 @SpringBootTest
@@ -31,4 +34,19 @@ class AssetAuditServiceImpTest {
         assertNotNull(audits);
         log.info("Retrieved {} audits", audits.size());
     }
+
+    @Test
+    void testDecideAudits_InvalidAction() {
+        assertThrows(BadRequestException.class, () -> service.decideAudits(List.of(1), 1, "APPROVE"));
+    }
+
+    @Test
+    void testDecideAudits_UnknownAudit() {
+        assertThrows(ResourceNotFoundException.class, () -> service.decideAudits(List.of(-1), 1, "VERIFY"));
+    }
+
+    @Test
+    void testSendAudit_UnknownAsset() {
+        assertThrows(ResourceNotFoundException.class, () -> service.sendAudit(1, -1));
+    }
 }
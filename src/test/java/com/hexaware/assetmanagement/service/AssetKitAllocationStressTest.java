@@ -0,0 +1,180 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import com.hexaware.assetmanagement.dto.AssetKitDto;
+import com.hexaware.assetmanagement.dto.KitBorrowDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+
+/**
+ * Many kit requests with overlapping categories race for scarce stock on an embedded
+ * H2 database. Whatever the interleaving, no asset may end up on two loans and every
+ * employee gets either the whole kit or nothing.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:kits;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=20000",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=32",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "kit.allocation.max-attempts=20",
+    "archive.enabled=false"
+})
+class AssetKitAllocationStressTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetKitAllocationStressTest.class);
+
+    private static final int LAPTOPS = 10;
+    private static final int DOCKS = 10;
+    private static final int MONITORS = 6;
+    private static final int HEADSETS = 20;
+    private static final int REQUESTS = 24;
+
+    @Autowired
+    private IAssetKitService kitService;
+
+    @Autowired
+    private IAssetRepository assetRepository;
+
+    @Autowired
+    private IAssetCategoryRepository categoryRepository;
+
+    @Autowired
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Autowired
+    private IEmployeeRepository employeeRepository;
+
+    @MockBean
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @MockBean
+    private WorkflowEventPublisher eventPublisher;
+
+    private AssetKitDto starterKit;
+    private AssetKitDto deskKit;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        AssetCategory laptop = categoryRepository.save(new AssetCategory("Laptop"));
+        AssetCategory dock = categoryRepository.save(new AssetCategory("Dock"));
+        AssetCategory monitor = categoryRepository.save(new AssetCategory("Monitor"));
+        AssetCategory headset = categoryRepository.save(new AssetCategory("Headset"));
+        stock(laptop, LAPTOPS);
+        stock(dock, DOCKS);
+        stock(monitor, MONITORS);
+        stock(headset, HEADSETS);
+
+        starterKit = kitService.createKit(new AssetKitDto(0, "Starter",
+                List.of(laptop.getCategoryId(), dock.getCategoryId(), monitor.getCategoryId(), headset.getCategoryId()), List.of()));
+        deskKit = kitService.createKit(new AssetKitDto(0, "Desk",
+                List.of(laptop.getCategoryId(), dock.getCategoryId()), List.of()));
+
+        employees = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            employees.add(employeeRepository.save(new Employee(0, "Joiner " + i, Employee.Gender.Other, "9000000" + String.format("%03d", i),
+                    "Kit Street", "joiner" + i + "@example.com", "password", Employee.Role.USER)));
+        }
+    }
+
+    @Test
+    void testConcurrentKits_ShouldNeverDoubleAllocateOrIssuePartialKits() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, AssetKitDto> requested = new ConcurrentHashMap<>();
+        List<Future<List<AssetBorrowing>>> results = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < REQUESTS; i++) {
+            Employee employee = employees.get(i);
+            AssetKitDto kit = i % 2 == 0 ? starterKit : deskKit;
+            requested.put(employee.getEmployeeId(), kit);
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    return kitService.borrowKit(kit.getKitId(), new KitBorrowDto(employee.getEmployeeId(), LocalDateTime.now().plusDays(30)));
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                    return List.of();
+                }
+            }));
+        }
+        start.countDown();
+        int successes = 0;
+        for (Future<List<AssetBorrowing>> result : results) {
+            if (!result.get(2, TimeUnit.MINUTES).isEmpty()) {
+                successes++;
+            }
+        }
+        pool.shutdown();
+        log.info("{} kits issued, {} requests refused", successes, failures.size());
+
+        for (Throwable failure : failures) {
+            assertTrue(failure instanceof BadRequestException || failure instanceof ConflictException,
+                    "unexpected failure: " + failure);
+        }
+        assertEquals(REQUESTS, successes + failures.size());
+        assertTrue(successes > 0, "at least one kit should be issued");
+        assertTrue(successes <= LAPTOPS, "more kits than laptops");
+
+        List<AssetBorrowing> active = borrowingRepository.findAll().stream()
+                .filter(b -> b.getStatus() == AssetBorrowing.Status.ACTIVE)
+                .toList();
+        Map<Integer, Integer> loansPerAsset = new HashMap<>();
+        Map<Integer, Integer> loansPerEmployee = new HashMap<>();
+        for (AssetBorrowing borrowing : active) {
+            loansPerAsset.merge(borrowing.getAsset().getAssetId(), 1, Integer::sum);
+            loansPerEmployee.merge(borrowing.getEmployee().getEmployeeId(), 1, Integer::sum);
+        }
+        loansPerAsset.forEach((assetId, loans) -> assertEquals(1, loans, "asset " + assetId + " is on more than one loan"));
+        loansPerEmployee.forEach((employeeId, loans) -> assertEquals(requested.get(employeeId).getCategoryIds().size(), loans,
+                "employee " + employeeId + " received a partial kit"));
+        assertEquals(successes, loansPerEmployee.size());
+
+        long borrowed = assetRepository.findAll().stream().filter(a -> a.getStatus() == Asset.Status.Borrowed).count();
+        assertEquals(active.size(), borrowed);
+    }
+
+    private void stock(AssetCategory category, int count) {
+        for (int i = 0; i < count; i++) {
+            Asset asset = new Asset();
+            asset.setAssetName(category.getCategoryName() + " " + i);
+            asset.setCategory(category);
+            asset.setAssetValue(100);
+            asset.setStatus(Asset.Status.Available);
+            assetRepository.save(asset);
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.hexaware.assetmanagement.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,13 +13,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
 import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
 import com.hexaware.assetmanagement.exception.BadRequestException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.PendingAuditView;
 import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.RequestView;
 import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
 
 @ExtendWith(MockitoExtension.class)
 class AssetServiceImpTest {
@@ -32,6 +44,18 @@ class AssetServiceImpTest {
     @Mock
     private IAssetBorrowingRepository borrowingRepository;
 
+    @Mock
+    private IAssetAuditRepository auditRepository;
+
+    @Mock
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Mock
+    private WorkflowEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private AssetServiceImp assetService;
 
@@ -48,7 +72,7 @@ class AssetServiceImpTest {
     @Test
     void testDeleteAsset_WhenAssetNotFound_ShouldThrowResourceNotFoundException() {
         // Arrange
-        when(assetRepository.findById(1)).thenReturn(Optional.empty());
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -60,7 +84,7 @@ class AssetServiceImpTest {
     void testDeleteAsset_WhenAssetIsBorrowed_ShouldThrowBadRequestException() {
         // Arrange
         testAsset.setStatus(Asset.Status.Borrowed);
-        when(assetRepository.findById(1)).thenReturn(Optional.of(testAsset));
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
 
         // Act & Assert
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
@@ -68,27 +92,55 @@ class AssetServiceImpTest {
         });
         
         assertEquals("Asset is borrowed — can't delete.", exception.getMessage());
+        verify(assetRepository, never()).retire(any(), any(), any());
     }
 
     @Test
-    void testDeleteAsset_WhenAssetHasBorrowingHistory_ShouldThrowBadRequestException() {
+    void testDeleteAsset_WhenAssetHasOpenServiceRequests_ShouldThrowBadRequestException() {
         // Arrange
-        when(assetRepository.findById(1)).thenReturn(Optional.of(testAsset));
-        when(borrowingRepository.countByAsset_AssetId(1)).thenReturn(2L);
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
+        when(serviceRequestRepository.findAssetIdsWithOpenRequests(List.of(1), ServiceRequest.Status.Completed))
+                .thenReturn(List.of(1));
 
         // Act & Assert
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             assetService.deleteAsset(1);
         });
-        
-        assertEquals("Asset has related borrowing records — can't delete.", exception.getMessage());
+
+        assertEquals("Asset has open service requests — can't delete.", exception.getMessage());
+        verify(assetRepository, never()).retire(any(), any(), any());
+    }
+
+    @Test
+    void testDeleteAsset_WhenLoanedOutConcurrently_ShouldThrowBadRequestException() {
+        // Arrange
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
+        when(assetRepository.retire(eq(List.of(1)), any(), eq(Asset.Status.Borrowed))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> assetService.deleteAsset(1));
+        verify(borrowingRepository, never()).rejectAll(any(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteAsset_WhenAssetHasBorrowingHistory_ShouldRetireAndLeaveTheHistory() {
+        // Arrange
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
+        when(assetRepository.retire(eq(List.of(1)), any(), eq(Asset.Status.Borrowed))).thenReturn(1);
+
+        // Act
+        assetService.deleteAsset(1);
+
+        // Assert: returned loans stay put until DeletedAssetPurger archives them
+        verify(borrowingRepository).findRequestsByAssetIds(List.of(1), AssetBorrowing.Status.PENDING);
+        verifyNoMoreInteractions(borrowingRepository);
     }
 
     @Test
     void testDeleteAsset_WhenAssetCanBeDeleted_ShouldDeleteSuccessfully() {
         // Arrange
-        when(assetRepository.findById(1)).thenReturn(Optional.of(testAsset));
-        when(borrowingRepository.countByAsset_AssetId(1)).thenReturn(0L);
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
+        when(assetRepository.retire(eq(List.of(1)), any(), eq(Asset.Status.Borrowed))).thenReturn(1);
 
         // Act
         assertDoesNotThrow(() -> {
@@ -96,6 +148,78 @@ class AssetServiceImpTest {
         });
 
         // Assert
-        verify(assetRepository).deleteById(1);
+        verify(assetRepository, never()).deleteById(1);
+    }
+
+    @Test
+    void testDeleteAsset_ShouldRejectBorrowRequestsAndAuditsWaitingOnTheAsset() {
+        // Arrange
+        RequestView borrowing = mock(RequestView.class);
+        when(borrowing.getBorrowingId()).thenReturn(40);
+        when(borrowing.getEmployeeId()).thenReturn(7);
+        when(borrowing.getAssetId()).thenReturn(1);
+        PendingAuditView audit = mock(PendingAuditView.class);
+        when(audit.getAuditId()).thenReturn(60);
+        when(audit.getEmployeeId()).thenReturn(8);
+        when(audit.getAssetId()).thenReturn(1);
+        when(assetRepository.lockAll(List.of(1))).thenReturn(List.of(testAsset));
+        when(assetRepository.retire(eq(List.of(1)), any(), eq(Asset.Status.Borrowed))).thenReturn(1);
+        when(borrowingRepository.findRequestsByAssetIds(List.of(1), AssetBorrowing.Status.PENDING)).thenReturn(List.of(borrowing));
+        when(auditRepository.findPendingByAssetIds(List.of(1), AuditStatus.PENDING)).thenReturn(List.of(audit));
+
+        // Act
+        assetService.deleteAsset(1);
+
+        // Assert
+        verify(borrowingRepository).rejectAll(eq(List.of(40)), eq(AssetBorrowing.Status.PENDING),
+                eq(AssetBorrowing.Status.REJECTED), any());
+        verify(auditRepository).rejectAll(eq(List.of(60)), eq(AuditStatus.PENDING), eq(AuditStatus.REJECTED), any());
+        verify(eventPublisher).publish(EventType.BORROWING, 40, 7, 1, "REJECTED");
+        verify(eventPublisher).publish(EventType.AUDIT, 60, 8, 1, "REJECTED");
+    }
+
+    @Test
+    void testRetireAssets_ShouldSoftDeleteInBatchesAndSkipBorrowed() {
+        // Arrange
+        ReflectionTestUtils.setField(assetService, "retireBatchSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        Asset onLoan = new Asset();
+        onLoan.setAssetId(3);
+        onLoan.setStatus(Asset.Status.Borrowed);
+        when(assetRepository.lockAll(List.of(1, 2))).thenReturn(List.of(testAsset, asset(2)));
+        when(assetRepository.lockAll(List.of(3))).thenReturn(List.of(onLoan));
+        when(assetRepository.retire(eq(List.of(1, 2)), any(), eq(Asset.Status.Borrowed))).thenReturn(2);
+
+        // Act
+        int retired = assetService.retireAssets(List.of(1, 2, 3));
+
+        // Assert
+        assertEquals(2, retired);
+        verify(assetRepository, never()).retire(eq(List.of(3)), any(), any());
+        verify(assetRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testRetireAssets_ShouldSkipAssetsUnderRepair() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(assetRepository.lockAll(List.of(1, 2))).thenReturn(List.of(testAsset, asset(2)));
+        when(serviceRequestRepository.findAssetIdsWithOpenRequests(List.of(1, 2), ServiceRequest.Status.Completed))
+                .thenReturn(List.of(2));
+        when(assetRepository.retire(eq(List.of(1)), any(), eq(Asset.Status.Borrowed))).thenReturn(1);
+
+        // Act
+        int retired = assetService.retireAssets(List.of(1, 2));
+
+        // Assert
+        assertEquals(1, retired);
+        verify(borrowingRepository).findRequestsByAssetIds(List.of(1), AssetBorrowing.Status.PENDING);
+    }
+
+    private static Asset asset(int id) {
+        Asset asset = new Asset();
+        asset.setAssetId(id);
+        asset.setStatus(Asset.Status.Available);
+        return asset;
     }
 }
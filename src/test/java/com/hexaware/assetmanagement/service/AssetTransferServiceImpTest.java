@@ -0,0 +1,180 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hexaware.assetmanagement.dto.AssetTransferDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.service.ReservationCalendar.Booking;
+
+@ExtendWith(MockitoExtension.class)
+class AssetTransferServiceImpTest {
+
+    @Mock
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Mock
+    private IAssetRepository assetRepository;
+
+    @Mock
+    private IEmployeeRepository employeeRepository;
+
+    @Mock
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Mock
+    private WorkflowEventPublisher eventPublisher;
+
+    @Spy
+    private ReservationCalendar reservationCalendar = new ReservationCalendar();
+
+    @InjectMocks
+    private AssetTransferServiceImp transferService;
+
+    private Asset laptop;
+    private Employee from;
+    private Employee to;
+    private AssetBorrowing source;
+
+    @BeforeEach
+    void setUp() {
+        laptop = new Asset();
+        laptop.setAssetId(5);
+        laptop.setStatus(Asset.Status.Borrowed);
+        laptop.setCategory(new AssetCategory("Laptop"));
+        from = employee(1);
+        to = employee(2);
+        source = new AssetBorrowing();
+        source.setBorrowingId(40);
+        source.setEmployee(from);
+        source.setAsset(laptop);
+        source.setStatus(AssetBorrowing.Status.ACTIVE);
+        source.setDueAt(LocalDateTime.now().plusDays(10));
+    }
+
+    @Test
+    void testTransferAsset_ShouldCloseSourceAndOpenActiveLoanForTarget() {
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of(laptop));
+        when(borrowingRepository.lockByAssetIds(anyCollection(), eq(AssetBorrowing.Status.ACTIVE))).thenReturn(List.of(source));
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(to));
+        when(borrowingRepository.closeAll(eq(List.of(40)), eq(AssetBorrowing.Status.ACTIVE),
+                eq(AssetBorrowing.Status.RETURNED), any())).thenReturn(1);
+        when(borrowingRepository.saveAll(anyCollection())).thenAnswer(inv -> inv.getArgument(0));
+
+        AssetBorrowing opened = transferService.transferAsset(new AssetTransferDto(5, 2, null));
+
+        assertEquals(AssetBorrowing.Status.ACTIVE, opened.getStatus());
+        assertSame(to, opened.getEmployee());
+        assertSame(laptop, opened.getAsset());
+        assertEquals(source.getDueAt(), opened.getDueAt());
+        assertEquals(Asset.Status.Borrowed, laptop.getStatus());
+        verify(dueDateScheduler).cancel(40);
+        verify(dueDateScheduler).schedule(opened);
+        verify(assetRepository, never()).save(any());
+    }
+
+    @Test
+    void testTransferAsset_ShouldMoveDueDateTimersOnlyAfterCommit() {
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of(laptop));
+        when(borrowingRepository.lockByAssetIds(anyCollection(), eq(AssetBorrowing.Status.ACTIVE))).thenReturn(List.of(source));
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(to));
+        when(borrowingRepository.closeAll(eq(List.of(40)), eq(AssetBorrowing.Status.ACTIVE),
+                eq(AssetBorrowing.Status.RETURNED), any())).thenReturn(1);
+        when(borrowingRepository.saveAll(anyCollection())).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            AssetBorrowing opened = transferService.transferAsset(new AssetTransferDto(5, 2, null));
+
+            verifyNoInteractions(dueDateScheduler);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(dueDateScheduler).cancel(40);
+            verify(dueDateScheduler).schedule(opened);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testTransferAsset_WhenSomeoneElseHasBookedTheAsset_ShouldThrowBadRequestException() {
+        reservationCalendar.add(new Booking(70, 5, 3, source.getDueAt().minusDays(2), source.getDueAt().minusDays(1)), 1);
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of(laptop));
+        when(borrowingRepository.lockByAssetIds(anyCollection(), eq(AssetBorrowing.Status.ACTIVE))).thenReturn(List.of(source));
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(to));
+
+        assertThrows(BadRequestException.class, () -> transferService.transferAsset(new AssetTransferDto(5, 2, null)));
+        verify(borrowingRepository, never()).closeAll(any(), any(), any(), any());
+
+        // A due date before the booking starts lets the transfer through
+        when(borrowingRepository.closeAll(eq(List.of(40)), eq(AssetBorrowing.Status.ACTIVE),
+                eq(AssetBorrowing.Status.RETURNED), any())).thenReturn(1);
+        when(borrowingRepository.saveAll(anyCollection())).thenAnswer(inv -> inv.getArgument(0));
+        AssetBorrowing opened = transferService.transferAsset(new AssetTransferDto(5, 2, source.getDueAt().minusDays(3)));
+        assertEquals(source.getDueAt().minusDays(3), opened.getDueAt());
+    }
+
+    @Test
+    void testTransferAssets_WithDuplicateAsset_ShouldThrowBadRequestException() {
+        List<AssetTransferDto> transfers = List.of(new AssetTransferDto(5, 2, null), new AssetTransferDto(5, 3, null));
+
+        assertThrows(BadRequestException.class, () -> transferService.transferAssets(transfers));
+        verify(assetRepository, never()).lockAll(anyCollection());
+    }
+
+    @Test
+    void testTransferAsset_WithoutActiveLoan_ShouldThrowBadRequestException() {
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of(laptop));
+        when(borrowingRepository.lockByAssetIds(anyCollection(), eq(AssetBorrowing.Status.ACTIVE))).thenReturn(List.of());
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(to));
+
+        assertThrows(BadRequestException.class, () -> transferService.transferAsset(new AssetTransferDto(5, 2, null)));
+        verify(borrowingRepository, never()).closeAll(anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    void testTransferAsset_ToOffboardedEmployee_ShouldThrowBadRequestException() {
+        to.setOffboardedAt(LocalDateTime.now());
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of(laptop));
+        when(borrowingRepository.lockByAssetIds(anyCollection(), eq(AssetBorrowing.Status.ACTIVE))).thenReturn(List.of(source));
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(to));
+
+        assertThrows(BadRequestException.class, () -> transferService.transferAsset(new AssetTransferDto(5, 2, null)));
+    }
+
+    @Test
+    void testTransferAsset_WhenAssetNotFound_ShouldThrowResourceNotFoundException() {
+        when(assetRepository.lockAll(anyCollection())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> transferService.transferAsset(new AssetTransferDto(5, 2, null)));
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        return employee;
+    }
+}
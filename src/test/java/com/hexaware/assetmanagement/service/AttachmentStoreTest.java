@@ -0,0 +1,62 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.service.AttachmentStore.StoredBlob;
+
+class AttachmentStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testStore_ShardsByHashAndDeduplicates() throws Exception {
+        AttachmentStore store = new AttachmentStore(root.toString(), 1024);
+        byte[] content = "cracked screen".getBytes(StandardCharsets.UTF_8);
+
+        StoredBlob first = store.store(new ByteArrayInputStream(content));
+        StoredBlob second = store.store(new ByteArrayInputStream(content));
+
+        assertEquals("149c9a0f92bd35f4dce5a2a46b713439292e0a632270cc4cd40b4c7a548fc789", first.sha256());
+        assertFalse(first.deduplicated());
+        assertTrue(second.deduplicated());
+        assertEquals(first.sha256(), second.sha256());
+        assertEquals(content.length, first.sizeBytes());
+
+        Path blob = store.resolve(first.sha256());
+        assertEquals(root.resolve(first.sha256().substring(0, 2)).resolve(first.sha256().substring(2, 4)).resolve(first.sha256()),
+                blob);
+        assertArrayEquals(content, Files.readAllBytes(blob));
+        try (Stream<Path> parts = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, parts.count());
+        }
+    }
+
+    @Test
+    void testStore_RejectsOversizedUploadAndCleansUp() throws Exception {
+        AttachmentStore store = new AttachmentStore(root.toString(), 10);
+
+        assertThrows(BadRequestException.class, () -> store.store(new ByteArrayInputStream(new byte[11])));
+        try (Stream<Path> parts = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, parts.count());
+        }
+    }
+
+    @Test
+    void testResolve_RejectsNonHashNames() throws Exception {
+        AttachmentStore store = new AttachmentStore(root.toString(), 10);
+
+        assertThrows(IllegalArgumentException.class, () -> store.resolve("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> store.resolve(null));
+    }
+}
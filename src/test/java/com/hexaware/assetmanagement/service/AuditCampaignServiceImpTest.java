@@ -0,0 +1,70 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hexaware.assetmanagement.dto.AuditCampaignRequestDto;
+import com.hexaware.assetmanagement.entity.AuditCampaign;
+import com.hexaware.assetmanagement.entity.AuditCampaign.Scope;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAuditCampaignRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AuditCampaignServiceImpTest {
+
+    @Mock
+    private IAuditCampaignRepository campaignRepository;
+
+    @Mock
+    private IAssetCategoryRepository categoryRepository;
+
+    @Mock
+    private AuditCampaignRunner campaignRunner;
+
+    @InjectMocks
+    private AuditCampaignServiceImp campaignService;
+
+    @Test
+    void testStartCampaign_WhenCategoryMissing_ShouldThrowResourceNotFoundException() {
+        when(categoryRepository.existsById(7)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () ->
+            campaignService.startCampaign(new AuditCampaignRequestDto(Scope.CATEGORY, 7, null)));
+        verifyNoInteractions(campaignRunner);
+    }
+
+    @Test
+    void testStartCampaign_WhenNoEmployeesGiven_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class, () ->
+            campaignService.startCampaign(new AuditCampaignRequestDto(Scope.EMPLOYEES, null, Collections.emptyList())));
+    }
+
+    @Test
+    void testStartCampaign_ShouldPersistAndHandOffToRunner() {
+        AuditCampaign saved = new AuditCampaign();
+        saved.setCampaignId(3);
+        when(campaignRepository.save(any(AuditCampaign.class))).thenReturn(saved);
+
+        AuditCampaign result = campaignService.startCampaign(
+            new AuditCampaignRequestDto(Scope.EMPLOYEES, null, List.of(4, 5, 4)));
+
+        ArgumentCaptor<AuditCampaign> captor = ArgumentCaptor.forClass(AuditCampaign.class);
+        verify(campaignRepository).save(captor.capture());
+        assertEquals("4,5", captor.getValue().getEmployeeIds());
+        verify(campaignRunner).run(3);
+        assertEquals(3, result.getCampaignId());
+    }
+}
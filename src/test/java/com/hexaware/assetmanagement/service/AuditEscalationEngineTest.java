@@ -0,0 +1,68 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.AuditReminderView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditEscalationEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 31, 12, 0);
+
+    private IAssetAuditRepository auditRepository;
+    private NotificationService notificationService;
+    private AuditEscalationEngine engine;
+
+    private record View(int getAuditId, int getEmployeeId, LocalDateTime getRequestedAt,
+            int getReminderCount, LocalDateTime getEscalatedAt) implements AuditReminderView {}
+
+    @BeforeEach
+    void setUp() {
+        auditRepository = mock(IAssetAuditRepository.class);
+        notificationService = mock(NotificationService.class);
+        engine = new AuditEscalationEngine(new SimpleMeterRegistry(), new long[] {168, 72}, 336, 100);
+        ReflectionTestUtils.setField(engine, "auditRepository", auditRepository);
+        ReflectionTestUtils.setField(engine, "notificationService", notificationService);
+    }
+
+    @Test
+    void testReachedLevel() {
+        assertEquals(0, engine.reachedLevel(NOW.minusHours(10), NOW));
+        assertEquals(1, engine.reachedLevel(NOW.minusHours(72), NOW));
+        assertEquals(2, engine.reachedLevel(NOW.minusHours(200), NOW));
+    }
+
+    @Test
+    void testRun_ShouldGroupRemindersPerEmployeeAndEscalateOverdue() {
+        List<AuditReminderView> chunk = List.of(
+            new View(1, 10, NOW.minusHours(80), 0, null),
+            new View(2, 10, NOW.minusHours(90), 0, null),
+            new View(3, 20, NOW.minusHours(400), 2, null));
+        when(auditRepository.countByAuditStatus(AuditStatus.PENDING)).thenReturn(3L);
+        when(auditRepository.findAgedPendingAudits(eq(AuditStatus.PENDING), eq(NOW.minusHours(72)),
+                any(), anyInt(), eq(2), any(Pageable.class))).thenReturn(chunk);
+        when(auditRepository.markReminded(List.of(1, 2), 1, NOW, AuditStatus.PENDING)).thenReturn(2);
+        when(auditRepository.markEscalated(List.of(3), NOW, AuditStatus.PENDING)).thenReturn(1);
+
+        engine.runAt(NOW);
+
+        verify(notificationService).notifyEmployee(eq(10), any(), eq(List.of(1, 2)));
+        verify(notificationService, never()).notifyEmployee(eq(20), any(), any());
+        verify(notificationService).notifyAdmins(any(), eq(List.of(3)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.service.ColdStorageArchiver.ArchiveRunResult;
+
+class ColdStorageArchiverTest {
+
+    private ColdStorageArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = spy(new ColdStorageArchiver());
+        ReflectionTestUtils.setField(archiver, "maxRowsPerSecond", 1000000);
+        doReturn(List.of()).when(archiver).findCandidates(any(), any(), anyInt());
+    }
+
+    @Test
+    void testArchive_ShouldWalkChunksByKeyUntilNothingIsLeft() {
+        doReturn(List.of(3, 7)).when(archiver).findCandidates(borrowings(), any(), eq(0));
+        doReturn(List.of(12)).when(archiver).findCandidates(borrowings(), any(), eq(7));
+        doReturn(2).when(archiver).moveChunk(borrowings(), eq(List.of(3, 7)), any());
+        doReturn(1).when(archiver).moveChunk(borrowings(), eq(List.of(12)), any());
+
+        ArchiveRunResult result = archiver.archive();
+
+        assertFalse(result.budgetExhausted());
+        assertEquals(3, result.movedRows().get("asset_borrowing"));
+        assertEquals(0, result.movedRows().get("asset_audit"));
+        assertEquals(0, result.movedRows().get("service_request"));
+        verify(archiver).findCandidates(borrowings(), any(), eq(12));
+    }
+
+    @Test
+    void testArchive_ShouldStopWhenRunBudgetIsSpent() {
+        ReflectionTestUtils.setField(archiver, "maxRunMs", 0L);
+
+        ArchiveRunResult result = archiver.archive();
+
+        assertTrue(result.budgetExhausted());
+        verify(archiver, never()).moveChunk(any(), any(), any());
+    }
+
+    @Test
+    void testMoveChunk_ShouldOnlyMoveRowsThatAreStillArchivable() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        ReflectionTestUtils.setField(archiver, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(archiver, "transactionTemplate", transactionTemplate);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        ColdStorageArchiver.ArchiveTarget target = archiver.targets().get(0);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(180);
+        // Row 7 was reopened after findCandidates picked it
+        doReturn(List.of(3)).when(archiver).lockArchivable(target, List.of(3, 7), cutoff);
+        when(jdbcTemplate.update(startsWith("DELETE"), eq(3))).thenReturn(1);
+
+        assertEquals(1, archiver.moveChunk(target, List.of(3, 7), cutoff));
+
+        verify(jdbcTemplate).update(startsWith("INSERT"), eq(3));
+        verify(jdbcTemplate).update(startsWith("DELETE"), eq(3));
+    }
+
+    @Test
+    void testTargets_ShouldKeepServiceRequestsPastTheMaintenanceWindow() {
+        ColdStorageArchiver.ArchiveTarget requests = archiver.targets().stream()
+                .filter(t -> t.table().equals("service_request")).findFirst().orElseThrow();
+        assertEquals(List.of("Completed"), requests.terminalStates());
+        assertTrue(requests.afterDays() > 365);
+        assertEquals("service_request_archive", requests.archiveTable());
+        // Aged by completion, which is what the maintenance window reads
+        assertTrue(requests.agedSince().contains("MAX(t.changed_at)"));
+        assertTrue(requests.agedSince().contains("t.to_status = 'Completed'"));
+    }
+
+    @Test
+    void testPause_ShouldSpreadRowsOverTheIoBudget() {
+        ReflectionTestUtils.setField(archiver, "maxRowsPerSecond", 1000);
+        assertEquals(400, archiver.pauseMs(500, 100));
+        assertEquals(0, archiver.pauseMs(500, 700));
+    }
+
+    private static ColdStorageArchiver.ArchiveTarget borrowings() {
+        return argThat(t -> t != null && t.table().equals("asset_borrowing"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DeletedAssetPurgerTest {
+
+    private DeletedAssetPurger purger;
+    private ColdStorageArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = mock(ColdStorageArchiver.class);
+        purger = spy(new DeletedAssetPurger());
+        ReflectionTestUtils.setField(purger, "archiver", archiver);
+    }
+
+    @Test
+    void testPurge_ShouldArchiveDependentsBeforeDeletingTheAsset() {
+        doReturn(List.of(4, 9)).when(purger).findDeleted();
+        when(archiver.archiveAsset(4)).thenReturn(120);
+        when(archiver.archiveAsset(9)).thenReturn(0);
+        doReturn(true).when(purger).purgeAsset(4);
+        doReturn(true).when(purger).purgeAsset(9);
+
+        assertEquals(2, purger.purge());
+
+        InOrder order = inOrder(archiver, purger);
+        order.verify(archiver).archiveAsset(4);
+        order.verify(purger).purgeAsset(4);
+        order.verify(archiver).archiveAsset(9);
+        order.verify(purger).purgeAsset(9);
+    }
+
+    @Test
+    void testPurge_ShouldNotCountAssetsRestoredMeanwhile() {
+        doReturn(List.of(4)).when(purger).findDeleted();
+        doReturn(false).when(purger).purgeAsset(4);
+
+        assertEquals(0, purger.purge());
+    }
+
+    @Test
+    void testPurgeDeleted_ShouldDoNothingWhenDisabled() {
+        ReflectionTestUtils.setField(purger, "enabled", false);
+
+        purger.purgeDeleted();
+
+        verify(purger, never()).purge();
+    }
+}
@@ -0,0 +1,102 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.service.IncidentGroupingEngine.Fingerprint;
+import com.hexaware.assetmanagement.service.IncidentGroupingEngine.Match;
+
+class IncidentGroupingEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private IncidentGroupingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new IncidentGroupingEngine(120, 0.6, 4, 16, 4);
+    }
+
+    private void file(int id, IssueType type, String description, LocalDateTime at, Integer incidentId) {
+        engine.index(id, engine.fingerprint(type, description), at, incidentId);
+    }
+
+    @Test
+    void testFindDuplicate_MatchesNearIdenticalRequestOfSameType() {
+        file(1, IssueType.NETWORK, "Wifi is down on the 3rd floor, cannot connect to VPN", NOW, null);
+        file(2, IssueType.NETWORK, "Printer on floor 2 keeps jamming paper", NOW, null);
+
+        Match match = engine.findDuplicate(
+                engine.fingerprint(IssueType.NETWORK, "WiFi is down on 3rd floor - can't connect to the VPN!"), NOW.plusMinutes(5));
+
+        assertNotNull(match);
+        assertEquals(1, match.serviceRequestId());
+        assertNull(match.incidentId());
+        assertTrue(match.similarity() >= 0.6);
+    }
+
+    @Test
+    void testFindDuplicate_IgnoresOtherIssueTypesAndUnrelatedText() {
+        file(1, IssueType.NETWORK, "Wifi is down on the 3rd floor, cannot connect to VPN", NOW, null);
+
+        assertNull(engine.findDuplicate(engine.fingerprint(IssueType.HARDWARE,
+                "Wifi is down on the 3rd floor, cannot connect to VPN"), NOW));
+        assertNull(engine.findDuplicate(engine.fingerprint(IssueType.NETWORK,
+                "Laptop battery swells and the trackpad no longer clicks"), NOW));
+    }
+
+    @Test
+    void testFindDuplicate_PrefersExistingIncidentAndRespectsWindow() {
+        String text = "Email server unreachable from the office network since 9am";
+        file(1, IssueType.NETWORK, text, NOW, null);
+        file(2, IssueType.NETWORK, text, NOW.plusMinutes(1), 7);
+
+        Match match = engine.findDuplicate(engine.fingerprint(IssueType.NETWORK, text), NOW.plusMinutes(2));
+        assertEquals(7, match.incidentId());
+
+        // Both requests fall out of the 2 hour window
+        assertNull(engine.findDuplicate(engine.fingerprint(IssueType.NETWORK, text), NOW.plusMinutes(200)));
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void testRemoveAndMarkGrouped() {
+        String text = "Cannot reach the intranet portal from any browser";
+        file(1, IssueType.NETWORK, text, NOW, null);
+        file(2, IssueType.NETWORK, text + " today", NOW, null);
+        engine.markGrouped(List.of(1, 2), 3);
+        engine.remove(List.of(2));
+
+        Match match = engine.findDuplicate(engine.fingerprint(IssueType.NETWORK, text), NOW);
+        assertEquals(1, match.serviceRequestId());
+        assertEquals(3, match.incidentId());
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void testFindDuplicate_StaysFastWithLargeWindow() {
+        String[] places = {"floor", "building", "wing", "lab", "room"};
+        for (int i = 0; i < 20000; i++) {
+            file(i, IssueType.values()[i % IssueType.values().length],
+                    "Issue " + i + " with device " + (i * 7919) + " in " + places[i % places.length] + " " + (i % 97), NOW, null);
+        }
+        Fingerprint probe = engine.fingerprint(IssueType.NETWORK, "Switch in server room rack 4 is unreachable");
+        for (int i = 0; i < 1000; i++) {
+            engine.findDuplicate(probe, NOW);
+        }
+
+        long start = System.nanoTime();
+        int lookups = 2000;
+        for (int i = 0; i < lookups; i++) {
+            engine.findDuplicate(engine.fingerprint(IssueType.NETWORK, "Switch in server room rack " + i + " is unreachable"), NOW);
+        }
+        double microsPerLookup = (System.nanoTime() - start) / 1000.0 / lookups;
+        assertTrue(microsPerLookup < 1000, "lookup took " + microsPerLookup + "us");
+    }
+}
@@ -0,0 +1,222 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hexaware.assetmanagement.dto.OffboardingResultDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetAudit.AuditStatus;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository;
+import com.hexaware.assetmanagement.repository.IAssetAuditRepository.PendingAuditView;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.LoanView;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository.RequestView;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.RequestRefView;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+import com.hexaware.assetmanagement.repository.ITechnicianProfileRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OffboardingServiceImpTest {
+
+    @Mock
+    private IEmployeeRepository employeeRepository;
+
+    @Mock
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Mock
+    private IAssetRepository assetRepository;
+
+    @Mock
+    private IAssetAuditRepository auditRepository;
+
+    @Mock
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Mock
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Mock
+    private ITechnicianProfileRepository technicianProfileRepository;
+
+    @Mock
+    private IAssetReservationRepository reservationRepository;
+
+    @Mock
+    private BorrowingDueDateScheduler dueDateScheduler;
+
+    @Mock
+    private ReservationCalendar reservationCalendar;
+
+    @Mock
+    private WorkflowEventPublisher eventPublisher;
+
+    @Mock
+    private ServiceRequestSlaEngine slaEngine;
+
+    @Mock
+    private IncidentGroupingEngine groupingEngine;
+
+    @InjectMocks
+    private OffboardingServiceImp offboardingService;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = new Employee();
+        employee.setEmployeeId(7);
+    }
+
+    @Test
+    void testOffboardEmployee_ShouldCloseEverythingWithSetBasedUpdates() {
+        when(employeeRepository.findById(7)).thenReturn(Optional.of(employee));
+        when(borrowingRepository.findLoansByEmployee(7, AssetBorrowing.Status.ACTIVE))
+                .thenReturn(List.of(loan(11, 101), loan(12, 102)));
+        when(borrowingRepository.returnAllForEmployee(eq(7), eq(AssetBorrowing.Status.ACTIVE),
+                eq(AssetBorrowing.Status.RETURNED), any())).thenReturn(2);
+        when(assetRepository.releaseAll(List.of(101, 102), Asset.Status.Borrowed, Asset.Status.Available)).thenReturn(2);
+        RequestView borrowing = mock(RequestView.class);
+        when(borrowing.getBorrowingId()).thenReturn(21);
+        when(borrowing.getAssetId()).thenReturn(103);
+        when(borrowingRepository.findRequestsByEmployee(7, AssetBorrowing.Status.PENDING)).thenReturn(List.of(borrowing));
+        when(borrowingRepository.rejectAll(eq(List.of(21)), eq(AssetBorrowing.Status.PENDING),
+                eq(AssetBorrowing.Status.REJECTED), any())).thenReturn(1);
+        List<PendingAuditView> audits = List.of(audit(41), audit(42), audit(43));
+        when(auditRepository.findPendingByEmployee(7, AuditStatus.PENDING)).thenReturn(audits);
+        when(auditRepository.rejectAll(eq(List.of(41, 42, 43)), eq(AuditStatus.PENDING), eq(AuditStatus.REJECTED), any()))
+                .thenReturn(3);
+        List<RequestRefView> requests = List.of(request(51), request(52), request(53), request(54));
+        when(serviceRequestRepository.findRefsByEmployee(7, ServiceRequest.Status.Pending)).thenReturn(requests);
+        when(serviceRequestRepository.closeAll(List.of(51, 52, 53, 54), ServiceRequest.Status.Pending,
+                ServiceRequest.Status.Completed)).thenReturn(4);
+        when(reservationRepository.findUpcomingIdsByEmployee(eq(7), eq(AssetReservation.Status.BOOKED), any()))
+                .thenReturn(List.of(31));
+        when(reservationRepository.cancelAllForEmployee(eq(7), eq(AssetReservation.Status.BOOKED),
+                eq(AssetReservation.Status.CANCELLED), any())).thenReturn(1);
+
+        OffboardingResultDto result = offboardingService.offboardEmployee(7);
+
+        assertEquals(2, result.getReturnedBorrowings());
+        assertEquals(2, result.getReleasedAssets());
+        assertEquals(1, result.getRejectedBorrowings());
+        assertEquals(3, result.getRejectedAudits());
+        assertEquals(4, result.getClosedServiceRequests());
+        assertEquals(1, result.getCancelledReservations());
+        assertNotNull(employee.getOffboardedAt());
+        assertFalse(employee.isEnabled());
+        verify(technicianProfileRepository).deactivate(7);
+        // Assets are locked before their loans, in the order returnAsset and transfers use
+        InOrder lockOrder = inOrder(assetRepository, borrowingRepository);
+        lockOrder.verify(assetRepository).lockAll(List.of(101, 102));
+        lockOrder.verify(borrowingRepository).returnAllForEmployee(eq(7), eq(AssetBorrowing.Status.ACTIVE),
+                eq(AssetBorrowing.Status.RETURNED), any());
+        // Every closed request gets its history row
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ServiceRequestTransition>> transitions = ArgumentCaptor.forClass(List.class);
+        verify(transitionRepository).saveAll(transitions.capture());
+        assertEquals(List.of(51, 52, 53, 54), transitions.getValue().stream().map(ServiceRequestTransition::getServiceRequestId).toList());
+        assertTrue(transitions.getValue().stream().allMatch(t -> t.getFromStatus() == ServiceRequest.Status.Pending
+                && t.getToStatus() == ServiceRequest.Status.Completed && t.getChangedBy() == 7));
+        // No transaction in a unit test, so the after-commit work runs straight away
+        verify(dueDateScheduler).cancel(11);
+        verify(dueDateScheduler).cancel(12);
+        verify(reservationCalendar).remove(31);
+        verify(borrowingRepository, never()).save(any());
+        // Closed requests leave the SLA queue and duplicate detection, and every change is announced
+        verify(slaEngine).trackStatus(List.of(51, 52, 53, 54), ServiceRequest.Status.Completed);
+        verify(groupingEngine).remove(List.of(51, 52, 53, 54));
+        verify(eventPublisher).publish(EventType.BORROWING, 11, 7, 101, "RETURNED");
+        verify(eventPublisher).publish(EventType.BORROWING, 21, 7, 103, "REJECTED");
+        verify(eventPublisher).publish(EventType.AUDIT, 42, 7, 102, "REJECTED");
+        verify(eventPublisher).publish(EventType.SERVICE_REQUEST, 53, 7, 101, "Completed");
+    }
+
+    @Test
+    void testOffboardEmployee_WithNoLoans_ShouldNotTouchAssets() {
+        when(employeeRepository.findById(7)).thenReturn(Optional.of(employee));
+        when(borrowingRepository.findLoansByEmployee(7, AssetBorrowing.Status.ACTIVE)).thenReturn(List.of());
+
+        OffboardingResultDto result = offboardingService.offboardEmployee(7);
+
+        assertEquals(0, result.getReleasedAssets());
+        verify(assetRepository, never()).releaseAll(any(), any(), any());
+        verify(serviceRequestRepository, never()).closeAll(any(), any(), any());
+        verify(slaEngine, never()).trackStatus(any(), any());
+        verify(assetRepository, never()).lockAll(any());
+        verify(transitionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testOffboardEmployee_WhenAlreadyOffboarded_ShouldThrowBadRequestException() {
+        employee.setOffboardedAt(LocalDateTime.now());
+        when(employeeRepository.findById(7)).thenReturn(Optional.of(employee));
+
+        assertThrows(BadRequestException.class, () -> offboardingService.offboardEmployee(7));
+        verify(borrowingRepository, never()).returnAllForEmployee(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void testOffboardEmployee_WhenEmployeeNotFound_ShouldThrowResourceNotFoundException() {
+        when(employeeRepository.findById(7)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> offboardingService.offboardEmployee(7));
+    }
+
+    private static PendingAuditView audit(int auditId) {
+        PendingAuditView audit = mock(PendingAuditView.class);
+        when(audit.getAuditId()).thenReturn(auditId);
+        when(audit.getAssetId()).thenReturn(auditId + 60);
+        return audit;
+    }
+
+    private static RequestRefView request(int serviceRequestId) {
+        RequestRefView request = mock(RequestRefView.class);
+        when(request.getServiceRequestId()).thenReturn(serviceRequestId);
+        when(request.getAssetId()).thenReturn(serviceRequestId + 48);
+        when(request.getRequestedAt()).thenReturn(LocalDateTime.now().minusDays(2));
+        return request;
+    }
+
+    private static LoanView loan(int borrowingId, int assetId) {
+        return new LoanView() {
+            @Override
+            public int getBorrowingId() {
+                return borrowingId;
+            }
+
+            @Override
+            public int getAssetId() {
+                return assetId;
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexaware.assetmanagement.entity.AssetReliability;
+import com.hexaware.assetmanagement.entity.MaintenanceTask;
+import com.hexaware.assetmanagement.entity.MaintenanceTask.TaskStatus;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.repository.IAssetReliabilityRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IMaintenanceTaskRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
+
+class PreventiveMaintenanceSchedulerTest {
+
+    private IAssetReliabilityRepository reliabilityRepository;
+    private IMaintenanceTaskRepository taskRepository;
+    private IAssetRepository assetRepository;
+    private IServiceRequestTransitionRepository transitionRepository;
+    private NotificationService notificationService;
+    private PreventiveMaintenanceScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        reliabilityRepository = mock(IAssetReliabilityRepository.class);
+        taskRepository = mock(IMaintenanceTaskRepository.class);
+        assetRepository = mock(IAssetRepository.class);
+        transitionRepository = mock(IServiceRequestTransitionRepository.class);
+        notificationService = mock(NotificationService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+        when(reliabilityRepository.save(any(AssetReliability.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(taskRepository.save(any(MaintenanceTask.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        scheduler = new PreventiveMaintenanceScheduler(365, 2, 180, 7, 1);
+        ReflectionTestUtils.setField(scheduler, "reliabilityRepository", reliabilityRepository);
+        ReflectionTestUtils.setField(scheduler, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(scheduler, "assetRepository", assetRepository);
+        ReflectionTestUtils.setField(scheduler, "transitionRepository", transitionRepository);
+        ReflectionTestUtils.setField(scheduler, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(scheduler, "notificationService", notificationService);
+        ReflectionTestUtils.setField(scheduler, "eventPublisher", mock(WorkflowEventPublisher.class));
+    }
+
+    @Test
+    void testComputeDue_ShouldShrinkIntervalAsFailuresAccumulate() {
+        LocalDateTime repairedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+        assertNull(scheduler.computeDue(1, repairedAt, null));
+        assertEquals(repairedAt.plusDays(60), scheduler.computeDue(2, repairedAt, null));
+        assertEquals(repairedAt.plusDays(36), scheduler.computeDue(4, repairedAt, null));
+        // Never more often than the minimum interval
+        assertEquals(repairedAt.plusDays(7), scheduler.computeDue(100, repairedAt, null));
+        // A later maintenance restarts the interval
+        assertEquals(repairedAt.plusDays(70), scheduler.computeDue(2, repairedAt, repairedAt.plusDays(10)));
+        assertEquals(repairedAt.plusDays(60), scheduler.computeDue(2, repairedAt, repairedAt.minusDays(10)));
+    }
+
+    @Test
+    void testRecordRepair_ShouldScheduleOnceThresholdIsReached() {
+        AssetReliability reliability = new AssetReliability(9);
+        when(reliabilityRepository.findById(9)).thenReturn(Optional.of(reliability));
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduler.recordRepair(40, 9, now.minusDays(30));
+        assertEquals(0, scheduler.getScheduledCount());
+
+        scheduler.recordRepair(41, 9, now);
+        assertEquals(2, reliability.getFailureCount());
+        assertEquals(2.0, reliability.getFailureRatePerYear(), 1e-9);
+        assertEquals(now.plusDays(60), reliability.getNextMaintenanceDue());
+        assertEquals(now.plusDays(60), scheduler.getScheduledDue(9));
+    }
+
+    @Test
+    void testRecordRepair_ReopenedRequest_ShouldNotCountTwice() {
+        AssetReliability reliability = new AssetReliability(9);
+        reliability.setFailureCount(1);
+        when(reliabilityRepository.findById(9)).thenReturn(Optional.of(reliability));
+        LocalDateTime now = LocalDateTime.now();
+        when(transitionRepository.existsRepairBetween(40, Status.Transit, Status.Completed, now.minusDays(365), now))
+                .thenReturn(true);
+
+        scheduler.recordRepair(40, 9, now);
+
+        assertEquals(1, reliability.getFailureCount());
+        assertEquals(now, reliability.getLastRepairAt());
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void testRecordRepair_WithOpenTask_ShouldNotSchedule() {
+        AssetReliability reliability = new AssetReliability(9);
+        reliability.setFailureCount(3);
+        when(reliabilityRepository.findById(9)).thenReturn(Optional.of(reliability));
+        when(taskRepository.existsByAssetIdAndStatus(9, TaskStatus.OPEN)).thenReturn(true);
+
+        scheduler.recordRepair(40, 9, LocalDateTime.now());
+
+        assertNull(reliability.getNextMaintenanceDue());
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void testTick_DueAsset_ShouldOpenTaskAndHoldAsset() {
+        AssetReliability reliability = new AssetReliability(9);
+        reliability.setFailureCount(1);
+        when(reliabilityRepository.findById(9)).thenReturn(Optional.of(reliability));
+        // Second repair 100 days ago: maintenance was due 40 days ago
+        scheduler.recordRepair(40, 9, LocalDateTime.now().minusDays(100));
+        assertEquals(1, scheduler.getScheduledCount());
+
+        scheduler.tick();
+
+        ArgumentCaptor<MaintenanceTask> captor = ArgumentCaptor.forClass(MaintenanceTask.class);
+        verify(taskRepository).save(captor.capture());
+        assertEquals(9, captor.getValue().getAssetId());
+        assertEquals(2, captor.getValue().getFailureCount());
+        assertEquals(TaskStatus.OPEN, captor.getValue().getStatus());
+        verify(assetRepository).setMaintenanceHold(9, true);
+        verify(notificationService).notifyAdmins(any(), eq(List.of(9)));
+        assertNull(reliability.getNextMaintenanceDue());
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void testTick_StaleEntry_ShouldNotOpenTask() {
+        AssetReliability reliability = new AssetReliability(9);
+        reliability.setFailureCount(1);
+        when(reliabilityRepository.findById(9)).thenReturn(Optional.of(reliability));
+        scheduler.recordRepair(40, 9, LocalDateTime.now().minusDays(100));
+        // Recompute moved the due date out since the entry was queued
+        reliability.setNextMaintenanceDue(LocalDateTime.now().plusDays(5));
+
+        scheduler.tick();
+
+        verify(taskRepository, never()).save(any(MaintenanceTask.class));
+        verifyNoInteractions(notificationService);
+    }
+}
@@ -0,0 +1,237 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hexaware.assetmanagement.dto.ReservationRequestDto;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.entity.AssetBorrowing;
+import com.hexaware.assetmanagement.entity.AssetCategory;
+import com.hexaware.assetmanagement.entity.AssetReservation;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
+import com.hexaware.assetmanagement.exception.UnauthorizedException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IAssetReservationRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.service.ReservationCalendar.Booking;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceImpTest {
+
+    @Mock
+    private IAssetReservationRepository reservationRepository;
+
+    @Mock
+    private IAssetRepository assetRepository;
+
+    @Mock
+    private IAssetCategoryRepository categoryRepository;
+
+    @Mock
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Mock
+    private IEmployeeRepository employeeRepository;
+
+    @Spy
+    private ReservationCalendar calendar = new ReservationCalendar();
+
+    @InjectMocks
+    private ReservationServiceImp reservationService;
+
+    private AssetCategory projectors;
+    private LocalDateTime tuesday;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @BeforeEach
+    void setUp() {
+        projectors = new AssetCategory(3, "Projector");
+        tuesday = LocalDateTime.now().plusDays(7).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void testReserve_ShouldBookAssetAndRejectOverlappingWindow() {
+        Asset projector = asset(5);
+        stubEmployees(1, 2);
+        when(assetRepository.lockAll(List.of(5))).thenReturn(List.of(projector));
+        stubSave();
+
+        AssetReservation booked = reservationService.reserve(byAsset(1, 5, tuesday, tuesday.plusHours(2)));
+
+        assertEquals(AssetReservation.Status.BOOKED, booked.getStatus());
+        assertEquals(1, calendar.size());
+        assertThrows(ConflictException.class,
+                () -> reservationService.reserve(byAsset(2, 5, tuesday.plusHours(1), tuesday.plusHours(3))));
+        // End is exclusive, so the next slot can start when the previous one ends
+        reservationService.reserve(byAsset(2, 5, tuesday.plusHours(2), tuesday.plusHours(3)));
+        assertEquals(2, calendar.size());
+    }
+
+    @Test
+    void testReserve_WhenAssetIsOnOpenEndedLoan_ShouldThrowBadRequestException() {
+        Asset projector = asset(5);
+        projector.setStatus(Asset.Status.Borrowed);
+        AssetBorrowing loan = new AssetBorrowing();
+        loan.setStatus(AssetBorrowing.Status.ACTIVE);
+        stubEmployees(1);
+        when(assetRepository.lockAll(List.of(5))).thenReturn(List.of(projector));
+        when(borrowingRepository.lockByAssetIds(List.of(5), AssetBorrowing.Status.ACTIVE)).thenReturn(List.of(loan));
+
+        assertThrows(BadRequestException.class, () -> reservationService.reserve(byAsset(1, 5, tuesday, tuesday.plusHours(2))));
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void testReserve_ByCategory_ShouldSkipAssetsTheCalendarShowsAsBooked() {
+        calendar.add(new Booking(90, 5, 2, tuesday, tuesday.plusHours(4)), 3);
+        Asset spare = asset(6);
+        stubEmployees(1);
+        when(categoryRepository.existsById(3)).thenReturn(true);
+        when(assetRepository.findReservableIds(eq(3), any(), eq(AssetBorrowing.Status.ACTIVE), any()))
+                .thenReturn(List.of(5, 6));
+        when(assetRepository.lockAll(List.of(6))).thenReturn(List.of(spare));
+        stubSave();
+
+        AssetReservation booked = reservationService.reserve(byCategory(1, 3, tuesday.plusHours(1), tuesday.plusHours(2)));
+
+        assertSame(spare, booked.getAsset());
+        verify(assetRepository, never()).lockAll(List.of(5));
+    }
+
+    @Test
+    void testReserve_ByCategoryWithNothingFree_ShouldThrowBadRequestException() {
+        calendar.add(new Booking(90, 5, 2, tuesday, tuesday.plusHours(4)), 3);
+        stubEmployees(1);
+        when(categoryRepository.existsById(3)).thenReturn(true);
+        when(assetRepository.findReservableIds(eq(3), any(), eq(AssetBorrowing.Status.ACTIVE), any()))
+                .thenReturn(List.of(5));
+
+        assertThrows(BadRequestException.class,
+                () -> reservationService.reserve(byCategory(1, 3, tuesday, tuesday.plusHours(1))));
+        verify(assetRepository, never()).lockAll(anyCollection());
+    }
+
+    @Test
+    void testReserve_WithAssetAndCategory_ShouldThrowBadRequestException() {
+        ReservationRequestDto dto = new ReservationRequestDto(1, 5, 3, tuesday, tuesday.plusHours(1));
+
+        assertThrows(BadRequestException.class, () -> reservationService.reserve(dto));
+        verify(employeeRepository, never()).findById(any());
+    }
+
+    @Test
+    void testReserve_WithEndBeforeStart_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> reservationService.reserve(byAsset(1, 5, tuesday.plusHours(2), tuesday)));
+    }
+
+    @Test
+    void testCancelReservation_ShouldFreeTheWindow() {
+        Asset projector = asset(5);
+        AssetReservation reservation = new AssetReservation(employee(1), projector, tuesday, tuesday.plusHours(2));
+        reservation.setReservationId(90);
+        calendar.add(new Booking(90, 5, 1, tuesday, tuesday.plusHours(2)), 3);
+        when(reservationRepository.findById(90)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+        signIn(employee(1));
+
+        AssetReservation cancelled = reservationService.cancelReservation(90);
+
+        assertEquals(AssetReservation.Status.CANCELLED, cancelled.getStatus());
+        assertNotNull(cancelled.getCancelledAt());
+        // No transaction in a unit test, so the after-commit work runs straight away
+        assertTrue(calendar.conflicts(5, tuesday, tuesday.plusHours(2)).isEmpty());
+    }
+
+    @Test
+    void testCancelReservation_ByAnotherEmployee_ShouldThrowUnauthorizedException() {
+        AssetReservation reservation = new AssetReservation(employee(1), asset(5), tuesday, tuesday.plusHours(2));
+        reservation.setReservationId(90);
+        when(reservationRepository.findById(90)).thenReturn(Optional.of(reservation));
+        signIn(employee(2));
+
+        assertThrows(UnauthorizedException.class, () -> reservationService.cancelReservation(90));
+        assertEquals(AssetReservation.Status.BOOKED, reservation.getStatus());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void testCancelReservation_ByAdmin_ShouldCancelAnyBooking() {
+        AssetReservation reservation = new AssetReservation(employee(1), asset(5), tuesday, tuesday.plusHours(2));
+        reservation.setReservationId(90);
+        when(reservationRepository.findById(90)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.save(reservation)).thenReturn(reservation);
+        Employee admin = employee(2);
+        admin.setRole(Employee.Role.ADMIN);
+        signIn(admin);
+
+        assertEquals(AssetReservation.Status.CANCELLED, reservationService.cancelReservation(90).getStatus());
+    }
+
+    private static void signIn(Employee employee) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(employee, null, List.of()));
+    }
+
+    private void stubEmployees(int... ids) {
+        for (int id : ids) {
+            when(employeeRepository.findById(id)).thenReturn(Optional.of(employee(id)));
+        }
+    }
+
+    private void stubSave() {
+        when(reservationRepository.save(any())).thenAnswer(inv -> {
+            AssetReservation reservation = inv.getArgument(0);
+            reservation.setReservationId(100 + calendar.size());
+            return reservation;
+        });
+    }
+
+    private Asset asset(int id) {
+        Asset asset = new Asset();
+        asset.setAssetId(id);
+        asset.setAssetName("Projector " + id);
+        asset.setCategory(projectors);
+        asset.setStatus(Asset.Status.Available);
+        return asset;
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        return employee;
+    }
+
+    private static ReservationRequestDto byAsset(int employeeId, int assetId, LocalDateTime startAt, LocalDateTime endAt) {
+        return new ReservationRequestDto(employeeId, assetId, null, startAt, endAt);
+    }
+
+    private static ReservationRequestDto byCategory(int employeeId, int categoryId, LocalDateTime startAt, LocalDateTime endAt) {
+        return new ReservationRequestDto(employeeId, null, categoryId, startAt, endAt);
+    }
+}
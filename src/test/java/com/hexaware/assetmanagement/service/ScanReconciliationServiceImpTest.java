@@ -0,0 +1,104 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hexaware.assetmanagement.dto.ScanSessionDto;
+import com.hexaware.assetmanagement.dto.ScanSessionDto.SessionStatus;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto;
+import com.hexaware.assetmanagement.dto.ScanSessionRequestDto.ExpectedScope;
+import com.hexaware.assetmanagement.entity.Asset;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
+import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
+import com.hexaware.assetmanagement.repository.IAssetCategoryRepository;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ScanReconciliationServiceImpTest {
+
+    @Mock
+    private IAssetRepository assetRepository;
+
+    @Mock
+    private IAssetBorrowingRepository borrowingRepository;
+
+    @Mock
+    private IAssetCategoryRepository categoryRepository;
+
+    @Mock
+    private IEmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private ScanReconciliationServiceImp scanService;
+
+    @Test
+    void testCloseSession_ShouldSplitMatchedMissingAndUnexpected() {
+        when(assetRepository.findIdsByStatus(Asset.Status.Available)).thenReturn(List.of(1, 2, 3, 4, 5));
+
+        ScanSessionDto session = scanService.openSession(new ScanSessionRequestDto(ExpectedScope.AVAILABLE, null, null));
+        scanService.addScans(session.getSessionId(), List.of(5, 2, 9));
+        scanService.addScans(session.getSessionId(), List.of(2, 3));
+        ScanSessionDto closed = scanService.closeSession(session.getSessionId());
+
+        assertEquals(SessionStatus.CLOSED, closed.getStatus());
+        assertEquals(4, closed.getScannedCount());
+        assertEquals(5L, closed.getExpectedCount());
+        assertEquals(List.of(2, 3, 5), closed.getMatched());
+        assertEquals(List.of(1, 4), closed.getMissing());
+        assertEquals(List.of(9), closed.getUnexpected());
+    }
+
+    @Test
+    void testCloseSession_LargeInventoryShouldReconcileQuickly() {
+        List<Integer> expected = IntStream.rangeClosed(1, 200_000).boxed().toList();
+        when(assetRepository.findIdsByStatus(Asset.Status.Available)).thenReturn(expected);
+
+        ScanSessionDto session = scanService.openSession(new ScanSessionRequestDto(ExpectedScope.AVAILABLE, null, null));
+        // Every asset except multiples of 1000 is found, plus 10 strays
+        for (int start = 1; start <= 200_000; start += 10_000) {
+            int from = start;
+            scanService.addScans(session.getSessionId(), IntStream.range(from, from + 10_000)
+                .filter(id -> id % 1000 != 0).boxed().toList());
+        }
+        scanService.addScans(session.getSessionId(), IntStream.rangeClosed(300_001, 300_010).boxed().toList());
+        ScanSessionDto closed = scanService.closeSession(session.getSessionId());
+
+        assertEquals(200, closed.getMissing().size());
+        assertEquals(10, closed.getUnexpected().size());
+        assertEquals(199_800, closed.getMatched().size());
+        assertTrue(closed.getReconcileMillis() < 1000, "reconcile took " + closed.getReconcileMillis() + " ms");
+    }
+
+    @Test
+    void testAddScans_AfterClose_ShouldThrowBadRequestException() {
+        when(borrowingRepository.findBorrowedAssetIds(any())).thenReturn(List.of());
+
+        ScanSessionDto session = scanService.openSession(new ScanSessionRequestDto(ExpectedScope.ACTIVE_BORROWINGS, null, null));
+        scanService.closeSession(session.getSessionId());
+
+        assertThrows(BadRequestException.class, () -> scanService.addScans(session.getSessionId(), List.of(1)));
+    }
+
+    @Test
+    void testAddScans_UnknownSession_ShouldThrowResourceNotFoundException() {
+        assertThrows(ResourceNotFoundException.class, () -> scanService.addScans("missing", List.of(1)));
+    }
+
+    @Test
+    void testOpenSession_EmployeeWithAvailableScope_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class, () ->
+            scanService.openSession(new ScanSessionRequestDto(ExpectedScope.AVAILABLE, null, 4)));
+    }
+}
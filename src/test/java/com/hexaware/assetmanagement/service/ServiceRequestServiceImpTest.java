@@ -2,16 +2,16 @@ package com.hexaware.assetmanagement.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,12 +20,15 @@ import com.hexaware.assetmanagement.entity.Asset;
 import com.hexaware.assetmanagement.entity.AssetBorrowing;
 import com.hexaware.assetmanagement.entity.Employee;
 import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequestTransition;
 import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.exception.ConflictException;
 import com.hexaware.assetmanagement.exception.ResourceNotFoundException;
 import com.hexaware.assetmanagement.repository.IAssetBorrowingRepository;
 import com.hexaware.assetmanagement.repository.IAssetRepository;
 import com.hexaware.assetmanagement.repository.IEmployeeRepository;
 import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestTransitionRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceRequestServiceImpTest {
@@ -42,12 +45,38 @@ class ServiceRequestServiceImpTest {
     @Mock
     private IAssetBorrowingRepository borrowingRepository;
 
+    @Mock
+    private WorkflowEventPublisher eventPublisher;
+
+    @Mock
+    private ServiceRequestSlaEngine slaEngine;
+
+    @Mock
+    private IServiceRequestTransitionRepository transitionRepository;
+
+    @Mock
+    private ITechnicianService technicianService;
+
+    @Mock
+    private WorkflowLatencyRecorder latencyRecorder;
+
+    @Mock
+    private IIncidentService incidentService;
+
+    @Mock
+    private IncidentGroupingEngine groupingEngine;
+
+    @Mock
+    private ServiceRequestTriageEngine triageEngine;
+
+    @Mock
+    private PreventiveMaintenanceScheduler maintenanceScheduler;
+
     @InjectMocks
     private ServiceRequestServiceImp serviceRequestService;
 
     private Employee testEmployee;
     private Asset testAsset;
-    private AssetBorrowing testBorrowing;
 
     @BeforeEach
     void setUp() {
@@ -58,18 +87,13 @@ class ServiceRequestServiceImpTest {
         testAsset = new Asset();
         testAsset.setAssetId(1);
         testAsset.setAssetName("Test Asset");
-
-        testBorrowing = new AssetBorrowing();
-        testBorrowing.setBorrowingId(1);
-        testBorrowing.setEmployee(testEmployee);
-        testBorrowing.setAsset(testAsset);
-        testBorrowing.setStatus(AssetBorrowing.Status.ACTIVE);
     }
 
     @Test
     void testCreateServiceRequest_WhenEmployeeNotFound_ShouldThrowResourceNotFoundException() {
         // Arrange
-        when(employeeRepository.findById(1)).thenReturn(Optional.empty());
+        when(borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE)).thenReturn(false);
+        when(employeeRepository.existsById(1)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -80,8 +104,9 @@ class ServiceRequestServiceImpTest {
     @Test
     void testCreateServiceRequest_WhenAssetNotFound_ShouldThrowResourceNotFoundException() {
         // Arrange
-        when(employeeRepository.findById(1)).thenReturn(Optional.of(testEmployee));
-        when(assetRepository.findById(1)).thenReturn(Optional.empty());
+        when(borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE)).thenReturn(false);
+        when(employeeRepository.existsById(1)).thenReturn(true);
+        when(assetRepository.existsById(1)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -92,10 +117,9 @@ class ServiceRequestServiceImpTest {
     @Test
     void testCreateServiceRequest_WhenEmployeeDoesNotOwnAsset_ShouldThrowBadRequestException() {
         // Arrange
-        when(employeeRepository.findById(1)).thenReturn(Optional.of(testEmployee));
-        when(assetRepository.findById(1)).thenReturn(Optional.of(testAsset));
-        when(borrowingRepository.findByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE))
-            .thenReturn(Collections.emptyList());
+        when(borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE)).thenReturn(false);
+        when(employeeRepository.existsById(1)).thenReturn(true);
+        when(assetRepository.existsById(1)).thenReturn(true);
 
         // Act & Assert
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
@@ -108,10 +132,9 @@ class ServiceRequestServiceImpTest {
     @Test
     void testCreateServiceRequest_WhenEmployeeOwnsAsset_ShouldCreateSuccessfully() {
         // Arrange
-        when(employeeRepository.findById(1)).thenReturn(Optional.of(testEmployee));
-        when(assetRepository.findById(1)).thenReturn(Optional.of(testAsset));
-        when(borrowingRepository.findByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE))
-            .thenReturn(Arrays.asList(testBorrowing));
+        when(borrowingRepository.existsByEmployeeIdAndAssetIdAndStatus(1, 1, AssetBorrowing.Status.ACTIVE)).thenReturn(true);
+        when(employeeRepository.getReferenceById(1)).thenReturn(testEmployee);
+        when(assetRepository.getReferenceById(1)).thenReturn(testAsset);
         
         ServiceRequest savedServiceRequest = new ServiceRequest();
         savedServiceRequest.setServiceRequestId(1);
@@ -124,5 +147,90 @@ class ServiceRequestServiceImpTest {
         assertNotNull(result);
         assertEquals(1, result.getServiceRequestId());
         verify(serviceRequestRepository).save(any(ServiceRequest.class));
+        verify(employeeRepository, never()).findById(anyInt());
+        verify(assetRepository, never()).findById(anyInt());
+    }
+
+    private ServiceRequest existingRequest(ServiceRequest.Status status) {
+        ServiceRequest serviceRequest = new ServiceRequest();
+        serviceRequest.setServiceRequestId(5);
+        serviceRequest.setEmployee(testEmployee);
+        serviceRequest.setAsset(testAsset);
+        serviceRequest.setIssueType(ServiceRequest.IssueType.HARDWARE);
+        serviceRequest.setStatus(status);
+        serviceRequest.setRequestedAt(LocalDateTime.now().minusHours(2));
+        serviceRequest.setVersion(3);
+        return serviceRequest;
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_IllegalTransition_ShouldThrowBadRequestWithoutWriting() {
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(existingRequest(ServiceRequest.Status.Pending)));
+
+        assertThrows(BadRequestException.class, () ->
+            serviceRequestService.updateServiceRequestStatus(5, ServiceRequest.Status.Completed, null, null));
+        verify(serviceRequestRepository, never()).save(any(ServiceRequest.class));
+        verifyNoInteractions(transitionRepository);
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_StaleVersion_ShouldThrowConflict() {
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(existingRequest(ServiceRequest.Status.Pending)));
+
+        assertThrows(ConflictException.class, () ->
+            serviceRequestService.updateServiceRequestStatus(5, ServiceRequest.Status.Transit, 2L, null));
+        verify(serviceRequestRepository, never()).save(any(ServiceRequest.class));
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_ValidTransition_ShouldAppendHistory() {
+        ServiceRequest serviceRequest = existingRequest(ServiceRequest.Status.Pending);
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(serviceRequest));
+        when(serviceRequestRepository.save(serviceRequest)).thenReturn(serviceRequest);
+        when(transitionRepository.findTopByServiceRequestIdOrderByTransitionIdDesc(5)).thenReturn(Optional.empty());
+
+        ServiceRequest result = serviceRequestService.updateServiceRequestStatus(5, ServiceRequest.Status.Transit, 3L, null);
+
+        assertEquals(ServiceRequest.Status.Transit, result.getStatus());
+        ArgumentCaptor<ServiceRequestTransition> captor = ArgumentCaptor.forClass(ServiceRequestTransition.class);
+        verify(transitionRepository).save(captor.capture());
+        assertEquals(ServiceRequest.Status.Pending, captor.getValue().getFromStatus());
+        assertEquals(ServiceRequest.Status.Transit, captor.getValue().getToStatus());
+        assertTrue(captor.getValue().getSecondsInPrevious() >= 7200);
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_CompletedHardwareRepair_ShouldRecordRepairForMaintenance() {
+        ServiceRequest serviceRequest = existingRequest(ServiceRequest.Status.Transit);
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(serviceRequest));
+        when(serviceRequestRepository.save(serviceRequest)).thenReturn(serviceRequest);
+        when(transitionRepository.findTopByServiceRequestIdOrderByTransitionIdDesc(5)).thenReturn(Optional.empty());
+
+        serviceRequestService.updateServiceRequestStatus(5, ServiceRequest.Status.Completed, null, null);
+
+        verify(maintenanceScheduler).recordRepair(eq(5), eq(1), any(LocalDateTime.class));
+        assertEquals(ServiceRequest.IssueType.HARDWARE, serviceRequest.getResolvedIssueType());
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_CompletedWithCorrection_ShouldKeepReportedTypeAndRecordResolvedType() {
+        ServiceRequest serviceRequest = existingRequest(ServiceRequest.Status.Transit);
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(serviceRequest));
+        when(serviceRequestRepository.save(serviceRequest)).thenReturn(serviceRequest);
+        when(transitionRepository.findTopByServiceRequestIdOrderByTransitionIdDesc(5)).thenReturn(Optional.empty());
+
+        serviceRequestService.updateServiceRequestStatus(5, ServiceRequest.Status.Completed, null, ServiceRequest.IssueType.NETWORK);
+
+        assertEquals(ServiceRequest.IssueType.HARDWARE, serviceRequest.getIssueType());
+        assertEquals(ServiceRequest.IssueType.NETWORK, serviceRequest.getResolvedIssueType());
+    }
+
+    @Test
+    void testUpdateServiceRequestStatus_CorrectionWithoutCompleting_ShouldThrowBadRequest() {
+        when(serviceRequestRepository.findById(5)).thenReturn(Optional.of(existingRequest(ServiceRequest.Status.Pending)));
+
+        assertThrows(BadRequestException.class, () -> serviceRequestService.updateServiceRequestStatus(5,
+                ServiceRequest.Status.Transit, null, ServiceRequest.IssueType.NETWORK));
+        verify(serviceRequestRepository, never()).save(any(ServiceRequest.class));
     }
 }
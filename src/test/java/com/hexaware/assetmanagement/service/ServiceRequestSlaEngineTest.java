@@ -0,0 +1,123 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto;
+import com.hexaware.assetmanagement.dto.ServiceRequestQueueItemDto.SlaState;
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.SlaTimerView;
+
+class ServiceRequestSlaEngineTest {
+
+    private IServiceRequestRepository serviceRequestRepository;
+    private NotificationService notificationService;
+    private ServiceRequestSlaEngine slaEngine;
+
+    @BeforeEach
+    void setUp() {
+        serviceRequestRepository = mock(IServiceRequestRepository.class);
+        notificationService = mock(NotificationService.class);
+        slaEngine = new ServiceRequestSlaEngine("NETWORK:4,HARDWARE:24", 48, 75, 1000, 64);
+        ReflectionTestUtils.setField(slaEngine, "serviceRequestRepository", serviceRequestRepository);
+        ReflectionTestUtils.setField(slaEngine, "eventPublisher", mock(WorkflowEventPublisher.class));
+        ReflectionTestUtils.setField(slaEngine, "notificationService", notificationService);
+    }
+
+    private ServiceRequest request(int id, IssueType type, LocalDateTime requestedAt) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        ServiceRequest serviceRequest = new ServiceRequest();
+        serviceRequest.setServiceRequestId(id);
+        serviceRequest.setEmployee(employee);
+        serviceRequest.setIssueType(type);
+        serviceRequest.setStatus(Status.Pending);
+        serviceRequest.setRequestedAt(requestedAt);
+        serviceRequest.setDueAt(slaEngine.computeDueAt(type, requestedAt));
+        return serviceRequest;
+    }
+
+    @Test
+    void testComputeDueAt_UsesPolicyOrDefault() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 9, 0);
+        assertEquals(now.plusHours(4), slaEngine.computeDueAt(IssueType.NETWORK, now));
+        assertEquals(now.plusHours(48), slaEngine.computeDueAt(IssueType.OTHER, now));
+    }
+
+    @Test
+    void testPeek_ShouldOrderByDeadlineAndDropCompleted() {
+        LocalDateTime now = LocalDateTime.now();
+        slaEngine.track(request(1, IssueType.OTHER, now));
+        slaEngine.track(request(2, IssueType.NETWORK, now));
+        ServiceRequest hardware = request(3, IssueType.HARDWARE, now);
+        slaEngine.track(hardware);
+
+        List<ServiceRequestQueueItemDto> queue = slaEngine.peek(2);
+        assertEquals(List.of(2, 3), queue.stream().map(ServiceRequestQueueItemDto::getServiceRequestId).toList());
+        assertEquals(SlaState.ON_TRACK, queue.get(0).getSlaState());
+
+        hardware.setStatus(Status.Completed);
+        slaEngine.track(hardware);
+        assertEquals(2, slaEngine.getOpenCount());
+        assertEquals(List.of(2, 1), slaEngine.peek(10).stream().map(ServiceRequestQueueItemDto::getServiceRequestId).toList());
+    }
+
+    @Test
+    void testTrack_OverdueRequestShouldEscalateImmediately() {
+        when(serviceRequestRepository.markSlaAtRisk(eq(7), eq(Status.Completed), any())).thenReturn(1);
+        when(serviceRequestRepository.markSlaBreached(eq(7), eq(Status.Completed), any())).thenReturn(1);
+
+        slaEngine.track(request(7, IssueType.NETWORK, LocalDateTime.now().minusHours(5)));
+
+        // One at-risk and one breach notification
+        verify(notificationService, times(2)).notifyAdmins(any(), eq(List.of(7)));
+        verify(serviceRequestRepository).markSlaBreached(eq(7), eq(Status.Completed), any());
+        assertEquals(SlaState.BREACHED, slaEngine.peek(1).get(0).getSlaState());
+    }
+
+    @Test
+    void testTrack_ReopenedRequestShouldStartANewWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        ServiceRequest reopened = request(8, IssueType.HARDWARE, now.minusDays(5));
+        reopened.setSlaStartedAt(now);
+        reopened.setDueAt(slaEngine.computeDueAt(IssueType.HARDWARE, now));
+
+        slaEngine.track(reopened);
+
+        assertEquals(SlaState.ON_TRACK, slaEngine.peek(1).get(0).getSlaState());
+        verify(serviceRequestRepository, never()).markSlaAtRisk(anyInt(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void testRebuild_ReopenedRequestShouldNotBeAtRisk() {
+        LocalDateTime now = LocalDateTime.now();
+        SlaTimerView view = mock(SlaTimerView.class);
+        when(view.getServiceRequestId()).thenReturn(9);
+        when(view.getIssueType()).thenReturn(IssueType.HARDWARE);
+        when(view.getStatus()).thenReturn(Status.Pending);
+        when(view.getRequestedAt()).thenReturn(now.minusDays(5));
+        when(view.getSlaStartedAt()).thenReturn(now);
+        when(view.getDueAt()).thenReturn(now.plusHours(24));
+        when(serviceRequestRepository.findOpenSlaTimers(any())).thenReturn(List.of(view));
+
+        slaEngine.rebuild();
+
+        assertEquals(SlaState.ON_TRACK, slaEngine.peek(1).get(0).getSlaState());
+        verify(serviceRequestRepository, never()).markSlaAtRisk(anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,115 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.hexaware.assetmanagement.entity.Employee;
+import com.hexaware.assetmanagement.entity.ServiceRequest;
+import com.hexaware.assetmanagement.entity.ServiceRequest.IssueType;
+import com.hexaware.assetmanagement.entity.ServiceRequest.Status;
+import com.hexaware.assetmanagement.entity.TechnicianProfile;
+import com.hexaware.assetmanagement.exception.BadRequestException;
+import com.hexaware.assetmanagement.repository.IAssetRepository;
+import com.hexaware.assetmanagement.repository.IEmployeeRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository;
+import com.hexaware.assetmanagement.repository.IServiceRequestRepository.TechnicianLoadView;
+import com.hexaware.assetmanagement.repository.ITechnicianProfileRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TechnicianServiceImpTest {
+
+    @Mock
+    private ITechnicianProfileRepository profileRepository;
+
+    @Mock
+    private IServiceRequestRepository serviceRequestRepository;
+
+    @Mock
+    private IEmployeeRepository employeeRepository;
+
+    @Mock
+    private IAssetRepository assetRepository;
+
+    @Mock
+    private WorkflowEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TechnicianServiceImp technicianService;
+
+    private static TechnicianLoadView load(int employeeId, long openCount) {
+        return new TechnicianLoadView() {
+            public int getEmployeeId() { return employeeId; }
+            public long getOpenCount() { return openCount; }
+        };
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        return employee;
+    }
+
+    @Test
+    void testClaimNext_NotATechnician_ShouldThrowBadRequestException() {
+        when(profileRepository.findById(9)).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class, () -> technicianService.claimNext(9));
+    }
+
+    @Test
+    void testClaimNext_WhenQueueEmpty_ShouldStealFromOverloadedTechnician() {
+        Employee me = employee(1);
+        Employee busy = employee(2);
+        ServiceRequest stolen = new ServiceRequest();
+        stolen.setServiceRequestId(40);
+        when(profileRepository.findById(1)).thenReturn(Optional.of(new TechnicianProfile(1, EnumSet.of(IssueType.HARDWARE), 5, true)));
+        when(serviceRequestRepository.countOpenByAssignee(any())).thenReturn(List.of(load(2, 4), load(3, 1)));
+        when(employeeRepository.getReferenceById(1)).thenReturn(me);
+        when(employeeRepository.getReferenceById(2)).thenReturn(busy);
+        when(serviceRequestRepository.findUnassignedCandidates(eq(Status.Pending), any(), any(Pageable.class))).thenReturn(List.of());
+        when(serviceRequestRepository.findStealCandidates(eq(Status.Pending), eq(2), any(), any(Pageable.class))).thenReturn(List.of(40, 39));
+        when(serviceRequestRepository.steal(eq(40), eq(busy), eq(me), eq(Status.Pending), any())).thenReturn(1);
+        when(serviceRequestRepository.findById(40)).thenReturn(Optional.of(stolen));
+
+        Optional<ServiceRequest> result = technicianService.claimNext(1);
+
+        assertTrue(result.isPresent());
+        assertEquals(40, result.get().getServiceRequestId());
+        // Technician 3 is not loaded enough to be a steal victim
+        verify(serviceRequestRepository, never()).findStealCandidates(any(), eq(3), any(), any());
+    }
+
+    @Test
+    void testDispatch_ShouldPickLeastLoadedSkilledTechnician() {
+        ServiceRequest serviceRequest = new ServiceRequest();
+        serviceRequest.setServiceRequestId(7);
+        serviceRequest.setIssueType(IssueType.NETWORK);
+        Employee target = employee(3);
+        when(serviceRequestRepository.countOpenByAssignee(any())).thenReturn(List.of(load(1, 1), load(2, 3)));
+        when(profileRepository.findByActiveTrue()).thenReturn(List.of(
+            new TechnicianProfile(1, EnumSet.of(IssueType.HARDWARE), 5, true),
+            new TechnicianProfile(2, EnumSet.of(IssueType.NETWORK), 5, true),
+            new TechnicianProfile(3, EnumSet.of(IssueType.NETWORK, IssueType.ACCESS), 5, true)));
+        when(employeeRepository.getReferenceById(3)).thenReturn(target);
+        when(serviceRequestRepository.claimUnassigned(eq(7), eq(target), eq(List.of(Status.Pending, Status.Transit)), any())).thenReturn(1);
+
+        technicianService.dispatch(serviceRequest);
+
+        verify(serviceRequestRepository).claimUnassigned(eq(7), eq(target), eq(List.of(Status.Pending, Status.Transit)), any());
+        verify(serviceRequestRepository, times(1)).claimUnassigned(anyInt(), any(), any(), any());
+    }
+}
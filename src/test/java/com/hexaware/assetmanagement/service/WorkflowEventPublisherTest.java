@@ -0,0 +1,53 @@
+package com.hexaware.assetmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hexaware.assetmanagement.dto.WorkflowEventDto;
+import com.hexaware.assetmanagement.dto.WorkflowEventDto.EventType;
+
+class WorkflowEventPublisherTest {
+
+    private WorkflowEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new WorkflowEventPublisher();
+        ReflectionTestUtils.setField(publisher, "replaySize", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void testReplaySince_ReturnsOnlyNewerEvents() {
+        publisher.publish(EventType.BORROWING, 10, 1, 2, "PENDING");
+        publisher.publish(EventType.AUDIT, 20, 1, 2, "VERIFIED");
+        publisher.publish(EventType.SERVICE_REQUEST, 30, 1, 2, "Transit");
+
+        List<WorkflowEventDto> missed = publisher.replaySince(1);
+
+        assertEquals(2, missed.size());
+        assertEquals(20, missed.get(0).getEntityId());
+        assertEquals("Transit", missed.get(1).getStatus());
+        assertTrue(publisher.replaySince(3).isEmpty());
+    }
+
+    @Test
+    void testReplaySince_WhenGapEvicted_ShouldReturnNull() {
+        for (int i = 1; i <= 5; i++) {
+            publisher.publish(EventType.BORROWING, i, 1, i, "PENDING");
+        }
+
+        assertNull(publisher.replaySince(1));
+        assertEquals(2, publisher.replaySince(3).size());
+    }
+}
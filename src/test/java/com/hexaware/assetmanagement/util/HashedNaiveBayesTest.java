@@ -0,0 +1,86 @@
+package com.hexaware.assetmanagement.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.hexaware.assetmanagement.util.HashedNaiveBayes.Compiled;
+
+class HashedNaiveBayesTest {
+
+    private static final String[][] VOCABULARY = {
+        {"screen", "keyboard", "battery", "cracked", "charger", "fan", "overheating"},
+        {"install", "license", "crash", "update", "excel", "outlook", "error"},
+        {"wifi", "vpn", "network", "ethernet", "dns", "latency", "disconnect"},
+    };
+
+    private static String sample(Random random, int label) {
+        StringBuilder sb = new StringBuilder("please help my");
+        for (int i = 0; i < 6; i++) {
+            String[] words = random.nextInt(5) == 0 ? VOCABULARY[random.nextInt(3)] : VOCABULARY[label];
+            sb.append(' ').append(words[random.nextInt(words.length)]);
+        }
+        return sb.append(" is not working").toString();
+    }
+
+    @Test
+    void testClassify_LearnsSeparableTopics() {
+        Random random = new Random(7);
+        HashedNaiveBayes model = new HashedNaiveBayes(3, 14);
+        for (int i = 0; i < 600; i++) {
+            model.train(sample(random, i % 3), i % 3);
+        }
+        Compiled compiled = model.compile(0.5);
+
+        double[] posterior = new double[3];
+        int correct = 0;
+        for (int i = 0; i < 300; i++) {
+            if (compiled.classify(sample(random, i % 3), posterior) == i % 3) {
+                correct++;
+            }
+        }
+        assertTrue(correct > 270, "accuracy " + correct + "/300");
+        assertEquals(2, compiled.classify("VPN keeps disconnecting from the Network!", posterior));
+        assertEquals(1.0, posterior[0] + posterior[1] + posterior[2], 1e-9);
+        assertTrue(posterior[2] > 0.5);
+    }
+
+    @Test
+    void testCopyAndCompile_AreIndependentSnapshots() {
+        HashedNaiveBayes model = new HashedNaiveBayes(2, 10);
+        model.train("printer jam", 0);
+        Compiled before = model.compile(1.0);
+        HashedNaiveBayes copy = model.copy();
+        copy.train("login locked", 1);
+
+        assertEquals(1, model.getDocumentCount());
+        assertEquals(2, copy.getDocumentCount());
+        assertEquals(1, before.getTrainedDocuments());
+        assertEquals(0, copy.compile(1.0).classify("printer jam again", new double[2]));
+    }
+
+    @Test
+    void testClassify_StaysWellUnderAMillisecond() {
+        Random random = new Random(11);
+        HashedNaiveBayes model = new HashedNaiveBayes(5, 16);
+        for (int i = 0; i < 5000; i++) {
+            model.train(sample(random, i % 3), i % 5);
+        }
+        Compiled compiled = model.compile(0.5);
+        double[] posterior = new double[5];
+        String description = "The laptop screen is cracked and the battery drains within an hour after the last update";
+        for (int i = 0; i < 20000; i++) {
+            compiled.classify(description, posterior);
+        }
+
+        int runs = 20000;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            compiled.classify(description, posterior);
+        }
+        double micros = (System.nanoTime() - start) / 1000.0 / runs;
+        assertTrue(micros < 1000, "classify took " + micros + "us");
+    }
+}
@@ -0,0 +1,44 @@
+package com.hexaware.assetmanagement.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void testAdvance_FiresTimersInOrderAcrossLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        assertTrue(wheel.schedule("near", 25));
+        assertTrue(wheel.schedule("far", 1000));
+        assertTrue(wheel.schedule("mid", 150));
+
+        assertTrue(wheel.advance(10).isEmpty());
+        assertEquals(List.of("near"), wheel.advance(30));
+        assertEquals(List.of("mid"), wheel.advance(160));
+        assertTrue(wheel.advance(990).isEmpty());
+        assertEquals(List.of("far"), wheel.advance(1000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testCancelAndReschedule() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.schedule(1, 50);
+        wheel.schedule(2, 60);
+        assertTrue(wheel.cancel(1));
+        wheel.schedule(2, 500);
+
+        assertTrue(wheel.advance(100).isEmpty());
+        assertEquals(List.of(2), wheel.advance(500));
+    }
+
+    @Test
+    void testSchedule_WhenAlreadyDue_ShouldReturnFalse() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 100);
+        assertFalse(wheel.schedule("past", 50));
+        assertFalse(wheel.contains("past"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.hexaware.assetmanagement.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    @Test
+    void testOverlaps_TreatsIntervalsAsHalfOpen() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.add(10, 20, "morning");
+        tree.add(30, 40, "afternoon");
+
+        assertTrue(tree.overlaps(15, 16));
+        assertTrue(tree.overlaps(5, 11));
+        assertFalse(tree.overlaps(20, 30));
+        assertFalse(tree.overlaps(0, 10));
+        assertFalse(tree.overlaps(40, 50));
+        assertEquals(List.of("morning", "afternoon"), tree.overlapping(0, 100));
+    }
+
+    @Test
+    void testAddExistingValue_ShouldReplaceItsInterval() {
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        tree.add(10, 20, 1);
+        tree.add(50, 60, 1);
+
+        assertEquals(1, tree.size());
+        assertFalse(tree.overlaps(10, 20));
+        assertEquals(List.of(1), tree.overlapping(55, 56));
+    }
+
+    @Test
+    void testRemove() {
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        tree.add(10, 20, 1);
+        tree.add(10, 20, 2);
+
+        assertTrue(tree.remove(1));
+        assertFalse(tree.remove(1));
+        assertEquals(List.of(2), tree.overlapping(10, 20));
+    }
+
+    @Test
+    void testAdd_WithEmptyInterval_ShouldThrowIllegalArgumentException() {
+        IntervalTree<Integer> tree = new IntervalTree<>();
+
+        assertThrows(IllegalArgumentException.class, () -> tree.add(10, 10, 1));
+    }
+
+    @Test
+    void testRandomOperations_ShouldMatchLinearScan() {
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        Map<Integer, long[]> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int id = random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(id) != null, tree.remove(id));
+            } else {
+                long start = random.nextInt(10000);
+                long end = start + 1 + random.nextInt(300);
+                tree.add(start, end, id);
+                expected.put(id, new long[] {start, end});
+            }
+            long from = random.nextInt(10000);
+            long to = from + 1 + random.nextInt(200);
+            List<Integer> scanned = new ArrayList<>();
+            expected.forEach((key, interval) -> {
+                if (interval[0] < to && from < interval[1]) {
+                    scanned.add(key);
+                }
+            });
+            List<Integer> found = tree.overlapping(from, to);
+            assertEquals(scanned.size(), found.size());
+            assertTrue(found.containsAll(scanned));
+            assertEquals(!scanned.isEmpty(), tree.overlaps(from, to));
+        }
+        assertEquals(expected.size(), tree.size());
+    }
+}
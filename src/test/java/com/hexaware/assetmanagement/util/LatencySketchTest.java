@@ -0,0 +1,63 @@
+package com.hexaware.assetmanagement.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LatencySketchTest {
+
+    @Test
+    void testQuantile_WithinRelativeAccuracy() {
+        LatencySketch sketch = new LatencySketch(0.01);
+        Random random = new Random(42);
+        double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            // Long-tailed, like approval times: mostly minutes, sometimes days
+            values[i] = Math.exp(random.nextGaussian() * 2 + 8);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[] {0.5, 0.9, 0.99}) {
+            double exact = values[(int) Math.floor(q * (values.length - 1))];
+            assertEquals(exact, sketch.quantile(q), exact * 0.011, "quantile " + q);
+        }
+        assertEquals(values.length, sketch.getCount());
+        assertEquals(values[values.length - 1], sketch.getMax(), 1e-9);
+    }
+
+    @Test
+    void testMerge_EqualsSingleSketch() {
+        LatencySketch all = new LatencySketch(0.01);
+        LatencySketch first = new LatencySketch(0.01);
+        LatencySketch second = new LatencySketch(0.01);
+        for (int i = 1; i <= 1000; i++) {
+            all.add(i);
+            (i % 2 == 0 ? first : second).add(i);
+        }
+        first.merge(second);
+
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.quantile(0.5), first.quantile(0.5), 1e-9);
+        assertEquals(all.quantile(0.99), first.quantile(0.99), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new LatencySketch(0.02)));
+    }
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        LatencySketch sketch = new LatencySketch(0.01);
+        sketch.add(0);
+        sketch.add(3.5);
+        sketch.add(7200);
+        LatencySketch decoded = LatencySketch.decode(sketch.encode());
+
+        assertEquals(sketch.encode(), decoded.encode());
+        assertEquals(3, decoded.getCount());
+        assertEquals(0, decoded.quantile(0), 1e-9);
+        assertEquals(7200, decoded.quantile(1), 7200 * 0.01);
+        assertTrue(Double.isNaN(LatencySketch.decode(new LatencySketch(0.01).encode()).quantile(0.5)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.hexaware.assetmanagement.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TransactionCallbacksTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testAfterCommit_WithoutTransaction_ShouldRunImmediately() {
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        TransactionCallbacks.onRollback(() -> ran.add("rollback"));
+
+        assertEquals(List.of("commit"), ran);
+    }
+
+    @Test
+    void testAfterCommit_ShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        TransactionCallbacks.onRollback(() -> ran.add("rollback"));
+        assertTrue(ran.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> {
+            sync.afterCommit();
+            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+
+        assertEquals(List.of("commit"), ran);
+    }
+
+    @Test
+    void testOnRollback_ShouldOnlyRunOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionCallbacks.afterCommit(() -> ran.add("commit"));
+        TransactionCallbacks.onRollback(() -> ran.add("rollback"));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(List.of("rollback"), ran);
+    }
+}